@@ -0,0 +1,317 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.cdom.base;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.UnaryOperator;
+
+/**
+ * FacetSlots is the facet storage owned by a single PCGenIdentifier. Each
+ * facet is assigned a slot number when it is constructed (see
+ * AbstractStorageFacet), so the information a facet stores for a resource is a
+ * single array read away from the identifier of that resource.
+ *
+ * Each slot also has a dispatch entry, where a facet can keep the listeners
+ * that are only interested in changes for this resource.
+ * 
+ * The information in a slot may be shared with the same slot of other
+ * resources (see AbstractStorageFacet.shareContents). Shared information must
+ * not be modified in place; a facet that wants to modify it first asks for a
+ * writable copy (see getWritable). Storing or clearing the information in a
+ * shared slot releases that resource's share.
+ * 
+ * Reads do not lock. Writes are synchronized on this FacetSlots, so two
+ * different resources never contend with each other.
+ */
+public final class FacetSlots
+{
+
+	/**
+	 * The number of slots initially available. Slots are added as facets with
+	 * higher slot numbers store information.
+	 */
+	private static final int INITIAL_CAPACITY = 64;
+
+	/**
+	 * The slots, indexed by the slot number of the facet storing the
+	 * information. Replaced (under the lock) when it must grow.
+	 */
+	private volatile AtomicReferenceArray<Object> slots = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+
+	/**
+	 * The dispatch entries, indexed by the slot number of the facet that owns
+	 * the entry. Replaced (under the lock) when it must grow.
+	 */
+	private volatile AtomicReferenceArray<Object> dispatch = new AtomicReferenceArray<>(0);
+
+	/**
+	 * The Share of each slot whose information is shared with other
+	 * resources, indexed by slot number. Replaced (under the lock) when it
+	 * must grow.
+	 */
+	private volatile AtomicReferenceArray<Object> shares = new AtomicReferenceArray<>(0);
+
+	/**
+	 * The facet transaction open for this resource, or null if no transaction
+	 * is open.
+	 */
+	private volatile Object transaction;
+
+	/**
+	 * Returns the information stored in the given slot.
+	 *
+	 * @param slot
+	 *            The slot number of the facet whose information should be
+	 *            returned
+	 * @return The information stored in the given slot, or null if nothing is
+	 *         stored in the given slot
+	 */
+	public Object get(int slot)
+	{
+		return get(slots, slot);
+	}
+
+	/**
+	 * Stores information in the given slot.
+	 *
+	 * @param slot
+	 *            The slot number of the facet storing the information
+	 * @param o
+	 *            The information to be stored (may be null to clear the slot)
+	 * @return The information previously stored in the given slot, or null if
+	 *         nothing was stored in the given slot
+	 */
+	public synchronized Object set(int slot, Object o)
+	{
+		release(slot);
+		if ((slot >= slots.length()) && (o != null))
+		{
+			slots = grow(slots, slot);
+		}
+		return set(slots, slot, o);
+	}
+
+	/**
+	 * Returns the information stored in the given slot, in a form that may be
+	 * modified in place. If the information is shared with other resources, a
+	 * copy is made with the given function and stored in the slot, and this
+	 * resource's share is released.
+	 *
+	 * @param slot
+	 *            The slot number of the facet whose information should be
+	 *            returned
+	 * @param copier
+	 *            The function making a copy of the information stored in the
+	 *            slot which is owned by this resource
+	 * @return The information stored in the given slot, or null if nothing is
+	 *         stored in the given slot
+	 */
+	public synchronized Object getWritable(int slot, UnaryOperator<Object> copier)
+	{
+		Object o = get(slot);
+		Share share = (Share) get(shares, slot);
+		if (share != null)
+		{
+			set(shares, slot, null);
+			/*
+			 * Copy before giving up the share, so that the last resource
+			 * holding the information cannot modify it in place while it is
+			 * still being copied.
+			 */
+			if (share.owners.get() > 1)
+			{
+				o = copier.apply(o);
+				set(slots, slot, o);
+			}
+			share.owners.decrementAndGet();
+		}
+		return o;
+	}
+
+	/**
+	 * Stores the information in the given slot of the given FacetSlots in the
+	 * same slot of this FacetSlots, shared between the two resources. Nothing
+	 * is stored if the given slot of the given FacetSlots is empty.
+	 *
+	 * @param source
+	 *            The FacetSlots whose information should be shared with this
+	 *            FacetSlots
+	 * @param slot
+	 *            The slot number of the facet whose information should be
+	 *            shared
+	 */
+	public void share(FacetSlots source, int slot)
+	{
+		Share share = source.acquireShare(slot);
+		if (share != null)
+		{
+			synchronized (this)
+			{
+				release(slot);
+				if (slot >= slots.length())
+				{
+					slots = grow(slots, slot);
+				}
+				set(slots, slot, share.contents);
+				if (slot >= shares.length())
+				{
+					shares = grow(shares, slot);
+				}
+				set(shares, slot, share);
+			}
+		}
+	}
+
+	/**
+	 * Returns the Share for the information in the given slot, adding one
+	 * owner for the resource the information is about to be shared with.
+	 */
+	private synchronized Share acquireShare(int slot)
+	{
+		Object o = get(slot);
+		if (o == null)
+		{
+			return null;
+		}
+		Share share = (Share) get(shares, slot);
+		if (share == null)
+		{
+			share = new Share(o);
+			if (slot >= shares.length())
+			{
+				shares = grow(shares, slot);
+			}
+			set(shares, slot, share);
+		}
+		share.owners.incrementAndGet();
+		return share;
+	}
+
+	/**
+	 * Releases this resource's share of the information in the given slot, if
+	 * that information is shared. Must be called with the lock held.
+	 */
+	private void release(int slot)
+	{
+		Share share = (Share) set(shares, slot, null);
+		if (share != null)
+		{
+			share.owners.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Returns the dispatch entry for the given slot.
+	 *
+	 * @param slot
+	 *            The slot number of the facet whose dispatch entry should be
+	 *            returned
+	 * @return The dispatch entry for the given slot, or null if the facet has
+	 *         no dispatch entry for this resource
+	 */
+	public Object getDispatch(int slot)
+	{
+		return get(dispatch, slot);
+	}
+
+	/**
+	 * Sets the dispatch entry for the given slot.
+	 *
+	 * @param slot
+	 *            The slot number of the facet that owns the dispatch entry
+	 * @param o
+	 *            The dispatch entry (may be null to clear the entry)
+	 */
+	public synchronized void setDispatch(int slot, Object o)
+	{
+		if ((slot >= dispatch.length()) && (o != null))
+		{
+			dispatch = grow(dispatch, slot);
+		}
+		set(dispatch, slot, o);
+	}
+
+	/**
+	 * Returns the facet transaction open for this resource.
+	 *
+	 * @return The facet transaction open for this resource, or null if no
+	 *         transaction is open
+	 */
+	public Object getTransaction()
+	{
+		return transaction;
+	}
+
+	/**
+	 * Sets the facet transaction open for this resource.
+	 *
+	 * @param transaction
+	 *            The facet transaction open for this resource, or null if no
+	 *            transaction is open
+	 */
+	public void setTransaction(Object transaction)
+	{
+		this.transaction = transaction;
+	}
+
+	/**
+	 * Returns the number of slots currently available. Every slot at or beyond
+	 * this number is empty.
+	 *
+	 * @return The number of slots currently available
+	 */
+	public int capacity()
+	{
+		return slots.length();
+	}
+
+	/**
+	 * Information shared between the same slot of several resources, along
+	 * with the number of resources still holding it.
+	 */
+	private static final class Share
+	{
+		private final Object contents;
+		private final AtomicInteger owners = new AtomicInteger(1);
+
+		private Share(Object contents)
+		{
+			this.contents = contents;
+		}
+	}
+
+	private static Object get(AtomicReferenceArray<Object> array, int slot)
+	{
+		return (slot < array.length()) ? array.get(slot) : null;
+	}
+
+	private static Object set(AtomicReferenceArray<Object> array, int slot, Object o)
+	{
+		return (slot < array.length()) ? array.getAndSet(slot, o) : null;
+	}
+
+	private static AtomicReferenceArray<Object> grow(AtomicReferenceArray<Object> array, int slot)
+	{
+		AtomicReferenceArray<Object> grown =
+				new AtomicReferenceArray<>(Math.max(Math.max(slot + 1, array.length() * 2), INITIAL_CAPACITY));
+		for (int i = 0; i < array.length(); i++)
+		{
+			grown.set(i, array.get(i));
+		}
+		return grown;
+	}
+}
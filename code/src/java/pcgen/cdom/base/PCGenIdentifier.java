@@ -30,4 +30,10 @@ public interface PCGenIdentifier
 	 * @return the owned DataSetID under which variable was created.
 	 */
 	public DataSetID getDataSetID();
+
+	/**
+	 * @return the FacetSlots in which facets store information for the resource
+	 *         identified by this PCGenIdentifier.
+	 */
+	public FacetSlots getFacetSlots();
 }
@@ -92,7 +92,7 @@ public final class AspectName implements TypeSafeConstant, Comparable<AspectName
 	 * 
 	 * @return The Constant for the given name
 	 */
-	public static AspectName getConstant(String name)
+	public static synchronized AspectName getConstant(String name)
 	{
 		initializeNameMap();
 		AspectName aspect = nameMap.get(name);
@@ -128,7 +128,7 @@ public final class AspectName implements TypeSafeConstant, Comparable<AspectName
 	 * @throws IllegalArgumentException
 	 *             if the given String is not a previously defined RaceSubType
 	 */
-	public static AspectName valueOf(String name)
+	public static synchronized AspectName valueOf(String name)
 	{
 		initializeNameMap();
 		AspectName aspect = nameMap.get(name);
@@ -167,7 +167,7 @@ public final class AspectName implements TypeSafeConstant, Comparable<AspectName
 	 * method need to be renamed, such that it is clearConstantMap? - Tom
 	 * Parker, Feb 28, 2007
 	 */
-	public static void clearConstants()
+	public static synchronized void clearConstants()
 	{
 		if (nameMap != null)
 		{
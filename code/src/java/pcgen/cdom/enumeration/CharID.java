@@ -19,8 +19,10 @@ package pcgen.cdom.enumeration;
 
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import pcgen.base.enumeration.TypeSafeConstant;
+import pcgen.cdom.base.FacetSlots;
 import pcgen.cdom.base.PCGenIdentifier;
 import pcgen.cdom.facet.base.AbstractStorageFacet;
 
@@ -35,7 +37,7 @@ public final class CharID implements TypeSafeConstant, PCGenIdentifier
 	/**
 	 * This is used to provide a unique ordinal to each constant in this class
 	 */
-	private static int ordinalCount = 0;
+	private static final AtomicInteger ORDINAL_COUNT = new AtomicInteger();
 
 	/**
 	 * The ordinal of this Constant
@@ -56,10 +58,15 @@ public final class CharID implements TypeSafeConstant, PCGenIdentifier
 	@SuppressWarnings("unused")
 	private Map<Class<?>, Object> myFacetCache;
 
+	/**
+	 * The storage used by facets for this CharID
+	 */
+	private final FacetSlots facetSlots = new FacetSlots();
+
 	private CharID(DataSetID dsid)
 	{
 		Objects.requireNonNull(dsid, "DataSetID cannot be null");
-		ordinal = ordinalCount++;
+		ordinal = ORDINAL_COUNT.getAndIncrement();
 		datasetID = dsid;
 	}
 
@@ -89,4 +96,10 @@ public final class CharID implements TypeSafeConstant, PCGenIdentifier
 	{
 		return this.datasetID;
 	}
+
+	@Override
+	public FacetSlots getFacetSlots()
+	{
+		return facetSlots;
+	}
 }
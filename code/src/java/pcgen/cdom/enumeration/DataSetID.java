@@ -18,8 +18,10 @@
 package pcgen.cdom.enumeration;
 
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import pcgen.base.enumeration.TypeSafeConstant;
+import pcgen.cdom.base.FacetSlots;
 import pcgen.cdom.base.PCGenIdentifier;
 import pcgen.cdom.facet.base.AbstractStorageFacet;
 
@@ -34,7 +36,7 @@ public final class DataSetID implements TypeSafeConstant, PCGenIdentifier
 	/**
 	 * This is used to provide a unique ordinal to each constant in this class
 	 */
-	private static int ordinalCount = 0;
+	private static final AtomicInteger ORDINAL_COUNT = new AtomicInteger();
 
 	/**
 	 * The ordinal of this Constant
@@ -50,9 +52,14 @@ public final class DataSetID implements TypeSafeConstant, PCGenIdentifier
 	@SuppressWarnings("unused")
 	private Map<Class<?>, Object> myFacetCache;
 
+	/**
+	 * The storage used by facets for this DataSetID
+	 */
+	private final FacetSlots facetSlots = new FacetSlots();
+
 	private DataSetID()
 	{
-		ordinal = ordinalCount++;
+		ordinal = ORDINAL_COUNT.getAndIncrement();
 	}
 
 	/**
@@ -76,4 +83,10 @@ public final class DataSetID implements TypeSafeConstant, PCGenIdentifier
 	{
 		return this;
 	}
+
+	@Override
+	public FacetSlots getFacetSlots()
+	{
+		return facetSlots;
+	}
 }
@@ -100,7 +100,7 @@ public final class DisplayLocation implements TypeSafeConstant, Comparable<Displ
 	 *            The name of the constant to be returned
 	 * @return The Constant for the given name
 	 */
-	public static DisplayLocation getConstant(String name)
+	public static synchronized DisplayLocation getConstant(String name)
 	{
 		DisplayLocation type = typeMap.get(name);
 		if (type == null)
@@ -122,7 +122,7 @@ public final class DisplayLocation implements TypeSafeConstant, Comparable<Displ
 	 * @throws IllegalArgumentException
 	 *             if the given String is not a previously defined Pantheon
 	 */
-	public static DisplayLocation valueOf(String name)
+	public static synchronized DisplayLocation valueOf(String name)
 	{
 		DisplayLocation type = typeMap.get(name);
 		if (type == null)
@@ -156,7 +156,7 @@ public final class DisplayLocation implements TypeSafeConstant, Comparable<Displ
 	 * method need to be renamed, such that it is clearConstantMap? - Tom
 	 * Parker, Feb 28, 2007
 	 */
-	public static void clearConstants()
+	public static synchronized void clearConstants()
 	{
 		typeMap.clear();
 	}
@@ -151,7 +151,7 @@ public class FormulaKey implements TypeSafeConstant
 	 *            The name of the constant to be returned
 	 * @return The Constant for the given name
 	 */
-	public static FormulaKey getConstant(String name)
+	public static synchronized FormulaKey getConstant(String name)
 	{
 		FormulaKey key = typeMap.get(name);
 		if (key == null)
@@ -174,7 +174,7 @@ public class FormulaKey implements TypeSafeConstant
 	 *            is not set
 	 * @return The Constant for the given name
 	 */
-	public static FormulaKey getConstant(String name, Formula formula)
+	public static synchronized FormulaKey getConstant(String name, Formula formula)
 	{
 		FormulaKey key = typeMap.get(name);
 		if (key == null)
@@ -196,7 +196,7 @@ public class FormulaKey implements TypeSafeConstant
 	 * @throws IllegalArgumentException
 	 *             if the given String is not a previously defined FormulaKey
 	 */
-	public static FormulaKey valueOf(String name)
+	public static synchronized FormulaKey valueOf(String name)
 	{
 		FormulaKey key = typeMap.get(name);
 		if (key == null)
@@ -230,7 +230,7 @@ public class FormulaKey implements TypeSafeConstant
 	 * method need to be renamed, such that it is clearConstantMap? - Tom
 	 * Parker, Feb 28, 2007
 	 */
-	public static void clearConstants()
+	public static synchronized void clearConstants()
 	{
 		typeMap.clear();
 	}
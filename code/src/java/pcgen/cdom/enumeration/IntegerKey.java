@@ -257,7 +257,7 @@ public class IntegerKey
 	 *            The name of the constant to be returned
 	 * @return The Constant for the given name
 	 */
-	public static IntegerKey getConstant(String name)
+	public static synchronized IntegerKey getConstant(String name)
 	{
 		IntegerKey key = typeMap.get(name);
 		if (key == null)
@@ -280,7 +280,7 @@ public class IntegerKey
 	 *            not set
 	 * @return The Constant for the given name
 	 */
-	public static IntegerKey getConstant(String name, int defaultValue)
+	public static synchronized IntegerKey getConstant(String name, int defaultValue)
 	{
 		IntegerKey key = typeMap.get(name);
 		if (key == null)
@@ -302,7 +302,7 @@ public class IntegerKey
 	 * @throws IllegalArgumentException
 	 *             if the given String is not a previously defined IntegerKey
 	 */
-	public static IntegerKey valueOf(String name)
+	public static synchronized IntegerKey valueOf(String name)
 	{
 		IntegerKey key = typeMap.get(name);
 		if (key == null)
@@ -336,7 +336,7 @@ public class IntegerKey
 	 * method need to be renamed, such that it is clearConstantMap? - Tom
 	 * Parker, Feb 28, 2007
 	 */
-	public static void clearConstants()
+	public static synchronized void clearConstants()
 	{
 		typeMap.clear();
 	}
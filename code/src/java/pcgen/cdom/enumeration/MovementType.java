@@ -89,7 +89,7 @@ public final class MovementType implements TypeSafeConstant
 	 *            The name of the constant to be returned
 	 * @return The Constant for the given name
 	 */
-	public static MovementType getConstant(String name)
+	public static synchronized MovementType getConstant(String name)
 	{
 		initializeTypeMap();
 		MovementType racetype = typeMap.get(name);
@@ -112,7 +112,7 @@ public final class MovementType implements TypeSafeConstant
 	 * @throws IllegalArgumentException
 	 *             if the given String is not a previously defined RaceType
 	 */
-	public static MovementType valueOf(String name)
+	public static synchronized MovementType valueOf(String name)
 	{
 		initializeTypeMap();
 		MovementType racetype = typeMap.get(name);
@@ -156,7 +156,7 @@ public final class MovementType implements TypeSafeConstant
 	 * Clears all of the Constants in this Class (forgetting the mapping from
 	 * the String to the Constant).
 	 */
-	public static void clearConstants()
+	public static synchronized void clearConstants()
 	{
 		if (typeMap != null)
 		{
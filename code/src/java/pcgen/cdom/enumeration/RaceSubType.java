@@ -89,7 +89,7 @@ public final class RaceSubType implements TypeSafeConstant
 	 *            The name of the constant to be returned
 	 * @return The Constant for the given name
 	 */
-	public static RaceSubType getConstant(String name)
+	public static synchronized RaceSubType getConstant(String name)
 	{
 		initializeTypeMap();
 		RaceSubType type = typeMap.get(name);
@@ -123,7 +123,7 @@ public final class RaceSubType implements TypeSafeConstant
 	 * @throws IllegalArgumentException
 	 *             if the given String is not a previously defined RaceSubType
 	 */
-	public static RaceSubType valueOf(String name)
+	public static synchronized RaceSubType valueOf(String name)
 	{
 		initializeTypeMap();
 		RaceSubType type = typeMap.get(name);
@@ -162,7 +162,7 @@ public final class RaceSubType implements TypeSafeConstant
 	 * method need to be renamed, such that it is clearConstantMap? - Tom
 	 * Parker, Feb 28, 2007
 	 */
-	public static void clearConstants()
+	public static synchronized void clearConstants()
 	{
 		if (typeMap != null)
 		{
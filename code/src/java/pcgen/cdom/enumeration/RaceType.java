@@ -89,7 +89,7 @@ public final class RaceType implements TypeSafeConstant
 	 *            The name of the constant to be returned
 	 * @return The Constant for the given name
 	 */
-	public static RaceType getConstant(String name)
+	public static synchronized RaceType getConstant(String name)
 	{
 		initializeTypeMap();
 		RaceType racetype = typeMap.get(name);
@@ -112,7 +112,7 @@ public final class RaceType implements TypeSafeConstant
 	 * @throws IllegalArgumentException
 	 *             if the given String is not a previously defined RaceType
 	 */
-	public static RaceType valueOf(String name)
+	public static synchronized RaceType valueOf(String name)
 	{
 		initializeTypeMap();
 		RaceType racetype = typeMap.get(name);
@@ -162,7 +162,7 @@ public final class RaceType implements TypeSafeConstant
 	 * method need to be renamed, such that it is clearConstantMap? - Tom
 	 * Parker, Feb 28, 2007
 	 */
-	public static void clearConstants()
+	public static synchronized void clearConstants()
 	{
 		if (typeMap != null)
 		{
@@ -96,7 +96,7 @@ public final class Region implements TypeSafeConstant, Comparable<Region>
 	 *            The name of the constant to be returned
 	 * @return The Constant for the given name
 	 */
-	public static Region getConstant(String name)
+	public static synchronized Region getConstant(String name)
 	{
 		initializeTypeMap();
 		Region region = typeMap.get(name);
@@ -152,7 +152,7 @@ public final class Region implements TypeSafeConstant, Comparable<Region>
 	 * @throws IllegalArgumentException
 	 *             if the given String is not a previously defined Region
 	 */
-	public static Region valueOf(String name)
+	public static synchronized Region valueOf(String name)
 	{
 		initializeTypeMap();
 		Region region = typeMap.get(name);
@@ -191,7 +191,7 @@ public final class Region implements TypeSafeConstant, Comparable<Region>
 	 * method need to be renamed, such that it is clearConstantMap? - Tom
 	 * Parker, Feb 28, 2007
 	 */
-	public static void clearConstants()
+	public static synchronized void clearConstants()
 	{
 		if (typeMap != null)
 		{
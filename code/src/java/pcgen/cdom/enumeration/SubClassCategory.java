@@ -72,7 +72,7 @@ public final class SubClassCategory extends AbstractCategory<SubClass> implement
 	 *            The name of the constant to be returned
 	 * @return The Constant for the given name
 	 */
-	public static SubClassCategory getConstant(String name)
+	public static synchronized SubClassCategory getConstant(String name)
 	{
 		initializeTypeMap();
 		String lookup = name.replace('_', ' ');
@@ -109,7 +109,7 @@ public final class SubClassCategory extends AbstractCategory<SubClass> implement
 	 *            The name of the constant to be returned
 	 * @return The Constant for the given name
 	 */
-	public static SubClassCategory valueOf(String name)
+	public static synchronized SubClassCategory valueOf(String name)
 	{
 		initializeTypeMap();
 		SubClassCategory category = typeMap.get(name);
@@ -148,7 +148,7 @@ public final class SubClassCategory extends AbstractCategory<SubClass> implement
 	 * method need to be renamed, such that it is clearConstantMap? - Tom
 	 * Parker, Feb 28, 2007
 	 */
-	public static void clearConstants()
+	public static synchronized void clearConstants()
 	{
 		if (typeMap != null)
 		{
@@ -89,7 +89,7 @@ public final class SubRace implements TypeSafeConstant
 	 *            The name of the constant to be returned
 	 * @return The Constant for the given name
 	 */
-	public static SubRace getConstant(String name)
+	public static synchronized SubRace getConstant(String name)
 	{
 		initializeTypeMap();
 		SubRace subRace = typeMap.get(name);
@@ -123,7 +123,7 @@ public final class SubRace implements TypeSafeConstant
 	 * @throws IllegalArgumentException
 	 *             if the given String is not a previously defined SubRace
 	 */
-	public static SubRace valueOf(String name)
+	public static synchronized SubRace valueOf(String name)
 	{
 		initializeTypeMap();
 		SubRace subRace = typeMap.get(name);
@@ -162,7 +162,7 @@ public final class SubRace implements TypeSafeConstant
 	 * method need to be renamed, such that it is clearConstantMap? - Tom
 	 * Parker, Feb 28, 2007
 	 */
-	public static void clearConstants()
+	public static synchronized void clearConstants()
 	{
 		if (typeMap != null)
 		{
@@ -18,6 +18,7 @@
 package pcgen.cdom.enumeration;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Objects;
@@ -170,7 +171,7 @@ public final class Type implements TypeSafeConstant, Comparable<Type>
 	 *            The name of the constant to be returned
 	 * @return The Constant for the given name
 	 */
-	public static Type getConstant(String name)
+	public static synchronized Type getConstant(String name)
 	{
 		Type type = TYPE_MAP.get(name);
 		if (type == null)
@@ -192,7 +193,7 @@ public final class Type implements TypeSafeConstant, Comparable<Type>
 	 * @throws IllegalArgumentException
 	 *             if the given String is not a previously defined Type
 	 */
-	public static Type valueOf(String name)
+	public static synchronized Type valueOf(String name)
 	{
 		Type type = TYPE_MAP.get(name);
 		if (type == null)
@@ -205,15 +206,14 @@ public final class Type implements TypeSafeConstant, Comparable<Type>
 	/**
 	 * Returns a Collection of all of the Constants in this Class.
 	 * 
-	 * This collection maintains a reference to the Constants in this Class, so
-	 * if a new Constant is created, the Collection returned by this method will
-	 * be modified. (Beware of ConcurrentModificationExceptions)
+	 * The returned collection is a snapshot: Constants created after this
+	 * method returns are not included.
 	 * 
 	 * @return a Collection of all of the Constants in this Class.
 	 */
-	public static Collection<Type> getAllConstants()
+	public static synchronized Collection<Type> getAllConstants()
 	{
-		return Collections.unmodifiableCollection(TYPE_MAP.values());
+		return Collections.unmodifiableCollection(new ArrayList<>(TYPE_MAP.values()));
 	}
 
 	@Override
@@ -229,7 +229,7 @@ public final class Type implements TypeSafeConstant, Comparable<Type>
 		return fieldName.compareTo(type.fieldName);
 	}
 
-	public static void buildMap()
+	public static synchronized void buildMap()
 	{
 		TYPE_MAP.clear();
 		Field[] fields = Type.class.getDeclaredFields();
@@ -86,7 +86,7 @@ public final class VariableKey implements TypeSafeConstant
 	 *            The name of the constant to be returned
 	 * @return The Constant for the given name
 	 */
-	public static VariableKey getConstant(String name)
+	public static synchronized VariableKey getConstant(String name)
 	{
 		initializeTypeMap();
 		VariableKey key = typeMap.get(name);
@@ -120,7 +120,7 @@ public final class VariableKey implements TypeSafeConstant
 	 * @throws IllegalArgumentException
 	 *             if the given String is not a previously defined VariableKey
 	 */
-	public static VariableKey valueOf(String name)
+	public static synchronized VariableKey valueOf(String name)
 	{
 		initializeTypeMap();
 		VariableKey key = typeMap.get(name);
@@ -141,7 +141,7 @@ public final class VariableKey implements TypeSafeConstant
 	 * method need to be renamed, such that it is clearConstantMap? - Tom
 	 * Parker, Feb 28, 2007
 	 */
-	public static void clearConstants()
+	public static synchronized void clearConstants()
 	{
 		if (typeMap != null)
 		{
@@ -22,7 +22,9 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import pcgen.cdom.enumeration.CharID;
 import pcgen.cdom.facet.base.AbstractListFacet;
@@ -39,9 +41,11 @@ public class ConditionallyGrantedAbilityFacet extends AbstractListFacet<CharID,
 
 	private ConditionalAbilityFacet conditionalAbilityFacet;
 
-	private static boolean entered = false;
-
-	private static boolean redo = false;
+	/**
+	 * The Player Characters for which an update is in progress, mapped to
+	 * whether another update was requested while that update was in progress.
+	 */
+	private final Map<CharID, Boolean> updating = new ConcurrentHashMap<>();
 
 	/**
 	 * Performs a global update of conditionally granted Abilities for a Player
@@ -53,12 +57,36 @@ public class ConditionallyGrantedAbilityFacet extends AbstractListFacet<CharID,
 	 */
 	public void update(CharID id)
 	{
-		if (entered)
+		while (updating.putIfAbsent(id, Boolean.FALSE) != null)
+		{
+			// Ask the update in progress to run again, unless it has just ended
+			if (updating.computeIfPresent(id, (key, redo) -> Boolean.TRUE) != null)
+			{
+				return;
+			}
+		}
+		boolean completed = false;
+		try
 		{
-			redo = true;
-			return;
+			do
+			{
+				doUpdate(id);
+			}
+			// Clears a request to run again, or ends the update if there was none
+			while (updating.compute(id, (key, redo) -> Boolean.TRUE.equals(redo) ? Boolean.FALSE : null) != null);
+			completed = true;
 		}
-		entered = true;
+		finally
+		{
+			if (!completed)
+			{
+				updating.remove(id);
+			}
+		}
+	}
+
+	private void doUpdate(CharID id)
+	{
 		Collection<CNAbilitySelection> current = getSet(id);
 		Collection<CNAbilitySelection> qualified = conditionalAbilityFacet.getQualifiedSet(id);
 		List<CNAbilitySelection> toRemove = new ArrayList<>(current);
@@ -81,13 +109,6 @@ public class ConditionallyGrantedAbilityFacet extends AbstractListFacet<CharID,
 				add(id, cas);
 			}
 		}
-
-		entered = false;
-		if (redo)
-		{
-			redo = false;
-			update(id);
-		}
 	}
 
 	/**
@@ -19,16 +19,20 @@ package pcgen.cdom.facet.base;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 import pcgen.base.util.ArrayUtilities;
 import pcgen.cdom.base.Category;
 import pcgen.cdom.base.PCGenIdentifier;
 import pcgen.cdom.enumeration.Nature;
 import pcgen.cdom.facet.CategorizedDataFacetChangeEvent;
+import pcgen.cdom.facet.event.DataFacetBatchListener;
 import pcgen.cdom.facet.event.DataFacetChangeEvent;
 import pcgen.cdom.facet.event.DataFacetChangeListener;
 
@@ -56,7 +60,7 @@ import pcgen.cdom.facet.event.DataFacetChangeListener;
  */
 public abstract class AbstractDataFacet<IDT extends PCGenIdentifier, T> extends AbstractStorageFacet<IDT>
 {
-	private final Map<Integer, DataFacetChangeListener<IDT, ? super T>[]> listeners = new TreeMap<>();
+	private final Map<Integer, DataFacetChangeListener<IDT, ? super T>[]> listeners = new ConcurrentSkipListMap<>();
 
 	/**
 	 * Adds a new DataFacetChangeListener to receive DataFacetChangeEvents
@@ -95,13 +99,9 @@ public abstract class AbstractDataFacet<IDT extends PCGenIdentifier, T> extends
 	 *            The DataFacetChangeListener to receive DataFacetChangeEvents
 	 *            from this AbstractDataFacet
 	 */
-	@SuppressWarnings("unchecked")
-	public void addDataFacetChangeListener(int priority, DataFacetChangeListener<IDT, ? super T> listener)
+	public synchronized void addDataFacetChangeListener(int priority, DataFacetChangeListener<IDT, ? super T> listener)
 	{
-		DataFacetChangeListener<IDT, ? super T>[] dfcl = listeners.get(priority);
-		dfcl = Optional.ofNullable(dfcl).orElse(new DataFacetChangeListener[0]);
-		listeners.put(priority, ArrayUtilities.prependOnCopy(listener, dfcl,
-			DataFacetChangeListener.class));
+		addListener(listeners, priority, listener);
 	}
 
 	/**
@@ -133,9 +133,128 @@ public abstract class AbstractDataFacet<IDT extends PCGenIdentifier, T> extends
 	 * @param listener
 	 *            The DataFacetChangeListener to be removed
 	 */
-	public void removeDataFacetChangeListener(int priority, DataFacetChangeListener<IDT, ? super T> listener)
+	public synchronized void removeDataFacetChangeListener(int priority, DataFacetChangeListener<IDT, ? super T> listener)
+	{
+		removeListener(listeners, priority, listener);
+	}
+
+	/**
+	 * Adds a new DataFacetChangeListener to receive DataFacetChangeEvents from
+	 * the source DataFacet, but only for the resource identified by the given
+	 * PCGenIdentifier. The given DataFacetChangeListener is added at the default
+	 * priority (zero).
+	 * 
+	 * This should be used (rather than filtering the events received by a
+	 * listener added to every resource) by any listener that is only
+	 * interested in a single resource, so that a change to one resource is
+	 * not delivered to the listeners of every other resource.
+	 * 
+	 * @param id
+	 *            The PCGenIdentifier identifying the resource for which the
+	 *            given DataFacetChangeListener should receive events
+	 * @param listener
+	 *            The DataFacetChangeListener to receive DataFacetChangeEvents
+	 *            from this AbstractDataFacet
+	 */
+	public void addDataFacetChangeListener(IDT id, DataFacetChangeListener<IDT, ? super T> listener)
 	{
-		DataFacetChangeListener<IDT, ? super T>[] dfcl = listeners.get(priority);
+		addDataFacetChangeListener(id, 0, listener);
+	}
+
+	/**
+	 * Adds a new DataFacetChangeListener to receive DataFacetChangeEvents from
+	 * the source DataFacet, but only for the resource identified by the given
+	 * PCGenIdentifier. The DataFacetChangeListener is added at the given
+	 * priority.
+	 * 
+	 * @param id
+	 *            The PCGenIdentifier identifying the resource for which the
+	 *            given DataFacetChangeListener should receive events
+	 * @param priority
+	 *            The lower the priority the earlier in the list the new
+	 *            listener will get advised of the change.
+	 * @param listener
+	 *            The DataFacetChangeListener to receive DataFacetChangeEvents
+	 *            from this AbstractDataFacet
+	 */
+	public synchronized void addDataFacetChangeListener(IDT id, int priority,
+		DataFacetChangeListener<IDT, ? super T> listener)
+	{
+		Map<Integer, DataFacetChangeListener<IDT, ? super T>[]> table = new TreeMap<>(getListenerTable(id));
+		addListener(table, priority, listener);
+		setDispatch(id, table);
+	}
+
+	/**
+	 * Removes a DataFacetChangeListener that was added for the resource
+	 * identified by the given PCGenIdentifier at the default priority (zero).
+	 * 
+	 * @param id
+	 *            The PCGenIdentifier identifying the resource for which the
+	 *            given DataFacetChangeListener was added
+	 * @param listener
+	 *            The DataFacetChangeListener to be removed
+	 */
+	public void removeDataFacetChangeListener(IDT id, DataFacetChangeListener<IDT, ? super T> listener)
+	{
+		removeDataFacetChangeListener(id, 0, listener);
+	}
+
+	/**
+	 * Removes a DataFacetChangeListener that was added for the resource
+	 * identified by the given PCGenIdentifier at the given priority.
+	 * 
+	 * @param id
+	 *            The PCGenIdentifier identifying the resource for which the
+	 *            given DataFacetChangeListener was added
+	 * @param priority
+	 *            The priority at which the DataFacetChangeListener was added
+	 * @param listener
+	 *            The DataFacetChangeListener to be removed
+	 */
+	public synchronized void removeDataFacetChangeListener(IDT id, int priority,
+		DataFacetChangeListener<IDT, ? super T> listener)
+	{
+		Map<Integer, DataFacetChangeListener<IDT, ? super T>[]> table = getListenerTable(id);
+		if (table.isEmpty())
+		{
+			return;
+		}
+		table = new TreeMap<>(table);
+		removeListener(table, priority, listener);
+		setDispatch(id, table.isEmpty() ? null : table);
+	}
+
+	/**
+	 * Returns the DataFacetChangeListeners (by priority) that were added for
+	 * the resource identified by the given PCGenIdentifier. The returned Map
+	 * is never modified (a new Map replaces it when the listeners change).
+	 */
+	@SuppressWarnings("unchecked")
+	private Map<Integer, DataFacetChangeListener<IDT, ? super T>[]> getListenerTable(IDT id)
+	{
+		Object table = getDispatch(id);
+		return (table == null) ? Collections.emptyMap()
+			: (Map<Integer, DataFacetChangeListener<IDT, ? super T>[]>) table;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <IDT extends PCGenIdentifier, T> void addListener(
+		Map<Integer, DataFacetChangeListener<IDT, ? super T>[]> map, int priority,
+		DataFacetChangeListener<IDT, ? super T> listener)
+	{
+		DataFacetChangeListener<IDT, ? super T>[] dfcl = map.get(priority);
+		dfcl = Optional.ofNullable(dfcl).orElse(new DataFacetChangeListener[0]);
+		map.put(priority, ArrayUtilities.prependOnCopy(listener, dfcl,
+			DataFacetChangeListener.class));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <IDT extends PCGenIdentifier, T> void removeListener(
+		Map<Integer, DataFacetChangeListener<IDT, ? super T>[]> map, int priority,
+		DataFacetChangeListener<IDT, ? super T> listener)
+	{
+		DataFacetChangeListener<IDT, ? super T>[] dfcl = map.get(priority);
 		if (dfcl == null)
 		{
 			// No worries
@@ -155,7 +274,7 @@ public abstract class AbstractDataFacet<IDT extends PCGenIdentifier, T> extends
 		{
 			if (dfcl.length == 1)
 			{
-				listeners.remove(priority);
+				map.remove(priority);
 			}
 			else
 			{
@@ -168,7 +287,7 @@ public abstract class AbstractDataFacet<IDT extends PCGenIdentifier, T> extends
 				{
 					System.arraycopy(dfcl, foundLoc + 1, newArray, foundLoc, newSize - foundLoc);
 				}
-				listeners.put(priority, newArray);
+				map.put(priority, newArray);
 			}
 		}
 	}
@@ -214,44 +333,93 @@ public abstract class AbstractDataFacet<IDT extends PCGenIdentifier, T> extends
 	@SuppressWarnings("rawtypes")
 	protected void fireDataFacetChangeEvent(IDT id, T node, int type, Category category, Nature nature)
 	{
-		for (DataFacetChangeListener<IDT, ? super T>[] dfclArray : listeners.values())
+		Map<Integer, DataFacetChangeListener<IDT, ? super T>[]> table = getListenerTable(id);
+		FacetTransaction transaction = FacetTransaction.getOpen(id);
+		if (table.isEmpty())
 		{
-			/*
-			 * This list is decremented from the end of the list to the
-			 * beginning in order to maintain consistent operation with how Java
-			 * AWT and Swing listeners are notified of Events (they are in
-			 * reverse order to how they were added to the Event-owning object).
-			 * This is obviously subordinate to the priority (loop above).
-			 */
 			DataFacetChangeEvent<IDT, T> ccEvent = null;
-			for (int i = dfclArray.length - 1; i >= 0; i--)
+			for (DataFacetChangeListener<IDT, ? super T>[] dfclArray : listeners.values())
 			{
-				// Lazily create event
-				if (ccEvent == null)
+				ccEvent = fireDataFacetChangeEvent(dfclArray, ccEvent, transaction, id, node, type, category, nature);
+			}
+			return;
+		}
+		/*
+		 * Merge the listeners for every resource with the listeners for this
+		 * resource by priority. At the same priority, the listeners for every
+		 * resource are advised first, so the model is up to date before
+		 * listeners for this resource (typically the UI) see the change.
+		 */
+		Iterator<Entry<Integer, DataFacetChangeListener<IDT, ? super T>[]>> globalIt =
+				listeners.entrySet().iterator();
+		Iterator<Entry<Integer, DataFacetChangeListener<IDT, ? super T>[]>> localIt = table.entrySet().iterator();
+		Entry<Integer, DataFacetChangeListener<IDT, ? super T>[]> global = globalIt.hasNext() ? globalIt.next() : null;
+		Entry<Integer, DataFacetChangeListener<IDT, ? super T>[]> local = localIt.next();
+		DataFacetChangeEvent<IDT, T> ccEvent = null;
+		while ((global != null) || (local != null))
+		{
+			if ((global == null) || ((local != null) && (local.getKey() < global.getKey())))
+			{
+				ccEvent = fireDataFacetChangeEvent(local.getValue(), ccEvent, transaction, id, node, type, category,
+					nature);
+				local = localIt.hasNext() ? localIt.next() : null;
+			}
+			else
+			{
+				ccEvent = fireDataFacetChangeEvent(global.getValue(), ccEvent, transaction, id, node, type, category,
+					nature);
+				global = globalIt.hasNext() ? globalIt.next() : null;
+			}
+		}
+	}
+
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	private DataFacetChangeEvent<IDT, T> fireDataFacetChangeEvent(DataFacetChangeListener<IDT, ? super T>[] dfclArray,
+		DataFacetChangeEvent<IDT, T> event, FacetTransaction transaction, IDT id, T node, int type,
+		Category category, Nature nature)
+	{
+		/*
+		 * This list is decremented from the end of the list to the
+		 * beginning in order to maintain consistent operation with how Java
+		 * AWT and Swing listeners are notified of Events (they are in
+		 * reverse order to how they were added to the Event-owning object).
+		 * This is obviously subordinate to the priority (loop above).
+		 */
+		DataFacetChangeEvent<IDT, T> ccEvent = event;
+		for (int i = dfclArray.length - 1; i >= 0; i--)
+		{
+			// Lazily create event
+			if (ccEvent == null)
+			{
+				if (category == null)
 				{
-					if (category == null)
-					{
-						ccEvent = new DataFacetChangeEvent<>(id, node, this, type);
-					}
-					else
-					{
-						ccEvent = new CategorizedDataFacetChangeEvent<>(id, node, this, type, category, nature);
-					}
+					ccEvent = new DataFacetChangeEvent<>(id, node, this, type);
 				}
-				DataFacetChangeListener dfcl = dfclArray[i];
-				switch (ccEvent.getEventType())
+				else
 				{
-					case DataFacetChangeEvent.DATA_ADDED:
-						dfcl.dataAdded(ccEvent);
-						break;
-					case DataFacetChangeEvent.DATA_REMOVED:
-						dfcl.dataRemoved(ccEvent);
-						break;
-					default:
-						break;
+					ccEvent = new CategorizedDataFacetChangeEvent<>(id, node, this, type, category, nature);
 				}
 			}
+			DataFacetChangeListener dfcl = dfclArray[i];
+			if ((transaction != null) && (dfcl instanceof DataFacetBatchListener))
+			{
+				// Delivered as part of a batch when the transaction is committed
+				transaction.record(this, (DataFacetBatchListener) dfcl, ccEvent);
+				continue;
+			}
+			switch (ccEvent.getEventType())
+			{
+				case DataFacetChangeEvent.DATA_ADDED:
+					dfcl.dataAdded(ccEvent);
+					break;
+				case DataFacetChangeEvent.DATA_REMOVED:
+					dfcl.dataRemoved(ccEvent);
+					break;
+				default:
+					break;
+			}
 		}
+		return ccEvent;
 	}
 
 	public DataFacetChangeListener<IDT, ? super T>[] getDataFacetChangeListeners()
@@ -125,7 +125,7 @@ public abstract class AbstractListFacet<IDT extends PCGenIdentifier, T> extends
 	public boolean remove(IDT id, T obj)
 	{
 		Objects.requireNonNull(obj, "Object to add may not be null");
-		Collection<T> componentSet = getCachedSet(id);
+		Collection<T> componentSet = getWritableCachedSet(id);
 		if (componentSet != null)
 		{
 			if (componentSet.remove(obj))
@@ -160,7 +160,7 @@ public abstract class AbstractListFacet<IDT extends PCGenIdentifier, T> extends
 	 */
 	public void removeAll(IDT id, Collection<T> c)
 	{
-		Collection<T> componentSet = getCachedSet(id);
+		Collection<T> componentSet = getWritableCachedSet(id);
 		if (componentSet != null)
 		{
 			for (T obj : c)
@@ -198,12 +198,12 @@ public abstract class AbstractListFacet<IDT extends PCGenIdentifier, T> extends
 	 */
 	public Collection<T> removeAll(IDT id)
 	{
-		@SuppressWarnings("unchecked")
-		Collection<T> componentSet = (Collection<T>) removeCache(id);
+		Collection<T> componentSet = getWritableCachedSet(id);
 		if (componentSet == null)
 		{
 			return Collections.emptySet();
 		}
+		removeCache(id);
 		for (T obj : componentSet)
 		{
 			fireDataFacetChangeEvent(id, obj, DataFacetChangeEvent.DATA_REMOVED);
@@ -326,6 +326,34 @@ public abstract class AbstractListFacet<IDT extends PCGenIdentifier, T> extends
 		return (Collection<T>) getCache(id);
 	}
 
+	/**
+	 * Returns the type-safe Set for this AbstractListFacet and the given
+	 * PCGenIdentifier, in a form that may be modified. May return null if no
+	 * information has been set in this AbstractListFacet for the given
+	 * PCGenIdentifier.
+	 *
+	 * If the Set is shared with another Player Character (see
+	 * copyContents), it is first replaced by a copy owned by the Player
+	 * Character represented by the given PCGenIdentifier. Any method that
+	 * modifies the Set must therefore obtain it through this method rather
+	 * than getCachedSet.
+	 *
+	 * Note that this method SHOULD NOT be public. The Set is owned by
+	 * AbstractListFacet, and since it can be modified, a reference to that
+	 * object should not be exposed to any object other than AbstractListFacet.
+	 *
+	 * @param id
+	 *            The PCGenIdentifier for which the Set should be returned
+	 * @return The Set for the Player Character represented by the given
+	 *         PCGenIdentifier; null if no information has been set in this
+	 *         AbstractListFacet for the Player Character.
+	 */
+	@SuppressWarnings("unchecked")
+	protected Collection<T> getWritableCachedSet(IDT id)
+	{
+		return (Collection<T>) getWritableCache(id);
+	}
+
 	/**
 	 * Returns a type-safe Set for this AbstractListFacet and the given
 	 * PCGenIdentifier. Will return a new, empty Set if no information has been
@@ -343,7 +371,7 @@ public abstract class AbstractListFacet<IDT extends PCGenIdentifier, T> extends
 	 */
 	private Collection<T> getConstructingCachedSet(IDT id)
 	{
-		Collection<T> componentSet = getCachedSet(id);
+		Collection<T> componentSet = getWritableCachedSet(id);
 		if (componentSet == null)
 		{
 			componentSet = getComponentSet();
@@ -391,6 +419,11 @@ public abstract class AbstractListFacet<IDT extends PCGenIdentifier, T> extends
 	 * of one Player Character will only impact the Player Character where the
 	 * AbstractListFacet was changed).
 	 *
+	 * Unless getCopyForNewOwner provides a new copy of the contents, the
+	 * Collection is not copied here, but shared between the Player Characters
+	 * until either of them modifies it (see getWritableCachedSet), so that
+	 * only the contents a copy actually changes are ever copied.
+	 *
 	 * @param source
 	 *            The PCGenIdentifier representing the Player Character from
 	 *            which the information should be copied
@@ -404,10 +437,27 @@ public abstract class AbstractListFacet<IDT extends PCGenIdentifier, T> extends
 		Collection<T> componentSet = getCachedSet(source);
 		if (componentSet != null)
 		{
-			getConstructingCachedSet(copy).addAll(getCopyForNewOwner(componentSet));
+			Collection<T> newOwnerSet = getCopyForNewOwner(componentSet);
+			if ((newOwnerSet == componentSet) && (getCachedSet(copy) == null))
+			{
+				shareContents(source, copy);
+			}
+			else
+			{
+				getConstructingCachedSet(copy).addAll(newOwnerSet);
+			}
 		}
 	}
 
+	@SuppressWarnings("unchecked")
+	@Override
+	protected Object copyCache(Object contents)
+	{
+		Collection<T> componentSet = getComponentSet();
+		componentSet.addAll((Collection<T>) contents);
+		return componentSet;
+	}
+
 	/**
 	 * Create a new copy of this list facet's data. This defaults to a return of
 	 * the same set, but subclasses may need to do deep cloning of their objects
@@ -456,7 +506,7 @@ public abstract class AbstractListFacet<IDT extends PCGenIdentifier, T> extends
 	 */
 	public boolean replace(IDT id, T old, T replacement)
 	{
-		Collection<T> componentSet = getCachedSet(id);
+		Collection<T> componentSet = getWritableCachedSet(id);
 		if ((componentSet == null) || !componentSet.contains(old))
 		{
 			return false;
@@ -509,7 +559,7 @@ public abstract class AbstractListFacet<IDT extends PCGenIdentifier, T> extends
 	 */
 	public void addAfter(IDT id, T trigger, T added)
 	{
-		Collection<T> componentSet = getCachedSet(id);
+		Collection<T> componentSet = getWritableCachedSet(id);
 		if ((componentSet != null) && componentSet.contains(trigger))
 		{
 			Collection<T> replaceSet = getComponentSet();
@@ -27,7 +27,7 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 import pcgen.base.util.ArrayUtilities;
 import pcgen.base.util.GenericMapToList;
@@ -256,7 +256,7 @@ public class AbstractScopeFacet<IDT extends PCGenIdentifier, S, T> extends Abstr
 	}
 
 	private final Map<Integer, ScopeFacetChangeListener<? super IDT, ? super S, ? super T>[]> listeners =
-			new TreeMap<>();
+			new ConcurrentSkipListMap<>();
 
 	/**
 	 * Adds a new ScopeFacetChangeListener to receive ScopeFacetChangeEvents
@@ -293,7 +293,7 @@ public class AbstractScopeFacet<IDT extends PCGenIdentifier, S, T> extends Abstr
 	 *            from this AbstractScopeFacet
 	 */
 	@SuppressWarnings("unchecked")
-	public void addScopeFacetChangeListener(int priority,
+	public synchronized void addScopeFacetChangeListener(int priority,
 		ScopeFacetChangeListener<? super IDT, ? super S, ? super T> listener)
 	{
 		ScopeFacetChangeListener<? super IDT, ? super S, ? super T>[] dfcl =
@@ -332,7 +332,7 @@ public class AbstractScopeFacet<IDT extends PCGenIdentifier, S, T> extends Abstr
 	 * @param listener
 	 *            The ScopeFacetChangeListener to be removed
 	 */
-	public void removeScopeFacetChangeListener(int priority,
+	public synchronized void removeScopeFacetChangeListener(int priority,
 		ScopeFacetChangeListener<? super IDT, ? super S, ? super T> listener)
 	{
 		ScopeFacetChangeListener<? super IDT, ? super S, ? super T>[] dfcl = listeners.get(priority);
@@ -139,7 +139,7 @@ public abstract class AbstractSourcedListFacet<IDT extends PCGenIdentifier, T> e
 	 */
 	public boolean remove(IDT id, T obj, Object source)
 	{
-		Map<T, Set<Object>> componentMap = getCachedMap(id);
+		Map<T, Set<Object>> componentMap = getWritableCachedMap(id);
 		return (componentMap != null) && processRemoval(id, componentMap, obj, source);
 	}
 
@@ -166,7 +166,7 @@ public abstract class AbstractSourcedListFacet<IDT extends PCGenIdentifier, T> e
 	 */
 	public void removeAll(IDT id, Collection<T> c, Object source)
 	{
-		Map<T, Set<Object>> componentMap = getCachedMap(id);
+		Map<T, Set<Object>> componentMap = getWritableCachedMap(id);
 		if (componentMap != null)
 		{
 			for (T obj : c)
@@ -201,7 +201,7 @@ public abstract class AbstractSourcedListFacet<IDT extends PCGenIdentifier, T> e
 	 */
 	public Map<T, Set<Object>> removeAll(IDT id)
 	{
-		Map<T, Set<Object>> componentMap = getCachedMap(id);
+		Map<T, Set<Object>> componentMap = getWritableCachedMap(id);
 		if (componentMap == null)
 		{
 			return Collections.emptyMap();
@@ -360,6 +360,35 @@ public abstract class AbstractSourcedListFacet<IDT extends PCGenIdentifier, T> e
 		return (Map<T, Set<Object>>) getCache(id);
 	}
 
+	/**
+	 * Returns the type-safe Map for this AbstractSourcedListFacet and the given
+	 * PCGenIdentifier, in a form that may be modified. May return null if no
+	 * information has been set in this AbstractSourcedListFacet for the given
+	 * PCGenIdentifier.
+	 * 
+	 * If the Map is shared with another resource (see copyContents), it is
+	 * first replaced by a copy owned by the resource represented by the given
+	 * PCGenIdentifier. Any method that modifies the Map, or the Sets of
+	 * sources within it, must therefore obtain it through this method rather
+	 * than getCachedMap.
+	 * 
+	 * Note that this method SHOULD NOT be public. The Map is owned by
+	 * AbstractSourcedListFacet, and since it can be modified, a reference to
+	 * that object should not be exposed to any object other than
+	 * AbstractSourcedListFacet.
+	 * 
+	 * @param id
+	 *            The PCGenIdentifier for which the Map should be returned
+	 * @return The Map for the resource represented by the given
+	 *         PCGenIdentifier; null if no information has been set in this
+	 *         AbstractSourcedListFacet for the resource.
+	 */
+	@SuppressWarnings("unchecked")
+	protected Map<T, Set<Object>> getWritableCachedMap(IDT id)
+	{
+		return (Map<T, Set<Object>>) getWritableCache(id);
+	}
+
 	/**
 	 * Returns the type-safe Map for this AbstractSourcedListFacet and the given
 	 * PCGenIdentifier. Will return a new, empty Map if no information has been
@@ -378,7 +407,7 @@ public abstract class AbstractSourcedListFacet<IDT extends PCGenIdentifier, T> e
 	 */
 	private Map<T, Set<Object>> getConstructingCachedMap(IDT id)
 	{
-		Map<T, Set<Object>> componentMap = getCachedMap(id);
+		Map<T, Set<Object>> componentMap = getWritableCachedMap(id);
 		if (componentMap == null)
 		{
 			componentMap = getComponentMap();
@@ -426,6 +455,11 @@ public abstract class AbstractSourcedListFacet<IDT extends PCGenIdentifier, T> e
 	 * one resource will only impact the resource where the
 	 * AbstractSourcedListFacet was changed).
 	 * 
+	 * If the destination holds nothing in this AbstractSourcedListFacet, the
+	 * Map is not copied here, but shared between the resources until either
+	 * of them modifies it (see getWritableCachedMap), so that only the
+	 * contents a copy actually changes are ever copied.
+	 * 
 	 * @param source
 	 *            The PCGenIdentifier representing the resource from which the
 	 *            information should be copied
@@ -437,7 +471,11 @@ public abstract class AbstractSourcedListFacet<IDT extends PCGenIdentifier, T> e
 	public void copyContents(IDT source, IDT destination)
 	{
 		Map<T, Set<Object>> sourceMap = getCachedMap(source);
-		if (sourceMap != null)
+		if (getCachedMap(destination) == null)
+		{
+			shareContents(source, destination);
+		}
+		else if (sourceMap != null)
 		{
 			for (Map.Entry<T, Set<Object>> me : sourceMap.entrySet())
 			{
@@ -449,6 +487,20 @@ public abstract class AbstractSourcedListFacet<IDT extends PCGenIdentifier, T> e
 		}
 	}
 
+	@SuppressWarnings("unchecked")
+	@Override
+	protected Object copyCache(Object contents)
+	{
+		Map<T, Set<Object>> componentMap = getComponentMap();
+		for (Map.Entry<T, Set<Object>> me : ((Map<T, Set<Object>>) contents).entrySet())
+		{
+			Set<Object> set = Collections.newSetFromMap(new IdentityHashMap<>());
+			set.addAll(me.getValue());
+			componentMap.put(me.getKey(), set);
+		}
+		return componentMap;
+	}
+
 	/**
 	 * This method implements removal of a source for an object contained by
 	 * this AbstractSourcedListFacet. This implements the actual check that
@@ -508,7 +560,7 @@ public abstract class AbstractSourcedListFacet<IDT extends PCGenIdentifier, T> e
 	 */
 	public void removeAll(IDT id, Object source)
 	{
-		Map<T, Set<Object>> componentMap = getCachedMap(id);
+		Map<T, Set<Object>> componentMap = getWritableCachedMap(id);
 		if (componentMap != null)
 		{
 			/*
@@ -17,16 +17,18 @@
  */
 package pcgen.cdom.facet.base;
 
+import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.WeakHashMap;
 
 import pcgen.base.test.InequalityTester;
-import pcgen.base.util.DoubleKeyMap;
+import pcgen.cdom.base.FacetSlots;
 import pcgen.cdom.base.PCGenIdentifier;
 import pcgen.util.Logging;
 
@@ -35,13 +37,38 @@ import pcgen.util.Logging;
  * cache. All classes (facets) that want to store information in the cache must
  * extend this class.
  * 
+ * The cache is held by each PCGenIdentifier (see FacetSlots), and each facet
+ * Class is assigned a slot in that storage when the first instance of the facet
+ * is constructed. All instances of a facet Class therefore share a slot.
+ * 
+ * A facet may share its contents for one resource with another resource
+ * rather than copying them (see shareContents), so that copying a resource
+ * only copies the contents that are later written. Such a facet must read its
+ * contents through getCache, and obtain them through getWritableCache before
+ * modifying them in place. setCache and removeCache release the share of the
+ * given resource.
+ * 
  * @param <T>
  *            The Type of identifier used in this AbstractStorageFacet
  */
 public abstract class AbstractStorageFacet<T extends PCGenIdentifier>
 {
 
-	private final Class<?> thisClass = getClass();
+	/**
+	 * The slot number assigned to each facet Class.
+	 */
+	private static final Map<Class<?>, Integer> SLOT_NUMBERS = new HashMap<>();
+
+	/**
+	 * The facet Class to which each slot number is assigned, indexed by slot
+	 * number.
+	 */
+	private static final List<Class<?>> SLOT_CLASSES = new ArrayList<>();
+
+	/**
+	 * The slot number in which this facet stores information in a FacetSlots.
+	 */
+	private final int slot = getSlotNumber(getClass());
 
 	/**
 	 * Copies the contents of the AbstractStorageFacet from one resource to
@@ -70,21 +97,33 @@ public abstract class AbstractStorageFacet<T extends PCGenIdentifier>
 	public abstract void copyContents(T source, T copy);
 
 	/**
-	 * The actual cache that stores the CDOM information, as stored by the
-	 * identifying PCGenIdentifier of a resource and the class of the facet
-	 * storing the information
+	 * Returns the slot number for the given facet Class, assigning the next
+	 * available slot number if the facet Class does not yet have one.
+	 * 
+	 * @param cl
+	 *            The facet Class for which the slot number should be returned
+	 * @return The slot number for the given facet Class
 	 */
-	private static final DoubleKeyMap<PCGenIdentifier, Class<?>, Object> CACHE =
-			new DoubleKeyMap<>(WeakHashMap.class, HashMap.class);
+	private static synchronized int getSlotNumber(Class<?> cl)
+	{
+		return SLOT_NUMBERS.computeIfAbsent(cl, c -> {
+			SLOT_CLASSES.add(c);
+			return SLOT_CLASSES.size() - 1;
+		});
+	}
 
-	/*
-	 * Note: the use of CACHE.getReadOnlyMapFor(K1) in peekAtCache makes calling
-	 * CACHE.removeAll(k1) or CACHE.clear() [not used in this class at the
-	 * moment] a rather dangerous activity that is prone to later frustration in
-	 * debugging. It is advised that if such a call is every considered that
-	 * detailed consideration is made of the consequences so that debugging
-	 * information is not destroyed in the process. - thpr Dec 15, 2012.
+	/**
+	 * Returns the facet Class assigned to the given slot number.
+	 * 
+	 * @param slotNumber
+	 *            The slot number for which the facet Class should be returned
+	 * @return The facet Class assigned to the given slot number, or null if the
+	 *         slot number has not been assigned
 	 */
+	private static synchronized Class<?> getSlotClass(int slotNumber)
+	{
+		return (slotNumber < SLOT_CLASSES.size()) ? SLOT_CLASSES.get(slotNumber) : null;
+	}
 
 	/**
 	 * Removes the information from the cache for a given resource and facet (as
@@ -100,7 +139,7 @@ public abstract class AbstractStorageFacet<T extends PCGenIdentifier>
 	public Object removeCache(T id)
 	{
 		Objects.requireNonNull(id, "PCGenIdentifier cannot be null in removeCache");
-		return CACHE.remove(id, thisClass);
+		return id.getFacetSlots().set(slot, null);
 	}
 
 	/**
@@ -119,7 +158,7 @@ public abstract class AbstractStorageFacet<T extends PCGenIdentifier>
 	public Object setCache(T id, Object o)
 	{
 		Objects.requireNonNull(id, "PCGenIdentifier cannot be null in setCache");
-		return CACHE.put(id, thisClass, o);
+		return id.getFacetSlots().set(slot, o);
 	}
 
 	/**
@@ -136,7 +175,95 @@ public abstract class AbstractStorageFacet<T extends PCGenIdentifier>
 	public Object getCache(T id)
 	{
 		Objects.requireNonNull(id, "PCGenIdentifier cannot be null in getCache");
-		return CACHE.get(id, thisClass);
+		return id.getFacetSlots().get(slot);
+	}
+
+	/**
+	 * Retrieves the information from the cache for a given resource and facet
+	 * (as identified by the Class), in a form that may be modified in place.
+	 * If the information is shared with another resource (see
+	 * shareContents), it is first replaced by a copy made by copyCache.
+	 * 
+	 * @param id
+	 *            The PCGenIdentifier for which the information should be
+	 *            returned
+	 * @return The information in the Cache for the resource identified by the
+	 *         given PCGenIdentifier and the facet identified by the given
+	 *         Class, which is owned by that resource alone.
+	 */
+	protected Object getWritableCache(T id)
+	{
+		Objects.requireNonNull(id, "PCGenIdentifier cannot be null in getWritableCache");
+		return id.getFacetSlots().getWritable(slot, this::copyCache);
+	}
+
+	/**
+	 * Shares the information in the cache for one resource with another
+	 * resource, instead of copying it. Neither resource may then modify the
+	 * information in place until it has obtained its own copy through
+	 * getWritableCache, so only a facet which overrides copyCache, and which
+	 * writes its contents only through getWritableCache, setCache and
+	 * removeCache, may share its contents.
+	 * 
+	 * @param source
+	 *            The PCGenIdentifier representing the resource whose
+	 *            information should be shared
+	 * @param copy
+	 *            The PCGenIdentifier representing the resource with which the
+	 *            information should be shared
+	 */
+	protected void shareContents(T source, T copy)
+	{
+		Objects.requireNonNull(source, "Source PCGenIdentifier cannot be null in shareContents");
+		Objects.requireNonNull(copy, "Copy PCGenIdentifier cannot be null in shareContents");
+		copy.getFacetSlots().share(source.getFacetSlots(), slot);
+	}
+
+	/**
+	 * Returns a copy of the given information from the cache of this facet,
+	 * which can be modified without modifying the given information. Called
+	 * when information shared through shareContents is about to be written.
+	 * 
+	 * Facets which share their contents must override this method; the
+	 * default implementation throws an UnsupportedOperationException.
+	 * 
+	 * @param contents
+	 *            The information to be copied
+	 * @return A copy of the given information
+	 */
+	protected Object copyCache(Object contents)
+	{
+		throw new UnsupportedOperationException(getClass().getSimpleName() + " cannot copy shared contents");
+	}
+
+	/**
+	 * Retrieves the dispatch entry of this facet for a given resource. The
+	 * dispatch entry is not part of the cache contents, so it is neither copied
+	 * nor compared with the cache.
+	 * 
+	 * @param id
+	 *            The PCGenIdentifier for which the dispatch entry should be
+	 *            returned
+	 * @return The dispatch entry of this facet for the resource identified by
+	 *         the given PCGenIdentifier
+	 */
+	protected Object getDispatch(T id)
+	{
+		return id.getFacetSlots().getDispatch(slot);
+	}
+
+	/**
+	 * Sets the dispatch entry of this facet for a given resource.
+	 * 
+	 * @param id
+	 *            The PCGenIdentifier for which the dispatch entry should be set
+	 * @param o
+	 *            The dispatch entry (may be null to clear the entry)
+	 */
+	protected void setDispatch(T id, Object o)
+	{
+		Objects.requireNonNull(id, "PCGenIdentifier cannot be null in setDispatch");
+		id.getFacetSlots().setDispatch(slot, o);
 	}
 
 	/**
@@ -161,8 +288,10 @@ public abstract class AbstractStorageFacet<T extends PCGenIdentifier>
 	{
 		Objects.requireNonNull(id1, "PCGenIdentifier #1 cannot be null in areEqualCache");
 		Objects.requireNonNull(id2, "PCGenIdentifier #2 cannot be null in areEqualCache");
-		Set<Class<?>> set1 = CACHE.getSecondaryKeySet(id1);
-		Set<Class<?>> set2 = CACHE.getSecondaryKeySet(id2);
+		Map<Class<?>, Object> contents1 = getContents(id1.getFacetSlots());
+		Map<Class<?>, Object> contents2 = getContents(id2.getFacetSlots());
+		Set<Class<?>> set1 = contents1.keySet();
+		Set<Class<?>> set2 = contents2.keySet();
 		if (!set1.equals(set2))
 		{
 			List<Class<?>> l1 = new ArrayList<>(set1);
@@ -174,8 +303,8 @@ public abstract class AbstractStorageFacet<T extends PCGenIdentifier>
 		}
 		for (Class<?> cl : set1)
 		{
-			Object obj1 = CACHE.get(id1, cl);
-			Object obj2 = CACHE.get(id2, cl);
+			Object obj1 = contents1.get(cl);
+			Object obj2 = contents2.get(cl);
 			String equal = t.testEquality(obj1, obj2, cl + "/");
 			if (equal != null)
 			{
@@ -195,11 +324,10 @@ public abstract class AbstractStorageFacet<T extends PCGenIdentifier>
 	 * will change as the contents of the cache are changed). Ownership of the
 	 * returned Map is transferred to the caller, although since it is
 	 * read-only, that is perhaps only relevant for determining the garbage
-	 * collection time of the decorator that makes the returned Map an
-	 * unmodifiable view into this DoubleKeyMap.
+	 * collection time of the view.
 	 * 
-	 * Note that while this is a read-only map, there is no guarantee that this
-	 * returned map is thread-safe. Use in threaded situations with caution.
+	 * Note that each query of the returned map takes a snapshot of the cache,
+	 * so it is intended for debugging rather than for repeated lookups.
 	 * 
 	 * @param id
 	 *            The PCGenIdentifier for which a read-only view of the cache
@@ -209,6 +337,36 @@ public abstract class AbstractStorageFacet<T extends PCGenIdentifier>
 	public static Map<Class<?>, Object> peekAtCache(PCGenIdentifier id)
 	{
 		Objects.requireNonNull(id, "PCGenIdentifier cannot be null in peekAtCache");
-		return CACHE.getReadOnlyMapFor(id);
+		FacetSlots slots = id.getFacetSlots();
+		return new AbstractMap<>()
+		{
+			@Override
+			public Set<Entry<Class<?>, Object>> entrySet()
+			{
+				return getContents(slots).entrySet();
+			}
+		};
+	}
+
+	/**
+	 * Returns a read-only snapshot of the contents of the given FacetSlots, as
+	 * stored by the facet Class owning each slot. Empty slots are not included.
+	 * 
+	 * @param slots
+	 *            The FacetSlots for which the contents should be returned
+	 * @return A read-only snapshot of the contents of the given FacetSlots
+	 */
+	private static Map<Class<?>, Object> getContents(FacetSlots slots)
+	{
+		Map<Class<?>, Object> contents = new LinkedHashMap<>();
+		for (int i = 0; i < slots.capacity(); i++)
+		{
+			Object o = slots.get(i);
+			if (o != null)
+			{
+				contents.put(getSlotClass(i), o);
+			}
+		}
+		return Collections.unmodifiableMap(contents);
 	}
 }
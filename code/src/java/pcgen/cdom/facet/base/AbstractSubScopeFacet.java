@@ -27,7 +27,7 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 import pcgen.base.util.ArrayUtilities;
 import pcgen.cdom.enumeration.CharID;
@@ -299,7 +299,7 @@ public class AbstractSubScopeFacet<S1, S2, T> extends AbstractStorageFacet<CharI
 	}
 
 	private final Map<Integer, SubScopeFacetChangeListener<? super S1, ? super S2, ? super T>[]> listeners =
-			new TreeMap<>();
+			new ConcurrentSkipListMap<>();
 
 	/**
 	 * Adds a new ScopeFacetChangeListener to receive TwoScopeFacetChangeEvents
@@ -336,7 +336,7 @@ public class AbstractSubScopeFacet<S1, S2, T> extends AbstractStorageFacet<CharI
 	 *            TwoScopeFacetChangeEvents from this AbstractScopeFacet
 	 */
 	@SuppressWarnings("unchecked")
-	public void addSubScopeFacetChangeListener(int priority,
+	public synchronized void addSubScopeFacetChangeListener(int priority,
 		SubScopeFacetChangeListener<? super S1, ? super S2, ? super T> listener)
 	{
 		SubScopeFacetChangeListener<? super S1, ? super S2, ? super T>[] dfcl =
@@ -0,0 +1,254 @@
+/*
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA
+ */
+package pcgen.cdom.facet.base;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import pcgen.cdom.base.FacetSlots;
+import pcgen.cdom.base.PCGenIdentifier;
+import pcgen.cdom.facet.CategorizedDataFacetChangeEvent;
+import pcgen.cdom.facet.event.DataFacetBatchEvent;
+import pcgen.cdom.facet.event.DataFacetBatchListener;
+import pcgen.cdom.facet.event.DataFacetChangeEvent;
+
+/**
+ * A FacetTransaction groups the changes made to a resource (e.g. a Player
+ * Character) so that they can be delivered to DataFacetBatchListeners as a
+ * single DataFacetBatchEvent per facet and listener.
+ * 
+ * Between begin and commit, the changes to the resource that would be sent to a
+ * DataFacetBatchListener are recorded, and a change that is undone before the
+ * commit (an object added and then removed again, or the reverse) is dropped.
+ * Listeners that only implement DataFacetChangeListener are not affected by a
+ * transaction and continue to receive each change as it happens.
+ * 
+ * Transactions may be nested; the changes are delivered when the outermost
+ * transaction is committed. Callers should commit in a finally block. A
+ * transaction belongs to a single resource, and (as with the other changes to
+ * that resource) must be used from one thread at a time.
+ */
+public final class FacetTransaction
+{
+
+	/**
+	 * The number of times begin has been called for this transaction without a
+	 * matching call to commit.
+	 */
+	private int depth = 1;
+
+	/**
+	 * The changes recorded in this transaction, by the facet and listener to
+	 * which they are to be delivered, in the order they were first recorded.
+	 */
+	private final Map<BatchKey, Map<EventKey, DataFacetChangeEvent<?, ?>>> pending = new LinkedHashMap<>();
+
+	private FacetTransaction()
+	{
+		//Only constructed by begin
+	}
+
+	/**
+	 * Begins a FacetTransaction for the resource identified by the given
+	 * PCGenIdentifier. If a transaction is already open for the resource, the
+	 * new transaction is nested within it.
+	 * 
+	 * @param id
+	 *            The PCGenIdentifier identifying the resource for which a
+	 *            transaction should be started
+	 */
+	public static void begin(PCGenIdentifier id)
+	{
+		Objects.requireNonNull(id, "PCGenIdentifier cannot be null in begin");
+		FacetSlots slots = id.getFacetSlots();
+		FacetTransaction transaction = (FacetTransaction) slots.getTransaction();
+		if (transaction == null)
+		{
+			slots.setTransaction(new FacetTransaction());
+		}
+		else
+		{
+			transaction.depth++;
+		}
+	}
+
+	/**
+	 * Commits the FacetTransaction for the resource identified by the given
+	 * PCGenIdentifier. If this is the outermost transaction, the recorded
+	 * changes are delivered to the DataFacetBatchListeners.
+	 * 
+	 * @param id
+	 *            The PCGenIdentifier identifying the resource for which the
+	 *            transaction should be committed
+	 * @throws IllegalStateException
+	 *             if no transaction is open for the given PCGenIdentifier
+	 */
+	public static void commit(PCGenIdentifier id)
+	{
+		Objects.requireNonNull(id, "PCGenIdentifier cannot be null in commit");
+		FacetSlots slots = id.getFacetSlots();
+		FacetTransaction transaction = (FacetTransaction) slots.getTransaction();
+		if (transaction == null)
+		{
+			throw new IllegalStateException("No facet transaction is open for " + id);
+		}
+		transaction.depth--;
+		if (transaction.depth == 0)
+		{
+			slots.setTransaction(null);
+			transaction.deliver(id);
+		}
+	}
+
+	/**
+	 * Returns true if a FacetTransaction is open for the resource identified
+	 * by the given PCGenIdentifier.
+	 * 
+	 * @param id
+	 *            The PCGenIdentifier identifying the resource to be checked
+	 * @return true if a FacetTransaction is open for the resource identified by
+	 *         the given PCGenIdentifier; false otherwise
+	 */
+	public static boolean isOpen(PCGenIdentifier id)
+	{
+		return getOpen(id) != null;
+	}
+
+	/**
+	 * Returns the FacetTransaction open for the resource identified by the
+	 * given PCGenIdentifier, or null if no transaction is open.
+	 */
+	static FacetTransaction getOpen(PCGenIdentifier id)
+	{
+		return (FacetTransaction) id.getFacetSlots().getTransaction();
+	}
+
+	/**
+	 * Records a change to be delivered to the given DataFacetBatchListener
+	 * when this transaction is committed.
+	 */
+	void record(Object facet, DataFacetBatchListener<?, ?> listener, DataFacetChangeEvent<?, ?> dfce)
+	{
+		Map<EventKey, DataFacetChangeEvent<?, ?>> changes =
+				pending.computeIfAbsent(new BatchKey(facet, listener), k -> new LinkedHashMap<>());
+		EventKey key = new EventKey(dfce);
+		DataFacetChangeEvent<?, ?> previous = changes.get(key);
+		if (previous == null)
+		{
+			changes.put(key, dfce);
+		}
+		else if (previous.getEventType() != dfce.getEventType())
+		{
+			//The change was undone within this transaction
+			changes.remove(key);
+		}
+	}
+
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	private void deliver(PCGenIdentifier id)
+	{
+		for (Map.Entry<BatchKey, Map<EventKey, DataFacetChangeEvent<?, ?>>> entry : pending.entrySet())
+		{
+			Map<EventKey, DataFacetChangeEvent<?, ?>> changes = entry.getValue();
+			if (!changes.isEmpty())
+			{
+				BatchKey batch = entry.getKey();
+				batch.listener.dataChanged(new DataFacetBatchEvent(id, batch.facet, new ArrayList<>(changes.values())));
+			}
+		}
+	}
+
+	/**
+	 * Identifies the facet and listener to which a batch is delivered.
+	 */
+	private static final class BatchKey
+	{
+		private final Object facet;
+		@SuppressWarnings("rawtypes")
+		private final DataFacetBatchListener listener;
+
+		private BatchKey(Object facet, DataFacetBatchListener<?, ?> listener)
+		{
+			this.facet = facet;
+			this.listener = listener;
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return System.identityHashCode(facet) * 31 + System.identityHashCode(listener);
+		}
+
+		@Override
+		public boolean equals(Object o)
+		{
+			if (o instanceof BatchKey)
+			{
+				BatchKey other = (BatchKey) o;
+				return (facet == other.facet) && (listener == other.listener);
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Identifies the object (and Category and Nature, if any) changed by a
+	 * DataFacetChangeEvent, so that a change can be matched with the change
+	 * that undoes it.
+	 */
+	private static final class EventKey
+	{
+		private final Object node;
+		private final Object category;
+		private final Object nature;
+
+		private EventKey(DataFacetChangeEvent<?, ?> dfce)
+		{
+			node = dfce.getCDOMObject();
+			if (dfce instanceof CategorizedDataFacetChangeEvent)
+			{
+				CategorizedDataFacetChangeEvent<?, ?> cdfce = (CategorizedDataFacetChangeEvent<?, ?>) dfce;
+				category = cdfce.getCategory();
+				nature = cdfce.getNature();
+			}
+			else
+			{
+				category = null;
+				nature = null;
+			}
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return node.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object o)
+		{
+			if (o instanceof EventKey)
+			{
+				EventKey other = (EventKey) o;
+				return node.equals(other.node) && Objects.equals(category, other.category)
+					&& Objects.equals(nature, other.nature);
+			}
+			return false;
+		}
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA
+ */
+package pcgen.cdom.facet.event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EventObject;
+import java.util.List;
+import java.util.Objects;
+
+import pcgen.cdom.base.PCGenIdentifier;
+
+/**
+ * A DataFacetBatchEvent is the set of changes made by a DataFacet to a single
+ * resource, delivered to a DataFacetBatchListener at once. The changes are in
+ * the order they were made, and a change that was undone within the same batch
+ * (e.g. an object added and then removed again) is not included.
+ * 
+ * @param <IDT>
+ *            The type of identifier (e.g. CharID) used by this
+ *            DataFacetBatchEvent
+ * @param <T>
+ *            The type of object changed in this DataFacetBatchEvent
+ */
+public class DataFacetBatchEvent<IDT extends PCGenIdentifier, T> extends EventObject
+{
+
+	/**
+	 * The identifier of the resource in which the changes took place.
+	 */
+	private final IDT charID;
+
+	/**
+	 * The changes in this DataFacetBatchEvent, in the order they were made.
+	 */
+	private final List<DataFacetChangeEvent<IDT, T>> events;
+
+	/**
+	 * Constructs a new DataFacetBatchEvent for the given changes.
+	 * 
+	 * @param id
+	 *            The identifier of the resource in which the changes took
+	 *            place
+	 * @param source
+	 *            The DataFacet in which the changes took place
+	 * @param changes
+	 *            The changes, in the order they were made
+	 */
+	public DataFacetBatchEvent(IDT id, Object source, List<DataFacetChangeEvent<IDT, T>> changes)
+	{
+		super(source);
+		Objects.requireNonNull(id, "PCGenIdentifier cannot be null");
+		Objects.requireNonNull(changes, "Changes cannot be null");
+		charID = id;
+		events = Collections.unmodifiableList(new ArrayList<>(changes));
+	}
+
+	/**
+	 * Constructs a new DataFacetBatchEvent containing the single given
+	 * change.
+	 * 
+	 * @param dfce
+	 *            The change to be contained in the DataFacetBatchEvent
+	 */
+	public DataFacetBatchEvent(DataFacetChangeEvent<IDT, T> dfce)
+	{
+		this(dfce.getCharID(), dfce.getSource(), Collections.singletonList(dfce));
+	}
+
+	/**
+	 * Returns the identifier of the resource in which the changes took place.
+	 * 
+	 * @return The identifier of the resource in which the changes took place
+	 */
+	public IDT getCharID()
+	{
+		return charID;
+	}
+
+	/**
+	 * Returns the changes in this DataFacetBatchEvent, in the order they were
+	 * made.
+	 * 
+	 * @return An unmodifiable List of the changes in this DataFacetBatchEvent
+	 */
+	public List<DataFacetChangeEvent<IDT, T>> getEvents()
+	{
+		return events;
+	}
+
+	/**
+	 * Returns the objects added by this DataFacetBatchEvent.
+	 * 
+	 * @return A List of the objects added by this DataFacetBatchEvent
+	 */
+	public List<T> getAdded()
+	{
+		return getObjects(DataFacetChangeEvent.DATA_ADDED);
+	}
+
+	/**
+	 * Returns the objects removed by this DataFacetBatchEvent.
+	 * 
+	 * @return A List of the objects removed by this DataFacetBatchEvent
+	 */
+	public List<T> getRemoved()
+	{
+		return getObjects(DataFacetChangeEvent.DATA_REMOVED);
+	}
+
+	private List<T> getObjects(int type)
+	{
+		List<T> list = new ArrayList<>();
+		for (DataFacetChangeEvent<IDT, T> dfce : events)
+		{
+			if (dfce.getEventType() == type)
+			{
+				list.add(dfce.getCDOMObject());
+			}
+		}
+		return list;
+	}
+}
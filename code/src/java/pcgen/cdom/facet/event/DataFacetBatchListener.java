@@ -0,0 +1,58 @@
+/*
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA
+ */
+package pcgen.cdom.facet.event;
+
+import pcgen.cdom.base.PCGenIdentifier;
+
+/**
+ * A DataFacetBatchListener is a DataFacetChangeListener that can process a
+ * whole set of changes at once. While a FacetTransaction is open for a
+ * resource, the changes to that resource are held and then delivered to each
+ * DataFacetBatchListener as a single DataFacetBatchEvent when the transaction
+ * is committed. Outside of a transaction, each change is delivered as a
+ * DataFacetBatchEvent containing that single change.
+ * 
+ * @param <IDT>
+ *            The type of identifier (e.g. CharID) used by this
+ *            DataFacetBatchListener
+ * @param <T>
+ *            The type of object changed in the events received by this
+ *            DataFacetBatchListener
+ */
+public interface DataFacetBatchListener<IDT extends PCGenIdentifier, T> extends DataFacetChangeListener<IDT, T>
+{
+	/**
+	 * Method called when objects have been added to or removed from a resource
+	 * and this DataFacetBatchListener has been added as a
+	 * DataFacetChangeListener to the source DataFacet.
+	 * 
+	 * @param batch
+	 *            The DataFacetBatchEvent containing the changes
+	 */
+	public void dataChanged(DataFacetBatchEvent<IDT, T> batch);
+
+	@Override
+	public default void dataAdded(DataFacetChangeEvent<IDT, T> dfce)
+	{
+		dataChanged(new DataFacetBatchEvent<>(dfce));
+	}
+
+	@Override
+	public default void dataRemoved(DataFacetChangeEvent<IDT, T> dfce)
+	{
+		dataChanged(new DataFacetBatchEvent<>(dfce));
+	}
+}
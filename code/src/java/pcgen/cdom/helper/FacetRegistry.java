@@ -0,0 +1,1151 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.cdom.helper;
+
+import java.util.List;
+
+import pcgen.cdom.facet.AbilitySelectionApplication;
+import pcgen.cdom.facet.ActiveSpellsFacet;
+import pcgen.cdom.facet.AddFacet;
+import pcgen.cdom.facet.AddLevelFacet;
+import pcgen.cdom.facet.AddedBonusFacet;
+import pcgen.cdom.facet.AddedTemplateFacet;
+import pcgen.cdom.facet.AgeSetKitFacet;
+import pcgen.cdom.facet.AppliedBonusFacet;
+import pcgen.cdom.facet.ArmorProfFacet;
+import pcgen.cdom.facet.AutoEquipmentFacet;
+import pcgen.cdom.facet.AutoLanguageFacet;
+import pcgen.cdom.facet.AutoLanguageGrantedFacet;
+import pcgen.cdom.facet.AutoLanguageUnconditionalFacet;
+import pcgen.cdom.facet.AutoWeaponProfFacet;
+import pcgen.cdom.facet.AvailableSpellFacet;
+import pcgen.cdom.facet.AvailableSpellInputFacet;
+import pcgen.cdom.facet.BioSetTrackingFacet;
+import pcgen.cdom.facet.BonusActiviationFacet;
+import pcgen.cdom.facet.BonusChangeFacet;
+import pcgen.cdom.facet.BonusCheckingFacet;
+import pcgen.cdom.facet.BonusSkillRankChangeFacet;
+import pcgen.cdom.facet.CDOMObjectBridge;
+import pcgen.cdom.facet.CDOMObjectConsolidationFacet;
+import pcgen.cdom.facet.CDOMObjectSourceFacet;
+import pcgen.cdom.facet.CDOMWrapperInfoFacet;
+import pcgen.cdom.facet.CalcBonusFacet;
+import pcgen.cdom.facet.CategorizedAbilityFacet;
+import pcgen.cdom.facet.CharacterConsolidationFacet;
+import pcgen.cdom.facet.CheckBonusFacet;
+import pcgen.cdom.facet.ChooseDriverFacet;
+import pcgen.cdom.facet.ClassLevelChangeFacet;
+import pcgen.cdom.facet.ClassSpellListFacet;
+import pcgen.cdom.facet.ConditionalAbilityFacet;
+import pcgen.cdom.facet.ConditionalTemplateFacet;
+import pcgen.cdom.facet.ConditionallyAvailableSpellFacet;
+import pcgen.cdom.facet.ConditionallyGrantedAbilityFacet;
+import pcgen.cdom.facet.ConditionallyGrantedAvailableSpellFacet;
+import pcgen.cdom.facet.ConditionallyGrantedKnownSpellFacet;
+import pcgen.cdom.facet.ConditionallyKnownSpellFacet;
+import pcgen.cdom.facet.DamageReductionFacet;
+import pcgen.cdom.facet.DataSetInitializationFacet;
+import pcgen.cdom.facet.DefaultClassSkillListFacet;
+import pcgen.cdom.facet.DeityWeaponProfFacet;
+import pcgen.cdom.facet.DirectAbilityFacet;
+import pcgen.cdom.facet.DirectAbilityInputFacet;
+import pcgen.cdom.facet.DomainSelectionFacet;
+import pcgen.cdom.facet.DomainSpellCountFacet;
+import pcgen.cdom.facet.DomainSpellListFacet;
+import pcgen.cdom.facet.DomainSpellsFacet;
+import pcgen.cdom.facet.EquipSetFacet;
+import pcgen.cdom.facet.EquipmentConsolidationFacet;
+import pcgen.cdom.facet.EquipmentFacet;
+import pcgen.cdom.facet.EquipmentTypeFacet;
+import pcgen.cdom.facet.EquippedEquipmentFacet;
+import pcgen.cdom.facet.FormulaResolvingFacet;
+import pcgen.cdom.facet.GlobalModifierFacet;
+import pcgen.cdom.facet.GrantedAbilityFacet;
+import pcgen.cdom.facet.GrantedVarFacet;
+import pcgen.cdom.facet.HasDeityWeaponProfFacet;
+import pcgen.cdom.facet.HiddenTypeFacet;
+import pcgen.cdom.facet.HitPointFacet;
+import pcgen.cdom.facet.KitChoiceFacet;
+import pcgen.cdom.facet.KitFacet;
+import pcgen.cdom.facet.KnownSpellFacet;
+import pcgen.cdom.facet.KnownSpellInputFacet;
+import pcgen.cdom.facet.LevelInfoFacet;
+import pcgen.cdom.facet.LoadContextFacet;
+import pcgen.cdom.facet.MasterAvailableSpellFacet;
+import pcgen.cdom.facet.MasterFacet;
+import pcgen.cdom.facet.MasterSkillFacet;
+import pcgen.cdom.facet.ModifierFacet;
+import pcgen.cdom.facet.MonsterClassFacet;
+import pcgen.cdom.facet.NaturalEquipSetFacet;
+import pcgen.cdom.facet.NaturalEquipmentFacet;
+import pcgen.cdom.facet.NaturalWeaponFacet;
+import pcgen.cdom.facet.NaturalWeaponProfFacet;
+import pcgen.cdom.facet.NoteItemFacet;
+import pcgen.cdom.facet.ObjectAdditionFacet;
+import pcgen.cdom.facet.ObjectWrapperFacet;
+import pcgen.cdom.facet.PlayerCharacterTrackingFacet;
+import pcgen.cdom.facet.PrerequisiteFacet;
+import pcgen.cdom.facet.PrimaryWeaponFacet;
+import pcgen.cdom.facet.RaceSelectionFacet;
+import pcgen.cdom.facet.RemoteModifierFacet;
+import pcgen.cdom.facet.RemoveFacet;
+import pcgen.cdom.facet.SaveableBonusFacet;
+import pcgen.cdom.facet.SavedAbilitiesFacet;
+import pcgen.cdom.facet.ScopeFacet;
+import pcgen.cdom.facet.ScopedDistributionFacet;
+import pcgen.cdom.facet.SecondaryWeaponFacet;
+import pcgen.cdom.facet.ShieldProfFacet;
+import pcgen.cdom.facet.SkillCostFacet;
+import pcgen.cdom.facet.SkillListToCostFacet;
+import pcgen.cdom.facet.SkillOutputOrderFacet;
+import pcgen.cdom.facet.SkillPoolFacet;
+import pcgen.cdom.facet.SkillRankFacet;
+import pcgen.cdom.facet.SolverManagerFacet;
+import pcgen.cdom.facet.SourcedEquipmentFacet;
+import pcgen.cdom.facet.SpellBookFacet;
+import pcgen.cdom.facet.SpellListFacet;
+import pcgen.cdom.facet.SpellListToAvailableSpellFacet;
+import pcgen.cdom.facet.SpellProhibitorFacet;
+import pcgen.cdom.facet.SpellSupportFacet;
+import pcgen.cdom.facet.SpellsFacet;
+import pcgen.cdom.facet.StartingLanguageFacet;
+import pcgen.cdom.facet.StatBonusFacet;
+import pcgen.cdom.facet.StatCalcFacet;
+import pcgen.cdom.facet.StatValueFacet;
+import pcgen.cdom.facet.SubClassFacet;
+import pcgen.cdom.facet.SubstitutionClassFacet;
+import pcgen.cdom.facet.TargetTrackingFacet;
+import pcgen.cdom.facet.TemplateFeatFacet;
+import pcgen.cdom.facet.TemplateSelectionFacet;
+import pcgen.cdom.facet.TotalSkillRankFacet;
+import pcgen.cdom.facet.UnconditionalTemplateFacet;
+import pcgen.cdom.facet.UsableSkillsFacet;
+import pcgen.cdom.facet.UserEquipmentFacet;
+import pcgen.cdom.facet.VariableCheckingFacet;
+import pcgen.cdom.facet.VariableStoreFacet;
+import pcgen.cdom.facet.WeaponProfFacet;
+import pcgen.cdom.facet.XPTableFacet;
+import pcgen.cdom.facet.analysis.AgeSetFacet;
+import pcgen.cdom.facet.analysis.ArmorClassFacet;
+import pcgen.cdom.facet.analysis.BaseMovementFacet;
+import pcgen.cdom.facet.analysis.ChallengeRatingFacet;
+import pcgen.cdom.facet.analysis.ChangeProfFacet;
+import pcgen.cdom.facet.analysis.CharacterSpellResistanceFacet;
+import pcgen.cdom.facet.analysis.FavoredClassFacet;
+import pcgen.cdom.facet.analysis.FollowerLimitFacet;
+import pcgen.cdom.facet.analysis.FollowerOptionFacet;
+import pcgen.cdom.facet.analysis.GlobalSkillCostFacet;
+import pcgen.cdom.facet.analysis.GlobalToSkillCostFacet;
+import pcgen.cdom.facet.analysis.HandsFacet;
+import pcgen.cdom.facet.analysis.HasAnyFavoredClassFacet;
+import pcgen.cdom.facet.analysis.InitiativeFacet;
+import pcgen.cdom.facet.analysis.LegalDeityFacet;
+import pcgen.cdom.facet.analysis.LegsFacet;
+import pcgen.cdom.facet.analysis.LevelFacet;
+import pcgen.cdom.facet.analysis.LevelTableFacet;
+import pcgen.cdom.facet.analysis.ListSkillCostFacet;
+import pcgen.cdom.facet.analysis.ListToSkillCostFacet;
+import pcgen.cdom.facet.analysis.LoadFacet;
+import pcgen.cdom.facet.analysis.LocalSkillCostFacet;
+import pcgen.cdom.facet.analysis.MonCSkillToSkillCostFacet;
+import pcgen.cdom.facet.analysis.MoveCloneFacet;
+import pcgen.cdom.facet.analysis.MovementFacet;
+import pcgen.cdom.facet.analysis.MovementResultFacet;
+import pcgen.cdom.facet.analysis.MultiClassFacet;
+import pcgen.cdom.facet.analysis.NonAbilityFacet;
+import pcgen.cdom.facet.analysis.NonProficiencyPenaltyFacet;
+import pcgen.cdom.facet.analysis.NonStatStatFacet;
+import pcgen.cdom.facet.analysis.NonStatToStatFacet;
+import pcgen.cdom.facet.analysis.QualifyFacet;
+import pcgen.cdom.facet.analysis.RaceTypeFacet;
+import pcgen.cdom.facet.analysis.RacialSubTypesFacet;
+import pcgen.cdom.facet.analysis.ReachFacet;
+import pcgen.cdom.facet.analysis.ResultFacet;
+import pcgen.cdom.facet.analysis.SpecialAbilityFacet;
+import pcgen.cdom.facet.analysis.StatLockFacet;
+import pcgen.cdom.facet.analysis.StatMaxValueFacet;
+import pcgen.cdom.facet.analysis.StatMinValueFacet;
+import pcgen.cdom.facet.analysis.SubRaceFacet;
+import pcgen.cdom.facet.analysis.TotalWeightFacet;
+import pcgen.cdom.facet.analysis.UnarmedDamageFacet;
+import pcgen.cdom.facet.analysis.UnencumberedArmorFacet;
+import pcgen.cdom.facet.analysis.UnencumberedLoadFacet;
+import pcgen.cdom.facet.analysis.UnlockedStatFacet;
+import pcgen.cdom.facet.analysis.VariableFacet;
+import pcgen.cdom.facet.analysis.VisionFacet;
+import pcgen.cdom.facet.fact.AllowDebtFacet;
+import pcgen.cdom.facet.fact.ChronicleEntryFacet;
+import pcgen.cdom.facet.fact.FactFacet;
+import pcgen.cdom.facet.fact.FollowerFacet;
+import pcgen.cdom.facet.fact.GenderFacet;
+import pcgen.cdom.facet.fact.HeightFacet;
+import pcgen.cdom.facet.fact.IgnoreCostFacet;
+import pcgen.cdom.facet.fact.PortraitThumbnailRectFacet;
+import pcgen.cdom.facet.fact.PreviewSheetFacet;
+import pcgen.cdom.facet.fact.RegionFacet;
+import pcgen.cdom.facet.fact.SkillFilterFacet;
+import pcgen.cdom.facet.fact.SuppressBioFieldFacet;
+import pcgen.cdom.facet.fact.WeightFacet;
+import pcgen.cdom.facet.fact.XPFacet;
+import pcgen.cdom.facet.input.AddLanguageFacet;
+import pcgen.cdom.facet.input.AutoEquipmentListFacet;
+import pcgen.cdom.facet.input.AutoLanguageListFacet;
+import pcgen.cdom.facet.input.AutoListArmorProfFacet;
+import pcgen.cdom.facet.input.AutoListShieldProfFacet;
+import pcgen.cdom.facet.input.AutoListWeaponProfFacet;
+import pcgen.cdom.facet.input.BonusWeaponProfFacet;
+import pcgen.cdom.facet.input.CampaignFacet;
+import pcgen.cdom.facet.input.ClassSkillListFacet;
+import pcgen.cdom.facet.input.DomainInputFacet;
+import pcgen.cdom.facet.input.DynamicFacet;
+import pcgen.cdom.facet.input.DynamicWatchingFacet;
+import pcgen.cdom.facet.input.GlobalAddedSkillCostFacet;
+import pcgen.cdom.facet.input.LocalAddedSkillCostFacet;
+import pcgen.cdom.facet.input.MasterUsableSkillFacet;
+import pcgen.cdom.facet.input.MonsterCSkillFacet;
+import pcgen.cdom.facet.input.ProhibitedSchoolFacet;
+import pcgen.cdom.facet.input.RaceInputFacet;
+import pcgen.cdom.facet.input.TemplateInputFacet;
+import pcgen.cdom.facet.input.UserSpecialAbilityFacet;
+import pcgen.cdom.facet.model.ActiveEqHeadFacet;
+import pcgen.cdom.facet.model.ActiveEqModFacet;
+import pcgen.cdom.facet.model.ArmorProfProviderFacet;
+import pcgen.cdom.facet.model.BioSetFacet;
+import pcgen.cdom.facet.model.CheckFacet;
+import pcgen.cdom.facet.model.ClassFacet;
+import pcgen.cdom.facet.model.ClassLevelFacet;
+import pcgen.cdom.facet.model.CompanionModFacet;
+import pcgen.cdom.facet.model.DomainFacet;
+import pcgen.cdom.facet.model.DynamicConsolidationFacet;
+import pcgen.cdom.facet.model.ExpandedCampaignFacet;
+import pcgen.cdom.facet.model.LanguageFacet;
+import pcgen.cdom.facet.model.RaceFacet;
+import pcgen.cdom.facet.model.ShieldProfProviderFacet;
+import pcgen.cdom.facet.model.SimpleAbilityFacet;
+import pcgen.cdom.facet.model.SizeFacet;
+import pcgen.cdom.facet.model.SkillFacet;
+import pcgen.cdom.facet.model.SkillListFacet;
+import pcgen.cdom.facet.model.StatFacet;
+import pcgen.cdom.facet.model.TemplateFacet;
+import pcgen.cdom.facet.model.VarScopedFacet;
+import pcgen.cdom.facet.model.WeaponProfModelFacet;
+import pcgen.cdom.formula.scope.EquipmentPartScope;
+import pcgen.cdom.formula.scope.EquipmentScope;
+import pcgen.cdom.formula.scope.GlobalEQScope;
+import pcgen.cdom.formula.scope.GlobalPCScope;
+import pcgen.cdom.formula.scope.RaceScope;
+import pcgen.cdom.formula.scope.SaveScope;
+import pcgen.cdom.formula.scope.SizeScope;
+import pcgen.cdom.formula.scope.SkillScope;
+import pcgen.cdom.formula.scope.StatScope;
+
+/**
+ * FacetRegistry builds the graph of facets (and the formula scopes that live
+ * alongside them) used by every PlayerCharacter. It replaces the Spring
+ * applicationContext.xml definitions, so the facets are created and wired by
+ * plain constructor and setter calls rather than by reflection.
+ *
+ * When adding a facet, construct it, call a setter for each facet it depends
+ * on and, if it has an init() method, call init() once every facet it depends
+ * on has been initialized. Then add it to the list returned by createFacets().
+ */
+final class FacetRegistry
+{
+
+	private FacetRegistry()
+	{
+		//Do not instantiate
+	}
+
+	/**
+	 * Creates, wires and initializes the facets.
+	 *
+	 * @return The facets, in definition order
+	 */
+	static List<Object> createFacets()
+	{
+		// Facets, in definition order
+		AbilitySelectionApplication abilitySelectionApplication = new AbilitySelectionApplication();
+		ActiveEqModFacet activeEqModFacet = new ActiveEqModFacet();
+		ActiveEqHeadFacet activeEqHeadFacet = new ActiveEqHeadFacet();
+		ActiveSpellsFacet activeSpellsFacet = new ActiveSpellsFacet();
+		AddedBonusFacet addedBonusFacet = new AddedBonusFacet();
+		AddedTemplateFacet addedTemplateFacet = new AddedTemplateFacet();
+		AddFacet addFacet = new AddFacet();
+		AddLanguageFacet addLanguageFacet = new AddLanguageFacet();
+		AddLevelFacet addLevelFacet = new AddLevelFacet();
+		AgeSetFacet ageSetFacet = new AgeSetFacet();
+		AgeSetKitFacet ageSetKitFacet = new AgeSetKitFacet();
+		AllowDebtFacet allowDebtFacet = new AllowDebtFacet();
+		AppliedBonusFacet appliedBonusFacet = new AppliedBonusFacet();
+		ArmorClassFacet armorClassFacet = new ArmorClassFacet();
+		ArmorProfFacet armorProfFacet = new ArmorProfFacet();
+		ArmorProfProviderFacet armorProfProviderFacet = new ArmorProfProviderFacet();
+		AutoEquipmentFacet autoEquipmentFacet = new AutoEquipmentFacet();
+		AutoEquipmentListFacet autoEquipmentListFacet = new AutoEquipmentListFacet();
+		AutoLanguageFacet autoLanguageFacet = new AutoLanguageFacet();
+		AutoLanguageGrantedFacet autoLanguageGrantedFacet = new AutoLanguageGrantedFacet();
+		AutoLanguageListFacet autoLanguageListFacet = new AutoLanguageListFacet();
+		AutoLanguageUnconditionalFacet autoLanguageUnconditionalFacet = new AutoLanguageUnconditionalFacet();
+		AutoListArmorProfFacet autoListArmorProfFacet = new AutoListArmorProfFacet();
+		AutoListShieldProfFacet autoListShieldProfFacet = new AutoListShieldProfFacet();
+		AutoListWeaponProfFacet autoListWeaponProfFacet = new AutoListWeaponProfFacet();
+		AutoWeaponProfFacet autoWeaponProfFacet = new AutoWeaponProfFacet();
+		AvailableSpellFacet availableSpellFacet = new AvailableSpellFacet();
+		AvailableSpellInputFacet availableSpellInputFacet = new AvailableSpellInputFacet();
+		BaseMovementFacet baseMovementFacet = new BaseMovementFacet();
+		BioSetFacet bioSetFacet = new BioSetFacet();
+		BioSetTrackingFacet bioSetTrackingFacet = new BioSetTrackingFacet();
+		BonusActiviationFacet bonusActiviationFacet = new BonusActiviationFacet();
+		BonusChangeFacet bonusChangeFacet = new BonusChangeFacet();
+		BonusCheckingFacet bonusCheckingFacet = new BonusCheckingFacet();
+		BonusSkillRankChangeFacet bonusSkillRankChangeFacet = new BonusSkillRankChangeFacet();
+		BonusWeaponProfFacet bonusWeaponProfFacet = new BonusWeaponProfFacet();
+		CalcBonusFacet calcBonusFacet = new CalcBonusFacet();
+		CampaignFacet campaignFacet = new CampaignFacet();
+		CategorizedAbilityFacet categorizedAbilityFacet = new CategorizedAbilityFacet();
+		CDOMObjectBridge bridgeFacet = new CDOMObjectBridge();
+		CDOMObjectConsolidationFacet consolidationFacet = new CDOMObjectConsolidationFacet();
+		CDOMObjectSourceFacet cdomSourceFacet = new CDOMObjectSourceFacet();
+		CDOMWrapperInfoFacet cdomWrapperInfoFacet = new CDOMWrapperInfoFacet();
+		ChallengeRatingFacet challengeRatingFacet = new ChallengeRatingFacet();
+		ChangeProfFacet changeProfFacet = new ChangeProfFacet();
+		CharacterConsolidationFacet characterConsolidationFacet = new CharacterConsolidationFacet();
+		CharacterSpellResistanceFacet characterSpellResistanceFacet = new CharacterSpellResistanceFacet();
+		CheckFacet checkFacet = new CheckFacet();
+		CheckBonusFacet checkBonusFacet = new CheckBonusFacet();
+		ChooseDriverFacet chooseDriverFacet = new ChooseDriverFacet();
+		ChronicleEntryFacet chronicleEntryFacet = new ChronicleEntryFacet();
+		ClassFacet classFacet = new ClassFacet();
+		ClassLevelFacet classLevelFacet = new ClassLevelFacet();
+		ClassLevelChangeFacet classLevelChangeFacet = new ClassLevelChangeFacet();
+		ClassSkillListFacet classSkillListFacet = new ClassSkillListFacet();
+		ClassSpellListFacet classSpellListFacet = new ClassSpellListFacet();
+		CompanionModFacet companionModFacet = new CompanionModFacet();
+		ConditionalAbilityFacet conditionalAbilityFacet = new ConditionalAbilityFacet();
+		ConditionallyAvailableSpellFacet conditionallyAvailableSpellFacet = new ConditionallyAvailableSpellFacet();
+		ConditionallyGrantedAbilityFacet conditionallyGrantedAbilityFacet = new ConditionallyGrantedAbilityFacet();
+		ConditionallyGrantedAvailableSpellFacet conditionallyGrantedAvailableSpellFacet = new ConditionallyGrantedAvailableSpellFacet();
+		ConditionallyGrantedKnownSpellFacet conditionallyGrantedKnownSpellFacet = new ConditionallyGrantedKnownSpellFacet();
+		ConditionallyKnownSpellFacet conditionallyKnownSpellFacet = new ConditionallyKnownSpellFacet();
+		ConditionalTemplateFacet conditionalTemplateFacet = new ConditionalTemplateFacet();
+		DamageReductionFacet damageReductionFacet = new DamageReductionFacet();
+		DataSetInitializationFacet dataSetInitializationFacet = new DataSetInitializationFacet();
+		DefaultClassSkillListFacet defaultClassSkillListFacet = new DefaultClassSkillListFacet();
+		DeityWeaponProfFacet deityWeaponProfFacet = new DeityWeaponProfFacet();
+		DirectAbilityFacet directAbilityFacet = new DirectAbilityFacet();
+		DirectAbilityInputFacet directAbilityInputFacet = new DirectAbilityInputFacet();
+		DomainFacet domainFacet = new DomainFacet();
+		DomainInputFacet domainInputFacet = new DomainInputFacet();
+		DomainSelectionFacet domainSelectionFacet = new DomainSelectionFacet();
+		DomainSpellCountFacet domainSpellCountFacet = new DomainSpellCountFacet();
+		DomainSpellListFacet domainSpellListFacet = new DomainSpellListFacet();
+		DomainSpellsFacet domainSpellsFacet = new DomainSpellsFacet();
+		DynamicFacet dynamicFacet = new DynamicFacet();
+		DynamicWatchingFacet dynamicWatchingFacet = new DynamicWatchingFacet();
+		DynamicConsolidationFacet dynamicConsolidationFacet = new DynamicConsolidationFacet();
+		EquipmentConsolidationFacet equipmentConsolidationFacet = new EquipmentConsolidationFacet();
+		EquipmentFacet equipmentFacet = new EquipmentFacet();
+		EquipmentTypeFacet equipmentTypeFacet = new EquipmentTypeFacet();
+		EquippedEquipmentFacet equippedEquipmentFacet = new EquippedEquipmentFacet();
+		EquipSetFacet equipSetFacet = new EquipSetFacet();
+		ExpandedCampaignFacet expandedCampaignFacet = new ExpandedCampaignFacet();
+		FactFacet factFacet = new FactFacet();
+		FavoredClassFacet favoredClassFacet = new FavoredClassFacet();
+		FollowerFacet followerFacet = new FollowerFacet();
+		FollowerLimitFacet followerLimitFacet = new FollowerLimitFacet();
+		FollowerOptionFacet followerOptionFacet = new FollowerOptionFacet();
+		FormulaResolvingFacet formulaResolvingFacet = new FormulaResolvingFacet();
+		GenderFacet genderFacet = new GenderFacet();
+		GlobalAddedSkillCostFacet globalAddedSkillCostFacet = new GlobalAddedSkillCostFacet();
+		GlobalModifierFacet globalModifier = new GlobalModifierFacet();
+		GlobalSkillCostFacet globalSkillCostFacet = new GlobalSkillCostFacet();
+		GlobalToSkillCostFacet globalToSkillCostFacet = new GlobalToSkillCostFacet();
+		GrantedAbilityFacet grantedAbilityFacet = new GrantedAbilityFacet();
+		GrantedVarFacet grantedVarFacet = new GrantedVarFacet();
+		HandsFacet handsFacet = new HandsFacet();
+		HasAnyFavoredClassFacet hasAnyFavoredClassFacet = new HasAnyFavoredClassFacet();
+		HasDeityWeaponProfFacet hasDeityWeaponProfFacet = new HasDeityWeaponProfFacet();
+		HeightFacet heightFacet = new HeightFacet();
+		HiddenTypeFacet hiddenTypeFacet = new HiddenTypeFacet();
+		HitPointFacet hitPointFacet = new HitPointFacet();
+		IgnoreCostFacet ignoreCostFacet = new IgnoreCostFacet();
+		InitiativeFacet initiativeFacet = new InitiativeFacet();
+		KitChoiceFacet kitChoiceFacet = new KitChoiceFacet();
+		KitFacet kitFacet = new KitFacet();
+		KnownSpellFacet knownSpellFacet = new KnownSpellFacet();
+		KnownSpellInputFacet knownSpellInputFacet = new KnownSpellInputFacet();
+		LanguageFacet languageFacet = new LanguageFacet();
+		LegalDeityFacet legalDeityFacet = new LegalDeityFacet();
+		LegsFacet legsFacet = new LegsFacet();
+		LevelFacet levelFacet = new LevelFacet();
+		LevelInfoFacet levelInfoFacet = new LevelInfoFacet();
+		LevelTableFacet levelTableFacet = new LevelTableFacet();
+		ListToSkillCostFacet listToSkillCostFacet = new ListToSkillCostFacet();
+		ListSkillCostFacet listSkillCostFacet = new ListSkillCostFacet();
+		LoadContextFacet loadContextFacet = new LoadContextFacet();
+		LoadFacet loadFacet = new LoadFacet();
+		LocalAddedSkillCostFacet localAddedSkillCostFacet = new LocalAddedSkillCostFacet();
+		LocalSkillCostFacet localSkillCostFacet = new LocalSkillCostFacet();
+		MasterAvailableSpellFacet masterAvailableSpellFacet = new MasterAvailableSpellFacet();
+		MasterFacet masterFacet = new MasterFacet();
+		MasterSkillFacet masterSkillFacet = new MasterSkillFacet();
+		MasterUsableSkillFacet masterUsableSkillFacet = new MasterUsableSkillFacet();
+		ModifierFacet modifierFacet = new ModifierFacet();
+		MonsterClassFacet monsterClassFacet = new MonsterClassFacet();
+		MonsterCSkillFacet monsterCSkillFacet = new MonsterCSkillFacet();
+		MonCSkillToSkillCostFacet monCSkillToSkillCostFacet = new MonCSkillToSkillCostFacet();
+		MoveCloneFacet moveCloneFacet = new MoveCloneFacet();
+		MovementFacet movementFacet = new MovementFacet();
+		MovementResultFacet movementResultFacet = new MovementResultFacet();
+		MultiClassFacet multiClassFacet = new MultiClassFacet();
+		NaturalEquipmentFacet naturalEquipmentFacet = new NaturalEquipmentFacet();
+		NaturalEquipSetFacet naturalEquipSetFacet = new NaturalEquipSetFacet();
+		NaturalWeaponFacet naturalWeaponFacet = new NaturalWeaponFacet();
+		NaturalWeaponProfFacet naturalWeaponProfFacet = new NaturalWeaponProfFacet();
+		NonAbilityFacet nonAbilityFacet = new NonAbilityFacet();
+		NonProficiencyPenaltyFacet nonProficiencyPenaltyFacet = new NonProficiencyPenaltyFacet();
+		NonStatStatFacet nonStatStatFacet = new NonStatStatFacet();
+		NonStatToStatFacet nonStatToStatFacet = new NonStatToStatFacet();
+		NoteItemFacet noteItemFacet = new NoteItemFacet();
+		ObjectAdditionFacet objectAdditionFacet = new ObjectAdditionFacet();
+		ObjectWrapperFacet objectWrapperFacet = new ObjectWrapperFacet();
+		PlayerCharacterTrackingFacet playerCharacterTrackingFacet = new PlayerCharacterTrackingFacet();
+		PrerequisiteFacet prerequisiteFacet = new PrerequisiteFacet();
+		PreviewSheetFacet previewSheetFacet = new PreviewSheetFacet();
+		PrimaryWeaponFacet primaryWeaponFacet = new PrimaryWeaponFacet();
+		ProhibitedSchoolFacet prohibitedSchoolFacet = new ProhibitedSchoolFacet();
+		PortraitThumbnailRectFacet portraitThumbnailRectFacet = new PortraitThumbnailRectFacet();
+		QualifyFacet qualifyFacet = new QualifyFacet();
+		RaceFacet raceFacet = new RaceFacet();
+		RaceInputFacet raceInputFacet = new RaceInputFacet();
+		RaceSelectionFacet raceSelectionFacet = new RaceSelectionFacet();
+		RaceTypeFacet raceTypeFacet = new RaceTypeFacet();
+		RacialSubTypesFacet racialSubTypesFacet = new RacialSubTypesFacet();
+		ReachFacet reachFacet = new ReachFacet();
+		RegionFacet regionFacet = new RegionFacet();
+		RemoteModifierFacet remoteModifierFacet = new RemoteModifierFacet();
+		RemoveFacet removeFacet = new RemoveFacet();
+		ResultFacet resultFacet = new ResultFacet();
+		SaveableBonusFacet saveableBonusFacet = new SaveableBonusFacet();
+		SavedAbilitiesFacet savedAbilitiesFacet = new SavedAbilitiesFacet();
+		ScopeFacet scopeFacet = new ScopeFacet();
+		ScopedDistributionFacet scopedDistributionFacet = new ScopedDistributionFacet();
+		SecondaryWeaponFacet secondaryWeaponFacet = new SecondaryWeaponFacet();
+		ShieldProfFacet shieldProfFacet = new ShieldProfFacet();
+		ShieldProfProviderFacet shieldProfProviderFacet = new ShieldProfProviderFacet();
+		SimpleAbilityFacet simpleAbilityFacet = new SimpleAbilityFacet();
+		SizeFacet sizeFacet = new SizeFacet();
+		SkillFacet skillFacet = new SkillFacet();
+		SkillFilterFacet skillFilterFacet = new SkillFilterFacet();
+		SkillCostFacet skillCostFacet = new SkillCostFacet();
+		SkillListToCostFacet skillListToCostFacet = new SkillListToCostFacet();
+		SkillListFacet skillListFacet = new SkillListFacet();
+		SkillOutputOrderFacet skillOutputOrderFacet = new SkillOutputOrderFacet();
+		SkillPoolFacet skillPoolFacet = new SkillPoolFacet();
+		SkillRankFacet skillRankFacet = new SkillRankFacet();
+		SolverManagerFacet solverManagerFacet = new SolverManagerFacet();
+		SourcedEquipmentFacet sourcedEquipmentFacet = new SourcedEquipmentFacet();
+		SpecialAbilityFacet specialAbilityFacet = new SpecialAbilityFacet();
+		SpellBookFacet spellBookFacet = new SpellBookFacet();
+		SpellListFacet spellListFacet = new SpellListFacet();
+		SpellListToAvailableSpellFacet spellListToAvailableSpellFacet = new SpellListToAvailableSpellFacet();
+		SpellProhibitorFacet spellProhibitorFacet = new SpellProhibitorFacet();
+		SpellsFacet spellsFacet = new SpellsFacet();
+		SpellSupportFacet spellSupportFacet = new SpellSupportFacet();
+		StartingLanguageFacet startingLanguageFacet = new StartingLanguageFacet();
+		StatCalcFacet statCalcFacet = new StatCalcFacet();
+		StatFacet statFacet = new StatFacet();
+		StatBonusFacet statBonusFacet = new StatBonusFacet();
+		StatLockFacet statLockFacet = new StatLockFacet();
+		StatMaxValueFacet statMaxValueFacet = new StatMaxValueFacet();
+		StatMinValueFacet statMinValueFacet = new StatMinValueFacet();
+		StatValueFacet statValueFacet = new StatValueFacet();
+		SubClassFacet subClassFacet = new SubClassFacet();
+		SubstitutionClassFacet substitutionClassFacet = new SubstitutionClassFacet();
+		SubRaceFacet subRaceFacet = new SubRaceFacet();
+		SuppressBioFieldFacet suppressBioFieldFacet = new SuppressBioFieldFacet();
+		TargetTrackingFacet targetTrackingFacet = new TargetTrackingFacet();
+		TemplateFacet templateFacet = new TemplateFacet();
+		TemplateFeatFacet templateFeatFacet = new TemplateFeatFacet();
+		TemplateInputFacet templateInputFacet = new TemplateInputFacet();
+		TemplateSelectionFacet templateSelectionFacet = new TemplateSelectionFacet();
+		TotalSkillRankFacet totalSkillRankFacet = new TotalSkillRankFacet();
+		TotalWeightFacet totalWeightFacet = new TotalWeightFacet();
+		UnarmedDamageFacet unarmedDamageFacet = new UnarmedDamageFacet();
+		UnconditionalTemplateFacet unconditionalTemplateFacet = new UnconditionalTemplateFacet();
+		UnencumberedArmorFacet unencumberedArmorFacet = new UnencumberedArmorFacet();
+		UnencumberedLoadFacet unencumberedLoadFacet = new UnencumberedLoadFacet();
+		UnlockedStatFacet unlockedStatFacet = new UnlockedStatFacet();
+		UsableSkillsFacet usableSkillsFacet = new UsableSkillsFacet();
+		UserEquipmentFacet userEquipmentFacet = new UserEquipmentFacet();
+		UserSpecialAbilityFacet userSpecialAbilityFacet = new UserSpecialAbilityFacet();
+		VariableCheckingFacet variableCheckingFacet = new VariableCheckingFacet();
+		VariableFacet variableFacet = new VariableFacet();
+		VariableStoreFacet variableStoreFacet = new VariableStoreFacet();
+		VarScopedFacet varScopedFacet = new VarScopedFacet();
+		VisionFacet visionFacet = new VisionFacet();
+		WeaponProfFacet weaponProfFacet = new WeaponProfFacet();
+		WeaponProfModelFacet weaponProfModelFacet = new WeaponProfModelFacet();
+		WeightFacet weightFacet = new WeightFacet();
+		XPFacet xpFacet = new XPFacet();
+		XPTableFacet xpTableFacet = new XPTableFacet();
+		GlobalEQScope globalEQScope = new GlobalEQScope();
+		GlobalPCScope globalPCScope = new GlobalPCScope();
+		SaveScope saveLegalScope = new SaveScope();
+		SizeScope sizeLegalScope = new SizeScope();
+		SkillScope skillLegalScope = new SkillScope();
+		StatScope statLegalScope = new StatScope();
+		RaceScope raceLegalScope = new RaceScope();
+		EquipmentScope equipLegalScope = new EquipmentScope();
+		EquipmentPartScope equipPartLegalScope = new EquipmentPartScope();
+
+		// Dependencies
+		activeSpellsFacet.setRaceFacet(raceFacet);
+		activeSpellsFacet.setTemplateFacet(templateFacet);
+		activeSpellsFacet.setFormulaResolvingFacet(formulaResolvingFacet);
+		activeSpellsFacet.setSpellsFacet(spellsFacet);
+		addedTemplateFacet.setPrerequisiteFacet(prerequisiteFacet);
+		addedTemplateFacet.setConsolidationFacet(consolidationFacet);
+		addFacet.setRaceFacet(raceFacet);
+		addFacet.setTemplateFacet(templateFacet);
+		addFacet.setDomainFacet(domainFacet);
+		addFacet.setClassLevelFacet(classLevelFacet);
+		addLanguageFacet.setLanguageFacet(languageFacet);
+		addLevelFacet.setTemplateFacet(templateFacet);
+		ageSetFacet.setRegionFacet(regionFacet);
+		ageSetFacet.setRaceFacet(raceFacet);
+		ageSetFacet.setBioSetFacet(bioSetFacet);
+		ageSetKitFacet.setAgeSetFacet(ageSetFacet);
+		ageSetKitFacet.setBioSetFacet(bioSetFacet);
+		appliedBonusFacet.setAddedBonusFacet(addedBonusFacet);
+		appliedBonusFacet.setSaveableBonusFacet(saveableBonusFacet);
+		appliedBonusFacet.setPrerequisiteFacet(prerequisiteFacet);
+		appliedBonusFacet.setRaceFacet(raceFacet);
+		armorClassFacet.setPrerequisiteFacet(prerequisiteFacet);
+		armorProfFacet.setArmorProfProviderFacet(armorProfProviderFacet);
+		armorProfFacet.setConsolidationFacet(consolidationFacet);
+		autoEquipmentFacet.setConsolidationFacet(consolidationFacet);
+		autoLanguageFacet.setAutoLanguageUnconditionalFacet(autoLanguageUnconditionalFacet);
+		autoLanguageGrantedFacet.setLanguageFacet(languageFacet);
+		autoLanguageGrantedFacet.setAutoLanguageFacet(autoLanguageFacet);
+		autoLanguageListFacet.setLanguageFacet(languageFacet);
+		autoLanguageUnconditionalFacet.setLanguageFacet(languageFacet);
+		autoListArmorProfFacet.setArmorProfProviderFacet(armorProfProviderFacet);
+		autoListShieldProfFacet.setShieldProfProviderFacet(shieldProfProviderFacet);
+		autoListWeaponProfFacet.setWeaponProfFacet(weaponProfFacet);
+		autoWeaponProfFacet.setConsolidationFacet(consolidationFacet);
+		availableSpellInputFacet.setConsolidationFacet(consolidationFacet);
+		availableSpellInputFacet.setAvailableSpellFacet(availableSpellFacet);
+		availableSpellInputFacet.setConditionallyAvailableSpellFacet(conditionallyAvailableSpellFacet);
+		baseMovementFacet.setConsolidationFacet(consolidationFacet);
+		bioSetTrackingFacet.setBioSetFacet(bioSetFacet);
+		bonusActiviationFacet.setRaceFacet(raceFacet);
+		bonusActiviationFacet.setCompanionModFacet(companionModFacet);
+		bonusActiviationFacet.setDomainFacet(domainFacet);
+		bonusActiviationFacet.setSkillFacet(skillFacet);
+		bonusActiviationFacet.setTemplateFacet(templateFacet);
+		bonusChangeFacet.setBonusCheckingFacet(bonusCheckingFacet);
+		bonusSkillRankChangeFacet.setBonusCheckingFacet(bonusCheckingFacet);
+		bonusWeaponProfFacet.setWeaponProfFacet(weaponProfFacet);
+		calcBonusFacet.setRaceFacet(raceFacet);
+		calcBonusFacet.setTemplateFacet(templateFacet);
+		campaignFacet.setExpandedCampaignFacet(expandedCampaignFacet);
+		consolidationFacet.setBridgeFacet(bridgeFacet);
+		cdomSourceFacet.setBridgeFacet(bridgeFacet);
+		cdomWrapperInfoFacet.setDataSetInitializationFacet(dataSetInitializationFacet);
+		challengeRatingFacet.setTemplateFacet(templateFacet);
+		challengeRatingFacet.setRaceFacet(raceFacet);
+		challengeRatingFacet.setClassFacet(classFacet);
+		challengeRatingFacet.setFormulaResolvingFacet(formulaResolvingFacet);
+		challengeRatingFacet.setBonusCheckingFacet(bonusCheckingFacet);
+		challengeRatingFacet.setLevelFacet(levelFacet);
+		changeProfFacet.setConsolidationFacet(consolidationFacet);
+		characterSpellResistanceFacet.setFormulaResolvingFacet(formulaResolvingFacet);
+		characterSpellResistanceFacet.setConsolidationFacet(consolidationFacet);
+		checkBonusFacet.setCheckFacet(checkFacet);
+		checkBonusFacet.setBonusCheckingFacet(bonusCheckingFacet);
+		chooseDriverFacet.setDomainSelectionFacet(domainSelectionFacet);
+		chooseDriverFacet.setRaceSelectionFacet(raceSelectionFacet);
+		chooseDriverFacet.setTemplateSelectionFacet(templateSelectionFacet);
+		classLevelChangeFacet.setClassFacet(classFacet);
+		classLevelChangeFacet.setClassLevelFacet(classLevelFacet);
+		classSkillListFacet.setClassFacet(classFacet);
+		classSkillListFacet.setSubClassFacet(subClassFacet);
+		classSkillListFacet.setDefaultClassSkillListFacet(defaultClassSkillListFacet);
+		classSkillListFacet.setSkillListFacet(skillListFacet);
+		classSpellListFacet.setSpellListFacet(spellListFacet);
+		conditionalAbilityFacet.setPrerequisiteFacet(prerequisiteFacet);
+		conditionallyGrantedAbilityFacet.setConditionalAbilityFacet(conditionalAbilityFacet);
+		conditionallyGrantedAvailableSpellFacet.setConditionallyAvailableSpellFacet(conditionallyAvailableSpellFacet);
+		conditionallyGrantedAvailableSpellFacet.setAvailableSpellFacet(availableSpellFacet);
+		conditionallyGrantedKnownSpellFacet.setConditionallyKnownSpellFacet(conditionallyKnownSpellFacet);
+		conditionallyGrantedKnownSpellFacet.setKnownSpellFacet(knownSpellFacet);
+		conditionalTemplateFacet.setTemplateFacet(templateFacet);
+		conditionalTemplateFacet.setLevelFacet(levelFacet);
+		damageReductionFacet.setPrerequisiteFacet(prerequisiteFacet);
+		damageReductionFacet.setFormulaResolvingFacet(formulaResolvingFacet);
+		damageReductionFacet.setBonusCheckingFacet(bonusCheckingFacet);
+		damageReductionFacet.setConsolidationFacet(consolidationFacet);
+		defaultClassSkillListFacet.setSkillListFacet(skillListFacet);
+		domainInputFacet.setDomainSelectionFacet(domainSelectionFacet);
+		domainInputFacet.setDomainFacet(domainFacet);
+		domainSpellListFacet.setSpellListFacet(spellListFacet);
+		domainSpellListFacet.setDomainFacet(domainFacet);
+		domainSpellsFacet.setDomainFacet(domainFacet);
+		domainSpellsFacet.setClassFacet(classFacet);
+		equipmentTypeFacet.setDataSetInitializationFacet(dataSetInitializationFacet);
+		equippedEquipmentFacet.setEquipmentFacet(equipmentFacet);
+		favoredClassFacet.setHasAnyFavoredClassFacet(hasAnyFavoredClassFacet);
+		favoredClassFacet.setClassFacet(classFacet);
+		favoredClassFacet.setRaceFacet(raceFacet);
+		favoredClassFacet.setTemplateFacet(templateFacet);
+		followerLimitFacet.setFormulaResolvingFacet(formulaResolvingFacet);
+		followerLimitFacet.setBonusCheckingFacet(bonusCheckingFacet);
+		followerLimitFacet.setConsolidationFacet(consolidationFacet);
+		followerOptionFacet.setConsolidationFacet(consolidationFacet);
+		genderFacet.setTemplateFacet(templateFacet);
+		globalSkillCostFacet.setConsolidationFacet(consolidationFacet);
+		globalToSkillCostFacet.setClassFacet(classFacet);
+		globalToSkillCostFacet.setGlobalSkillCostFacet(globalSkillCostFacet);
+		globalToSkillCostFacet.setGlobalAddedSkillCostFacet(globalAddedSkillCostFacet);
+		globalToSkillCostFacet.setMasterUsableSkillFacet(masterUsableSkillFacet);
+		grantedVarFacet.setVarScopedFacet(varScopedFacet);
+		grantedVarFacet.setVariableStoreFacet(variableStoreFacet);
+		handsFacet.setTemplateFacet(templateFacet);
+		handsFacet.setRaceFacet(raceFacet);
+		hasAnyFavoredClassFacet.setRaceFacet(raceFacet);
+		hasAnyFavoredClassFacet.setTemplateFacet(templateFacet);
+		hasDeityWeaponProfFacet.setConsolidationFacet(consolidationFacet);
+		hiddenTypeFacet.setDataSetInitializationFacet(dataSetInitializationFacet);
+		hitPointFacet.setClassFacet(classFacet);
+		hitPointFacet.setRaceFacet(raceFacet);
+		hitPointFacet.setTemplateFacet(templateFacet);
+		hitPointFacet.setLevelFacet(levelFacet);
+		hitPointFacet.setBonusCheckingFacet(bonusCheckingFacet);
+		initiativeFacet.setBonusCheckingFacet(bonusCheckingFacet);
+		initiativeFacet.setFormulaResolvingFacet(formulaResolvingFacet);
+		kitChoiceFacet.setRaceFacet(raceFacet);
+		kitChoiceFacet.setDomainFacet(domainFacet);
+		kitChoiceFacet.setSkillFacet(skillFacet);
+		kitChoiceFacet.setTemplateFacet(templateFacet);
+		knownSpellInputFacet.setConsolidationFacet(consolidationFacet);
+		knownSpellInputFacet.setKnownSpellFacet(knownSpellFacet);
+		knownSpellInputFacet.setConditionallyKnownSpellFacet(conditionallyKnownSpellFacet);
+		legalDeityFacet.setClassFacet(classFacet);
+		legalDeityFacet.setPrerequisiteFacet(prerequisiteFacet);
+		legsFacet.setTemplateFacet(templateFacet);
+		legsFacet.setRaceFacet(raceFacet);
+		levelFacet.setTemplateFacet(templateFacet);
+		levelFacet.setRaceFacet(raceFacet);
+		levelFacet.setFormulaResolvingFacet(formulaResolvingFacet);
+		levelTableFacet.setResolveFacet(formulaResolvingFacet);
+		levelTableFacet.setXpTableFacet(xpTableFacet);
+		listToSkillCostFacet.setSkillListFacet(skillListFacet);
+		listToSkillCostFacet.setListSkillCostFacet(listSkillCostFacet);
+		listSkillCostFacet.setRaceFacet(raceFacet);
+		loadContextFacet.setDataSetInitializationFacet(dataSetInitializationFacet);
+		loadFacet.setFormulaResolvingFacet(formulaResolvingFacet);
+		loadFacet.setTotalWeightFacet(totalWeightFacet);
+		loadFacet.setPlayerCharacterTrackingFacet(playerCharacterTrackingFacet);
+		loadFacet.setBonusCheckingFacet(bonusCheckingFacet);
+		localSkillCostFacet.setDomainFacet(domainFacet);
+		localSkillCostFacet.setClassFacet(classFacet);
+		localSkillCostFacet.setClassLevelFacet(classLevelFacet);
+		masterAvailableSpellFacet.setDataSetInitializationFacet(dataSetInitializationFacet);
+		masterFacet.setCompanionModFacet(companionModFacet);
+		masterSkillFacet.setDataSetInitializationFacet(dataSetInitializationFacet);
+		masterUsableSkillFacet.setDataSetInitializationFacet(dataSetInitializationFacet);
+		modifierFacet.setScopeFacet(scopeFacet);
+		modifierFacet.setVarScopedFacet(varScopedFacet);
+		modifierFacet.setSolverManagerFacet(solverManagerFacet);
+		monsterClassFacet.setLevelFacet(levelFacet);
+		monsterClassFacet.setClassFacet(classFacet);
+		monsterClassFacet.setFormulaResolvingFacet(formulaResolvingFacet);
+		monsterClassFacet.setLevelInfoFacet(levelInfoFacet);
+		monsterClassFacet.setRaceFacet(raceFacet);
+		monCSkillToSkillCostFacet.setMonsterCSkillFacet(monsterCSkillFacet);
+		monCSkillToSkillCostFacet.setClassFacet(classFacet);
+		moveCloneFacet.setConsolidationFacet(consolidationFacet);
+		movementFacet.setConsolidationFacet(consolidationFacet);
+		movementResultFacet.setMovementFacet(movementFacet);
+		movementResultFacet.setMoveCloneFacet(moveCloneFacet);
+		movementResultFacet.setBaseMovementFacet(baseMovementFacet);
+		movementResultFacet.setRaceFacet(raceFacet);
+		movementResultFacet.setTemplateFacet(templateFacet);
+		movementResultFacet.setEquipmentFacet(equipmentFacet);
+		movementResultFacet.setBonusCheckingFacet(bonusCheckingFacet);
+		movementResultFacet.setUnencumberedArmorFacet(unencumberedArmorFacet);
+		movementResultFacet.setUnencumberedLoadFacet(unencumberedLoadFacet);
+		movementResultFacet.setFormulaResolvingFacet(formulaResolvingFacet);
+		movementResultFacet.setLoadFacet(loadFacet);
+		multiClassFacet.setFavoredClassFacet(favoredClassFacet);
+		multiClassFacet.setHasAnyFavoredClassFacet(hasAnyFavoredClassFacet);
+		multiClassFacet.setClassFacet(classFacet);
+		multiClassFacet.setSubClassFacet(subClassFacet);
+		naturalEquipSetFacet.setNaturalWeaponFacet(naturalWeaponFacet);
+		nonAbilityFacet.setNonStatStatFacet(nonStatStatFacet);
+		nonAbilityFacet.setNonStatToStatFacet(nonStatToStatFacet);
+		nonProficiencyPenaltyFacet.setTemplateFacet(templateFacet);
+		nonStatStatFacet.setConsolidationFacet(consolidationFacet);
+		nonStatToStatFacet.setConsolidationFacet(consolidationFacet);
+		objectAdditionFacet.setConsolidationFacet(consolidationFacet);
+		objectWrapperFacet.setDataSetInitializationFacet(dataSetInitializationFacet);
+		qualifyFacet.setConsolidationFacet(consolidationFacet);
+		raceInputFacet.setRaceSelectionFacet(raceSelectionFacet);
+		raceInputFacet.setRaceFacet(raceFacet);
+		raceTypeFacet.setCompanionModFacet(companionModFacet);
+		raceTypeFacet.setTemplateFacet(templateFacet);
+		raceTypeFacet.setRaceFacet(raceFacet);
+		racialSubTypesFacet.setTemplateFacet(templateFacet);
+		racialSubTypesFacet.setRaceFacet(raceFacet);
+		reachFacet.setBonusCheckingFacet(bonusCheckingFacet);
+		reachFacet.setTemplateFacet(templateFacet);
+		reachFacet.setRaceFacet(raceFacet);
+		regionFacet.setTemplateFacet(templateFacet);
+		remoteModifierFacet.setScopeFacet(scopeFacet);
+		remoteModifierFacet.setVarScopedFacet(varScopedFacet);
+		remoteModifierFacet.setSolverManagerFacet(solverManagerFacet);
+		removeFacet.setRaceFacet(raceFacet);
+		removeFacet.setTemplateFacet(templateFacet);
+		removeFacet.setDomainFacet(domainFacet);
+		removeFacet.setClassLevelFacet(classLevelFacet);
+		resultFacet.setVariableStoreFacet(variableStoreFacet);
+		resultFacet.setScopeFacet(scopeFacet);
+		scopedDistributionFacet.setCharacterConsolidationFacet(characterConsolidationFacet);
+		scopedDistributionFacet.setVarScopedFacet(varScopedFacet);
+		shieldProfFacet.setShieldProfProviderFacet(shieldProfProviderFacet);
+		shieldProfFacet.setConsolidationFacet(consolidationFacet);
+		sizeFacet.setBonusCheckingFacet(bonusCheckingFacet);
+		sizeFacet.setFormulaResolvingFacet(formulaResolvingFacet);
+		sizeFacet.setTemplateFacet(templateFacet);
+		sizeFacet.setRaceFacet(raceFacet);
+		sizeFacet.setLevelFacet(levelFacet);
+		sizeFacet.setResultFacet(resultFacet);
+		sizeFacet.setConsolidationFacet(consolidationFacet);
+		skillFacet.setUsableSkillsFacet(usableSkillsFacet);
+		skillFacet.setTotalSkillRankFacet(totalSkillRankFacet);
+		skillCostFacet.setGlobalToSkillCostFacet(globalToSkillCostFacet);
+		skillCostFacet.setListToSkillCostFacet(listToSkillCostFacet);
+		skillCostFacet.setLocalAddedSkillCostFacet(localAddedSkillCostFacet);
+		skillCostFacet.setLocalSkillCostFacet(localSkillCostFacet);
+		skillCostFacet.setSkillListToCostFacet(skillListToCostFacet);
+		skillCostFacet.setMonCSkillToSkillCostFacet(monCSkillToSkillCostFacet);
+		skillListToCostFacet.setSkillListFacet(skillListFacet);
+		skillListToCostFacet.setMasterSkillFacet(masterSkillFacet);
+		solverManagerFacet.setScopeFacet(scopeFacet);
+		specialAbilityFacet.setConsolidationFacet(consolidationFacet);
+		spellBookFacet.setEquipmentFacet(equipmentFacet);
+		spellListToAvailableSpellFacet.setMasterAvailableSpellFacet(masterAvailableSpellFacet);
+		spellListToAvailableSpellFacet.setSpellListFacet(spellListFacet);
+		spellListToAvailableSpellFacet.setConditionallyAvailableSpellFacet(conditionallyAvailableSpellFacet);
+		spellListToAvailableSpellFacet.setAvailableSpellFacet(availableSpellFacet);
+		spellProhibitorFacet.setClassFacet(classFacet);
+		spellsFacet.setCdomSourceFacet(cdomSourceFacet);
+		startingLanguageFacet.setClassFacet(classFacet);
+		startingLanguageFacet.setRaceFacet(raceFacet);
+		startingLanguageFacet.setTemplateFacet(templateFacet);
+		statBonusFacet.setBonusCheckingFacet(bonusCheckingFacet);
+		statBonusFacet.setPrerequisiteFacet(prerequisiteFacet);
+		statBonusFacet.setStatFacet(statFacet);
+		statLockFacet.setFormulaResolvingFacet(formulaResolvingFacet);
+		statLockFacet.setConsolidationFacet(consolidationFacet);
+		statMaxValueFacet.setFormulaResolvingFacet(formulaResolvingFacet);
+		statMaxValueFacet.setConsolidationFacet(consolidationFacet);
+		statMinValueFacet.setFormulaResolvingFacet(formulaResolvingFacet);
+		statMinValueFacet.setConsolidationFacet(consolidationFacet);
+		subRaceFacet.setTemplateFacet(templateFacet);
+		templateFeatFacet.setTemplateFacet(templateFacet);
+		templateInputFacet.setTemplateSelectionFacet(templateSelectionFacet);
+		templateInputFacet.setUnconditionalTemplateFacet(unconditionalTemplateFacet);
+		totalSkillRankFacet.setSkillRankFacet(skillRankFacet);
+		totalSkillRankFacet.setBonusSkillRankChangeFacet(bonusSkillRankChangeFacet);
+		totalWeightFacet.setEquipmentFacet(equipmentFacet);
+		unarmedDamageFacet.setFormulaResolvingFacet(formulaResolvingFacet);
+		unarmedDamageFacet.setRaceFacet(raceFacet);
+		unarmedDamageFacet.setConsolidationFacet(consolidationFacet);
+		unconditionalTemplateFacet.setTemplateFacet(templateFacet);
+		unencumberedArmorFacet.setCdomSourceFacet(cdomSourceFacet);
+		unencumberedLoadFacet.setCdomSourceFacet(cdomSourceFacet);
+		unlockedStatFacet.setConsolidationFacet(consolidationFacet);
+		usableSkillsFacet.setSkillCostFacet(skillCostFacet);
+		variableFacet.setFormulaResolvingFacet(formulaResolvingFacet);
+		variableFacet.setConsolidationFacet(consolidationFacet);
+		visionFacet.setFormulaResolvingFacet(formulaResolvingFacet);
+		visionFacet.setBonusCheckingFacet(bonusCheckingFacet);
+		visionFacet.setPrerequisiteFacet(prerequisiteFacet);
+		visionFacet.setConsolidationFacet(consolidationFacet);
+		weaponProfModelFacet.setWeaponProfFacet(weaponProfFacet);
+		weaponProfModelFacet.setAutoWeaponProfFacet(autoWeaponProfFacet);
+		weaponProfModelFacet.setHasDeityWeaponProfFacet(hasDeityWeaponProfFacet);
+		weaponProfModelFacet.setDeityWeaponProfFacet(deityWeaponProfFacet);
+		saveLegalScope.setParent(globalPCScope);
+		sizeLegalScope.setParent(globalPCScope);
+		skillLegalScope.setParent(globalPCScope);
+		statLegalScope.setParent(globalPCScope);
+		raceLegalScope.setParent(globalPCScope);
+		equipLegalScope.setParent(globalPCScope);
+		equipPartLegalScope.setParent(equipLegalScope);
+
+		// Initialization, with each facet initialized after those it depends on
+		raceFacet.init();
+		templateFacet.init();
+		spellsFacet.init();
+		activeSpellsFacet.init();
+		addedTemplateFacet.init();
+		domainFacet.init();
+		addFacet.init();
+		languageFacet.init();
+		addLanguageFacet.init();
+		addLevelFacet.init();
+		ageSetFacet.init();
+		appliedBonusFacet.init();
+		armorProfProviderFacet.init();
+		armorProfFacet.init();
+		autoEquipmentFacet.init();
+		autoLanguageUnconditionalFacet.init();
+		autoLanguageFacet.init();
+		autoLanguageGrantedFacet.init();
+		autoLanguageListFacet.init();
+		autoListArmorProfFacet.init();
+		shieldProfProviderFacet.init();
+		autoListShieldProfFacet.init();
+		autoListWeaponProfFacet.init();
+		autoWeaponProfFacet.init();
+		availableSpellInputFacet.init();
+		baseMovementFacet.init();
+		companionModFacet.init();
+		classFacet.init();
+		globalSkillCostFacet.init();
+		masterUsableSkillFacet.init();
+		globalToSkillCostFacet.init();
+		listSkillCostFacet.init();
+		listToSkillCostFacet.init();
+		localSkillCostFacet.init();
+		masterSkillFacet.init();
+		skillListToCostFacet.init();
+		monCSkillToSkillCostFacet.init();
+		skillCostFacet.init();
+		usableSkillsFacet.init();
+		totalSkillRankFacet.init();
+		skillFacet.init();
+		bonusActiviationFacet.init();
+		bonusWeaponProfFacet.init();
+		calcBonusFacet.init();
+		campaignFacet.init();
+		cdomWrapperInfoFacet.init();
+		changeProfFacet.init();
+		characterSpellResistanceFacet.init();
+		checkFacet.init();
+		chooseDriverFacet.init();
+		classLevelChangeFacet.init();
+		defaultClassSkillListFacet.init();
+		classSkillListFacet.init();
+		conditionalTemplateFacet.init();
+		damageReductionFacet.init();
+		domainSpellListFacet.init();
+		domainSpellsFacet.init();
+		equipmentFacet.init();
+		equipmentTypeFacet.init();
+		equippedEquipmentFacet.init();
+		hasAnyFavoredClassFacet.init();
+		favoredClassFacet.init();
+		followerLimitFacet.init();
+		followerOptionFacet.init();
+		genderFacet.init();
+		grantedAbilityFacet.init();
+		grantedVarFacet.init();
+		hasDeityWeaponProfFacet.init();
+		heightFacet.init();
+		hiddenTypeFacet.init();
+		hitPointFacet.init();
+		kitChoiceFacet.init();
+		kitFacet.init();
+		knownSpellInputFacet.init();
+		loadContextFacet.init();
+		masterAvailableSpellFacet.init();
+		modifierFacet.init();
+		monsterClassFacet.init();
+		moveCloneFacet.init();
+		movementFacet.init();
+		unencumberedArmorFacet.init();
+		unencumberedLoadFacet.init();
+		movementResultFacet.init();
+		naturalEquipSetFacet.init();
+		nonStatStatFacet.init();
+		nonStatToStatFacet.init();
+		objectAdditionFacet.init();
+		objectWrapperFacet.init();
+		qualifyFacet.init();
+		reachFacet.init();
+		remoteModifierFacet.init();
+		removeFacet.init();
+		shieldProfFacet.init();
+		sizeFacet.init();
+		specialAbilityFacet.init();
+		spellBookFacet.init();
+		spellListToAvailableSpellFacet.init();
+		spellProhibitorFacet.init();
+		startingLanguageFacet.init();
+		statFacet.init();
+		statLockFacet.init();
+		statMaxValueFacet.init();
+		statMinValueFacet.init();
+		templateFeatFacet.init();
+		unconditionalTemplateFacet.init();
+		unarmedDamageFacet.init();
+		unlockedStatFacet.init();
+		variableFacet.init();
+		visionFacet.init();
+		weaponProfModelFacet.init();
+
+		return List.of(
+			abilitySelectionApplication,
+			activeEqModFacet,
+			activeEqHeadFacet,
+			activeSpellsFacet,
+			addedBonusFacet,
+			addedTemplateFacet,
+			addFacet,
+			addLanguageFacet,
+			addLevelFacet,
+			ageSetFacet,
+			ageSetKitFacet,
+			allowDebtFacet,
+			appliedBonusFacet,
+			armorClassFacet,
+			armorProfFacet,
+			armorProfProviderFacet,
+			autoEquipmentFacet,
+			autoEquipmentListFacet,
+			autoLanguageFacet,
+			autoLanguageGrantedFacet,
+			autoLanguageListFacet,
+			autoLanguageUnconditionalFacet,
+			autoListArmorProfFacet,
+			autoListShieldProfFacet,
+			autoListWeaponProfFacet,
+			autoWeaponProfFacet,
+			availableSpellFacet,
+			availableSpellInputFacet,
+			baseMovementFacet,
+			bioSetFacet,
+			bioSetTrackingFacet,
+			bonusActiviationFacet,
+			bonusChangeFacet,
+			bonusCheckingFacet,
+			bonusSkillRankChangeFacet,
+			bonusWeaponProfFacet,
+			calcBonusFacet,
+			campaignFacet,
+			categorizedAbilityFacet,
+			bridgeFacet,
+			consolidationFacet,
+			cdomSourceFacet,
+			cdomWrapperInfoFacet,
+			challengeRatingFacet,
+			changeProfFacet,
+			characterConsolidationFacet,
+			characterSpellResistanceFacet,
+			checkFacet,
+			checkBonusFacet,
+			chooseDriverFacet,
+			chronicleEntryFacet,
+			classFacet,
+			classLevelFacet,
+			classLevelChangeFacet,
+			classSkillListFacet,
+			classSpellListFacet,
+			companionModFacet,
+			conditionalAbilityFacet,
+			conditionallyAvailableSpellFacet,
+			conditionallyGrantedAbilityFacet,
+			conditionallyGrantedAvailableSpellFacet,
+			conditionallyGrantedKnownSpellFacet,
+			conditionallyKnownSpellFacet,
+			conditionalTemplateFacet,
+			damageReductionFacet,
+			dataSetInitializationFacet,
+			defaultClassSkillListFacet,
+			deityWeaponProfFacet,
+			directAbilityFacet,
+			directAbilityInputFacet,
+			domainFacet,
+			domainInputFacet,
+			domainSelectionFacet,
+			domainSpellCountFacet,
+			domainSpellListFacet,
+			domainSpellsFacet,
+			dynamicFacet,
+			dynamicWatchingFacet,
+			dynamicConsolidationFacet,
+			equipmentConsolidationFacet,
+			equipmentFacet,
+			equipmentTypeFacet,
+			equippedEquipmentFacet,
+			equipSetFacet,
+			expandedCampaignFacet,
+			factFacet,
+			favoredClassFacet,
+			followerFacet,
+			followerLimitFacet,
+			followerOptionFacet,
+			formulaResolvingFacet,
+			genderFacet,
+			globalAddedSkillCostFacet,
+			globalModifier,
+			globalSkillCostFacet,
+			globalToSkillCostFacet,
+			grantedAbilityFacet,
+			grantedVarFacet,
+			handsFacet,
+			hasAnyFavoredClassFacet,
+			hasDeityWeaponProfFacet,
+			heightFacet,
+			hiddenTypeFacet,
+			hitPointFacet,
+			ignoreCostFacet,
+			initiativeFacet,
+			kitChoiceFacet,
+			kitFacet,
+			knownSpellFacet,
+			knownSpellInputFacet,
+			languageFacet,
+			legalDeityFacet,
+			legsFacet,
+			levelFacet,
+			levelInfoFacet,
+			levelTableFacet,
+			listToSkillCostFacet,
+			listSkillCostFacet,
+			loadContextFacet,
+			loadFacet,
+			localAddedSkillCostFacet,
+			localSkillCostFacet,
+			masterAvailableSpellFacet,
+			masterFacet,
+			masterSkillFacet,
+			masterUsableSkillFacet,
+			modifierFacet,
+			monsterClassFacet,
+			monsterCSkillFacet,
+			monCSkillToSkillCostFacet,
+			moveCloneFacet,
+			movementFacet,
+			movementResultFacet,
+			multiClassFacet,
+			naturalEquipmentFacet,
+			naturalEquipSetFacet,
+			naturalWeaponFacet,
+			naturalWeaponProfFacet,
+			nonAbilityFacet,
+			nonProficiencyPenaltyFacet,
+			nonStatStatFacet,
+			nonStatToStatFacet,
+			noteItemFacet,
+			objectAdditionFacet,
+			objectWrapperFacet,
+			playerCharacterTrackingFacet,
+			prerequisiteFacet,
+			previewSheetFacet,
+			primaryWeaponFacet,
+			prohibitedSchoolFacet,
+			portraitThumbnailRectFacet,
+			qualifyFacet,
+			raceFacet,
+			raceInputFacet,
+			raceSelectionFacet,
+			raceTypeFacet,
+			racialSubTypesFacet,
+			reachFacet,
+			regionFacet,
+			remoteModifierFacet,
+			removeFacet,
+			resultFacet,
+			saveableBonusFacet,
+			savedAbilitiesFacet,
+			scopeFacet,
+			scopedDistributionFacet,
+			secondaryWeaponFacet,
+			shieldProfFacet,
+			shieldProfProviderFacet,
+			simpleAbilityFacet,
+			sizeFacet,
+			skillFacet,
+			skillFilterFacet,
+			skillCostFacet,
+			skillListToCostFacet,
+			skillListFacet,
+			skillOutputOrderFacet,
+			skillPoolFacet,
+			skillRankFacet,
+			solverManagerFacet,
+			sourcedEquipmentFacet,
+			specialAbilityFacet,
+			spellBookFacet,
+			spellListFacet,
+			spellListToAvailableSpellFacet,
+			spellProhibitorFacet,
+			spellsFacet,
+			spellSupportFacet,
+			startingLanguageFacet,
+			statCalcFacet,
+			statFacet,
+			statBonusFacet,
+			statLockFacet,
+			statMaxValueFacet,
+			statMinValueFacet,
+			statValueFacet,
+			subClassFacet,
+			substitutionClassFacet,
+			subRaceFacet,
+			suppressBioFieldFacet,
+			targetTrackingFacet,
+			templateFacet,
+			templateFeatFacet,
+			templateInputFacet,
+			templateSelectionFacet,
+			totalSkillRankFacet,
+			totalWeightFacet,
+			unarmedDamageFacet,
+			unconditionalTemplateFacet,
+			unencumberedArmorFacet,
+			unencumberedLoadFacet,
+			unlockedStatFacet,
+			usableSkillsFacet,
+			userEquipmentFacet,
+			userSpecialAbilityFacet,
+			variableCheckingFacet,
+			variableFacet,
+			variableStoreFacet,
+			varScopedFacet,
+			visionFacet,
+			weaponProfFacet,
+			weaponProfModelFacet,
+			weightFacet,
+			xpFacet,
+			xpTableFacet,
+			globalEQScope,
+			globalPCScope,
+			saveLegalScope,
+			sizeLegalScope,
+			skillLegalScope,
+			statLegalScope,
+			raceLegalScope,
+			equipLegalScope,
+			equipPartLegalScope);
+	}
+}
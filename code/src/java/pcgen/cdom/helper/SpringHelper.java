@@ -19,20 +19,17 @@
 package pcgen.cdom.helper;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import pcgen.cdom.facet.base.AbstractStorageFacet;
 
 import org.jetbrains.annotations.Nullable;
-import org.springframework.beans.factory.ListableBeanFactory;
-import org.springframework.beans.factory.support.BeanDefinitionReader;
-import org.springframework.beans.factory.support.DefaultListableBeanFactory;
-import org.springframework.beans.factory.xml.XmlBeanDefinitionReader;
-import org.springframework.core.io.ClassPathResource;
-import org.springframework.core.io.Resource;
 
 /**
- * The Class {@code SpringHelper} is a simple helper for
- * integrating the Spring framework into PCGen.
+ * The Class {@code SpringHelper} provides access to the facets that were
+ * originally defined through the Spring framework. The facets are now built
+ * in code by FacetRegistry, once, when this class is first used.
  */
 public final class SpringHelper
 {
@@ -40,16 +37,12 @@ public final class SpringHelper
 	{
 	}
 
-	private static final ListableBeanFactory BEAN_FACTORY;
+	private static final List<Object> FACETS = FacetRegistry.createFacets();
 
-	static
-	{
-		Resource appClassRes = new ClassPathResource("applicationContext.xml");
-		DefaultListableBeanFactory xbf = new DefaultListableBeanFactory();
-		BeanDefinitionReader beanReader = new XmlBeanDefinitionReader(xbf);
-		beanReader.loadBeanDefinitions(appClassRes);
-		BEAN_FACTORY = xbf;
-	}
+	private static final List<AbstractStorageFacet> STORAGE_FACETS = FACETS.stream()
+		.filter(AbstractStorageFacet.class::isInstance)
+		.map(AbstractStorageFacet.class::cast)
+		.collect(Collectors.toUnmodifiableList());
 
 	/**
 	 * Retrieve a Spring bean based on the class that it implements. Where multiple 
@@ -60,16 +53,25 @@ public final class SpringHelper
 	 */
 	public static @Nullable <T> T getBean(Class<T> cl)
 	{
-		String[] beanNamesForType = BEAN_FACTORY.getBeanNamesForType(cl);
-		if (beanNamesForType.length == 0)
+		for (Object facet : FACETS)
 		{
-			return null;
+			if (cl.isInstance(facet))
+			{
+				return cl.cast(facet);
+			}
 		}
-		return BEAN_FACTORY.getBean(beanNamesForType[0], cl);
+		return null;
 	}
 
+	/**
+	 * Returns the facets that hold per-character data. The list is built once
+	 * and cannot be modified, so it is safe to use on every PlayerCharacter
+	 * clone.
+	 * 
+	 * @return The storage facets, in definition order.
+	 */
 	public static Collection<AbstractStorageFacet> getStorageBeans()
 	{
-		return BEAN_FACTORY.getBeansOfType(AbstractStorageFacet.class).values();
+		return STORAGE_FACETS;
 	}
 }
@@ -20,14 +20,20 @@ package pcgen.cdom.reference;
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 
 import javax.swing.event.EventListenerList;
 
@@ -66,6 +72,24 @@ public abstract class AbstractReferenceManufacturer<T extends Loadable> implemen
 
 	private boolean isResolved = false;
 
+	/**
+	 * True if references may be requested after resolution, in order to
+	 * reload objects (see reopenReferences()).
+	 */
+	private boolean isReopened = false;
+
+	/**
+	 * The types of the TYPE= references that were first requested after
+	 * reopenReferences() was called, and which have not yet been resolved.
+	 */
+	private final List<FixedStringList> newTypeReferences = new ArrayList<>();
+
+	/**
+	 * True if the ALL reference was first requested after reopenReferences()
+	 * was called, and has not yet been resolved.
+	 */
+	private boolean isNewAllReference = false;
+
 	private final ManufacturableFactory<T> factory;
 
 	/**
@@ -160,6 +184,13 @@ public abstract class AbstractReferenceManufacturer<T extends Loadable> implemen
 	 */
 	private final EventListenerList listenerList = new EventListenerList();
 
+	/**
+	 * The read-only view of the active objects, once this
+	 * AbstractReferenceManufacturer has been frozen (see freeze()). While this
+	 * is null, the active objects are read directly.
+	 */
+	private volatile FrozenObjects<T> frozen = null;
+
 	/**
 	 * Constructs a new AbstractReferenceManufacturer for the given Class.
 	 * 
@@ -196,7 +227,7 @@ public abstract class AbstractReferenceManufacturer<T extends Loadable> implemen
 	 *             or contains a period (.), equals (=), comma (,) or pipe (|)
 	 */
 	@Override
-	public CDOMGroupRef<T> getTypeReference(String... types)
+	public synchronized CDOMGroupRef<T> getTypeReference(String... types)
 	{
 		for (String type : types)
 		{
@@ -236,6 +267,10 @@ public abstract class AbstractReferenceManufacturer<T extends Loadable> implemen
 		// Didn't find the appropriate key, create new
 		CDOMGroupRef<T> cgr = factory.getTypeReference(types);
 		typeReferences.put(typeList, new WeakReference<>(cgr));
+		if (isReopened)
+		{
+			newTypeReferences.add(typeList);
+		}
 		return cgr;
 	}
 
@@ -248,11 +283,12 @@ public abstract class AbstractReferenceManufacturer<T extends Loadable> implemen
 	 *         represents.
 	 */
 	@Override
-	public CDOMGroupRef<T> getAllReference()
+	public synchronized CDOMGroupRef<T> getAllReference()
 	{
 		if (allRef == null)
 		{
 			allRef = factory.getAllReference();
+			isNewAllReference = isReopened;
 		}
 		return allRef;
 	}
@@ -317,32 +353,46 @@ public abstract class AbstractReferenceManufacturer<T extends Loadable> implemen
 		return resolutionSuccessful;
 	}
 
+	/**
+	 * Resolves the ALL reference and the TYPE= references of this
+	 * AbstractReferenceManufacturer.
+	 * 
+	 * Rather than testing every object against every type of every TYPE=
+	 * reference, each distinct type used by the TYPE= references is tested
+	 * once per object (using isType, so the meaning of a type is unchanged)
+	 * to build an index from type to the matching objects. Each TYPE=
+	 * reference is then resolved to the intersection of the objects matching
+	 * each of its types, in the same order as getAllObjects().
+	 */
 	private boolean resolveGroupReferences()
 	{
-		for (T obj : getAllObjects())
+		List<T> objects = new ArrayList<>(getAllObjects());
+		if (allRef != null)
 		{
-			if (allRef != null)
+			for (T obj : objects)
 			{
 				allRef.addResolution(obj);
 			}
-			for (Map.Entry<FixedStringList, WeakReference<CDOMGroupRef<T>>> me : typeReferences.entrySet())
+		}
+		Map<String, BitSet> typeIndex = new HashMap<>();
+		for (Map.Entry<FixedStringList, WeakReference<CDOMGroupRef<T>>> me : typeReferences.entrySet())
+		{
+			CDOMGroupRef<T> trt = me.getValue().get();
+			if (trt != null)
 			{
-				CDOMGroupRef<T> trt = me.getValue().get();
-				if (trt != null)
+				BitSet matches = new BitSet(objects.size());
+				matches.set(0, objects.size());
+				for (String type : me.getKey())
 				{
-					boolean typeOkay = true;
-					for (String type : me.getKey())
+					if (matches.isEmpty())
 					{
-						if (!obj.isType(type))
-						{
-							typeOkay = false;
-							break;
-						}
-					}
-					if (typeOkay)
-					{
-						trt.addResolution(obj);
+						break;
 					}
+					matches.and(typeIndex.computeIfAbsent(type, t -> indexType(objects, t)));
+				}
+				for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1))
+				{
+					trt.addResolution(objects.get(i));
 				}
 			}
 		}
@@ -356,6 +406,137 @@ public abstract class AbstractReferenceManufacturer<T extends Loadable> implemen
 		return true;
 	}
 
+	@Override
+	public void reopenReferences()
+	{
+		if (isResolved)
+		{
+			isResolved = false;
+			isReopened = true;
+		}
+	}
+
+	@Override
+	public synchronized boolean replaceObject(T oldItem, T newItem)
+	{
+		String key = active.getKeyFor(oldItem);
+		if (key != null)
+		{
+			active.put(key, newItem);
+			refreeze(key);
+		}
+		for (WeakReference<CDOMSingleRef<T>> wr : referenced.values())
+		{
+			CDOMSingleRef<T> ref = wr.get();
+			if ((ref != null) && ref.hasBeenResolved() && (ref.get() == oldItem))
+			{
+				if (!(ref instanceof CDOMSimpleSingleRef))
+				{
+					return false;
+				}
+				((CDOMSimpleSingleRef<T>) ref).replaceResolution(oldItem, newItem);
+			}
+		}
+		if ((allRef != null) && !isNewAllReference && !allRef.replaceResolution(oldItem, newItem))
+		{
+			return false;
+		}
+		for (Map.Entry<FixedStringList, WeakReference<CDOMGroupRef<T>>> me : typeReferences.entrySet())
+		{
+			CDOMGroupRef<T> trt = me.getValue().get();
+			if ((trt != null) && !newTypeReferences.contains(me.getKey()))
+			{
+				T replacement = isOfTypes(newItem, me.getKey()) ? newItem : null;
+				if (!trt.replaceResolution(oldItem, replacement))
+				{
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public boolean resolveNewReferences(UnconstructedValidator validator)
+	{
+		if (!isReopened)
+		{
+			return true;
+		}
+		boolean resolutionSuccessful = true;
+		for (Entry<String, WeakReference<CDOMSingleRef<T>>> me1 : referenced.entrySet())
+		{
+			CDOMSingleRef<T> value = me1.getValue().get();
+			if ((value != null) && !value.hasBeenResolved())
+			{
+				resolutionSuccessful &= factory.resolve(this, me1.getKey(), value, validator);
+			}
+		}
+		if (isNewAllReference)
+		{
+			for (T obj : getAllObjects())
+			{
+				allRef.addResolution(obj);
+			}
+		}
+		for (FixedStringList types : newTypeReferences)
+		{
+			WeakReference<CDOMGroupRef<T>> ref = typeReferences.get(types);
+			CDOMGroupRef<T> trt = (ref == null) ? null : ref.get();
+			if (trt != null)
+			{
+				for (T obj : getAllObjects())
+				{
+					if (isOfTypes(obj, types))
+					{
+						trt.addResolution(obj);
+					}
+				}
+				if (trt.getObjectCount() == 0)
+				{
+					Logging.errorPrint("Error: No " + factory.getReferenceDescription() + " objects of "
+						+ trt.getLSTformat(false) + " were loaded but were referred to in the data");
+					fireUnconstuctedEvent(trt);
+					resolutionSuccessful = false;
+				}
+			}
+		}
+		newTypeReferences.clear();
+		isNewAllReference = false;
+		isReopened = false;
+		isResolved = true;
+		return resolutionSuccessful;
+	}
+
+	private static <T extends Loadable> boolean isOfTypes(T obj, FixedStringList types)
+	{
+		for (String type : types)
+		{
+			if (!obj.isType(type))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the set of indexes (in the given list) of the objects that are
+	 * of the given type.
+	 */
+	private static <T extends Loadable> BitSet indexType(List<T> objects, String type)
+	{
+		BitSet matches = new BitSet(objects.size());
+		for (int i = 0; i < objects.size(); i++)
+		{
+			if (objects.get(i).isType(type))
+			{
+				matches.set(i);
+			}
+		}
+		return matches;
+	}
+
 	/**
 	 * Adds an object to the contents of this AbstractReferenceManufacturer.
 	 * This is used in conditions where this AbstractReferenceManufacturer was
@@ -376,7 +557,7 @@ public abstract class AbstractReferenceManufacturer<T extends Loadable> implemen
 	 *             AbstractReferenceManufacturer constructs and references
 	 */
 	@Override
-	public void addObject(T item, String key)
+	public synchronized void addObject(T item, String key)
 	{
 		if (!factory.isMember(item))
 		{
@@ -392,6 +573,7 @@ public abstract class AbstractReferenceManufacturer<T extends Loadable> implemen
 		{
 			duplicates.addToListFor(new CaseInsensitiveString(key), item);
 		}
+		refreeze(key);
 	}
 
 	/**
@@ -414,7 +596,8 @@ public abstract class AbstractReferenceManufacturer<T extends Loadable> implemen
 	@Override
 	public T getActiveObject(String key)
 	{
-		return active.get(key);
+		FrozenObjects<T> view = frozen;
+		return (view == null) ? active.get(key) : view.byKey.get(key);
 	}
 
 	/**
@@ -435,6 +618,24 @@ public abstract class AbstractReferenceManufacturer<T extends Loadable> implemen
 	 */
 	@Override
 	public T getObject(String key)
+	{
+		FrozenObjects<T> view = frozen;
+		if (view != null)
+		{
+			T po = view.byKey.get(key);
+			if ((po == null) || !view.ambiguousKeys.contains(key))
+			{
+				return po;
+			}
+			synchronized (this)
+			{
+				return getObjectReportingDuplicates(key);
+			}
+		}
+		return getObjectReportingDuplicates(key);
+	}
+
+	private T getObjectReportingDuplicates(String key)
 	{
 		T po = active.get(key);
 		if (po != null)
@@ -525,7 +726,7 @@ public abstract class AbstractReferenceManufacturer<T extends Loadable> implemen
 	 *            AbstractReferenceManufacturer should be changed
 	 */
 	@Override
-	public void renameObject(String key, T item)
+	public synchronized void renameObject(String key, T item)
 	{
 		String oldKey = item.getKeyName();
 		if (oldKey.equalsIgnoreCase(key))
@@ -552,7 +753,7 @@ public abstract class AbstractReferenceManufacturer<T extends Loadable> implemen
 	 *         AbstractReferenceManufacturer; false otherwise.
 	 */
 	@Override
-	public boolean forgetObject(T item)
+	public synchronized boolean forgetObject(T item)
 	{
 		if (!factory.isMember(item))
 		{
@@ -566,7 +767,8 @@ public abstract class AbstractReferenceManufacturer<T extends Loadable> implemen
 			 * TODO This is a bug - the key name is not necessarily loaded into
 			 * the object, it may have been consumed by the object context... :P
 			 */
-			CaseInsensitiveString ocik = new CaseInsensitiveString(item.getKeyName());
+			key = item.getKeyName();
+			CaseInsensitiveString ocik = new CaseInsensitiveString(key);
 			duplicates.removeFromListFor(ocik, item);
 		}
 		else
@@ -585,6 +787,7 @@ public abstract class AbstractReferenceManufacturer<T extends Loadable> implemen
 				active.put(key, newActive);
 			}
 		}
+		refreeze(key);
 		return true;
 	}
 
@@ -608,7 +811,8 @@ public abstract class AbstractReferenceManufacturer<T extends Loadable> implemen
 	@Override
 	public boolean containsObjectKeyed(String key)
 	{
-		return active.containsKey(key);
+		FrozenObjects<T> view = frozen;
+		return (view == null) ? active.containsKey(key) : view.byKey.containsKey(key);
 	}
 
 	/**
@@ -688,7 +892,7 @@ public abstract class AbstractReferenceManufacturer<T extends Loadable> implemen
 		CDOMSingleRef<T> ref;
 		if (isResolved)
 		{
-			T current = active.get(key);
+			T current = getActiveObject(key);
 			if (current == null)
 			{
 				throw new IllegalArgumentException(
@@ -927,13 +1131,17 @@ public abstract class AbstractReferenceManufacturer<T extends Loadable> implemen
 	 * return null, it will return an empty list if no objects have been
 	 * constructed by or imported into this AbstractReferenceManufacturer.
 	 * 
+	 * Once this AbstractReferenceManufacturer has been frozen, the returned
+	 * Collection is unmodifiable and is shared by all callers.
+	 * 
 	 * @return A sorted Collection of all of the objects contained in this
 	 *         AbstractReferenceManufacturer
 	 */
 	@Override
 	public Collection<T> getAllObjects()
 	{
-		return active.keySortedValues();
+		FrozenObjects<T> view = frozen;
+		return (view == null) ? active.keySortedValues() : view.getObjects(this);
 	}
 
 	/**
@@ -1096,7 +1304,7 @@ public abstract class AbstractReferenceManufacturer<T extends Loadable> implemen
 	 *         identifier.
 	 */
 	@Override
-	public T constructNowIfNecessary(String key)
+	public synchronized T constructNowIfNecessary(String key)
 	{
 		T obj = active.get(key);
 		if (obj == null)
@@ -1197,7 +1405,119 @@ public abstract class AbstractReferenceManufacturer<T extends Loadable> implemen
 	@Override
 	public int getConstructedObjectCount()
 	{
-		return active.size();
+		FrozenObjects<T> view = frozen;
+		return (view == null) ? active.size() : view.size;
+	}
+
+	@Override
+	public synchronized void freeze()
+	{
+		frozen = new FrozenObjects<>(this);
+	}
+
+	@Override
+	public boolean isFrozen()
+	{
+		return frozen != null;
+	}
+
+	/**
+	 * Updates the read-only view of the active objects after the object(s)
+	 * with the given key have been changed, if this
+	 * AbstractReferenceManufacturer has been frozen. This must be called while
+	 * holding the lock on this AbstractReferenceManufacturer.
+	 */
+	private void refreeze(String key)
+	{
+		FrozenObjects<T> view = frozen;
+		if (view != null)
+		{
+			view.update(this, key);
+		}
+	}
+
+	/**
+	 * FrozenObjects is the read-only view of the active objects of an
+	 * AbstractReferenceManufacturer, which can be read by any number of
+	 * threads without locking.
+	 * 
+	 * Changes made after the freeze are applied to the view one key at a time,
+	 * rather than copying all of the objects for each change. The sorted list
+	 * of objects is only rebuilt when it is next requested, so a series of
+	 * changes costs a single copy.
+	 */
+	private static final class FrozenObjects<T extends Loadable>
+	{
+		private final Map<String, T> byKey = new ConcurrentSkipListMap<>(String.CASE_INSENSITIVE_ORDER);
+		private final Set<String> ambiguousKeys = new ConcurrentSkipListSet<>(String.CASE_INSENSITIVE_ORDER);
+		private volatile List<T> objects;
+		private volatile int size;
+
+		private FrozenObjects(AbstractReferenceManufacturer<T> arm)
+		{
+			objects = Collections.unmodifiableList(new ArrayList<>(arm.active.keySortedValues()));
+			for (String key : arm.active.keySet())
+			{
+				byKey.put(key, arm.active.get(key));
+			}
+			for (CaseInsensitiveString cis : arm.duplicates.getKeySet())
+			{
+				ambiguousKeys.add(cis.toString());
+			}
+			size = arm.active.size();
+		}
+
+		/**
+		 * Copies the active and duplicate state of the given key from the
+		 * AbstractReferenceManufacturer. Must be called while holding the lock
+		 * on the AbstractReferenceManufacturer.
+		 */
+		private void update(AbstractReferenceManufacturer<T> arm, String key)
+		{
+			T item = arm.active.get(key);
+			if (item == null)
+			{
+				byKey.remove(key);
+			}
+			else
+			{
+				byKey.put(key, item);
+			}
+			if (arm.duplicates.containsListFor(new CaseInsensitiveString(key)))
+			{
+				ambiguousKeys.add(key);
+			}
+			else
+			{
+				ambiguousKeys.remove(key);
+			}
+			size = arm.active.size();
+			objects = null;
+		}
+
+		/**
+		 * Returns the unmodifiable, sorted list of the active objects, building
+		 * it first if the objects have changed since it was last requested.
+		 * The list is built while holding the lock on the given
+		 * AbstractReferenceManufacturer, so no change can be lost.
+		 */
+		private List<T> getObjects(AbstractReferenceManufacturer<T> arm)
+		{
+			List<T> list = objects;
+			if (list == null)
+			{
+				synchronized (arm)
+				{
+					list = objects;
+					if (list == null)
+					{
+						list = Collections.unmodifiableList(new ArrayList<>(byKey.values()));
+						objects = list;
+					}
+				}
+			}
+			return list;
+		}
 	}
 
 	@Override
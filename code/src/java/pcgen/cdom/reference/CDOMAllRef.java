@@ -145,6 +145,40 @@ public final class CDOMAllRef<T> extends CDOMGroupRef<T>
 		}
 	}
 
+	@Override
+	public boolean replaceResolution(T oldItem, T newItem)
+	{
+		if ((newItem != null) && !newItem.getClass().equals(getReferenceClass()))
+		{
+			throw new IllegalArgumentException("Cannot resolve a " + getReferenceClass().getSimpleName()
+				+ " Reference to a " + newItem.getClass().getSimpleName());
+		}
+		if (referencedList == null)
+		{
+			referencedList = new ArrayList<>();
+		}
+		for (int i = 0; i < referencedList.size(); i++)
+		{
+			if (referencedList.get(i) == oldItem)
+			{
+				if (newItem == null)
+				{
+					referencedList.remove(i);
+				}
+				else
+				{
+					referencedList.set(i, newItem);
+				}
+				return true;
+			}
+		}
+		if (newItem != null)
+		{
+			referencedList.add(newItem);
+		}
+		return true;
+	}
+
 	/**
 	 * Returns the count of the number of objects included in the Collection of
 	 * Objects to which this CDOMAllRef refers.
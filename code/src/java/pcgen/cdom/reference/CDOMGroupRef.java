@@ -58,4 +58,28 @@ public abstract class CDOMGroupRef<T> extends CDOMReference<T> implements Object
 	 */
 	@Override
 	public abstract boolean contains(T item);
+
+	/**
+	 * Replaces an object to which this CDOMGroupRef refers. This is only used
+	 * when an object is reloaded from its source file. The new object takes
+	 * the place of the old object if the old object was included in this
+	 * CDOMGroupRef (and is otherwise added), or the old object is removed if
+	 * the new object is null.
+	 *
+	 * Note that this is only supported by a CDOMGroupRef that holds its own
+	 * resolution; the default is to return false.
+	 *
+	 * @param oldItem
+	 *            The object that has been reloaded
+	 * @param newItem
+	 *            The object that replaces the old object in this
+	 *            CDOMGroupRef, or null if the new object is not to be
+	 *            included
+	 * @return true if the replacement is supported by this CDOMGroupRef; false
+	 *         otherwise
+	 */
+	public boolean replaceResolution(T oldItem, T newItem)
+	{
+		return false;
+	}
 }
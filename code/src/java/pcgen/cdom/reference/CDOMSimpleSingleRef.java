@@ -192,6 +192,36 @@ public class CDOMSimpleSingleRef<T> extends CDOMSingleRef<T>
 		referencedObject = item;
 	}
 
+	/**
+	 * Changes the object to which this CDOMSimpleSingleRef refers. This is
+	 * only used when an object is reloaded from its source file, so that a
+	 * reference to the old object refers to the object that replaced it.
+	 *
+	 * @param oldItem
+	 *            The object to which this CDOMSimpleSingleRef currently refers
+	 * @param newItem
+	 *            The object to which this CDOMSimpleSingleRef will refer
+	 * @return true if this CDOMSimpleSingleRef was changed; false if it did
+	 *         not refer to the given old object
+	 * @throws IllegalArgumentException
+	 *             if the new object is not of the class that this
+	 *             CDOMSimpleSingleRef represents
+	 */
+	public boolean replaceResolution(T oldItem, T newItem)
+	{
+		if (referencedObject != oldItem)
+		{
+			return false;
+		}
+		if (!newItem.getClass().equals(getReferenceClass()))
+		{
+			throw new IllegalArgumentException("Cannot resolve a " + getReferenceClass().getSimpleName()
+				+ " Reference to a " + newItem.getClass().getSimpleName());
+		}
+		referencedObject = newItem;
+		return true;
+	}
+
 	/**
 	 * Returns a Collection containing the single Object to which this
 	 * CDOMSimpleSingleRef refers.
@@ -176,6 +176,63 @@ public interface ReferenceManufacturer<T extends Loadable> extends SelectionCrea
 	 */
 	public boolean forgetObject(T item);
 
+	/**
+	 * Allows references to be requested from this ReferenceManufacturer after
+	 * resolveReferences has been called, as they were before resolution, so
+	 * that objects can be reloaded. The references requested are resolved by
+	 * resolveNewReferences.
+	 */
+	public void reopenReferences();
+
+	/**
+	 * Replaces an object that has been reloaded in the references provided by
+	 * this ReferenceManufacturer, so that they refer to the object that
+	 * replaced it. If the old object is an active object (and was not
+	 * constructed by this ReferenceManufacturer) it is also replaced.
+	 * 
+	 * @param oldItem
+	 *            The object that has been reloaded
+	 * @param newItem
+	 *            The object that replaced the old object
+	 * @return true if every reference to the old object was replaced; false
+	 *         otherwise
+	 */
+	public boolean replaceObject(T oldItem, T newItem);
+
+	/**
+	 * Resolves the references that were requested from this
+	 * ReferenceManufacturer since reopenReferences was called.
+	 * 
+	 * @param validator
+	 *            UnconstructedValidator which can suppress unconstructed
+	 *            reference warnings
+	 * @return true if all of the references were resolved; false otherwise
+	 */
+	public boolean resolveNewReferences(UnconstructedValidator validator);
+
+	/**
+	 * Freezes the objects contained in this ReferenceManufacturer once loading
+	 * is complete, so that they can be shared by threads that each process a
+	 * different PlayerCharacter. After this is called, getAllObjects() returns
+	 * an unmodifiable Collection and the objects may be read by any thread
+	 * without locking. Objects may still be added or removed (for example,
+	 * when custom equipment is imported); those changes are serialized, and
+	 * each is seen by readers as soon as the object for its key has been
+	 * updated. A change that spans several keys (such as forgetting an object
+	 * and adding it again under another key) is not atomic: a reader may see
+	 * it half done. The Collection returned by getAllObjects() is a snapshot
+	 * that is not affected by later changes.
+	 */
+	public void freeze();
+
+	/**
+	 * Returns true if freeze() has been called on this ReferenceManufacturer.
+	 * 
+	 * @return true if this ReferenceManufacturer has been frozen; false
+	 *         otherwise
+	 */
+	public boolean isFrozen();
+
 	/**
 	 * Resolves the references that have been requested from this
 	 * ReferenceManufacturer, using the objects contained within this
@@ -19,11 +19,16 @@
  */
 package pcgen.core;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -65,6 +70,12 @@ public class BonusManager
 
 	private static final List<String> NO_ASSOC_LIST = Collections.singletonList("");
 
+	/**
+	 * The reads of a result calculated while the bonus map was being updated
+	 * without its start being marked.
+	 */
+	private static final Object UNKNOWN_READS = new Object();
+
 	private Map<String, String> activeBonusMap = new ConcurrentHashMap<>();
 
 	private Map<String, Double> cachedActiveBonusSumsMap = new ConcurrentHashMap<>();
@@ -78,6 +89,41 @@ public class BonusManager
 	private final PlayerCharacter pc;
 	private Map<String, String> checkpointMap;
 
+	/**
+	 * The evaluation state of each active bonus (see updateActiveBonusMap).
+	 */
+	private final Map<BonusObj, BonusNode> bonusNodes = new IdentityHashMap<>();
+
+	/**
+	 * The active bonuses in the order they are evaluated. Each bonus comes
+	 * after the bonuses it reads, unless they read each other.
+	 */
+	private List<BonusNode> bonusOrder = new ArrayList<>();
+
+	/**
+	 * The bonus containers whose bonuses were active in the last round.
+	 */
+	private Set<BonusContainer> activeContainers = Collections.emptySet();
+
+	/**
+	 * The reads of the bonus map made while the bonus map is being updated, or
+	 * null if it is not being updated.
+	 */
+	private List<BonusRead> readLog;
+
+	/**
+	 * The number of writes made to the bonus map, and the write on which each
+	 * prefix a read can be made for was last changed. Used to tell whether a
+	 * value calculated from the bonus map is still current.
+	 */
+	private int writeCount;
+	private final Map<String, Integer> prefixWrites = new HashMap<>();
+
+	/**
+	 * The number of times an active bonus has been evaluated through its node.
+	 */
+	private int evaluationCount;
+
 	public BonusManager(PlayerCharacter p)
 	{
 		pc = p;
@@ -97,6 +143,7 @@ public class BonusManager
 		}
 
 		fullyQualifiedBonusType = fullyQualifiedBonusType.toUpperCase();
+		recordRead(fullyQualifiedBonusType, false);
 		if (cachedActiveBonusSumsMap.containsKey(fullyQualifiedBonusType))
 		{
 			return cachedActiveBonusSumsMap.get(fullyQualifiedBonusType);
@@ -243,6 +290,7 @@ public class BonusManager
 	{
 		String prefix = bonusName + '.' + bonusInfo;
 		prefix = prefix.toUpperCase();
+		recordRead(prefix, false);
 
 		for (String fullyQualifedBonusType : activeBonusMap.keySet())
 		{
@@ -296,6 +344,10 @@ public class BonusManager
 	 */
 	void buildActiveBonusMap()
 	{
+		// The bonuses are not evaluated through their nodes
+		bonusNodes.clear();
+		bonusOrder = new ArrayList<>();
+		activeContainers = Collections.emptySet();
 		activeBonusMap = new ConcurrentHashMap<>();
 		cachedActiveBonusSumsMap = new ConcurrentHashMap<>();
 		Map<String, String> nonStackMap = new ConcurrentHashMap<>();
@@ -416,7 +468,7 @@ public class BonusManager
 
 	public void setActiveBonusList()
 	{
-		activeBonusBySource = getAllActiveBonuses();
+		activeBonusBySource = getAllActiveBonuses(pc.getBonusContainerList());
 	}
 
 	public String listBonusesFor(String bonusName, String bonusInfo)
@@ -424,6 +476,7 @@ public class BonusManager
 		final String prefix = bonusName + '.' + bonusInfo;
 		final StringBuilder buf = new StringBuilder();
 		final Collection<String> aList = new ArrayList<>();
+		recordRead(prefix, true);
 
 		// final List<TypedBonus> bonuses = theBonusMap.get(prefix);
 		// if ( bonuses == null )
@@ -604,6 +657,516 @@ public class BonusManager
 		prevProcessed.remove(aBonus);
 	}
 
+	/**
+	 * Brings the active bonus map up to date for one round of the bonus
+	 * calculation.
+	 *
+	 * The active bonuses are evaluated in dependency order, so each bonus is
+	 * evaluated after the bonuses whose values it reads. A bonus is only
+	 * evaluated again if it was not active in the last round, if it reads a
+	 * part of the bonus map which has changed in this round or, when the
+	 * character has changed since the last round, if its value may depend on
+	 * what changed. That is any bonus with a calculated value, as a formula can
+	 * read anything about the character, and any bonus whose source has had
+	 * its choices changed. The values of the other bonuses are reused.
+	 *
+	 * Bonuses which read each other form a cycle. A bonus in a cycle sees the
+	 * values of the bonuses evaluated before it, just as every bonus did when
+	 * the bonus map was built from scratch.
+	 *
+	 * @param characterChanged
+	 *            true if the character may have changed in ways the bonus map
+	 *            does not show
+	 * @return true if the active bonus map changed
+	 */
+	boolean updateActiveBonusMap(boolean characterChanged)
+	{
+		Collection<BonusContainer> containers = pc.getBonusContainerList();
+		Set<BonusContainer> containerSet = Collections.newSetFromMap(new IdentityHashMap<>());
+		containerSet.addAll(containers);
+		if (!containerSet.equals(activeContainers))
+		{
+			// Objects added to or removed from the character can change what
+			// any formula reads, not just the bonus map
+			characterChanged = true;
+		}
+		activeContainers = containerSet;
+
+		Map<String, String> previousMap = activeBonusMap;
+		activeBonusBySource = getAllActiveBonuses(containers);
+		Set<String> changedTypes = new HashSet<>();
+		if (updateBonusNodes(changedTypes))
+		{
+			orderBonusNodes();
+		}
+
+		List<BonusNode> evaluated = evaluateBonusNodes(characterChanged, changedTypes);
+		// A bonus may read a part of the bonus map nothing was known to write
+		// when it was ordered. Order it again and evaluate it again, so that it
+		// reads the complete value.
+		for (int pass = 0; !evaluated.isEmpty() && (pass < bonusOrder.size()); pass++)
+		{
+			Map<String, List<BonusNode>> writers = getWritersByPrefix();
+			List<BonusNode> misordered = new ArrayList<>();
+			for (BonusNode node : evaluated)
+			{
+				for (BonusNode writer : getWritersRead(node, writers))
+				{
+					if ((writer.position > node.position) && (writer.component != node.component))
+					{
+						misordered.add(node);
+						break;
+					}
+				}
+			}
+			if (misordered.isEmpty())
+			{
+				break;
+			}
+			orderBonusNodes();
+			misordered.forEach(node -> node.dirty = true);
+			evaluated = evaluateBonusNodes(false, new HashSet<>());
+		}
+		return !activeBonusMap.equals(previousMap);
+	}
+
+	/**
+	 * Brings the nodes of the bonuses up to date with the active bonuses.
+	 *
+	 * @param changedTypes
+	 *            The bonus types written by the bonuses which are no longer
+	 *            active will be added to this set
+	 * @return true if the set of active bonuses changed
+	 */
+	private boolean updateBonusNodes(Set<String> changedTypes)
+	{
+		boolean removed = false;
+		for (Iterator<BonusNode> it = bonusNodes.values().iterator(); it.hasNext();)
+		{
+			BonusNode node = it.next();
+			if (!activeBonusBySource.containsKey(node.bonus))
+			{
+				it.remove();
+				for (BonusValue value : node.values)
+				{
+					changedTypes.add(value.type);
+				}
+				removed = true;
+			}
+		}
+		if (removed)
+		{
+			for (BonusNode node : bonusNodes.values())
+			{
+				node.dependencies.removeIf(dep -> bonusNodes.get(dep.bonus) != dep);
+			}
+		}
+
+		List<BonusNode> added = new ArrayList<>();
+		for (Entry<BonusObj, Object> entry : activeBonusBySource.entrySet())
+		{
+			BonusNode node = bonusNodes.get(entry.getKey());
+			if (node == null)
+			{
+				node = new BonusNode(entry.getKey(), entry.getValue());
+				bonusNodes.put(node.bonus, node);
+				added.add(node);
+			}
+			else if (node.source != entry.getValue())
+			{
+				node.source = entry.getValue();
+				node.dirty = true;
+			}
+		}
+
+		// As when the map is built from scratch, only bonuses with a
+		// calculated value depend on other bonuses
+		Set<BonusNode> addedSet = Collections.newSetFromMap(new IdentityHashMap<>());
+		addedSet.addAll(added);
+		for (BonusNode node : added)
+		{
+			node.dirty = true;
+			for (BonusNode other : bonusNodes.values())
+			{
+				if (other == node)
+				{
+					continue;
+				}
+				if (dependsOn(node, other))
+				{
+					node.dependencies.add(other);
+				}
+				if (!addedSet.contains(other) && dependsOn(other, node))
+				{
+					other.dependencies.add(node);
+				}
+			}
+		}
+		return removed || !added.isEmpty();
+	}
+
+	private static boolean dependsOn(BonusNode node, BonusNode other)
+	{
+		return !node.bonus.isValueStatic() && (node.bonus.getDependsOn(other.bonus.getUnparsedBonusInfoList())
+			|| node.bonus.getDependsOnBonusName(other.bonus.getBonusName()));
+	}
+
+	/**
+	 * Orders the active bonuses so that each bonus comes after the bonuses it
+	 * depends on. The bonuses are the strongly connected components of the
+	 * dependency graph, in topological order; the bonuses in a cycle keep
+	 * their previous order.
+	 */
+	private void orderBonusNodes()
+	{
+		List<BonusNode> candidates = new ArrayList<>(bonusNodes.size());
+		for (BonusNode node : bonusOrder)
+		{
+			if (bonusNodes.get(node.bonus) == node)
+			{
+				candidates.add(node);
+			}
+		}
+		// New bonuses come last, static bonuses before calculated ones
+		List<BonusNode> calculated = new ArrayList<>();
+		for (BonusObj bonus : activeBonusBySource.keySet())
+		{
+			BonusNode node = bonusNodes.get(bonus);
+			if (node.position < 0)
+			{
+				(bonus.isValueStatic() ? candidates : calculated).add(node);
+			}
+		}
+		candidates.addAll(calculated);
+		for (int i = 0; i < candidates.size(); i++)
+		{
+			BonusNode node = candidates.get(i);
+			node.rank = i;
+			node.visit = -1;
+		}
+
+		Map<String, List<BonusNode>> writers = getWritersByPrefix();
+		BonusOrdering ordering = new BonusOrdering(writers);
+		for (BonusNode node : candidates)
+		{
+			if (node.visit < 0)
+			{
+				ordering.visit(node);
+			}
+		}
+		bonusOrder = ordering.order;
+		for (int i = 0; i < bonusOrder.size(); i++)
+		{
+			bonusOrder.get(i).position = i;
+		}
+	}
+
+	/**
+	 * Evaluates the active bonuses in order, rebuilding the active bonus map.
+	 *
+	 * @param full
+	 *            true if the bonuses whose values may depend on the character
+	 *            outside of the bonus map must be evaluated
+	 * @param changedTypes
+	 *            The bonus types which have changed. Bonuses which read these
+	 *            types are evaluated, and the types they change are added.
+	 * @return The bonuses which were evaluated
+	 */
+	private List<BonusNode> evaluateBonusNodes(boolean characterChanged, Set<String> changedTypes)
+	{
+		activeBonusMap = new ConcurrentHashMap<>();
+		cachedActiveBonusSumsMap = new ConcurrentHashMap<>();
+		Map<String, String> nonStackMap = new ConcurrentHashMap<>();
+		Map<String, String> stackMap = new ConcurrentHashMap<>();
+		Set<String> changedPrefixes = new HashSet<>();
+		for (String type : changedTypes)
+		{
+			changedPrefixes.addAll(getReadPrefixes(type));
+		}
+
+		List<BonusNode> evaluated = new ArrayList<>();
+		Map<Object, List<String>> associations = new IdentityHashMap<>();
+		readLog = new ArrayList<>();
+		try
+		{
+			for (BonusNode node : bonusOrder)
+			{
+				if (node.dirty || node.reads(changedTypes, changedPrefixes)
+					|| (characterChanged && mayHaveChanged(node, associations)))
+				{
+					List<BonusValue> previous = node.values;
+					evaluateBonus(node, nonStackMap, stackMap);
+					evaluated.add(node);
+					if (!node.values.equals(previous))
+					{
+						addChangedTypes(previous, changedTypes, changedPrefixes);
+						addChangedTypes(node.values, changedTypes, changedPrefixes);
+					}
+				}
+				else
+				{
+					for (BonusValue value : node.values)
+					{
+						applyBonus(value, nonStackMap, stackMap);
+					}
+				}
+			}
+		}
+		finally
+		{
+			readLog = null;
+		}
+		return evaluated;
+	}
+
+	/**
+	 * Identifies whether the value of a bonus may have changed with the
+	 * character. A calculated value may read anything about the character,
+	 * while a static value only changes with the choices made for its source.
+	 *
+	 * @param associations
+	 *            The choices made for each source, as found so far this round
+	 */
+	private boolean mayHaveChanged(BonusNode node, Map<Object, List<String>> associations)
+	{
+		if (!node.bonus.isValueStatic())
+		{
+			return true;
+		}
+		Object source = getSourceObject(node.bonus);
+		if (source == null)
+		{
+			return !node.values.isEmpty();
+		}
+		return !associations.computeIfAbsent(source, this::getAssociations).equals(node.associations);
+	}
+
+	private static void addChangedTypes(List<BonusValue> values, Set<String> changedTypes,
+		Set<String> changedPrefixes)
+	{
+		for (BonusValue value : values)
+		{
+			if (changedTypes.add(value.type))
+			{
+				changedPrefixes.addAll(getReadPrefixes(value.type));
+			}
+		}
+	}
+
+	/**
+	 * Evaluates a bonus against the bonus map as built so far, adding its
+	 * values to the map and recording what it read.
+	 */
+	private void evaluateBonus(BonusNode node, Map<String, String> nonStackMap, Map<String, String> stackMap)
+	{
+		node.dirty = false;
+		evaluationCount++;
+		int mark = readLog.size();
+		List<BonusValue> values = new ArrayList<>();
+		final Object source = getSourceObject(node.bonus);
+		node.associations = NO_ASSOC_LIST;
+		if (source == null)
+		{
+			if (Logging.isDebugMode())
+			{
+				Logging.debugPrint("BONUS: " + node.bonus + " ignored due to no creator");
+			}
+		}
+		else
+		{
+			try
+			{
+				node.associations = getAssociations(source);
+				for (BonusPair bp : getStringListFromBonus(node.bonus, source, node.associations))
+				{
+					if (bp.fullyQualifiedBonusType == null)
+					{
+						continue;
+					}
+					BonusValue value = new BonusValue(bp.fullyQualifiedBonusType, bp.resolve(pc).doubleValue());
+					values.add(value);
+					applyBonus(value, nonStackMap, stackMap);
+					if (Logging.isDebugMode())
+					{
+						String id = (source instanceof CDOMObject) ? ((CDOMObject) source).getDisplayName()
+							: source.toString();
+						Logging.debugPrint("BONUS: " + id + " : " + value.value + " : " + value.type);
+					}
+				}
+			}
+			catch (Exception e)
+			{
+				Logging.errorPrint(e.getLocalizedMessage(), e);
+			}
+		}
+		node.values = values;
+		node.reads = new HashSet<>(readLog.subList(mark, readLog.size()));
+	}
+
+	private void applyBonus(BonusValue value, Map<String, String> nonStackMap, Map<String, String> stackMap)
+	{
+		setActiveBonusStack(value.value, value.type, nonStackMap, stackMap);
+		totalBonusesForType(nonStackMap, stackMap, value.type, activeBonusMap);
+		writeCount++;
+		for (String prefix : getReadPrefixes(value.type))
+		{
+			prefixWrites.put(prefix, writeCount);
+			cachedActiveBonusSumsMap.remove(prefix);
+		}
+	}
+
+	/**
+	 * Returns the prefixes which, when summed (see sumActiveBonusMap), include
+	 * the given bonus type. For COMBAT.AC:ARMOR.REPLACE these are COMBAT.AC
+	 * and COMBAT.AC:ARMOR.
+	 */
+	private static List<String> getReadPrefixes(String fullyQualifiedBonusType)
+	{
+		String type = fullyQualifiedBonusType;
+		if (type.endsWith(".STACK"))
+		{
+			type = type.substring(0, type.length() - 6);
+		}
+		else if (type.endsWith(".REPLACE"))
+		{
+			type = type.substring(0, type.length() - 8);
+		}
+		List<String> prefixes = new ArrayList<>(2);
+		prefixes.add(type);
+		for (int i = type.indexOf(':'); i > 0; i = type.indexOf(':', i + 1))
+		{
+			prefixes.add(type.substring(0, i));
+		}
+		return prefixes;
+	}
+
+	/**
+	 * Returns the active bonuses writing each prefix a read can be made for.
+	 */
+	private Map<String, List<BonusNode>> getWritersByPrefix()
+	{
+		Map<String, List<BonusNode>> writers = new HashMap<>();
+		for (BonusNode node : bonusNodes.values())
+		{
+			for (BonusValue value : node.values)
+			{
+				for (String prefix : getReadPrefixes(value.type))
+				{
+					List<BonusNode> list = writers.computeIfAbsent(prefix, k -> new ArrayList<>());
+					if (!list.contains(node))
+					{
+						list.add(node);
+					}
+				}
+			}
+		}
+		return writers;
+	}
+
+	/**
+	 * Returns the active bonuses writing a part of the bonus map the given
+	 * bonus read when it was last evaluated.
+	 */
+	private Set<BonusNode> getWritersRead(BonusNode node, Map<String, List<BonusNode>> writers)
+	{
+		Set<BonusNode> found = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (BonusRead read : node.reads)
+		{
+			if (read.loose)
+			{
+				for (BonusNode other : bonusNodes.values())
+				{
+					if (other.values.stream().anyMatch(value -> value.type.startsWith(read.prefix)))
+					{
+						found.add(other);
+					}
+				}
+			}
+			else
+			{
+				found.addAll(writers.getOrDefault(read.prefix, Collections.emptyList()));
+			}
+		}
+		return found;
+	}
+
+	private void recordRead(String prefix, boolean loose)
+	{
+		if (readLog != null)
+		{
+			readLog.add(new BonusRead(prefix, loose));
+		}
+	}
+
+	/**
+	 * Marks the start of a calculation whose reads of the bonus map should be
+	 * remembered with its result (see VariableProcessor).
+	 *
+	 * @return The mark to be passed to getReadsSince, or -1 if the bonus map is
+	 *         not being updated
+	 */
+	int markReads()
+	{
+		return (readLog == null) ? -1 : readLog.size();
+	}
+
+	/**
+	 * Returns the reads of the bonus map made since the given mark.
+	 *
+	 * @param mark
+	 *            The mark returned by markReads when the calculation started,
+	 *            or -1 if the start of the calculation was not marked
+	 * @return The reads, to be passed to replayReads when the result of the
+	 *         calculation is used again
+	 */
+	Object getReadsSince(int mark)
+	{
+		if (readLog == null)
+		{
+			return null;
+		}
+		if ((mark < 0) || (mark > readLog.size()))
+		{
+			return UNKNOWN_READS;
+		}
+		return new RecordedReads(new ArrayList<>(readLog.subList(mark, readLog.size())), writeCount);
+	}
+
+	/**
+	 * Identifies whether a result calculated from the bonus map is still
+	 * current, and if so records its reads as if they had been made again.
+	 *
+	 * @param reads
+	 *            The reads returned by getReadsSince when the result was
+	 *            calculated
+	 * @return true if the result can be used; false if it must be calculated
+	 *         again
+	 */
+	boolean replayReads(Object reads)
+	{
+		if (reads instanceof RecordedReads)
+		{
+			RecordedReads recorded = (RecordedReads) reads;
+			for (BonusRead read : recorded.reads)
+			{
+				boolean written = read.loose ? (writeCount > recorded.writeCount)
+					: (prefixWrites.getOrDefault(read.prefix, 0) > recorded.writeCount);
+				if (written)
+				{
+					return false;
+				}
+			}
+			if (readLog != null)
+			{
+				readLog.addAll(recorded.reads);
+			}
+			return true;
+		}
+		// Results calculated without recording their reads must be calculated
+		// again while the bonus map is being updated
+		return readLog == null;
+	}
+
 	/**
 	 * Figures out if a bonus should stack based on type, then adds it to the
 	 * supplied map.
@@ -746,6 +1309,7 @@ public class BonusManager
 	{
 		String statAbbr = stat.getKeyName();
 		final String prefix = "STAT." + statAbbr;
+		recordRead(prefix.toUpperCase(), false);
 		Map<String, String> bonusMap = new HashMap<>();
 		Map<String, String> nonStackMap = new ConcurrentHashMap<>();
 		Map<String, String> stackMap = new ConcurrentHashMap<>();
@@ -851,6 +1415,23 @@ public class BonusManager
 		return clone;
 	}
 
+	/**
+	 * @return The number of times an active bonus has been evaluated by
+	 *         updateActiveBonusMap
+	 */
+	int getEvaluationCount()
+	{
+		return evaluationCount;
+	}
+
+	/**
+	 * @return An unmodifiable view of the active bonus map
+	 */
+	Map<String, String> getActiveBonusMap()
+	{
+		return Collections.unmodifiableMap(activeBonusMap);
+	}
+
 	public void checkpointBonusMap()
 	{
 		checkpointMap = activeBonusMap;
@@ -870,6 +1451,7 @@ public class BonusManager
 	{
 		Map<String, String> returnMap = new HashMap<>();
 		String prefix = bonusName + "." + bonusInfo + ".";
+		recordRead(prefix, true);
 
 		for (Map.Entry<String, String> entry : activeBonusMap.entrySet())
 		{
@@ -1142,13 +1724,19 @@ public class BonusManager
 	public List<BonusPair> getStringListFromBonus(BonusObj bo)
 	{
 		Object creatorObj = getSourceObject(bo);
+		return getStringListFromBonus(bo, creatorObj, getAssociations(creatorObj));
+	}
 
+	/**
+	 * Returns the choices made for the given source of bonuses, which are
+	 * substituted into its bonuses.
+	 */
+	private List<String> getAssociations(Object creatorObj)
+	{
 		List<String> associatedList;
-		CDOMObject anObj;
 		if (creatorObj instanceof CDOMObject)
 		{
-			anObj = (CDOMObject) creatorObj;
-			associatedList = pc.getConsolidatedAssociationList(anObj);
+			associatedList = pc.getConsolidatedAssociationList((CDOMObject) creatorObj);
 			if (associatedList == null || associatedList.isEmpty())
 			{
 				associatedList = NO_ASSOC_LIST;
@@ -1158,7 +1746,11 @@ public class BonusManager
 		{
 			associatedList = NO_ASSOC_LIST;
 		}
+		return associatedList;
+	}
 
+	private List<BonusPair> getStringListFromBonus(BonusObj bo, Object creatorObj, List<String> associatedList)
+	{
 		List<BonusPair> bonusList = new ArrayList<>();
 
 		// Must use getBonusName because it contains the unaltered bonusType
@@ -1248,6 +1840,243 @@ public class BonusManager
 		}
 	}
 
+	/**
+	 * The evaluation state of an active bonus.
+	 */
+	private static final class BonusNode
+	{
+		private final BonusObj bonus;
+		private Object source;
+
+		/**
+		 * The values the bonus added to the bonus map when last evaluated.
+		 */
+		private List<BonusValue> values = Collections.emptyList();
+
+		/**
+		 * The parts of the bonus map read when the bonus was last evaluated.
+		 */
+		private Set<BonusRead> reads = Collections.emptySet();
+
+		/**
+		 * The choices made for the source of the bonus when it was last
+		 * evaluated.
+		 */
+		private List<String> associations = NO_ASSOC_LIST;
+
+		/**
+		 * The bonuses this bonus names as dependencies in its formula.
+		 */
+		private final List<BonusNode> dependencies = new ArrayList<>();
+
+		/**
+		 * true if the bonus must be evaluated in the next round.
+		 */
+		private boolean dirty;
+
+		private int position = -1;
+		private int component;
+		private int rank;
+		private int visit;
+		private int lowLink;
+		private boolean onStack;
+
+		private BonusNode(BonusObj bonus, Object source)
+		{
+			this.bonus = bonus;
+			this.source = source;
+		}
+
+		/**
+		 * Identifies whether the bonus read any of the given changed bonus
+		 * types when it was last evaluated.
+		 */
+		private boolean reads(Set<String> changedTypes, Set<String> changedPrefixes)
+		{
+			if (changedTypes.isEmpty())
+			{
+				return false;
+			}
+			for (BonusRead read : reads)
+			{
+				if (read.loose)
+				{
+					for (String type : changedTypes)
+					{
+						if (type.startsWith(read.prefix))
+						{
+							return true;
+						}
+					}
+				}
+				else if (changedPrefixes.contains(read.prefix))
+				{
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public String toString()
+		{
+			return bonus.toString();
+		}
+	}
+
+	/**
+	 * A value a bonus adds to the bonus map.
+	 */
+	private static final class BonusValue
+	{
+		private final String type;
+		private final double value;
+
+		private BonusValue(String fullyQualifiedBonusType, double value)
+		{
+			this.type = fullyQualifiedBonusType.toUpperCase();
+			this.value = value;
+		}
+
+		@Override
+		public boolean equals(Object o)
+		{
+			if (o instanceof BonusValue)
+			{
+				BonusValue other = (BonusValue) o;
+				return type.equals(other.type) && (Double.compare(value, other.value) == 0);
+			}
+			return false;
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return type.hashCode() ^ Double.hashCode(value);
+		}
+	}
+
+	/**
+	 * A read of the bonus map. An exact read sums the bonus types matching a
+	 * prefix, as sumActiveBonusMap does; a loose read looks at every bonus
+	 * type starting with the prefix.
+	 */
+	private static final class BonusRead
+	{
+		private final String prefix;
+		private final boolean loose;
+
+		private BonusRead(String prefix, boolean loose)
+		{
+			this.prefix = prefix;
+			this.loose = loose;
+		}
+
+		@Override
+		public boolean equals(Object o)
+		{
+			if (o instanceof BonusRead)
+			{
+				BonusRead other = (BonusRead) o;
+				return prefix.equals(other.prefix) && (loose == other.loose);
+			}
+			return false;
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return loose ? ~prefix.hashCode() : prefix.hashCode();
+		}
+	}
+
+	/**
+	 * The reads made by a calculation, and the number of writes made to the
+	 * bonus map when it finished.
+	 */
+	private static final class RecordedReads
+	{
+		private final List<BonusRead> reads;
+		private final int writeCount;
+
+		private RecordedReads(List<BonusRead> reads, int writeCount)
+		{
+			this.reads = reads;
+			this.writeCount = writeCount;
+		}
+	}
+
+	/**
+	 * Orders the active bonuses, using Tarjan's algorithm to find the bonuses
+	 * which depend on each other.
+	 */
+	private final class BonusOrdering
+	{
+		private final Map<String, List<BonusNode>> writers;
+		private final List<BonusNode> order = new ArrayList<>();
+		private final Deque<BonusNode> stack = new ArrayDeque<>();
+		private int visits;
+		private int components;
+
+		private BonusOrdering(Map<String, List<BonusNode>> writers)
+		{
+			this.writers = writers;
+		}
+
+		private void visit(BonusNode node)
+		{
+			node.visit = visits;
+			node.lowLink = visits;
+			visits++;
+			stack.push(node);
+			node.onStack = true;
+
+			boolean readsItself = false;
+			Set<BonusNode> dependencySet = getWritersRead(node, writers);
+			dependencySet.addAll(node.dependencies);
+			List<BonusNode> dependencies = new ArrayList<>(dependencySet);
+			dependencies.sort(Comparator.comparingInt(dep -> dep.rank));
+			for (BonusNode dep : dependencies)
+			{
+				if (dep == node)
+				{
+					readsItself = true;
+				}
+				else if (dep.visit < 0)
+				{
+					visit(dep);
+					node.lowLink = Math.min(node.lowLink, dep.lowLink);
+				}
+				else if (dep.onStack)
+				{
+					node.lowLink = Math.min(node.lowLink, dep.visit);
+				}
+			}
+
+			if (node.lowLink == node.visit)
+			{
+				List<BonusNode> component = new ArrayList<>();
+				BonusNode member;
+				do
+				{
+					member = stack.pop();
+					member.onStack = false;
+					member.component = components;
+					component.add(member);
+				}
+				while (member != node);
+				components++;
+				component.sort(Comparator.comparingInt(dep -> dep.rank));
+				if (((component.size() > 1) || readsItself) && Logging.isDebugMode())
+				{
+					Logging.debugPrint("Bonus cycle: " + component
+						+ " depend on each other, each is evaluated with the values of those before it");
+				}
+				order.addAll(component);
+			}
+		}
+	}
+
 	double calcBonusesWithCost(Iterable<BonusObj> list)
 	{
 		double totalBonus = 0;
@@ -1305,10 +2134,10 @@ public class BonusManager
 		                        .anyMatch(tbi -> tbi.source.equals(mod));
 	}
 
-	private Map<BonusObj, Object> getAllActiveBonuses()
+	private Map<BonusObj, Object> getAllActiveBonuses(Collection<BonusContainer> containers)
 	{
 		Map<BonusObj, Object> ret = new IdentityHashMap<>();
-		for (final BonusContainer pobj : pc.getBonusContainerList())
+		for (final BonusContainer pobj : containers)
 		{
 			// We exclude equipmods here as their bonuses are already counted in
 			// the equipment they belong to.
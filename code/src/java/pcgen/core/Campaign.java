@@ -47,6 +47,29 @@ public class Campaign extends PObject implements NonInteractive
 		put(ObjectKey.SOURCE_CAMPAIGN, this);
 	}
 
+	/**
+	 * True if this Campaign was restored from the campaign index, and so only
+	 * holds the fields needed to list it for source selection. The rest of the
+	 * campaign is read by CampaignFileLoader.loadIndexedCampaigns.
+	 */
+	private volatile boolean indexed = false;
+
+	/**
+	 * Returns true if this Campaign only holds the fields restored from the
+	 * campaign index, and has not yet been read in full.
+	 * 
+	 * @return true if this Campaign has not yet been read in full
+	 */
+	public boolean isIndexed()
+	{
+		return indexed;
+	}
+
+	public void setIndexed(boolean indexed)
+	{
+		this.indexed = indexed;
+	}
+
 	/**
 	 * Returns a list of the Campaign objects that were loaded by this Campaign.
 	 * 
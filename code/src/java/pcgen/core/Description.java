@@ -28,6 +28,7 @@ import pcgen.cdom.base.ConcretePrereqObject;
 import pcgen.cdom.base.Constants;
 import pcgen.cdom.content.CNAbility;
 import pcgen.io.EntityEncoder;
+import pcgen.persistence.lst.LazyText;
 import pcgen.persistence.lst.output.prereq.PrerequisiteWriter;
 import pcgen.util.Logging;
 
@@ -43,10 +44,15 @@ import pcgen.util.Logging;
  * <br>would be replaced with the string &quot;This is a variable substitution
  * string&quot; if the variable list was &quot;a&quot;,&quot;string&quot;, 
  * &quot;substitution&quot;.
+ * 
+ * <p>If the description string is held as LazyText, it is read from the source
+ * file (and split into components) each time it is used, rather than being
+ * held in memory.
  */
 public class Description extends ConcretePrereqObject
 {
-	private Collection<String> theComponents = new ArrayList<>();
+	private final Collection<String> theComponents;
+	private final LazyText theText;
 	private List<String> theVariables;
 
 	private static final String VAR_NAME = "%NAME"; //$NON-NLS-1$
@@ -63,6 +69,43 @@ public class Description extends ConcretePrereqObject
 	 */
 	public Description(final String aString)
 	{
+		theComponents = parseComponents(aString, true);
+		theText = null;
+	}
+
+	/**
+	 * Constructs a Description whose description string is read from the
+	 * source file when it is used.
+	 * 
+	 * @param aString The description string, checked as it is loaded
+	 * @param text The LazyText of the (encoded) description string
+	 */
+	public Description(final String aString, final LazyText text)
+	{
+		parseComponents(aString, true);
+		theComponents = null;
+		theText = text;
+	}
+
+	private Collection<String> getComponents()
+	{
+		if (theText == null)
+		{
+			return theComponents;
+		}
+		return parseComponents(EntityEncoder.decode(theText.getText()), false);
+	}
+
+	/**
+	 * Splits the description string into text and variable placeholders.
+	 * 
+	 * @param aString The description string
+	 * @param report true if problems with the string are to be reported
+	 * @return The components of the description string
+	 */
+	private static Collection<String> parseComponents(final String aString, final boolean report)
+	{
+		Collection<String> components = new ArrayList<>();
 		int currentInd = 0;
 		int percentInd;
 		while ((percentInd = aString.indexOf('%', currentInd)) != -1)
@@ -70,12 +113,12 @@ public class Description extends ConcretePrereqObject
 			final String preText = aString.substring(currentInd, percentInd);
 			if (!preText.isEmpty())
 			{
-				theComponents.add(preText);
+				components.add(preText);
 			}
 			if (percentInd == aString.length() - 1)
 			{
-				theComponents.add("%"); //$NON-NLS-1$
-				return;
+				components.add("%"); //$NON-NLS-1$
+				return components;
 			}
 			if (aString.charAt(percentInd + 1) == '{')
 			{
@@ -90,16 +133,19 @@ public class Description extends ConcretePrereqObject
 				}
 				catch (NumberFormatException nfe)
 				{
-					Logging.errorPrintLocalised(
-						"Errors.Description.InvalidVariableReplacement", replacement); //$NON-NLS-1$
+					if (report)
+					{
+						Logging.errorPrintLocalised(
+							"Errors.Description.InvalidVariableReplacement", replacement); //$NON-NLS-1$
+					}
 				}
-				theComponents.add(VAR_MARKER + replacement);
+				components.add(VAR_MARKER + replacement);
 			}
 			else if (aString.charAt(percentInd + 1) == '%')
 			{
 				// This is an escape sequence so we can actually print a %
 				currentInd = percentInd + 2;
-				theComponents.add("%"); //$NON-NLS-1$
+				components.add("%"); //$NON-NLS-1$
 			}
 			else
 			{
@@ -121,15 +167,15 @@ public class Description extends ConcretePrereqObject
 				}
 				if (currentInd > percentInd + 1)
 				{
-					theComponents.add(VAR_MARKER + aString.substring(percentInd + 1, currentInd));
+					components.add(VAR_MARKER + aString.substring(percentInd + 1, currentInd));
 				}
 				else
 				{
 					// We broke out of the variable finding loop without finding
 					// even a single integer.  Assume we have a DESC field that
 					// is using a % unescaped.
-					theComponents.add(aString.substring(percentInd, percentInd + 1));
-					if (Logging.isLoggable(Logging.LST_WARNING))
+					components.add(aString.substring(percentInd, percentInd + 1));
+					if (report && Logging.isLoggable(Logging.LST_WARNING))
 					{
 						Logging.log(Logging.LST_WARNING, "The % without a number in the description '" + aString
 							+ "' should be either escaped e.g. %% or made into a parameter reference e.g. %1 .");
@@ -137,7 +183,8 @@ public class Description extends ConcretePrereqObject
 				}
 			}
 		}
-		theComponents.add(aString.substring(currentInd));
+		components.add(aString.substring(currentInd));
+		return components;
 	}
 
 	/**
@@ -187,7 +234,7 @@ public class Description extends ConcretePrereqObject
 		final StringBuilder buf = new StringBuilder(250);
 		if (this.qualifies(aPC, sampleObject))
 		{
-			for (final String comp : theComponents)
+			for (final String comp : getComponents())
 			{
 				if (comp.startsWith(VAR_MARKER))
 				{
@@ -316,7 +363,7 @@ public class Description extends ConcretePrereqObject
 	{
 		final StringBuilder buf = new StringBuilder(250);
 
-		for (final String str : theComponents)
+		for (final String str : getComponents())
 		{
 			if (str.startsWith(VAR_MARKER))
 			{
@@ -359,8 +406,8 @@ public class Description extends ConcretePrereqObject
 	@Override
 	public int hashCode()
 	{
-		return theComponents.size() + 7 * getPrerequisiteCount()
-			+ 31 * (theVariables == null ? 0 : theVariables.size());
+		// The components are not used, so that a LazyText is not read to hash
+		return 7 * getPrerequisiteCount() + 31 * (theVariables == null ? 0 : theVariables.size());
 	}
 
 	@Override
@@ -382,7 +429,7 @@ public class Description extends ConcretePrereqObject
 				return false;
 			}
 		}
-		return theComponents.equals(other.theComponents)
+		return getComponents().equals(other.getComponents())
 			&& (theVariables == null || theVariables.equals(other.theVariables)) && equalsPrereqObject(other);
 	}
 
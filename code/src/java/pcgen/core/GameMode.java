@@ -172,6 +172,12 @@ public final class GameMode implements Comparable<Object>
 	/** A container for feat settings for this game mode. */
 	private AbilityCategory featTemplate;
 
+	/**
+	 * Loads the files of this game mode that were not read at startup, or
+	 * null if the game mode has been completely loaded.
+	 */
+	private Runnable definitionLoader;
+
 	/**
 	 * Creates a new instance of GameMode.
 	 *
@@ -1933,6 +1939,33 @@ public final class GameMode implements Comparable<Object>
 		context = new RuntimeLoadContext(referenceContext, masterLCS);
 	}
 
+	/**
+	 * Makes a LoadContext that was loaded earlier for this GameMode the current
+	 * one again, along with the master lists it was loaded with. This allows a
+	 * data set kept resident by DataSetRegistry to be used without reloading
+	 * its sources.
+	 * 
+	 * @param loadContext
+	 *            The LoadContext to make current
+	 * @param masterLists
+	 *            The master list commit strategy of the given LoadContext
+	 */
+	public void restoreLoadContext(LoadContext loadContext, ConsolidatedListCommitStrategy masterLists)
+	{
+		masterLCS = masterLists;
+		context = loadContext;
+	}
+
+	/**
+	 * Returns the master list commit strategy of the current LoadContext.
+	 * 
+	 * @return The master list commit strategy of the current LoadContext
+	 */
+	public ConsolidatedListCommitStrategy getMasterListCommitStrategy()
+	{
+		return masterLCS;
+	}
+
 	/**
 	 * Takes references and abbreviations that have been placed into the
 	 * LoadContext for this GameMode and copies those references and
@@ -2286,6 +2319,39 @@ public final class GameMode implements Comparable<Object>
 		this.featTemplate = featTemplate;
 	}
 
+	/**
+	 * Defers loading the files of this game mode other than miscinfo.lst
+	 * until the game mode is first selected.
+	 *
+	 * @param loader The loader of the remaining files of this game mode
+	 */
+	public synchronized void setDefinitionLoader(Runnable loader)
+	{
+		definitionLoader = loader;
+	}
+
+	/**
+	 * Loads the files of this game mode that were not read at startup, if
+	 * there are any. This must be called before the game mode is used.
+	 */
+	public synchronized void loadDefinition()
+	{
+		Runnable loader = definitionLoader;
+		if (loader != null)
+		{
+			definitionLoader = null;
+			loader.run();
+		}
+	}
+
+	/**
+	 * @return true if all of the files of this game mode have been loaded
+	 */
+	public synchronized boolean isDefinitionLoaded()
+	{
+		return definitionLoader == null;
+	}
+
 	public void setMaxNonEpicLevel(int i)
 	{
 		maxNonEpicLevel = i;
@@ -28,6 +28,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
 import javax.swing.JFrame;
@@ -45,6 +47,7 @@ import pcgen.core.character.EquipSlot;
 import pcgen.core.chooser.CDOMChooserFacadeImpl;
 import pcgen.facade.core.ChooserFacade;
 import pcgen.gui2.facade.Gui2InfoFactory;
+import pcgen.persistence.DataSetRegistry;
 import pcgen.rules.context.AbstractReferenceContext;
 import pcgen.rules.context.LoadContext;
 import pcgen.system.ConfigurationSettings;
@@ -60,7 +63,7 @@ import pcgen.util.enumeration.VisionType;
 public final class Globals
 {
 	/** These are changed during normal operation */
-	private static final List<PlayerCharacter> PC_LIST = new ArrayList<>();
+	private static final List<PlayerCharacter> PC_LIST = new CopyOnWriteArrayList<>();
 
 	/** NOTE: The defaultPath is duplicated in LstSystemLoader. */
 	private static final String DEFAULT_PCG_PATH = getUserFilesPath() + File.separator + "characters"; //$NON-NLS-1$
@@ -71,7 +74,7 @@ public final class Globals
 
 	/** we need maps for efficient lookups */
 	private static final Map<URI, Campaign> CAMPAIGN_MAP = new HashMap<>();
-	private static final Map<String, Integer> EQ_SLOT_MAP = new HashMap<>();
+	private static final Map<String, Integer> EQ_SLOT_MAP = new ConcurrentHashMap<>();
 
 	// end of filter creation sets
 	private static JFrame rootFrame;
@@ -619,18 +622,27 @@ public final class Globals
 		//unitSet.clear();
 		//////////////////////////////////////
 
-		// Clear Maps (not strictly necessary, but done for consistency)
-		VisionType.clearConstants();
-		FactKey.clearConstants();
-		FactSetKey.clearConstants();
+		// Clear Maps (not strictly necessary, but done for consistency). The
+		// objects of resident data sets hold these constants, so they are kept
+		// while DataSetRegistry may switch back to one of those data sets.
+		boolean keepConstants = DataSetRegistry.isEnabled();
+		if (!keepConstants)
+		{
+			VisionType.clearConstants();
+			FactKey.clearConstants();
+			FactSetKey.clearConstants();
+		}
 
 		// Perform other special cleanup
 		Equipment.clearEquipmentTypes();
 		SettingsHandler.getGameAsProperty().get().clearLoadContext();
 
-		RaceType.clearConstants();
 		CNAbilityFactory.reset();
-		MovementType.clearConstants();
+		if (!keepConstants)
+		{
+			RaceType.clearConstants();
+			MovementType.clearConstants();
+		}
 	}
 
 	/**
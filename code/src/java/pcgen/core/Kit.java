@@ -32,6 +32,7 @@ import pcgen.cdom.enumeration.MapKey;
 import pcgen.cdom.enumeration.ObjectKey;
 import pcgen.cdom.enumeration.SourceFormat;
 import pcgen.cdom.enumeration.Type;
+import pcgen.cdom.facet.base.FacetTransaction;
 import pcgen.cdom.helper.AllowUtilities;
 import pcgen.cdom.util.CControl;
 import pcgen.core.analysis.OutputNameFormatting;
@@ -130,29 +131,37 @@ public final class Kit extends PObject
 	 */
 	public void processKit(final PlayerCharacter pc, final Collection<BaseKit> thingsToAdd)
 	{
-		BigDecimal totalCostToBeCharged = getTotalCostToBeCharged(pc);
-		if (totalCostToBeCharged != null)
+		FacetTransaction.begin(pc.getCharID());
+		try
 		{
-			BigDecimal currentGold = (BigDecimal) ChannelUtilities
-				.readControlledChannel(pc.getCharID(), CControl.GOLDINPUT);
-			ChannelUtilities.setControlledChannel(pc.getCharID(),
-				CControl.GOLDINPUT, currentGold.subtract(totalCostToBeCharged));
-		}
+			BigDecimal totalCostToBeCharged = getTotalCostToBeCharged(pc);
+			if (totalCostToBeCharged != null)
+			{
+				BigDecimal currentGold = (BigDecimal) ChannelUtilities
+					.readControlledChannel(pc.getCharID(), CControl.GOLDINPUT);
+				ChannelUtilities.setControlledChannel(pc.getCharID(),
+					CControl.GOLDINPUT, currentGold.subtract(totalCostToBeCharged));
+			}
 
-		for (KitStat kStat : getStats())
-		{
-			kStat.apply(pc);
-		}
+			for (KitStat kStat : getStats())
+			{
+				kStat.apply(pc);
+			}
 
-		for (BaseKit bk : thingsToAdd)
-		{
-			bk.apply(pc);
-		}
-		pc.setCalcEquipmentList();
+			for (BaseKit bk : thingsToAdd)
+			{
+				bk.apply(pc);
+			}
+			pc.setCalcEquipmentList();
 
-		if (getSafe(ObjectKey.APPLY_MODE) == KitApply.PERMANENT)
+			if (getSafe(ObjectKey.APPLY_MODE) == KitApply.PERMANENT)
+			{
+				pc.addKit(this);
+			}
+		}
+		finally
 		{
-			pc.addKit(this);
+			FacetTransaction.commit(pc.getCharID());
 		}
 	}
 
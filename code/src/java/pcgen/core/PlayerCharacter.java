@@ -160,6 +160,7 @@ import pcgen.cdom.facet.analysis.StatLockFacet;
 import pcgen.cdom.facet.analysis.UnlockedStatFacet;
 import pcgen.cdom.facet.analysis.VariableFacet;
 import pcgen.cdom.facet.base.AbstractStorageFacet;
+import pcgen.cdom.facet.base.FacetTransaction;
 import pcgen.cdom.facet.fact.AllowDebtFacet;
 import pcgen.cdom.facet.fact.ChronicleEntryFacet;
 import pcgen.cdom.facet.fact.FactFacet;
@@ -279,6 +280,12 @@ public class PlayerCharacter implements Cloneable, VariableContainer
 	// This marker is static so that the spells allocated to it can also be found in the cloned character.
 	private static final CDOMObject GRANTED_SPELL_CACHE = new ObjectCache();
 
+	/**
+	 * The number of rounds after which the active bonus calculation gives up
+	 * if the bonuses never settle and never return to an earlier state.
+	 */
+	private static final int MAX_BONUS_ROUNDS = 100;
+
 	private final CharID id;
 	private final SAtoStringProcessor SA_TO_STRING_PROC;
 	private final SAProcessor SA_PROC;
@@ -471,6 +478,19 @@ public class PlayerCharacter implements Cloneable, VariableContainer
 	private boolean[] ageSetKitSelections = new boolean[Constants.NUMBER_OF_AGESET_KIT_SELECTIONS];
 	private boolean dirtyFlag = false;
 	private int serial = 0;
+
+	/**
+	 * The serial at the end of the last active bonus calculation.
+	 */
+	private int bonusSerial = -1;
+
+	/**
+	 * The number of rounds the last active bonus calculation ran, and whether
+	 * it stopped because the bonuses were in a cycle.
+	 */
+	private int bonusRounds;
+	private boolean bonusCycle;
+
 	private boolean importing = false;
 
 	// Should temp mods/bonuses be used/saved?
@@ -3788,6 +3808,28 @@ public class PlayerCharacter implements Cloneable, VariableContainer
 		return variableProcessor;
 	}
 
+	BonusManager getBonusManager()
+	{
+		return bonusManager;
+	}
+
+	/**
+	 * @return The number of rounds the last active bonus calculation ran
+	 */
+	int getBonusRounds()
+	{
+		return bonusRounds;
+	}
+
+	/**
+	 * @return true if the last active bonus calculation stopped because the
+	 *         bonuses were in a cycle
+	 */
+	boolean isBonusCycle()
+	{
+		return bonusCycle;
+	}
+
 	public int getTotalCasterLevelWithSpellBonus(CharacterSpell acs, final Spell aSpell, final String spellType,
 		final String classOrRace, final int casterLev)
 	{
@@ -4614,7 +4656,65 @@ public class PlayerCharacter implements Cloneable, VariableContainer
 		{
 			return;
 		}
+		if (!PCGenSettings.OPTIONS_CONTEXT.initBoolean(PCGenSettings.OPTION_INCREMENTAL_BONUSES, true))
+		{
+			calcActiveBonusesByPasses();
+			return;
+		}
+
+		// Each round checks again which bonuses are active, as a prereq may
+		// depend on a bonus value from the previous round, and then evaluates
+		// only the bonuses affected by what changed. If the character has
+		// changed since the last calculation, the first round also evaluates
+		// the bonuses whose values may depend on what changed. We stop when a
+		// round changes nothing, or when a round returns to the bonus map of an
+		// earlier round, which means the prereqs are in a cycle that will never
+		// settle.
+		boolean characterChanged = serial != bonusSerial;
+		bonusCycle = false;
+		Set<Map<String, String>> reached = new HashSet<>();
+		int count = 0;
+		boolean changed;
+		do
+		{
+			if (count >= MAX_BONUS_ROUNDS)
+			{
+				Logging.errorPrint("Active bonus calculation did not settle after " + count + " rounds.");
+				bonusManager.logChangeFromCheckpoint();
+				break;
+			}
+			bonusManager.checkpointBonusMap();
+			setDirty(true);
+			changed = calcActiveBonusRound(characterChanged && (count == 0));
+			count++;
+			if (Globals.checkRule(RuleConstants.RETROSKILL))
+			{
+				checkSkillModChange();
+			}
+			if (changed && !reached.add(bonusManager.getActiveBonusMap()))
+			{
+				Logging.errorPrint("Active bonuses are in a cycle: round " + count
+					+ " returned to the bonuses of an earlier round.");
+				bonusManager.logChangeFromCheckpoint();
+				bonusCycle = true;
+				break;
+			}
+		}
+		while (changed);
+		bonusSerial = serial;
+		bonusRounds = count;
+		if (Logging.isDebugMode())
+		{
+			Logging.log(Logging.DEBUG, "Ran " + count + " rounds to calc bonuses");
+		}
+	}
 
+	/**
+	 * Calculates the active bonuses by rebuilding the whole bonus map until it
+	 * stops changing.
+	 */
+	private void calcActiveBonusesByPasses()
+	{
 		// Keep rebuilding the active bonus map until the
 		// contents do not change. This is to cope with the
 		// situation where we have a variable A that has a prereq
@@ -4658,6 +4758,19 @@ public class PlayerCharacter implements Cloneable, VariableContainer
 	private int cablInt = 1;
 	private int lastCablInt = 0;
 
+	private boolean calcActiveBonusRound(boolean characterChanged)
+	{
+		if (cablInt == lastCablInt)
+		{
+			return false;
+		}
+		lastCablInt = cablInt;
+		boolean changed = bonusManager.updateActiveBonusMap(characterChanged);
+		cablInt++;
+		bonusChangeFacet.reset(id);
+		return changed;
+	}
+
 	private void calcActiveBonusLoop()
 	{
 		if (cablInt == lastCablInt)
@@ -6592,6 +6705,20 @@ public class PlayerCharacter implements Cloneable, VariableContainer
 	 */
 	public void incrementClassLevel(final int numberOfLevels, final PCClass globalClass, final boolean bSilent,
 		final boolean bypassPrereqs)
+	{
+		FacetTransaction.begin(id);
+		try
+		{
+			doIncrementClassLevel(numberOfLevels, globalClass, bSilent, bypassPrereqs);
+		}
+		finally
+		{
+			FacetTransaction.commit(id);
+		}
+	}
+
+	private void doIncrementClassLevel(final int numberOfLevels, final PCClass globalClass, final boolean bSilent,
+		final boolean bypassPrereqs)
 	{
 		// If not importing, load the spell list
 		if (!importing)
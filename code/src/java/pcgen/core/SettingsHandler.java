@@ -274,6 +274,7 @@ public final class SettingsHandler
 
 		if (newMode != null)
 		{
+			newMode.loadDefinition();
 			game.setValue(newMode);
 		}
 		// new key for game mode specific options are pcgen.options.gameMode.X.optionName
@@ -646,6 +647,12 @@ public final class SettingsHandler
 		for (int idx = 0; idx < SystemCollections.getUnmodifiableGameModeList().size(); idx++)
 		{
 			final GameMode gameMode = SystemCollections.getUnmodifiableGameModeList().get(idx);
+			if (!gameMode.isDefinitionLoaded())
+			{
+				// Its settings have not changed since they were read, and
+				// without its definition they cannot be written correctly.
+				continue;
+			}
 			String gameModeKey = gameMode.getName();
 			if (gameMode.getUnitSet() != null && gameMode.getUnitSet().getDisplayName() != null)
 			{
@@ -60,6 +60,12 @@ public abstract class VariableProcessor
 	private final Map<String, CachedVariable<String>> sVariableCache = new HashMap<>();
 	private final Map<String, CachedVariable<Float>> fVariableCache = new HashMap<>();
 
+	/**
+	 * The point in the reads of the bonus map at which the calculation of each
+	 * variable not found in the cache started (see BonusManager.markReads).
+	 */
+	private final Map<String, Integer> readMarks = new HashMap<>();
+
 	protected Float convertToFloat(String element, String foo)
 	{
 		Float d = null;
@@ -616,15 +622,26 @@ public abstract class VariableProcessor
 		}
 
 		final CachedVariable<Float> cached = fVariableCache.get(lookup);
+		final BonusManager bonusManager = (pc == null) ? null : pc.getBonusManager();
 
 		if (cached != null)
 		{
-			if (cached.getSerial() >= getSerial())
+			if ((cached.getSerial() >= getSerial())
+				&& ((bonusManager == null) || bonusManager.replayReads(cached.getReads())))
 			{
 				return cached.getValue();
 			}
 			fVariableCache.remove(lookup);
 		}
+		int mark = (bonusManager == null) ? -1 : bonusManager.markReads();
+		if (mark < 0)
+		{
+			readMarks.remove(lookup);
+		}
+		else
+		{
+			readMarks.put(lookup, mark);
+		}
 		return null;
 	}
 
@@ -643,6 +660,12 @@ public abstract class VariableProcessor
 		final CachedVariable<Float> cached = new CachedVariable<>();
 		cached.setSerial(getSerial());
 		cached.setValue(value);
+		final BonusManager bonusManager = (pc == null) ? null : pc.getBonusManager();
+		if (bonusManager != null)
+		{
+			Integer mark = readMarks.remove(lookup);
+			cached.setReads(bonusManager.getReadsSince((mark == null) ? -1 : mark));
+		}
 		//		if (lookup.equals("floor(SCORE/2)-5#STAT:CHA"))
 		//		{
 		//			Logging.errorPrint("At " + cached.getSerial() + " caching " + lookup + " of " + value);
@@ -18,8 +18,11 @@
 package pcgen.core.analysis;
 
 import java.util.Collection;
+import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
 
+import pcgen.cdom.enumeration.CharID;
 import pcgen.core.Ability;
 import pcgen.core.AbilityUtilities;
 import pcgen.core.Equipment;
@@ -67,23 +70,23 @@ public final class BonusCalc
 
 		final String aTypePlusName = aType + '.' + aName + '.';
 
-		if (!BonusCalc.dontRecurse && (po instanceof Ability) && (AbilityUtilities.isFeat(obj))
-			&& !Globals.checkRule(RuleConstants.FEATPRE))
+		if ((aPC != null) && (po instanceof Ability) && (AbilityUtilities.isFeat(obj))
+			&& !Globals.checkRule(RuleConstants.FEATPRE) && QUALIFYING.add(aPC.getCharID()))
 		{
 			// SUCK!  This is horrid, but bonusTo is actually recursive with respect to
 			// passesPreReqToGain and there is no other way to do this without decomposing the
 			// dependencies.  I am loathe to break working code.
 			// This addresses bug #709677 -- Feats give bonuses even if you no longer qualify
-			BonusCalc.dontRecurse = true;
-
 			boolean returnZero = false;
 
-			if (!po.qualifies(aPC, po))
+			try
 			{
-				returnZero = true;
+				returnZero = !po.qualifies(aPC, po);
+			}
+			finally
+			{
+				QUALIFYING.remove(aPC.getCharID());
 			}
-
-			BonusCalc.dontRecurse = false;
 
 			if (returnZero)
 			{
@@ -136,8 +139,12 @@ public final class BonusCalc
 		return retVal;
 	}
 
-	/** a boolean for whether something should recurse, default is false. */
-	private static boolean dontRecurse = false;
+	/**
+	 * The Player Characters for which the prerequisites of a feat are being
+	 * tested (bonuses do not recurse into that test for the same Player
+	 * Character).
+	 */
+	private static final Set<CharID> QUALIFYING = ConcurrentHashMap.newKeySet();
 
 	/**
 	 * Apply the bonus to a PC, pass through object's default bonuslist
@@ -26,6 +26,7 @@ public final class CachedVariable<T>
 {
 	private int serial;
 	private T value;
+	private Object reads;
 
 	/**
 	 * @return Returns the serial.
@@ -59,4 +60,21 @@ public final class CachedVariable<T>
 		value = v;
 	}
 
+	/**
+	 * @return Returns the reads of the bonus map the value was calculated
+	 *         from, or null if they were not recorded.
+	 */
+	public Object getReads()
+	{
+		return reads;
+	}
+
+	/**
+	 * @param r The reads of the bonus map the value was calculated from.
+	 */
+	public void setReads(final Object r)
+	{
+		reads = r;
+	}
+
 }
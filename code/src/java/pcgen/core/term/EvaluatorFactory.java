@@ -21,11 +21,13 @@
 package pcgen.core.term;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -39,8 +41,13 @@ public final class EvaluatorFactory
 	Pattern internalVarPattern;
 	Map<String, TermEvaluatorBuilder> BuilderStore;
 
-	private final Map<String, TermEvaluator> SrcNeutralEvaluatorStore = new HashMap<>();
-	private final Map<String, Map<String, TermEvaluator>> SrcDependantEvaluatorStore = new HashMap<>();
+	/*
+	 * These are populated on demand by every thread that evaluates a term, so
+	 * they must be safe for concurrent use. The source may be null, so the
+	 * inner (source keyed) maps are synchronized HashMaps.
+	 */
+	private final Map<String, TermEvaluator> SrcNeutralEvaluatorStore = new ConcurrentHashMap<>();
+	private final Map<String, Map<String, TermEvaluator>> SrcDependantEvaluatorStore = new ConcurrentHashMap<>();
 
 	public static final EvaluatorFactory PC = new EvaluatorFactory(true, TermEvaluatorBuilderPCVar.values());
 
@@ -181,10 +188,8 @@ public final class EvaluatorFactory
 
 		if (evaluator.isSourceDependant())
 		{
-			Map<String, TermEvaluator> i = SrcDependantEvaluatorStore.get(term);
-			Map<String, TermEvaluator> j = (i == null) ? new HashMap<>() : i;
-			j.put(source, evaluator);
-			SrcDependantEvaluatorStore.put(term, j);
+			SrcDependantEvaluatorStore.computeIfAbsent(term, t -> Collections.synchronizedMap(new HashMap<>()))
+				.put(source, evaluator);
 		}
 		else
 		{
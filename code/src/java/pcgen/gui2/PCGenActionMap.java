@@ -719,8 +719,7 @@ public final class PCGenActionMap extends ActionMap
 					uiContext.getCurrentSourceSelectionRef().get();
 			if (sources != null)
 			{
-				frame.unloadSources();
-				frame.loadSourceSelection(sources);
+				frame.reloadSources(sources);
 			}
 		}
 
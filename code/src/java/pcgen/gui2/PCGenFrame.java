@@ -473,6 +473,47 @@ public final class PCGenFrame extends JFrame implements UIDelegate, CharacterSel
 		}
 	}
 
+	/**
+	 * Reloads the given sources, which must be the sources currently loaded.
+	 * If the incrementalReload option is set, the source files that have
+	 * changed since the sources were loaded are reloaded into the loaded data
+	 * set where that is possible, and the characters that were open are then
+	 * opened again. Otherwise (or if the changes cannot be reloaded
+	 * incrementally) the sources are unloaded and loaded again. As with
+	 * loadSourceSelection, the reload is tracked on the status bar and any
+	 * call made while sources are being loaded is ignored.
+	 * 
+	 * @param sources a SourceSelectionFacade specifying the loaded sources
+	 */
+	public void reloadSources(SourceSelectionFacade sources)
+	{
+		if ((sourceLoader != null) && sourceLoader.isAlive())
+		{
+			return;
+		}
+		if (!PCGenSettings.OPTIONS_CONTEXT.initBoolean(PCGenSettings.OPTION_INCREMENTAL_RELOAD, false)
+			|| (sourceLoader == null) || !checkSourceEquality(sources, currentSourceSelection.get()))
+		{
+			unloadSources();
+			loadSourceSelection(sources);
+			return;
+		}
+		List<File> characterFiles = new ArrayList<>();
+		for (CharacterFacade character : CharacterManager.getCharacters())
+		{
+			File file = character.getFileRef().get();
+			if ((file != null) && file.exists())
+			{
+				characterFiles.add(file);
+			}
+		}
+		if (closeAllCharacters())
+		{
+			sourceLoader = new SourceLoadWorker(sources, sourceLoader.loader, characterFiles, this);
+			sourceLoader.start();
+		}
+	}
+
 	/**
 	 * Loads a selection of sources into PCGen asynchronously and
 	 * tracks the load progress on the status bar. While sources
@@ -1496,19 +1537,53 @@ public final class PCGenFrame extends JFrame implements UIDelegate, CharacterSel
 	{
 
 		private final SourceSelectionFacade sources;
-		private final SourceFileLoader loader;
-		private final SwingWorker<List<LogRecord>, List<LogRecord>> worker;
+		private final UIDelegate delegate;
+		private SourceFileLoader loader;
+		private SwingWorker<List<LogRecord>, List<LogRecord>> worker;
+
+		/**
+		 * The files of the characters to open again once the changed source
+		 * files have been reloaded, or null if the sources are to be loaded.
+		 */
+		private final List<File> characterFiles;
 
 		public SourceLoadWorker(SourceSelectionFacade sources, UIDelegate delegate)
+		{
+			this(sources, new SourceFileLoader(delegate, sources.getCampaigns(),
+				sources.getGameMode().get().getName()), null, delegate);
+		}
+
+		/**
+		 * Creates a SourceLoadWorker which reloads the changed source files of
+		 * the sources loaded by the given loader, and then opens the given
+		 * characters again. If the files cannot be reloaded, the sources are
+		 * loaded in full.
+		 */
+		private SourceLoadWorker(SourceSelectionFacade sources, SourceFileLoader loader, List<File> characterFiles,
+			UIDelegate delegate)
 		{
 			this.sources = sources;
-			loader = new SourceFileLoader(delegate, sources.getCampaigns(), sources.getGameMode().get().getName());
-			worker = statusBar.createWorker(LanguageBundle.getString("in_taskLoadSources"), loader); //$NON-NLS-1$
+			this.delegate = delegate;
+			this.loader = loader;
+			this.characterFiles = characterFiles;
+			if (characterFiles == null)
+			{
+				worker = statusBar.createWorker(LanguageBundle.getString("in_taskLoadSources"), loader); //$NON-NLS-1$
+			}
+			else
+			{
+				loader.requestReload();
+				worker = statusBar.createWorker(LanguageBundle.getString("in_taskReloadSources"), loader); //$NON-NLS-1$
+			}
 		}
 
 		@Override
 		public void run()
 		{
+			if ((characterFiles != null) && reloadChangedFiles())
+			{
+				return;
+			}
 			worker.execute();
 			//wait until the worker finish and post any errors that occurred
 			try
@@ -1560,6 +1635,43 @@ public final class PCGenFrame extends JFrame implements UIDelegate, CharacterSel
 			updateTitle();
 		}
 
+		/**
+		 * Reloads the changed source files, opening the characters again if
+		 * that succeeds. Otherwise the data set may have been partially
+		 * changed, so it is unloaded and this worker is set up to load the
+		 * sources in full.
+		 * 
+		 * @return true if the changed source files were reloaded
+		 */
+		private boolean reloadChangedFiles()
+		{
+			worker.execute();
+			try
+			{
+				statusBar.setSourceLoadErrors(worker.get());
+			} catch (InterruptedException | ExecutionException e)
+			{
+				Logging.errorPrint("error when reloading sources", e);
+			}
+			if (loader.isReloaded())
+			{
+				DataSetFacade data = loader.getDataSetFacade();
+				currentDataSetRef.set(data);
+				SwingUtilities.invokeLater(() -> {
+					for (File file : characterFiles)
+					{
+						openCharacter(file, data);
+					}
+				});
+				return true;
+			}
+			currentSourceSelection.set(null);
+			currentDataSetRef.set(null);
+			loader = new SourceFileLoader(delegate, sources.getCampaigns(), sources.getGameMode().get().getName());
+			worker = statusBar.createWorker(LanguageBundle.getString("in_taskLoadSources"), loader); //$NON-NLS-1$
+			return false;
+		}
+
 		private void showLicenses()
 		{
 			PropertyContext context = PCGenSettings.OPTIONS_CONTEXT;
@@ -110,6 +110,8 @@ public class GameModePanel extends ConvertSubPanel
 	private void getSelection(CDOMObject pc)
 	{
 		GameMode gameMode = (GameMode) gameModeCombo.getSelectedItem();
+		// The converter uses the mode without selecting it with setGame
+		gameMode.loadDefinition();
 		pc.put(ObjectKey.GAME_MODE, gameMode);
 
 		PCGenSettings context = PCGenSettings.getInstance();
@@ -66,6 +66,7 @@ import pcgen.gui2.converter.event.ProgressEvent;
 import pcgen.gui2.converter.event.TaskStrategyMessage;
 import pcgen.gui2.tools.Utility;
 import pcgen.io.PCGFile;
+import pcgen.persistence.CampaignFileLoader;
 import pcgen.persistence.lst.CampaignSourceEntry;
 import pcgen.rules.context.EditorLoadContext;
 import pcgen.system.LanguageBundle;
@@ -114,6 +115,7 @@ public class RunConvertPanel extends ConvertSubPanel implements Observer, Conver
 		final File rootDir = pc.get(ObjectKey.DIRECTORY);
 		final File outDir = pc.get(ObjectKey.WRITE_DIRECTORY);
 		totalCampaigns = new ArrayList<>(pc.getSafeListFor(ListKey.CAMPAIGN));
+		CampaignFileLoader.loadIndexedCampaigns(totalCampaigns);
 		for (CDOMObject campaign : pc.getSafeListFor(ListKey.CAMPAIGN))
 		{
 			// Add all sub-files to the main campaign, regardless of exclusions
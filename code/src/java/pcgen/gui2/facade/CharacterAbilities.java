@@ -111,7 +111,7 @@ public class CharacterAbilities
 	protected void closeCharacter()
 	{
 		GrantedAbilityFacet grantedAbilityFacet = FacetLibrary.getFacet(GrantedAbilityFacet.class);
-		grantedAbilityFacet.removeDataFacetChangeListener(grantedAbilityChangeHandler);
+		grantedAbilityFacet.removeDataFacetChangeListener(charID, grantedAbilityChangeHandler);
 	}
 
 	private void initForCharacter()
@@ -126,7 +126,7 @@ public class CharacterAbilities
 		rebuildAbilityLists();
 
 		grantedAbilityChangeHandler = new GrantedAbilityChangeHandler();
-		grantedAbilityFacet.addDataFacetChangeListener(grantedAbilityChangeHandler);
+		grantedAbilityFacet.addDataFacetChangeListener(charID, grantedAbilityChangeHandler);
 	}
 
 	/**
@@ -57,6 +57,8 @@ import pcgen.cdom.enumeration.StringKey;
 import pcgen.cdom.enumeration.Type;
 import pcgen.cdom.facet.AutoEquipmentFacet;
 import pcgen.cdom.facet.FacetLibrary;
+import pcgen.cdom.facet.event.DataFacetBatchEvent;
+import pcgen.cdom.facet.event.DataFacetBatchListener;
 import pcgen.cdom.facet.event.DataFacetChangeEvent;
 import pcgen.cdom.facet.event.DataFacetChangeListener;
 import pcgen.cdom.facet.fact.XPFacet;
@@ -285,10 +287,11 @@ public class CharacterFacadeImpl
 	@Override
 	public void closeCharacter()
 	{
-		FacetLibrary.getFacet(LanguageFacet.class).removeDataFacetChangeListener(langListener);
-		FacetLibrary.getFacet(TemplateFacet.class).removeDataFacetChangeListener(templateListener);
-		FacetLibrary.getFacet(XPFacet.class).removeDataFacetChangeListener(xpListener);
-		FacetLibrary.getFacet(AutoEquipmentFacet.class).removeDataFacetChangeListener(autoEquipListener);
+		CharID id = theCharacter.getCharID();
+		FacetLibrary.getFacet(LanguageFacet.class).removeDataFacetChangeListener(id, langListener);
+		FacetLibrary.getFacet(TemplateFacet.class).removeDataFacetChangeListener(id, templateListener);
+		FacetLibrary.getFacet(XPFacet.class).removeDataFacetChangeListener(id, xpListener);
+		FacetLibrary.getFacet(AutoEquipmentFacet.class).removeDataFacetChangeListener(id, autoEquipListener);
 
 		characterAbilities.closeCharacter();
 		charLevelsFacade.closeCharacter();
@@ -386,7 +389,7 @@ public class CharacterFacadeImpl
 		updateAgeCategoryForAge();
 		currentXP = new DefaultReferenceFacade<>(theCharacter.getXP());
 		xpListener = new XPListener();
-		FacetLibrary.getFacet(XPFacet.class).addDataFacetChangeListener(xpListener);
+		FacetLibrary.getFacet(XPFacet.class).addDataFacetChangeListener(theCharacter.getCharID(), xpListener);
 		xpForNextlevel = new DefaultReferenceFacade<>(charDisplay.minXPForNextECL());
 		xpTableName = new DefaultReferenceFacade<>(charDisplay.getXPTableName());
 		hpRef = new DefaultReferenceFacade<>(theCharacter.hitPoints());
@@ -402,7 +405,8 @@ public class CharacterFacadeImpl
 
 		purchasedEquip = new EquipmentListFacadeImpl(theCharacter.getEquipmentMasterList());
 		autoEquipListener = new AutoEquipListener();
-		FacetLibrary.getFacet(AutoEquipmentFacet.class).addDataFacetChangeListener(autoEquipListener);
+		FacetLibrary.getFacet(AutoEquipmentFacet.class)
+			.addDataFacetChangeListener(theCharacter.getCharID(), autoEquipListener);
 		carriedWeightRef = new DefaultReferenceFacade<>();
 		loadRef = new DefaultReferenceFacade<>();
 		weightLimitRef = new DefaultReferenceFacade<>();
@@ -428,7 +432,7 @@ public class CharacterFacadeImpl
 
 		templates = new DefaultListFacade<>(charDisplay.getDisplayVisibleTemplateList());
 		templateListener = new TemplateListener();
-		FacetLibrary.getFacet(TemplateFacet.class).addDataFacetChangeListener(templateListener);
+		FacetLibrary.getFacet(TemplateFacet.class).addDataFacetChangeListener(theCharacter.getCharID(), templateListener);
 
 		initTodoList();
 
@@ -443,7 +447,7 @@ public class CharacterFacadeImpl
 		numSkillLang = new DefaultReferenceFacade<>(0);
 		refreshLanguageList();
 		langListener = new LanguageListener();
-		FacetLibrary.getFacet(LanguageFacet.class).addDataFacetChangeListener(langListener);
+		FacetLibrary.getFacet(LanguageFacet.class).addDataFacetChangeListener(theCharacter.getCharID(), langListener);
 
 		purchasedEquip.addListListener(spellSupportFacade);
 		purchasedEquip.addEquipmentListListener(spellSupportFacade);
@@ -3974,56 +3978,34 @@ public class CharacterFacadeImpl
 	 * The Class {@code LanguageListener} tracks adding and removal of
 	 * languages to the character.
 	 */
-	public class LanguageListener implements DataFacetChangeListener<CharID, Language>
+	public class LanguageListener implements DataFacetBatchListener<CharID, Language>
 	{
 		@Override
-		public void dataAdded(DataFacetChangeEvent<CharID, Language> dfce)
+		public void dataChanged(DataFacetBatchEvent<CharID, Language> batch)
 		{
-			if (dfce.getCharID() != theCharacter.getCharID())
+			if (batch.getCharID() != theCharacter.getCharID())
 			{
 				return;
 			}
 			refreshLanguageList();
 		}
-
-		@Override
-		public void dataRemoved(DataFacetChangeEvent<CharID, Language> dfce)
-		{
-			if (dfce.getCharID() != theCharacter.getCharID())
-			{
-				return;
-			}
-			refreshLanguageList();
-		}
-
 	}
 
 	/**
 	 * The Class {@code TemplateListener} tracks adding and removal of
 	 * templates to the character.
 	 */
-	public class TemplateListener implements DataFacetChangeListener<CharID, PCTemplate>
+	public class TemplateListener implements DataFacetBatchListener<CharID, PCTemplate>
 	{
 		@Override
-		public void dataAdded(DataFacetChangeEvent<CharID, PCTemplate> dfce)
+		public void dataChanged(DataFacetBatchEvent<CharID, PCTemplate> batch)
 		{
-			if (dfce.getCharID() != theCharacter.getCharID())
+			if (batch.getCharID() != theCharacter.getCharID())
 			{
 				return;
 			}
 			refreshTemplates();
 		}
-
-		@Override
-		public void dataRemoved(DataFacetChangeEvent<CharID, PCTemplate> dfce)
-		{
-			if (dfce.getCharID() != theCharacter.getCharID())
-			{
-				return;
-			}
-			refreshTemplates();
-		}
-
 	}
 
 	/**
@@ -4053,28 +4035,17 @@ public class CharacterFacadeImpl
 	 * The Class {@code AutoEquipListener} tracks changes to the character's 
 	 * automatically granted equipment.
 	 */
-	public class AutoEquipListener implements DataFacetChangeListener<CharID, QualifiedObject<CDOMReference<Equipment>>>
+	public class AutoEquipListener implements DataFacetBatchListener<CharID, QualifiedObject<CDOMReference<Equipment>>>
 	{
 		@Override
-		public void dataAdded(DataFacetChangeEvent<CharID, QualifiedObject<CDOMReference<Equipment>>> dfce)
-		{
-			if (dfce.getCharID() != theCharacter.getCharID())
-			{
-				return;
-			}
-			refreshEquipment();
-		}
-
-		@Override
-		public void dataRemoved(DataFacetChangeEvent<CharID, QualifiedObject<CDOMReference<Equipment>>> dfce)
+		public void dataChanged(DataFacetBatchEvent<CharID, QualifiedObject<CDOMReference<Equipment>>> batch)
 		{
-			if (dfce.getCharID() != theCharacter.getCharID())
+			if (batch.getCharID() != theCharacter.getCharID())
 			{
 				return;
 			}
 			refreshEquipment();
 		}
-
 	}
 
 	@Override
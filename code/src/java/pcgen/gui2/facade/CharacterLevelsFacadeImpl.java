@@ -104,7 +104,7 @@ public class CharacterLevelsFacadeImpl extends AbstractListFacade<CharacterLevel
 	void closeCharacter()
 	{
 		SkillFacet skillFacet = FacetLibrary.getFacet(SkillFacet.class);
-		skillFacet.removeDataFacetChangeListener(this);
+		skillFacet.removeDataFacetChangeListener(charID, this);
 		BonusChangeFacet bcf = FacetLibrary.getFacet(BonusChangeFacet.class);
 		for (Skill skillFacade : dataSetFacade.getSkills())
 		{
@@ -126,7 +126,7 @@ public class CharacterLevelsFacadeImpl extends AbstractListFacade<CharacterLevel
 
 		charID = theCharacter.getCharID();
 		SkillFacet skillFacet = FacetLibrary.getFacet(SkillFacet.class);
-		skillFacet.addDataFacetChangeListener(this);
+		skillFacet.addDataFacetChangeListener(charID, this);
 		BonusChangeFacet bcf = FacetLibrary.getFacet(BonusChangeFacet.class);
 		for (Skill skillFacade : dataSetFacade.getSkills())
 		{
@@ -19,6 +19,7 @@ package pcgen.gui2.facade;
 
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import pcgen.base.lang.StringUtil;
@@ -35,8 +36,10 @@ import pcgen.core.Campaign;
 import pcgen.core.prereq.PrerequisiteUtilities;
 import pcgen.facade.core.CampaignInfoFactory;
 import pcgen.facade.core.SourceSelectionFacade;
+import pcgen.facade.util.ListFacades;
 import pcgen.gui2.util.HtmlInfoBuilder;
 import pcgen.gui3.utilty.ColorUtilty;
+import pcgen.persistence.CampaignFileLoader;
 import pcgen.persistence.PersistenceManager;
 import pcgen.persistence.lst.CampaignSourceEntry;
 import pcgen.system.LanguageBundle;
@@ -81,6 +84,7 @@ public class Gui2CampaignInfoFactory implements CampaignInfoFactory
 		{
 			return "";
 		}
+		CampaignFileLoader.loadIndexedCampaigns(Collections.singletonList(campaign));
 		final HtmlInfoBuilder infoText = new HtmlInfoBuilder(campaign.getDisplayName());
 		appendCampaignInfo(campaign, infoText);
 
@@ -234,6 +238,7 @@ public class Gui2CampaignInfoFactory implements CampaignInfoFactory
 		}
 
 		final HtmlInfoBuilder infoText = new HtmlInfoBuilder(selection.toString());
+		CampaignFileLoader.loadIndexedCampaigns(ListFacades.wrap(selection.getCampaigns()));
 		for (Campaign campaign : selection.getCampaigns())
 		{
 			if (campaign == null)
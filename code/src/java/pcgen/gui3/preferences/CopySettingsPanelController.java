@@ -85,6 +85,7 @@ public final class CopySettingsPanelController implements ResettableController
 	{
 		GameMode gmFrom = gameModeSelect.getSelectionModel().getSelectedItem();
 		GameMode gmTo = SettingsHandler.getGameAsProperty().get();
+		Objects.requireNonNull(gmFrom).loadDefinition();
 
 		// Copy the settings from one mode to the other
 		gmTo.setAllStatsValue(Objects.requireNonNull(gmFrom).getAllStatsValue());
@@ -40,6 +40,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import pcgen.cdom.base.CDOMObject;
@@ -108,14 +109,17 @@ public abstract class ExportHandler
 	/** A constant stating that we are using JEP parsing */
 	private static final Float JEP_TRUE = 1.0f;
 
-	/** A map of output tokens to export */
-	private static final Map<String, Token> TOKEN_MAP = new HashMap<>();
+	/**
+	 * A map of output tokens to export. This is read by every thread that
+	 * exports a character, so it must be safe for concurrent use.
+	 */
+	private static final Map<String, Token> TOKEN_MAP = new ConcurrentHashMap<>();
 
 	/** 
 	 * A variable to hold the state of whether or not the output token map to
 	 * be exported is populated or not. 
 	 */
-	private static boolean tokenMapPopulated;
+	private static volatile boolean tokenMapPopulated;
 
 	// Processing state variables
 
@@ -1461,8 +1465,16 @@ public abstract class ExportHandler
 	 */
 	private static void populateTokenMap()
 	{
-		if (!tokenMapPopulated)
+		if (tokenMapPopulated)
+		{
+			return;
+		}
+		synchronized (TOKEN_MAP)
 		{
+			if (tokenMapPopulated)
+			{
+				return;
+			}
 			addToTokenMap(new AbilityToken());
 			addToTokenMap(new AbilityListToken());
 			addToTokenMap(new BonusToken());
@@ -3467,6 +3479,10 @@ public abstract class ExportHandler
 
 	public static void clear()
 	{
-		TOKEN_MAP.clear();
+		synchronized (TOKEN_MAP)
+		{
+			TOKEN_MAP.clear();
+			tokenMapPopulated = false;
+		}
 	}
 }
@@ -45,6 +45,7 @@ import pcgen.cdom.base.Constants;
 import pcgen.cdom.content.CNAbility;
 import pcgen.cdom.enumeration.Nature;
 import pcgen.cdom.enumeration.ObjectKey;
+import pcgen.cdom.facet.base.FacetTransaction;
 import pcgen.cdom.inst.PCClassLevel;
 import pcgen.core.AbilityCategory;
 import pcgen.core.Campaign;
@@ -139,6 +140,7 @@ public final class PCGIOHandler extends IOHandler
 		if (isPCGVersion2)
 		{
 			final PCGParser parser = new PCGVer2Parser(pcToBeRead);
+			FacetTransaction.begin(pcToBeRead.getCharID());
 			try
 			{
 				// parse it all
@@ -150,6 +152,10 @@ public final class PCGIOHandler extends IOHandler
 					+ " was unable to parse line " + pcgex.getLine());
 				errors.add(LanguageBundle.getFormattedString("in_pcgIoErrorReport", pcgex.getMessage())); //$NON-NLS-1$
 			}
+			finally
+			{
+				FacetTransaction.commit(pcToBeRead.getCharID());
+			}
 
 			warnings.addAll(parser.getWarnings());
 
@@ -21,22 +21,37 @@ package pcgen.persistence;
 import java.io.File;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedList;
-
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
 import pcgen.core.Campaign;
 import pcgen.core.Globals;
 import pcgen.persistence.lst.CampaignLoader;
+import pcgen.persistence.lst.LstFileLoader;
 import pcgen.system.ConfigurationSettings;
 import pcgen.system.LanguageBundle;
 import pcgen.system.PCGenSettings;
 import pcgen.system.PCGenTask;
+import pcgen.util.LoadWorkerPool;
 import pcgen.util.Logging;
 
 public class CampaignFileLoader extends PCGenTask
 {
+	/** The name of the campaign index file in the settings directory. */
+	private static final String CAMPAIGN_INDEX_FILE = "campaignIndex.dat"; //$NON-NLS-1$
+
 	private File alternateSourceFolder = null;
 
+	/** The campaign files found by the file finder task, if it has been run. */
+	private List<URI> campaignFiles = null;
+
 	@Override
 	public String getMessage()
 	{
@@ -47,23 +62,56 @@ public class CampaignFileLoader extends PCGenTask
 	public void run()
 	{
 		// Load the initial campaigns
+		List<URI> files = campaignFiles;
+		campaignFiles = null;
+		if (files == null)
+		{
+			files = findCampaignFiles();
+		}
+		setMaximum(files.size());
+		CampaignIndex index = null;
+		if (PCGenSettings.OPTIONS_CONTEXT.initBoolean(PCGenSettings.OPTION_CAMPAIGN_INDEX, false))
+		{
+			index = CampaignIndex.load(new File(ConfigurationSettings.getSettingsDir(), CAMPAIGN_INDEX_FILE));
+		}
+		loadCampaigns(files, index);
+		CampaignFileLoader.initCampaigns(index);
+		if (index != null)
+		{
+			index.save();
+		}
+	}
+
+	/**
+	 * Creates a task that finds the campaign PCC files for this loader. Finding
+	 * the files needs neither the plugins nor the game modes, so the task can
+	 * be run while those load; this loader then uses the files it found. If the
+	 * task is not run, the files are found when this loader is run.
+	 *
+	 * @return The task that finds the campaign files.
+	 */
+	public PCGenTask createFileFinderTask()
+	{
+		return new CampaignFileFinder();
+	}
+
+	private List<URI> findCampaignFiles()
+	{
 		RecursiveFileFinder recursiveFileFinder = new RecursiveFileFinder();
-		final List<URI> campaignFiles = new LinkedList<>();
+		final List<URI> files = new LinkedList<>();
 		if (alternateSourceFolder != null)
 		{
-			recursiveFileFinder.findFiles(alternateSourceFolder, campaignFiles);
+			recursiveFileFinder.findFiles(alternateSourceFolder, files);
 		}
 		else
 		{
-			recursiveFileFinder.findFiles(new File(ConfigurationSettings.getPccFilesDir()), campaignFiles);
+			recursiveFileFinder.findFiles(new File(ConfigurationSettings.getPccFilesDir()), files);
 			final String vendorDataDir = PCGenSettings.getVendorDataDir();
-            recursiveFileFinder.findFiles(new File(vendorDataDir), campaignFiles);
+            recursiveFileFinder.findFiles(new File(vendorDataDir), files);
             final String homebrewDataDir = PCGenSettings.getHomebrewDataDir();
-            recursiveFileFinder.findFiles(new File(homebrewDataDir), campaignFiles);
+            recursiveFileFinder.findFiles(new File(homebrewDataDir), files);
         }
-		setMaximum(campaignFiles.size());
-		loadCampaigns(campaignFiles);
-		CampaignFileLoader.initCampaigns();
+		return files;
 	}
 
 	/**
@@ -71,38 +119,135 @@ public class CampaignFileLoader extends PCGenTask
 	 * {@link #campaignFiles campaignFiles} to a {@link pcgen.persistence.lst.CampaignLoader CampaignLoader},
 	 * which will load the data within into the {@link pcgen.rules.context.LoadContext LoadContext}
 	 * of the {@link pcgen.core.Campaign Campaign}.
+	 *
+	 * If a CampaignIndex is given, the campaigns in PCC files that have not
+	 * changed since they were indexed are restored from the index first; only
+	 * the other PCC files are parsed.
+	 *
+	 * If parallel source loading is enabled, the PCC files are read ahead on
+	 * the load worker pool; the campaigns are still parsed and registered in
+	 * the order of campaignFiles on this thread.
 	 * @param campaignFiles
+	 * @param index The CampaignIndex to restore campaigns from, or null
 	 */
-	private void loadCampaigns(List<URI> campaignFiles)
+	private void loadCampaigns(List<URI> campaignFiles, CampaignIndex index)
 	{
 		int progress = 0;
 		CampaignLoader campaignLoader = new CampaignLoader();
-		for (URI uri : campaignFiles)
+		List<URI> unindexedFiles = campaignFiles;
+		if (index != null)
 		{
-			// Do not load campaign if already loaded
-			if (Globals.getCampaignByURI(uri, false) == null)
+			campaignLoader.setCampaignIndex(index);
+			unindexedFiles = new ArrayList<>();
+			for (URI uri : campaignFiles)
 			{
-				try
+				if ((Globals.getCampaignByURI(uri, false) == null) && !campaignLoader.restoreCampaign(uri))
 				{
-					// Pass this URI to campaign loader
-					campaignLoader.loadCampaignLstFile(uri);
+					unindexedFiles.add(uri);
+					continue;
 				}
-				catch (PersistenceLayerException ex)
+				setProgress(progress++);
+			}
+		}
+		Map<URI, Future<String>> prefetched = Collections.emptyMap();
+		if (PCGenSettings.OPTIONS_CONTEXT.initBoolean(PCGenSettings.OPTION_PARALLEL_SOURCE_LOAD, false))
+		{
+			prefetched = prefetchCampaigns(unindexedFiles);
+		}
+		try
+		{
+			for (URI uri : unindexedFiles)
+			{
+				// Do not load campaign if already loaded
+				if (Globals.getCampaignByURI(uri, false) == null)
 				{
-					// LATER: This is not an appropriate way to deal with this exception.
-					// Deal with it this way because of the way the loading takes place.  XXX
-					Logging.errorPrint("PersistanceLayer", ex);
+					try
+					{
+						Future<String> future = prefetched.get(uri);
+						if (future != null)
+						{
+							loadPrefetchedCampaign(campaignLoader, uri, future);
+						}
+						else
+						{
+							// Pass this URI to campaign loader
+							campaignLoader.loadCampaignLstFile(uri);
+						}
+					}
+					catch (PersistenceLayerException ex)
+					{
+						// LATER: This is not an appropriate way to deal with this exception.
+						// Deal with it this way because of the way the loading takes place.  XXX
+						Logging.errorPrint("PersistanceLayer", ex);
+					}
 				}
+				setProgress(progress++);
+			}
+		}
+		finally
+		{
+			for (Future<String> future : prefetched.values())
+			{
+				future.cancel(false);
+			}
+		}
+	}
+
+	/**
+	 * Submits reads of the given campaign files to the load worker pool,
+	 * skipping any that are already loaded.
+	 *
+	 * @return The pending reads, keyed by the URI of the campaign file
+	 */
+	private static Map<URI, Future<String>> prefetchCampaigns(List<URI> campaignFiles)
+	{
+		ExecutorService executor = LoadWorkerPool.getExecutor();
+		Map<URI, Future<String>> prefetched = new HashMap<>();
+		for (URI uri : campaignFiles)
+		{
+			if ((Globals.getCampaignByURI(uri, false) != null) || prefetched.containsKey(uri))
+			{
+				continue;
 			}
-			setProgress(progress++);
+			prefetched.put(uri, executor.submit(() -> LstFileLoader.readFromURI(uri)));
 		}
+		return prefetched;
+	}
+
+	/**
+	 * Loads the given campaign file from the contents read on the load worker
+	 * pool.
+	 */
+	private static void loadPrefetchedCampaign(CampaignLoader campaignLoader, URI uri, Future<String> future)
+		throws PersistenceLayerException
+	{
+		String contents;
+		try
+		{
+			contents = future.get();
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new PersistenceLayerException("Interrupted while reading " + uri, e);
+		}
+		catch (ExecutionException e)
+		{
+			throw new PersistenceLayerException("Unable to read " + uri, e.getCause());
+		}
+		if (contents == null)
+		{
+			throw new PersistenceLayerException("Unable to read " + uri);
+		}
+		campaignLoader.loadCampaignLstFile(uri, contents);
 	}
 
 	/**
 	 * Goes through the campaigns in {@link #campaignFiles campaignFiles} and loads
 	 * data associated with dependent campaigns.
+	 * @param index The CampaignIndex to restore campaigns from, or null
 	 */
-	private static void initCampaigns()
+	private static void initCampaigns(CampaignIndex index)
 	{
 		// This may modify the globals list; need a local copy so
 		// the iteration doesn't fail.
@@ -110,12 +255,29 @@ public class CampaignFileLoader extends PCGenTask
 		Iterable<Campaign> initialCampaigns = new ArrayList<>(Globals.getCampaignList());
 
 		CampaignLoader campaignLoader = new CampaignLoader();
+		campaignLoader.setCampaignIndex(index);
 		for (final Campaign c : initialCampaigns)
 		{
 			campaignLoader.initRecursivePccFiles(c);
 		}
 	}
 
+	/**
+	 * Reads the given campaigns in full if they were restored from the campaign
+	 * index, which only holds the fields needed to list them for source
+	 * selection. This must be called before anything else about a campaign
+	 * (such as its files, licenses or description) is used.
+	 *
+	 * @param campaigns The campaigns that are to be used
+	 */
+	public static synchronized void loadIndexedCampaigns(Collection<Campaign> campaigns)
+	{
+		if (campaigns.stream().anyMatch(c -> (c != null) && c.isIndexed()))
+		{
+			new CampaignLoader().loadIndexedCampaigns(campaigns);
+		}
+	}
+
 	/**
 	 * @param alternateSourceFolder the alternateSourceFolder to set
 	 */
@@ -124,4 +286,18 @@ public class CampaignFileLoader extends PCGenTask
 		this.alternateSourceFolder = alternateSourceFolder;
 	}
 
+	private final class CampaignFileFinder extends PCGenTask
+	{
+		@Override
+		public String getMessage()
+		{
+			return LanguageBundle.getString("in_taskLoadCampaigns"); //$NON-NLS-1$
+		}
+
+		@Override
+		public void run()
+		{
+			campaignFiles = findCampaignFiles();
+		}
+	}
 }
@@ -0,0 +1,419 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.persistence;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import pcgen.cdom.enumeration.IntegerKey;
+import pcgen.cdom.enumeration.ListKey;
+import pcgen.cdom.enumeration.ObjectKey;
+import pcgen.cdom.enumeration.Status;
+import pcgen.cdom.enumeration.StringKey;
+import pcgen.core.Campaign;
+import pcgen.core.prereq.Prerequisite;
+import pcgen.persistence.lst.CampaignSourceEntry;
+import pcgen.persistence.lst.output.prereq.PrerequisiteWriter;
+import pcgen.persistence.lst.prereq.PreParserFactory;
+import pcgen.util.Logging;
+
+/**
+ * CampaignIndex is a persistent index of the campaign (.pcc) files found at
+ * startup, keyed by the URI, size and last modified time of each file.
+ *
+ * For each file, the index holds the fields of the campaign that are needed to
+ * list it for source selection: its name and key, game modes, book types,
+ * status, publisher, format and setting, rank, whether it is shown in the
+ * menu, its prerequisites and the campaign files it includes. When a .pcc
+ * file has not changed since it was indexed, a Campaign with only those
+ * fields is restored from the index instead of parsing the file; the file is
+ * parsed in full when the campaign is first needed (see
+ * CampaignFileLoader.loadIndexedCampaigns). New and changed files are parsed
+ * and added to the index. Entries for files that were not seen during a run
+ * are dropped when the index is saved.
+ *
+ * The index is a cache only: if it is missing, unreadable or from a different
+ * version, it is ignored and rebuilt.
+ */
+public final class CampaignIndex
+{
+	private static final int MAGIC = 0x50434349; // "PCCI"
+	private static final int VERSION = 2;
+
+	private final File indexFile;
+	private final Map<URI, Entry> entries = new HashMap<>();
+	private final Set<URI> seen = new HashSet<>();
+	private boolean dirty = false;
+
+	private CampaignIndex(File indexFile)
+	{
+		this.indexFile = indexFile;
+	}
+
+	/**
+	 * Loads the CampaignIndex stored in the given file. If the file does not
+	 * exist or cannot be read, an empty CampaignIndex is returned.
+	 *
+	 * @param indexFile
+	 *            The file in which the CampaignIndex is stored
+	 * @return The CampaignIndex stored in the given file
+	 */
+	public static CampaignIndex load(File indexFile)
+	{
+		CampaignIndex index = new CampaignIndex(indexFile);
+		if (!indexFile.isFile())
+		{
+			return index;
+		}
+		try (DataInputStream in =
+				new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile))))
+		{
+			if ((in.readInt() != MAGIC) || (in.readInt() != VERSION))
+			{
+				Logging.debugPrint("Ignoring campaign index " + indexFile + " from a different version");
+				index.dirty = true;
+				return index;
+			}
+			int count = in.readInt();
+			for (int i = 0; i < count; i++)
+			{
+				URI uri = new URI(in.readUTF());
+				index.entries.put(uri, Entry.read(in));
+			}
+		}
+		catch (IOException | URISyntaxException | RuntimeException e)
+		{
+			Logging.log(Logging.WARNING, "Unable to read campaign index " + indexFile + ", it will be rebuilt", e);
+			index.entries.clear();
+			index.dirty = true;
+		}
+		return index;
+	}
+
+	/**
+	 * Restores the campaign in the given campaign file from the index, if the
+	 * file is unchanged since it was indexed. The returned Campaign only holds
+	 * the indexed fields, and is marked as indexed.
+	 *
+	 * @param campaignFile
+	 *            The URI of the campaign file
+	 * @return The campaign restored from the index, or null if the campaign
+	 *         file must be parsed
+	 */
+	public Campaign restore(URI campaignFile)
+	{
+		seen.add(campaignFile);
+		Entry entry = entries.get(campaignFile);
+		if ((entry == null) || !entry.isCurrent(campaignFile))
+		{
+			return null;
+		}
+		try
+		{
+			return entry.restore(campaignFile);
+		}
+		catch (PersistenceLayerException e)
+		{
+			Logging.debugPrint("Unable to restore " + campaignFile + " from the campaign index", e);
+			entries.remove(campaignFile);
+			dirty = true;
+			return null;
+		}
+	}
+
+	/**
+	 * Stores the indexed fields of the given campaign, which has just been
+	 * parsed, in the index, along with the current size and last modified
+	 * time of its file. Campaigns that were not read from a local file are not
+	 * indexed.
+	 *
+	 * @param campaign
+	 *            The campaign that has been parsed
+	 */
+	public void put(Campaign campaign)
+	{
+		URI campaignFile = campaign.getSourceURI();
+		if ((campaignFile == null) || !"file".equals(campaignFile.getScheme()))
+		{
+			return;
+		}
+		seen.add(campaignFile);
+		try
+		{
+			entries.put(campaignFile, Entry.of(campaign, new File(campaignFile)));
+		}
+		catch (PersistenceLayerException e)
+		{
+			Logging.debugPrint("Unable to index " + campaignFile, e);
+			entries.remove(campaignFile);
+		}
+		dirty = true;
+	}
+
+	/**
+	 * Saves the index, if it has changed, dropping the entries for any
+	 * campaign files that were not requested since the index was loaded.
+	 */
+	public void save()
+	{
+		if (entries.keySet().retainAll(seen))
+		{
+			dirty = true;
+		}
+		if (!dirty)
+		{
+			return;
+		}
+		File parent = indexFile.getAbsoluteFile().getParentFile();
+		try
+		{
+			if (parent != null)
+			{
+				Files.createDirectories(parent.toPath());
+			}
+			File tempFile = new File(indexFile.getPath() + ".tmp");
+			try (DataOutputStream out =
+					new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile))))
+			{
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				out.writeInt(entries.size());
+				for (Map.Entry<URI, Entry> me : entries.entrySet())
+				{
+					out.writeUTF(me.getKey().toString());
+					me.getValue().write(out);
+				}
+			}
+			Files.move(tempFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			dirty = false;
+		}
+		catch (IOException e)
+		{
+			Logging.log(Logging.WARNING, "Unable to write campaign index " + indexFile, e);
+		}
+	}
+
+	private static String readNullable(DataInputStream in) throws IOException
+	{
+		return in.readBoolean() ? in.readUTF() : null;
+	}
+
+	private static void writeNullable(DataOutputStream out, String value) throws IOException
+	{
+		out.writeBoolean(value != null);
+		if (value != null)
+		{
+			out.writeUTF(value);
+		}
+	}
+
+	private static List<String> readList(DataInputStream in) throws IOException
+	{
+		int size = in.readInt();
+		List<String> list = new ArrayList<>(size);
+		for (int i = 0; i < size; i++)
+		{
+			list.add(in.readUTF());
+		}
+		return list;
+	}
+
+	private static void writeList(DataOutputStream out, List<String> list) throws IOException
+	{
+		out.writeInt(list.size());
+		for (String value : list)
+		{
+			out.writeUTF(value);
+		}
+	}
+
+	/**
+	 * The indexed fields of a single campaign file.
+	 */
+	private static final class Entry
+	{
+		private final long length;
+		private final long lastModified;
+		private final String name;
+		private final String keyName;
+		private final String producer;
+		private final String format;
+		private final String setting;
+		private final String status;
+		private final String showInMenu;
+		private final String rank;
+		private final List<String> gameModes;
+		private final List<String> bookTypes;
+		private final List<String> includedFiles;
+		private final List<String> prerequisites;
+
+		private Entry(long length, long lastModified, String[] fields, List<String> gameModes,
+			List<String> bookTypes, List<String> includedFiles, List<String> prerequisites)
+		{
+			this.length = length;
+			this.lastModified = lastModified;
+			this.name = fields[0];
+			this.keyName = fields[1];
+			this.producer = fields[2];
+			this.format = fields[3];
+			this.setting = fields[4];
+			this.status = fields[5];
+			this.showInMenu = fields[6];
+			this.rank = fields[7];
+			this.gameModes = gameModes;
+			this.bookTypes = bookTypes;
+			this.includedFiles = includedFiles;
+			this.prerequisites = prerequisites;
+		}
+
+		private static Entry of(Campaign campaign, File file) throws PersistenceLayerException
+		{
+			Status status = campaign.get(ObjectKey.STATUS);
+			Boolean showInMenu = campaign.get(ObjectKey.SHOW_IN_MENU);
+			Integer rank = campaign.get(IntegerKey.CAMPAIGN_RANK);
+			String[] fields = {campaign.getDisplayName(), campaign.get(StringKey.KEY_NAME),
+				campaign.get(StringKey.DATA_PRODUCER), campaign.get(StringKey.DATA_FORMAT),
+				campaign.get(StringKey.CAMPAIGN_SETTING), (status == null) ? null : status.name(),
+				(showInMenu == null) ? null : showInMenu.toString(), (rank == null) ? null : rank.toString()};
+			List<String> includedFiles = new ArrayList<>();
+			for (CampaignSourceEntry cse : campaign.getSafeListFor(ListKey.FILE_PCC))
+			{
+				includedFiles.add(cse.getURI().toString());
+			}
+			List<String> prerequisites = new ArrayList<>();
+			PrerequisiteWriter prereqWriter = new PrerequisiteWriter();
+			for (Prerequisite prereq : campaign.getPrerequisiteList())
+			{
+				StringWriter writer = new StringWriter();
+				prereqWriter.write(writer, prereq);
+				prerequisites.add(writer.toString());
+			}
+			return new Entry(file.length(), file.lastModified(), fields,
+				new ArrayList<>(campaign.getSafeListFor(ListKey.GAME_MODE)),
+				new ArrayList<>(campaign.getSafeListFor(ListKey.BOOK_TYPE)), includedFiles, prerequisites);
+		}
+
+		private boolean isCurrent(URI campaignFile)
+		{
+			File file = new File(campaignFile);
+			return (length == file.length()) && (lastModified == file.lastModified());
+		}
+
+		private Campaign restore(URI campaignFile) throws PersistenceLayerException
+		{
+			Campaign campaign = new Campaign();
+			campaign.setSourceURI(campaignFile);
+			campaign.setDisplayName(name);
+			if (keyName != null)
+			{
+				campaign.put(StringKey.KEY_NAME, keyName);
+			}
+			if (producer != null)
+			{
+				campaign.put(StringKey.DATA_PRODUCER, producer);
+			}
+			if (format != null)
+			{
+				campaign.put(StringKey.DATA_FORMAT, format);
+			}
+			if (setting != null)
+			{
+				campaign.put(StringKey.CAMPAIGN_SETTING, setting);
+			}
+			try
+			{
+				if (status != null)
+				{
+					campaign.put(ObjectKey.STATUS, Status.valueOf(status));
+				}
+				if (rank != null)
+				{
+					campaign.put(IntegerKey.CAMPAIGN_RANK, Integer.valueOf(rank));
+				}
+				for (String included : includedFiles)
+				{
+					campaign.addToListFor(ListKey.FILE_PCC, new CampaignSourceEntry(campaign, new URI(included)));
+				}
+			}
+			catch (IllegalArgumentException | URISyntaxException e)
+			{
+				throw new PersistenceLayerException(e.getMessage(), e);
+			}
+			if (showInMenu != null)
+			{
+				campaign.put(ObjectKey.SHOW_IN_MENU, Boolean.valueOf(showInMenu));
+			}
+			gameModes.forEach(mode -> campaign.addToListFor(ListKey.GAME_MODE, mode));
+			bookTypes.forEach(type -> campaign.addToListFor(ListKey.BOOK_TYPE, type));
+			if (!prerequisites.isEmpty())
+			{
+				PreParserFactory parser = PreParserFactory.getInstance();
+				for (String prereq : prerequisites)
+				{
+					campaign.addPrerequisite(parser.parse(prereq));
+				}
+			}
+			campaign.setIndexed(true);
+			return campaign;
+		}
+
+		private static Entry read(DataInputStream in) throws IOException
+		{
+			long length = in.readLong();
+			long lastModified = in.readLong();
+			String[] fields = new String[8];
+			fields[0] = in.readUTF();
+			for (int i = 1; i < fields.length; i++)
+			{
+				fields[i] = readNullable(in);
+			}
+			return new Entry(length, lastModified, fields, readList(in), readList(in), readList(in),
+				readList(in));
+		}
+
+		private void write(DataOutputStream out) throws IOException
+		{
+			out.writeLong(length);
+			out.writeLong(lastModified);
+			out.writeUTF(name);
+			for (String field : new String[]{keyName, producer, format, setting, status, showInMenu, rank})
+			{
+				writeNullable(out, field);
+			}
+			writeList(out, gameModes);
+			writeList(out, bookTypes);
+			writeList(out, includedFiles);
+			writeList(out, prerequisites);
+		}
+	}
+}
@@ -0,0 +1,242 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.persistence;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
+
+import pcgen.core.DataSet;
+import pcgen.core.GameMode;
+import pcgen.rules.context.ConsolidatedListCommitStrategy;
+import pcgen.rules.context.LoadContext;
+import pcgen.system.PCGenSettings;
+import pcgen.util.Logging;
+
+/**
+ * DataSetRegistry keeps loaded data sets resident, so that a later load of the
+ * same game mode and campaigns can switch back to the loaded data instead of
+ * reading the sources again. This is of most use to batch export, where each
+ * character may need a different set of sources.
+ *
+ * Data sets are keyed by SourceFingerprint.getDatasetKey. The registry holds
+ * at most the number of data sets given by the residentDatasets option (and
+ * is disabled when that is 0, the default). When a data set is registered
+ * while the heap is more than three quarters full, the least recently used
+ * data set is also evicted; the most recent data set is always kept.
+ *
+ * Only one data set is active at a time: activating a data set makes its
+ * LoadContext the current one of its GameMode, which is what
+ * Globals.getContext() returns. Characters should be processed with the
+ * DataSet returned by activate or passed to register.
+ */
+public final class DataSetRegistry
+{
+	/**
+	 * The fraction of the maximum heap above which resident data sets are
+	 * evicted.
+	 */
+	private static final double MAX_HEAP_FRACTION = 0.75;
+
+	private static final DataSetRegistry INSTANCE =
+			new DataSetRegistry(DataSetRegistry::getMaximumSize, DataSetRegistry::isHeapFull);
+
+	/**
+	 * The resident data sets, least recently used first.
+	 */
+	private final Map<String, ResidentDataSet> datasets = new LinkedHashMap<>(16, 0.75f, true);
+
+	private final IntSupplier maximumSize;
+
+	private final BooleanSupplier memoryLow;
+
+	DataSetRegistry(IntSupplier maximumSize, BooleanSupplier memoryLow)
+	{
+		this.maximumSize = maximumSize;
+		this.memoryLow = memoryLow;
+	}
+
+	/**
+	 * @return The DataSetRegistry used by PCGen
+	 */
+	public static DataSetRegistry getInstance()
+	{
+		return INSTANCE;
+	}
+
+	/**
+	 * Returns true if loaded data sets are to be kept resident, as set by the
+	 * residentDatasets option.
+	 *
+	 * @return true if loaded data sets are to be kept resident
+	 */
+	public static boolean isEnabled()
+	{
+		return getMaximumSize() > 0;
+	}
+
+	private static int getMaximumSize()
+	{
+		return Math.max(0, PCGenSettings.OPTIONS_CONTEXT.initInt(PCGenSettings.OPTION_RESIDENT_DATASETS, 0));
+	}
+
+	private static boolean isHeapFull()
+	{
+		Runtime runtime = Runtime.getRuntime();
+		long used = runtime.totalMemory() - runtime.freeMemory();
+		return used > runtime.maxMemory() * MAX_HEAP_FRACTION;
+	}
+
+	/**
+	 * Makes the resident data set with the given key the active one. A data
+	 * set whose source files have changed since it was loaded is dropped
+	 * rather than activated.
+	 *
+	 * @param datasetKey
+	 *            The key of the game mode and campaigns to be activated
+	 * @return The resident data set, or null if the data set must be loaded
+	 */
+	public synchronized ResidentDataSet activate(String datasetKey)
+	{
+		ResidentDataSet resident = datasets.get(datasetKey);
+		if (resident == null)
+		{
+			return null;
+		}
+		if (!resident.getSourceFingerprint().getChangedFiles().isEmpty())
+		{
+			Logging.log(Logging.INFO, "Sources changed, reloading data set " + datasetKey);
+			datasets.remove(datasetKey);
+			return null;
+		}
+		GameMode gameMode = resident.getDataSet().getGameMode();
+		gameMode.restoreLoadContext(resident.getContext(), resident.masterLists);
+		return resident;
+	}
+
+	/**
+	 * Keeps a newly loaded data set resident, evicting the least recently used
+	 * data sets to stay within the size and memory limits. The data set must
+	 * be the one most recently loaded for its GameMode, as its LoadContext is
+	 * taken from the GameMode.
+	 *
+	 * @param dataset
+	 *            The loaded data set
+	 * @param sourceFingerprint
+	 *            The SourceFingerprint of the loaded data set
+	 */
+	public synchronized void register(DataSet dataset, SourceFingerprint sourceFingerprint)
+	{
+		int limit = maximumSize.getAsInt();
+		if (limit <= 0)
+		{
+			return;
+		}
+		GameMode gameMode = dataset.getGameMode();
+		ResidentDataSet resident = new ResidentDataSet(dataset, sourceFingerprint, gameMode.getContext(),
+			gameMode.getMasterListCommitStrategy());
+		String key = sourceFingerprint.getDatasetKey();
+		datasets.remove(key);
+		datasets.put(key, resident);
+
+		while (datasets.size() > limit)
+		{
+			evictEldest();
+		}
+		/*
+		 * The memory of an evicted data set is only reclaimed by a later
+		 * collection, so evict no more than one data set for memory each time.
+		 */
+		if ((datasets.size() > 1) && memoryLow.getAsBoolean())
+		{
+			evictEldest();
+		}
+	}
+
+	private void evictEldest()
+	{
+		Iterator<String> eldest = datasets.keySet().iterator();
+		String evicted = eldest.next();
+		eldest.remove();
+		Logging.debugPrint("Evicted resident data set " + evicted);
+	}
+
+	/**
+	 * Returns the keys of the resident data sets, least recently used first.
+	 *
+	 * @return The keys of the resident data sets
+	 */
+	public synchronized List<String> getDatasetKeys()
+	{
+		return new ArrayList<>(datasets.keySet());
+	}
+
+	/**
+	 * Drops all of the resident data sets.
+	 */
+	public synchronized void clear()
+	{
+		datasets.clear();
+	}
+
+	/**
+	 * A loaded data set, along with the LoadContext it was loaded into.
+	 */
+	public static final class ResidentDataSet
+	{
+		private final DataSet dataset;
+		private final SourceFingerprint sourceFingerprint;
+		private final LoadContext context;
+		private final ConsolidatedListCommitStrategy masterLists;
+
+		private ResidentDataSet(DataSet dataset, SourceFingerprint sourceFingerprint, LoadContext context,
+			ConsolidatedListCommitStrategy masterLists)
+		{
+			this.dataset = dataset;
+			this.sourceFingerprint = sourceFingerprint;
+			this.context = context;
+			this.masterLists = masterLists;
+		}
+
+		/**
+		 * @return The loaded data set
+		 */
+		public DataSet getDataSet()
+		{
+			return dataset;
+		}
+
+		/**
+		 * @return The SourceFingerprint of the loaded data set
+		 */
+		public SourceFingerprint getSourceFingerprint()
+		{
+			return sourceFingerprint;
+		}
+
+		/**
+		 * @return The LoadContext the data set was loaded into
+		 */
+		public LoadContext getContext()
+		{
+			return context;
+		}
+	}
+}
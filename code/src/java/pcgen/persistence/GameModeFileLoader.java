@@ -20,6 +20,7 @@ package pcgen.persistence;
 import java.io.File;
 import java.io.FilenameFilter;
 import java.net.URI;
+import java.util.List;
 
 import pcgen.cdom.base.Constants;
 import pcgen.cdom.content.TabInfo;
@@ -51,6 +52,7 @@ import pcgen.rules.context.LoadContext;
 import pcgen.rules.persistence.CodeControlLoader;
 import pcgen.system.ConfigurationSettings;
 import pcgen.system.LanguageBundle;
+import pcgen.system.PCGenSettings;
 import pcgen.system.PCGenTask;
 import pcgen.util.Logging;
 import pcgen.util.enumeration.Tab;
@@ -129,68 +131,157 @@ public class GameModeFileLoader extends PCGenTask
 
 		SystemCollections.clearGameModeList();
 		File gameModeDir = new File(ConfigurationSettings.getSystemsDir(), "gameModes");
+		boolean lazy = PCGenSettings.OPTIONS_CONTEXT.initBoolean(PCGenSettings.OPTION_LAZY_GAME_MODES, false);
+		if (!lazy && PCGenSettings.OPTIONS_CONTEXT.initBoolean(PCGenSettings.OPTION_PARALLEL_SOURCE_LOAD, false))
+		{
+			for (final String gameFile : gameFiles)
+			{
+				prefetchGameModeFiles(gameFile);
+			}
+		}
 		int progress = 0;
-		for (final String gameFile : gameFiles)
+		try
 		{
-			File specGameModeDir = new File(gameModeDir, gameFile);
-			File miscInfoFile = new File(specGameModeDir, "miscinfo.lst");
-			final GameMode gm = GameModeFileLoader.loadGameModeMiscInfo(gameFile, miscInfoFile.toURI());
-			if (gm != null)
+			for (final String gameFile : gameFiles)
 			{
-				String gmName = gm.getName();
-				//SettingsHandler.setGame(gmName);
-				LoadContext context = gm.getModeContext();
-				loadGameModeInfoFile(gm, new File(specGameModeDir, "level.lst").toURI(), "level");
-				loadGameModeInfoFile(gm, new File(specGameModeDir, "rules.lst").toURI(), "rules");
+				File specGameModeDir = new File(gameModeDir, gameFile);
+				File miscInfoFile = new File(specGameModeDir, "miscinfo.lst");
+				final GameMode gm = GameModeFileLoader.loadGameModeMiscInfo(gameFile, miscInfoFile.toURI());
+				if (gm != null)
+				{
+					if (lazy)
+					{
+						gm.setDefinitionLoader(() -> {
+							loadGameModeDefinition(gm, gameFile);
+							// The roll method preference can only be found now
+							gm.applyPreferences();
+						});
+					}
+					else
+					{
+						loadGameModeDefinition(gm, gameFile);
+					}
+				}
 
-				// Load equipmentslot.lst
-				GameModeFileLoader.loadGameModeLstFile(context, eqSlotLoader, gmName, gameFile, "equipmentslots.lst");
+				progress++;
+				setProgress(progress);
+			}
+		}
+		finally
+		{
+			for (LstLineFileLoader loader : getDefinitionLoaders())
+			{
+				loader.clearPrefetchedFiles();
+			}
+		}
 
-				// Load paperInfo.lst
-				GameModeFileLoader.loadGameModeLstFile(context, paperLoader, gmName, gameFile, "paperInfo.lst");
+		SystemCollections.sortGameModeList();
+	}
 
-				// Load bio files
-				GameModeFileLoader.loadGameModeLstFile(context, traitLoader, gmName, gameFile,
-					"bio" + File.separator + "traits.lst");
-				GameModeFileLoader.loadGameModeLstFile(context, locationLoader, gmName, gameFile,
-					"bio" + File.separator + "locations.lst");
+	/**
+	 * Loads the files of a game mode other than miscinfo.lst. If the
+	 * lazyGameModes option is set, this is called when the game mode is first
+	 * selected, which may be on any thread, so the loaders are locked.
+	 *
+	 * @param gm The game mode, as loaded from its miscinfo.lst file
+	 * @param gameFile The name of the folder that the game mode is located in
+	 */
+	private synchronized void loadGameModeDefinition(GameMode gm, String gameFile)
+	{
+		File specGameModeDir = new File(new File(ConfigurationSettings.getSystemsDir(), "gameModes"), gameFile);
+		String gmName = gm.getName();
+		//SettingsHandler.setGame(gmName);
+		LoadContext context = gm.getModeContext();
+		loadGameModeInfoFile(gm, new File(specGameModeDir, "level.lst").toURI(), "level");
+		loadGameModeInfoFile(gm, new File(specGameModeDir, "rules.lst").toURI(), "rules");
 
-				// Load load.lst and check for completeness
-				GameModeFileLoader.loadGameModeLstFile(context, loadInfoLoader, gmName, gameFile, "load.lst");
+		// Load equipmentslot.lst
+		GameModeFileLoader.loadGameModeLstFile(context, eqSlotLoader, gmName, gameFile, "equipmentslots.lst");
 
-				// Load sizeAdjustment.lst
-				GameModeFileLoader.loadGameModeLstFile(context, sizeLoader, gmName, gameFile, "sizeAdjustment.lst",
-					false);
+		// Load paperInfo.lst
+		GameModeFileLoader.loadGameModeLstFile(context, paperLoader, gmName, gameFile, "paperInfo.lst");
 
-				// Load statsandchecks.lst
-				GameModeFileLoader.loadGameModeLstFile(context, statCheckLoader, gmName, gameFile, "statsandchecks.lst",
-					false);
+		// Load bio files
+		GameModeFileLoader.loadGameModeLstFile(context, traitLoader, gmName, gameFile,
+			"bio" + File.separator + "traits.lst");
+		GameModeFileLoader.loadGameModeLstFile(context, locationLoader, gmName, gameFile,
+			"bio" + File.separator + "locations.lst");
 
-				// Load equipIcons.lst
-				GameModeFileLoader.loadGameModeLstFile(context, equipIconLoader, gmName, gameFile, "equipIcons.lst");
+		// Load load.lst and check for completeness
+		GameModeFileLoader.loadGameModeLstFile(context, loadInfoLoader, gmName, gameFile, "load.lst");
 
-				GameModeFileLoader.loadGameModeLstFile(context, codeControlLoader, gmName, gameFile, "codeControl.lst");
+		// Load sizeAdjustment.lst
+		GameModeFileLoader.loadGameModeLstFile(context, sizeLoader, gmName, gameFile, "sizeAdjustment.lst",
+			false);
 
-				// Load pointbuymethods.lst
-				loadPointBuyFile(context, gameFile, gmName);
-				for (final PointBuyCost pbc : context.getReferenceContext()
-					.getConstructedCDOMObjects(PointBuyCost.class))
-				{
-					gm.addPointBuyStatCost(pbc);
-				}
+		// Load statsandchecks.lst
+		GameModeFileLoader.loadGameModeLstFile(context, statCheckLoader, gmName, gameFile, "statsandchecks.lst",
+			false);
 
-				// Load migration.lst
-				GameModeFileLoader.loadGameModeLstFile(context, migrationLoader, gmName, gameFile, "migration.lst");
+		// Load equipIcons.lst
+		GameModeFileLoader.loadGameModeLstFile(context, equipIconLoader, gmName, gameFile, "equipIcons.lst");
 
-				GameModeFileLoader.loadGameModeLstFile(context, bioLoader, gmName, gameFile,
-					"bio" + File.separator + "biosettings.lst");
-			}
+		GameModeFileLoader.loadGameModeLstFile(context, codeControlLoader, gmName, gameFile, "codeControl.lst");
 
-			progress++;
-			setProgress(progress);
+		// Load pointbuymethods.lst
+		loadPointBuyFile(context, gameFile, gmName);
+		for (final PointBuyCost pbc : context.getReferenceContext()
+			.getConstructedCDOMObjects(PointBuyCost.class))
+		{
+			gm.addPointBuyStatCost(pbc);
 		}
 
-		SystemCollections.sortGameModeList();
+		// Load migration.lst
+		GameModeFileLoader.loadGameModeLstFile(context, migrationLoader, gmName, gameFile, "migration.lst");
+
+		GameModeFileLoader.loadGameModeLstFile(context, bioLoader, gmName, gameFile,
+			"bio" + File.separator + "biosettings.lst");
+	}
+
+	/**
+	 * Submits the reading of the files of a game mode that are loaded by
+	 * loadGameModeDefinition to the LoadWorkerPool, so that the files of all
+	 * of the game modes are read in parallel. The files are still parsed one
+	 * game mode at a time on this thread, as parsing them updates shared
+	 * state (such as the FEAT category and the SystemCollections).
+	 *
+	 * @param gameFile The name of the folder that the game mode is located in
+	 */
+	private void prefetchGameModeFiles(String gameFile)
+	{
+		prefetchGameModeLstFile(eqSlotLoader, gameFile, "equipmentslots.lst");
+		prefetchGameModeLstFile(paperLoader, gameFile, "paperInfo.lst");
+		prefetchGameModeLstFile(traitLoader, gameFile, "bio" + File.separator + "traits.lst");
+		prefetchGameModeLstFile(locationLoader, gameFile, "bio" + File.separator + "locations.lst");
+		prefetchGameModeLstFile(loadInfoLoader, gameFile, "load.lst");
+		prefetchGameModeLstFile(sizeLoader, gameFile, "sizeAdjustment.lst");
+		prefetchGameModeLstFile(statCheckLoader, gameFile, "statsandchecks.lst");
+		prefetchGameModeLstFile(equipIconLoader, gameFile, "equipIcons.lst");
+		prefetchGameModeLstFile(codeControlLoader, gameFile, "codeControl.lst");
+		prefetchGameModeLstFile(pointBuyLoader, gameFile, "pointbuymethods.lst");
+		prefetchGameModeLstFile(migrationLoader, gameFile, "migration.lst");
+		prefetchGameModeLstFile(bioLoader, gameFile, "bio" + File.separator + "biosettings.lst");
+	}
+
+	private static void prefetchGameModeLstFile(LstLineFileLoader lstFileLoader, String gameModeFolderName,
+		String lstFileName)
+	{
+		File gameModeDir = new File(ConfigurationSettings.getSystemsDir(), "gameModes");
+		File gameModeFile = new File(new File(gameModeDir, gameModeFolderName), lstFileName);
+		if (!gameModeFile.exists())
+		{
+			gameModeFile = new File(new File(gameModeDir, "default"), lstFileName);
+		}
+		if (gameModeFile.exists())
+		{
+			lstFileLoader.prefetchLstFile(gameModeFile.toURI());
+		}
+	}
+
+	private List<LstLineFileLoader> getDefinitionLoaders()
+	{
+		return List.of(eqSlotLoader, paperLoader, traitLoader, locationLoader, loadInfoLoader, sizeLoader,
+			statCheckLoader, equipIconLoader, codeControlLoader, pointBuyLoader, migrationLoader, bioLoader);
 	}
 
 	/**
@@ -1,27 +1,38 @@
 package pcgen.persistence;
 
 import java.io.File;
-import java.io.FilenameFilter;
+import java.io.IOException;
 import java.net.URI;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+
+import pcgen.util.Logging;
+
 import org.apache.commons.lang3.StringUtils;
 
 public class RecursiveFileFinder
 {
 
-	private final FilenameFilter pccFileFilter;
-
-	public RecursiveFileFinder()
-	{
-		pccFileFilter = (parentDir, fileName) -> StringUtils.endsWithIgnoreCase(fileName, ".pcc")
-				|| new File(parentDir, fileName).isDirectory();
-	}
-
 	/**
 	 * Recursively looks inside a given directory for PCC files
-	 * and adds them to the {@link #campaignFiles campaignFiles} list.
-	 *  @param aDirectory    The directory to search.
-	 * @param campaignFiles
+	 * and adds them to the campaignFiles list.
+	 *
+	 * The directory is walked with {@link Files#walkFileTree}, which supplies the
+	 * attributes of each entry from the directory listing rather than requiring
+	 * a separate check of each file. The files found are added in path order,
+	 * so the result does not depend on the order in which the file system
+	 * returns directory entries.
+	 *
+	 * @param aDirectory    The directory to search.
+	 * @param campaignFiles The list to which the PCC files found are added.
 	 */
 	public void findFiles(final File aDirectory, List<URI> campaignFiles)
 	{
@@ -29,19 +40,49 @@ public class RecursiveFileFinder
 		{
 			return;
 		}
-		_findFiles(aDirectory, campaignFiles);
+		List<Path> found = new ArrayList<>();
+		try
+		{
+			Files.walkFileTree(aDirectory.toPath(), EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE,
+				new PccFileVisitor(found));
+		}
+		catch (IOException e)
+		{
+			Logging.errorPrint("Unable to search " + aDirectory + " for campaign files", e);
+		}
+		Collections.sort(found);
+		for (Path path : found)
+		{
+			// File.toURI, as the campaign URIs are compared with URIs of that form
+			campaignFiles.add(path.toFile().toURI());
+		}
 	}
 
-	private void _findFiles(File aDirectory, List<URI> campaignFiles)
+	private static final class PccFileVisitor extends SimpleFileVisitor<Path>
 	{
-		for (final File file : aDirectory.listFiles(pccFileFilter))
+		private final List<Path> found;
+
+		private PccFileVisitor(List<Path> found)
 		{
-			if (file.isDirectory())
+			this.found = found;
+		}
+
+		@Override
+		public FileVisitResult visitFile(Path file, BasicFileAttributes attrs)
+		{
+			if (!attrs.isDirectory() && StringUtils.endsWithIgnoreCase(file.getFileName().toString(), ".pcc"))
 			{
-				_findFiles(file, campaignFiles);
-				continue;
+				found.add(file);
 			}
-			campaignFiles.add(file.toURI());
+			return FileVisitResult.CONTINUE;
+		}
+
+		@Override
+		public FileVisitResult visitFileFailed(Path file, IOException exc)
+		{
+			// Unreadable entries (and symbolic link loops) are skipped, as before
+			Logging.debugPrint("Skipping " + file + " while searching for campaign files: " + exc);
+			return FileVisitResult.CONTINUE;
 		}
 	}
 }
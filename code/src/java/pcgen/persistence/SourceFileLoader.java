@@ -25,7 +25,9 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Observable;
 import java.util.Observer;
 import java.util.Set;
@@ -37,7 +39,9 @@ import pcgen.base.formula.base.LegalScope;
 import pcgen.base.util.AbstractMapToList;
 import pcgen.base.util.FormatManager;
 import pcgen.base.util.HashMapToList;
+import pcgen.cdom.base.CDOMObject;
 import pcgen.cdom.base.Constants;
+import pcgen.cdom.base.Loadable;
 import pcgen.cdom.content.fact.FactDefinition;
 import pcgen.cdom.content.factset.FactSetDefinition;
 import pcgen.cdom.enumeration.IntegerKey;
@@ -50,6 +54,7 @@ import pcgen.cdom.enumeration.Type;
 import pcgen.cdom.formula.scope.EquipmentPartScope;
 import pcgen.cdom.formula.scope.GlobalPCScope;
 import pcgen.cdom.inst.GlobalModifiers;
+import pcgen.cdom.reference.ReferenceManufacturer;
 import pcgen.cdom.util.CControl;
 import pcgen.cdom.util.ControlUtilities;
 import pcgen.core.Ability;
@@ -89,6 +94,7 @@ import pcgen.facade.util.DefaultListFacade;
 import pcgen.facade.util.ListFacade;
 import pcgen.io.PCGFile;
 import pcgen.output.channel.ChannelUtilities;
+import pcgen.persistence.DataSetRegistry.ResidentDataSet;
 import pcgen.persistence.lst.AbilityCategoryLoader;
 import pcgen.persistence.lst.AbilityLoader;
 import pcgen.persistence.lst.BioSetLoader;
@@ -100,6 +106,7 @@ import pcgen.persistence.lst.GenericLoader;
 import pcgen.persistence.lst.GenericLocalVariableLoader;
 import pcgen.persistence.lst.GlobalModifierLoader;
 import pcgen.persistence.lst.KitLoader;
+import pcgen.persistence.lst.LazyText;
 import pcgen.persistence.lst.LstFileLoader;
 import pcgen.persistence.lst.LstLineFileLoader;
 import pcgen.persistence.lst.LstObjectFileLoader;
@@ -107,21 +114,28 @@ import pcgen.persistence.lst.PCClassLoader;
 import pcgen.persistence.lst.SourceEntry;
 import pcgen.persistence.lst.VariableLoader;
 import pcgen.rules.context.AbstractReferenceContext;
+import pcgen.rules.context.ConsolidatedListCommitStrategy;
 import pcgen.rules.context.LoadContext;
 import pcgen.rules.context.LoadValidator;
 import pcgen.rules.context.ReferenceContextUtilities;
 import pcgen.rules.context.VariableContext;
 import pcgen.rules.persistence.CDOMControlLoader;
 import pcgen.rules.persistence.DynamicLoader;
+import pcgen.rules.persistence.LoadStringPool;
 import pcgen.rules.persistence.TableLoader;
 import pcgen.system.ConfigurationSettings;
 import pcgen.system.LanguageBundle;
 import pcgen.system.PCGenSettings;
 import pcgen.system.PCGenTask;
+import pcgen.util.LoadProfiler;
 import pcgen.util.Logging;
 
 public class SourceFileLoader extends PCGenTask implements Observer
 {
+	/** The name of the load profile report file in the settings directory. */
+	private static final String LOAD_PROFILE_FILE = "loadProfile.txt"; //$NON-NLS-1$
+	/** The directory in the settings directory holding the source snapshots. */
+	private static final String SNAPSHOT_DIR = "snapshots"; //$NON-NLS-1$
 
 	/*
 	 * File lists
@@ -176,6 +190,9 @@ public class SourceFileLoader extends PCGenTask implements Observer
 	private final List<Campaign> selectedCampaigns = new ArrayList<>();
 	private final GameMode selectedGame;
 	private DataSet dataset = null;
+	private SourceFingerprint sourceFingerprint = null;
+	private boolean reloadRequested = false;
+	private boolean reloaded = false;
 	private int progress = 0;
 	private final UIDelegate uiDelegate;
 
@@ -186,6 +203,7 @@ public class SourceFileLoader extends PCGenTask implements Observer
 				.forEach(fileLists::initializeListFor);
 		this.uiDelegate = delegate;
 		campaigns.forEach(campaign -> selectedCampaigns.add(Globals.getCampaignKeyed(campaign.getKeyName())));
+		CampaignFileLoader.loadIndexedCampaigns(selectedCampaigns);
 		selectedGame = SystemCollections.getGameModeNamed(gameModeNamed);
 		//TODO see if this has any sideeffects
 		new CampaignSourceEntry(new Campaign(), URI.create("file:/System%20Configuration%20Document"));
@@ -219,13 +237,30 @@ public class SourceFileLoader extends PCGenTask implements Observer
 	@Override
 	public void run()
 	{
+		if (reloadRequested)
+		{
+			reloadRequested = false;
+			reloaded = reloadChangedFiles();
+			return;
+		}
 		Globals.emptyLists();
 		SettingsHandler.setGame(selectedGame.getName());
 		Globals.initPreferences();
 		Globals.emptyLists();
+		if (activateResidentDataSet())
+		{
+			return;
+		}
 
 		Handler handler = new LoadHandler();
 		Logging.registerHandler(handler);
+		Logging.startParseMessageSink();
+		LoadStringPool.open();
+		boolean profile = PCGenSettings.OPTIONS_CONTEXT.initBoolean(PCGenSettings.OPTION_LOAD_PROFILE, false);
+		if (profile)
+		{
+			LoadProfiler.start();
+		}
 		try
 		{
 			loadCampaigns();
@@ -235,9 +270,91 @@ public class SourceFileLoader extends PCGenTask implements Observer
 			Logging.errorPrint("Failed to load sources", e);
 			uiDelegate.showErrorMessage(Constants.APPLICATION_NAME, "Failed to load sources, see log for details.");
 		}
+		finally
+		{
+			LoadStringPool.release();
+			if (profile)
+			{
+				writeLoadProfile();
+			}
+			Logging.stopParseMessageSink();
+		}
 		Logging.removeHandler(handler);
 	}
 
+	/**
+	 * Switches to the data set of the selected game mode and campaigns if the
+	 * DataSetRegistry still holds it, rather than loading it again. The global
+	 * state that a load resets or sets up outside of the LoadContext (such as
+	 * the options set by the campaigns, and the license and maturity
+	 * information shown once the sources are loaded) is applied as a load
+	 * would.
+	 *
+	 * @return true if a resident data set was activated
+	 */
+	private boolean activateResidentDataSet()
+	{
+		if (!DataSetRegistry.isEnabled() || selectedCampaigns.isEmpty())
+		{
+			return false;
+		}
+		ResidentDataSet resident = DataSetRegistry.getInstance()
+			.activate(SourceFingerprint.getDatasetKey(selectedGame.getName(), selectedCampaigns));
+		if (resident == null)
+		{
+			return false;
+		}
+		PersistenceManager.getInstance().setChosenCampaignSourcefiles(getCampaignURIs());
+		licenseFiles.clear();
+		sortCampaignsByRank(selectedCampaigns);
+		boolean optionsAllowed =
+				PCGenSettings.OPTIONS_CONTEXT.initBoolean(PCGenSettings.OPTION_ALLOWED_IN_SOURCES, true);
+		for (Campaign campaign : selectedCampaigns)
+		{
+			addLicenseInfo(campaign);
+			if (optionsAllowed)
+			{
+				setCampaignOptions(campaign);
+			}
+		}
+		dataset = resident.getDataSet();
+		sourceFingerprint = resident.getSourceFingerprint();
+		Logging.log(Logging.INFO, "Using resident data set " + sourceFingerprint.getDatasetKey());
+		return true;
+	}
+
+	private List<URI> getCampaignURIs()
+	{
+		List<URI> uris = new ArrayList<>();
+		for (Campaign campaign : selectedCampaigns)
+		{
+			uris.add(campaign.getSourceURI());
+		}
+		return uris;
+	}
+
+	/**
+	 * Writes the report of the LoadProfiler to the settings directory and
+	 * stops profiling.
+	 */
+	private static void writeLoadProfile()
+	{
+		File reportFile = new File(ConfigurationSettings.getSettingsDir(), LOAD_PROFILE_FILE);
+		try
+		{
+			LoadProfiler.writeReport(reportFile);
+			Logging.log(Logging.INFO, "Load profile written to " + reportFile.getAbsolutePath());
+		}
+		catch (IOException e)
+		{
+			Logging.errorPrint("Unable to write load profile to " + reportFile, e);
+		}
+		finally
+		{
+			LoadProfiler.stop();
+		}
+	}
+
 	public String getOGL()
 	{
 		return sec15.toString();
@@ -283,6 +400,238 @@ public class SourceFileLoader extends PCGenTask implements Observer
 		return dataset;
 	}
 
+	/**
+	 * Returns the SourceFingerprint identifying the game mode, campaigns and
+	 * source files of the loaded data set.
+	 *
+	 * @return The SourceFingerprint of the loaded data set, or null if the
+	 *         load did not complete
+	 */
+	public SourceFingerprint getSourceFingerprint()
+	{
+		return sourceFingerprint;
+	}
+
+	/**
+	 * Makes the next run of this loader reload the source files that have
+	 * changed since it loaded its data set (see reloadChangedFiles), rather
+	 * than load the sources. This allows the reload to be run as a task, with
+	 * its progress and errors reported as they are for a load.
+	 */
+	public void requestReload()
+	{
+		reloadRequested = true;
+	}
+
+	/**
+	 * @return true if the changed source files were reloaded by the last run
+	 *         requested by requestReload
+	 */
+	public boolean isReloaded()
+	{
+		return reloaded;
+	}
+
+	/**
+	 * Reloads the source files of the loaded data set that have changed on
+	 * disk since it was loaded, if every change can be applied to the loaded
+	 * data set. This is much faster than loading the data set again, and is
+	 * intended for the repeated small edits made while developing data.
+	 * 
+	 * Only files of objects that are each defined on a single line (such as
+	 * abilities, equipment, skills and spells) can be reloaded, and only if
+	 * the file contains no .COPY, .MOD or .FORGET lines, its objects have not
+	 * been copied, modified or forgotten by other files, and it still defines
+	 * the same objects (the same keys in the same order). The objects defined
+	 * by the file are replaced, and the references to them (other than
+	 * references requested after the data set was resolved) are changed to
+	 * refer to the new objects. Characters must not be open while the files
+	 * are reloaded.
+	 * 
+	 * @return true if the changed files have been reloaded (or there were no
+	 *         changed files); false if the data set must be loaded again, in
+	 *         which case it may have been partially changed
+	 */
+	public boolean reloadChangedFiles()
+	{
+		if ((dataset == null) || (sourceFingerprint == null))
+		{
+			return false;
+		}
+		Collection<URI> changedFiles = sourceFingerprint.getChangedFiles();
+		if (changedFiles.isEmpty())
+		{
+			return true;
+		}
+		Logging.log(Logging.INFO, "Reloading changed sources " + changedFiles + ".");
+		Handler handler = new LoadHandler();
+		Logging.registerHandler(handler);
+		try
+		{
+			if (!reloadFiles(Globals.getContext(), changedFiles))
+			{
+				Logging.log(Logging.INFO, "Changed sources cannot be reloaded incrementally, loading all sources.");
+				return false;
+			}
+		}
+		catch (RuntimeException e)
+		{
+			Logging.errorPrint("Failed to reload changed sources, loading all sources.", e);
+			return false;
+		}
+		finally
+		{
+			Logging.removeHandler(handler);
+		}
+		LazyText.clearCache();
+		dataset = new DataSet(Globals.getContext(), selectedGame, new DefaultListFacade<>(selectedCampaigns));
+		sourceFingerprint = buildSourceFingerprint();
+		if (DataSetRegistry.isEnabled())
+		{
+			DataSetRegistry.getInstance().register(dataset, sourceFingerprint);
+		}
+		return true;
+	}
+
+	private boolean reloadFiles(LoadContext context, Collection<URI> changedFiles)
+	{
+		AbstractReferenceContext refContext = context.getReferenceContext();
+		ConsolidatedListCommitStrategy masterLists = selectedGame.getMasterListCommitStrategy();
+		Map<ReferenceManufacturer<?>, Integer> objectCounts = countObjects(refContext);
+		for (ReferenceManufacturer<?> rm : refContext.getAllManufacturers())
+		{
+			rm.reopenReferences();
+		}
+		Map<CDOMObject, CDOMObject> replaced = new IdentityHashMap<>();
+		for (URI uri : changedFiles)
+		{
+			Map<? extends CDOMObject, ? extends CDOMObject> fileReplaced = reloadFile(context, masterLists, uri);
+			if (fileReplaced == null)
+			{
+				return false;
+			}
+			replaced.putAll(fileReplaced);
+		}
+		for (Map.Entry<CDOMObject, CDOMObject> me : replaced.entrySet())
+		{
+			masterLists.replaceAllowed(me.getKey(), me.getValue());
+			for (ReferenceManufacturer<?> rm : refContext.getAllManufacturers())
+			{
+				if (!replaceObject(rm, me.getKey(), me.getValue()))
+				{
+					return false;
+				}
+			}
+		}
+		refContext.buildDeferredObjects();
+		LoadValidator validator = new LoadValidator(selectedCampaigns);
+		boolean resolved = true;
+		for (ReferenceManufacturer<?> rm : refContext.getAllManufacturers())
+		{
+			resolved &= rm.resolveNewReferences(validator);
+		}
+		if (!resolved)
+		{
+			return false;
+		}
+		context.resolveDeferredTokens(replaced.values());
+		if (!objectCounts.equals(countObjects(refContext)))
+		{
+			return false;
+		}
+		for (CDOMObject obj : replaced.values())
+		{
+			if (obj instanceof Equipment)
+			{
+				Equipment eq = (Equipment) obj;
+				eq.setToCustomSize(null);
+				EqModAttachment.finishEquipment(eq);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Reloads a single file with the loader that loaded it, returning the
+	 * objects it defined mapped to the objects that replaced them, or null if
+	 * the file cannot be reloaded.
+	 */
+	private Map<? extends CDOMObject, ? extends CDOMObject> reloadFile(LoadContext context,
+		ConsolidatedListCommitStrategy masterLists, URI uri)
+	{
+		for (LstObjectFileLoader<?> loader : getReloadableLoaders())
+		{
+			List<? extends CDOMObject> objects = loader.getReloadableObjects(context, uri);
+			if (objects != null)
+			{
+				for (CDOMObject obj : objects)
+				{
+					masterLists.removeOwner(obj);
+				}
+				CampaignSourceEntry sourceEntry = getSourceEntry(uri);
+				return (sourceEntry == null) ? null : loader.reloadLstFile(context, sourceEntry);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the loaders that can reload their files into a loaded data set.
+	 * The loaders of objects that span more than one line (classes and kits),
+	 * that add objects of their own (feats) or that define the rules objects
+	 * of the game mode (stats, checks, alignments and sizes) are excluded.
+	 */
+	private List<LstObjectFileLoader<?>> getReloadableLoaders()
+	{
+		return List.of(wProfLoader, aProfLoader, sProfLoader, skillLoader, languageLoader, abilityLoader,
+			raceLoader, domainLoader, spellLoader, deityLoader, templateLoader, eqModLoader, equipmentLoader);
+	}
+
+	private CampaignSourceEntry getSourceEntry(URI uri)
+	{
+		for (ListKey<?> key : fileLists.getKeySet())
+		{
+			for (CampaignSourceEntry cse : fileLists.getListFor(key))
+			{
+				if (cse.getURI().equals(uri))
+				{
+					return cse;
+				}
+			}
+		}
+		return null;
+	}
+
+	private static <T extends Loadable> boolean replaceObject(ReferenceManufacturer<T> rm, CDOMObject oldObj,
+		CDOMObject newObj)
+	{
+		Class<T> cl = rm.getReferenceClass();
+		return !cl.isInstance(oldObj) || rm.replaceObject(cl.cast(oldObj), cl.cast(newObj));
+	}
+
+	private static Map<ReferenceManufacturer<?>, Integer> countObjects(AbstractReferenceContext refContext)
+	{
+		Map<ReferenceManufacturer<?>, Integer> counts = new IdentityHashMap<>();
+		for (ReferenceManufacturer<?> rm : refContext.getAllManufacturers())
+		{
+			counts.put(rm, rm.getAllObjects().size() + rm.getDerivativeObjects().size());
+		}
+		return counts;
+	}
+
+	private SourceFingerprint buildSourceFingerprint()
+	{
+		Collection<URI> sourceFiles = new ArrayList<>();
+		for (ListKey<?> key : fileLists.getKeySet())
+		{
+			for (CampaignSourceEntry cse : fileLists.getListFor(key))
+			{
+				sourceFiles.add(cse.getURI());
+			}
+		}
+		return SourceFingerprint.of(selectedGame.getName(), selectedCampaigns, sourceFiles);
+	}
+
 	/**
 	 * @return total files to load
 	 */
@@ -452,12 +801,7 @@ public class SourceFileLoader extends PCGenTask implements Observer
 		// Unload the existing campaigns and load our selected campaign
 		Globals.emptyLists();
 		PersistenceManager pManager = PersistenceManager.getInstance();
-		List<URI> uris = new ArrayList<>();
-		for (Campaign campaign : selectedCampaigns)
-		{
-			uris.add(campaign.getSourceURI());
-		}
-		pManager.setChosenCampaignSourcefiles(uris);
+		pManager.setChosenCampaignSourcefiles(getCampaignURIs());
 
 		licenseFiles.clear();
 
@@ -465,6 +809,7 @@ public class SourceFileLoader extends PCGenTask implements Observer
 		{
 			throw new PersistenceLayerException("You must select at least one campaign to load.");
 		}
+		SourceSnapshot snapshot = openSourceSnapshot();
 		// 21 Nov 2002: Put load inside a try/finally block to make sure
 		// that file lines were cleared even if an exception occurred.
 		// -- sage_sam
@@ -491,7 +836,18 @@ public class SourceFileLoader extends PCGenTask implements Observer
 			 */
 			context.loadCampaignFacets();
 
+			/*
+			 * The loaded objects are shared by every character (possibly on
+			 * different threads) from this point on.
+			 */
+			context.getReferenceContext().freeze();
+
 			dataset = new DataSet(context, selectedGame, new DefaultListFacade<>(selectedCampaigns));
+			sourceFingerprint = buildSourceFingerprint();
+			if (DataSetRegistry.isEnabled())
+			{
+				DataSetRegistry.getInstance().register(dataset, sourceFingerprint);
+			}
 			//			//  Show the licenses
 			//			showLicensesIfNeeded();
 		}
@@ -500,6 +856,88 @@ public class SourceFileLoader extends PCGenTask implements Observer
 			Logging.errorPrint("Exception loading files.", thr);
 			uiDelegate.showErrorMessage(Constants.APPLICATION_NAME, "Failed to load campaigns, see log for details.");
 		}
+		finally
+		{
+			closeSourceSnapshot(snapshot);
+		}
+		if ((dataset != null) && isSourceSnapshotEnabled()
+			&& ((snapshot == null) || !snapshot.getFingerprint().equals(sourceFingerprint)))
+		{
+			writeSourceSnapshot();
+		}
+	}
+
+	private static boolean isSourceSnapshotEnabled()
+	{
+		return PCGenSettings.OPTIONS_CONTEXT.initBoolean(PCGenSettings.OPTION_SOURCE_SNAPSHOT, false);
+	}
+
+	private File getSourceSnapshotFile()
+	{
+		String datasetKey = SourceFingerprint.getDatasetKey(selectedGame.getName(), selectedCampaigns);
+		return new File(new File(ConfigurationSettings.getSettingsDir(), SNAPSHOT_DIR),
+			Integer.toHexString(datasetKey.hashCode()) + ".snapshot");
+	}
+
+	/**
+	 * Opens the SourceSnapshot of the selected game mode and campaigns, if the
+	 * sourceSnapshot option is set and the snapshot is up to date, and reads
+	 * the source files from it during the load.
+	 *
+	 * @return The SourceSnapshot the source files are read from, or null if
+	 *         they are read directly
+	 */
+	private SourceSnapshot openSourceSnapshot()
+	{
+		if (!isSourceSnapshotEnabled())
+		{
+			return null;
+		}
+		SourceSnapshot snapshot = SourceSnapshot.open(getSourceSnapshotFile(),
+			SourceFingerprint.getDatasetKey(selectedGame.getName(), selectedCampaigns));
+		if (snapshot != null)
+		{
+			Logging.log(Logging.INFO, "Reading sources from snapshot " + getSourceSnapshotFile());
+			LstFileLoader.setSnapshot(snapshot);
+		}
+		return snapshot;
+	}
+
+	private void closeSourceSnapshot(SourceSnapshot snapshot)
+	{
+		if (snapshot != null)
+		{
+			LstFileLoader.setSnapshot(null);
+			try
+			{
+				snapshot.close();
+			}
+			catch (IOException e)
+			{
+				Logging.debugPrint("Failed to close the source snapshot", e);
+			}
+		}
+	}
+
+	/**
+	 * Writes a SourceSnapshot of the source files of the loaded data set, so
+	 * that the next load of the same game mode and campaigns can read them
+	 * from the snapshot.
+	 */
+	private void writeSourceSnapshot()
+	{
+		File snapshotFile = getSourceSnapshotFile();
+		try
+		{
+			if (SourceSnapshot.write(snapshotFile, sourceFingerprint))
+			{
+				Logging.log(Logging.INFO, "Source snapshot written to " + snapshotFile.getAbsolutePath());
+			}
+		}
+		catch (IOException e)
+		{
+			Logging.errorPrint("Failed to write the source snapshot " + snapshotFile.getAbsolutePath(), e);
+		}
 	}
 
 	private void loadCampaigns(GameMode gamemode, final List<Campaign> aSelectedCampaignsList, LoadContext context)
@@ -720,13 +1158,22 @@ public class SourceFileLoader extends PCGenTask implements Observer
 	{
 		createLangBonusObject(context);
 		AbstractReferenceContext refContext = context.getReferenceContext();
-		refContext.buildDeferredObjects();
-		refContext.buildDerivedObjects();
+		try (LoadProfiler.Sample sample = LoadProfiler.begin(LoadProfiler.PHASE, "buildDeferredObjects"))
+		{
+			refContext.buildDeferredObjects();
+			refContext.buildDerivedObjects();
+		}
 		referenceAllCategories(context);
 		context.resolveDeferredTokens();
 		LoadValidator validator = new LoadValidator(aSelectedCampaignsList);
-		refContext.validate(validator);
-		refContext.resolveReferences(validator);
+		try (LoadProfiler.Sample sample = LoadProfiler.begin(LoadProfiler.PHASE, "validateReferences"))
+		{
+			refContext.validate(validator);
+		}
+		try (LoadProfiler.Sample sample = LoadProfiler.begin(LoadProfiler.PHASE, "resolveReferences"))
+		{
+			refContext.resolveReferences(validator);
+		}
 		context.resolvePostValidationTokens();
 		context.resolvePostDeferredTokens();
 		context.getVariableContext().validateDefaults();
@@ -911,45 +1358,7 @@ public class SourceFileLoader extends PCGenTask implements Observer
 				Logging.debugPrint("Loading campaign " + campaign);
 			}
 
-			List<String> copyright = campaign.getListFor(ListKey.SECTION_15);
-			if (copyright != null)
-			{
-				sec15.append("<br><b>Source Material:</b>");
-				sec15.append(SourceFormat.getFormattedString(campaign, SourceFormat.LONG, true));
-				sec15.append("<br>");
-				sec15.append("<b>Section 15 Entry in Source Material:</b><br>");
-				for (String license : copyright)
-				{
-					sec15.append(license).append("<br>");
-				}
-			}
-
-			// Update whether licenses need shown
-			showOGL |= campaign.getSafe(ObjectKey.IS_OGL);
-			showLicensed |= campaign.getSafe(ObjectKey.IS_LICENSED);
-
-			if (campaign.getSafe(ObjectKey.IS_LICENSED))
-			{
-				List<String> licenseList = campaign.getSafeListFor(ListKey.LICENSE);
-				if (licenseList != null && !licenseList.isEmpty())
-				{
-					licensesToDisplayString.append(licenseList);
-				}
-
-				List<CampaignSourceEntry> licenseURIs = campaign.getSafeListFor(ListKey.LICENSE_FILE);
-				if (licenseURIs != null)
-				{
-					licenseFiles.addAll(licenseURIs);
-				}
-			}
-
-			// check if maturity warning needs to be shown
-			showMature |= campaign.getSafe(ObjectKey.IS_MATURE);
-
-			if (campaign.getSafe(ObjectKey.IS_MATURE))
-			{
-				matureCampaigns.append(SourceFormat.LONG.getField(campaign)).append(" (").append(campaign.getSafe(StringKey.PUB_NAME_LONG)).append(")<br>");
-			}
+			addLicenseInfo(campaign);
 
 			// Load the LST files to be loaded for the campaign
 			addQualifiedSources(campaign, ListKey.FILE_LST_EXCLUDE);
@@ -988,6 +1397,56 @@ public class SourceFileLoader extends PCGenTask implements Observer
 		return loadedSet;
 	}
 
+	/**
+	 * Adds the Section 15, license and maturity information of the given
+	 * campaign to the information shown once the sources are loaded.
+	 *
+	 * @param campaign
+	 *            The campaign being loaded
+	 */
+	private void addLicenseInfo(Campaign campaign)
+	{
+		List<String> copyright = campaign.getListFor(ListKey.SECTION_15);
+		if (copyright != null)
+		{
+			sec15.append("<br><b>Source Material:</b>");
+			sec15.append(SourceFormat.getFormattedString(campaign, SourceFormat.LONG, true));
+			sec15.append("<br>");
+			sec15.append("<b>Section 15 Entry in Source Material:</b><br>");
+			for (String license : copyright)
+			{
+				sec15.append(license).append("<br>");
+			}
+		}
+
+		// Update whether licenses need shown
+		showOGL |= campaign.getSafe(ObjectKey.IS_OGL);
+		showLicensed |= campaign.getSafe(ObjectKey.IS_LICENSED);
+
+		if (campaign.getSafe(ObjectKey.IS_LICENSED))
+		{
+			List<String> licenseList = campaign.getSafeListFor(ListKey.LICENSE);
+			if (licenseList != null && !licenseList.isEmpty())
+			{
+				licensesToDisplayString.append(licenseList);
+			}
+
+			List<CampaignSourceEntry> licenseURIs = campaign.getSafeListFor(ListKey.LICENSE_FILE);
+			if (licenseURIs != null)
+			{
+				licenseFiles.addAll(licenseURIs);
+			}
+		}
+
+		// check if maturity warning needs to be shown
+		showMature |= campaign.getSafe(ObjectKey.IS_MATURE);
+
+		if (campaign.getSafe(ObjectKey.IS_MATURE))
+		{
+			matureCampaigns.append(SourceFormat.LONG.getField(campaign)).append(" (").append(campaign.getSafe(StringKey.PUB_NAME_LONG)).append(")<br>");
+		}
+	}
+
 	/**
 	 * Add only those source files that either have no requirements, or that the
 	 * requirements are satisfied.
@@ -1032,7 +1491,9 @@ public class SourceFileLoader extends PCGenTask implements Observer
 			SettingsHandler.setPCGenOption(key, value);
 		}
 		// Make sure any game mode settings are applied.
-		SystemCollections.getUnmodifiableGameModeList().forEach(GameMode::applyPreferences);
+		// Modes that are not loaded yet apply them when they are loaded.
+		SystemCollections.getUnmodifiableGameModeList().stream().filter(GameMode::isDefinitionLoaded)
+			.forEach(GameMode::applyPreferences);
 	}
 
 	/**
@@ -1127,7 +1588,7 @@ public class SourceFileLoader extends PCGenTask implements Observer
 		}
 
 		@Override
-		public void publish(final LogRecord arg0)
+		public synchronized void publish(final LogRecord arg0)
 		{
 			sendErrorMessage(arg0);
 		}
@@ -0,0 +1,304 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.persistence;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import pcgen.core.Campaign;
+
+/**
+ * A SourceFingerprint identifies a loaded data set: the game mode, the
+ * campaigns that were selected (in load order) and the size and last modified
+ * time of every source file that was read to build it.
+ *
+ * Two fingerprints with the same dataset key were built from the same game
+ * mode and campaign selection. If, in addition, getChangedFiles returns an
+ * empty collection, the data set can be considered identical.
+ *
+ * Loaded data sets are not written to disk: the objects of a LoadContext,
+ * along with their references, formulas and token state, cannot be
+ * serialized. A data set can only be reused within the same run, by
+ * DataSetRegistry, which uses the fingerprint to find out whether the sources
+ * have changed since the data set was loaded. A SourceSnapshot keeps the
+ * contents of the source files between runs, and is validated against the
+ * fingerprint it was written with.
+ */
+public final class SourceFingerprint
+{
+	private final String datasetKey;
+
+	private final Map<URI, FileStamp> files;
+
+	private SourceFingerprint(String datasetKey, Map<URI, FileStamp> files)
+	{
+		this.datasetKey = datasetKey;
+		this.files = files;
+	}
+
+	/**
+	 * Builds the SourceFingerprint for the given game mode, campaigns and
+	 * source files, reading the current size and last modified time of each of
+	 * the files.
+	 *
+	 * @param gameModeName
+	 *            The name of the game mode
+	 * @param campaigns
+	 *            The selected campaigns, in load order
+	 * @param sourceFiles
+	 *            The URIs of the source files read for the campaigns
+	 * @return The SourceFingerprint for the given data set
+	 */
+	public static SourceFingerprint of(String gameModeName, List<Campaign> campaigns,
+		Collection<URI> sourceFiles)
+	{
+		Map<URI, FileStamp> files = new LinkedHashMap<>();
+		for (Campaign campaign : campaigns)
+		{
+			URI uri = campaign.getSourceURI();
+			if (uri != null)
+			{
+				files.put(uri, FileStamp.of(uri));
+			}
+		}
+		for (URI uri : sourceFiles)
+		{
+			files.computeIfAbsent(uri, FileStamp::of);
+		}
+		return new SourceFingerprint(getDatasetKey(gameModeName, campaigns), files);
+	}
+
+	/**
+	 * Returns the key identifying the combination of the given game mode and
+	 * campaigns.
+	 *
+	 * @param gameModeName
+	 *            The name of the game mode
+	 * @param campaigns
+	 *            The selected campaigns
+	 * @return The key identifying the given game mode and campaigns
+	 */
+	public static String getDatasetKey(String gameModeName, Collection<Campaign> campaigns)
+	{
+		StringBuilder sb = new StringBuilder(100);
+		sb.append(gameModeName);
+		campaigns.stream()
+			.map(Campaign::getKeyName)
+			.sorted()
+			.forEach(key -> sb.append('|').append(key));
+		return sb.toString();
+	}
+
+	/**
+	 * Returns the key identifying the game mode and campaigns of this
+	 * SourceFingerprint.
+	 *
+	 * @return The key identifying the game mode and campaigns
+	 */
+	public String getDatasetKey()
+	{
+		return datasetKey;
+	}
+
+	/**
+	 * Returns the URIs of the source files in this SourceFingerprint.
+	 *
+	 * @return The URIs of the source files in this SourceFingerprint
+	 */
+	public Collection<URI> getSourceFiles()
+	{
+		return Collections.unmodifiableCollection(files.keySet());
+	}
+
+	/**
+	 * Returns the URIs of the source files which are not identical in this and
+	 * the given SourceFingerprint. Files present in only one of the two
+	 * fingerprints are included.
+	 *
+	 * @param other
+	 *            The SourceFingerprint to be compared to this SourceFingerprint
+	 * @return The URIs of the source files that differ
+	 */
+	public Collection<URI> getChangedFiles(SourceFingerprint other)
+	{
+		List<URI> changed = new ArrayList<>();
+		for (Map.Entry<URI, FileStamp> me : files.entrySet())
+		{
+			if (!me.getValue().equals(other.files.get(me.getKey())))
+			{
+				changed.add(me.getKey());
+			}
+		}
+		for (URI uri : other.files.keySet())
+		{
+			if (!files.containsKey(uri))
+			{
+				changed.add(uri);
+			}
+		}
+		return changed;
+	}
+
+	/**
+	 * Returns the URIs of the source files which have been changed on disk
+	 * since this SourceFingerprint was built.
+	 *
+	 * @return The URIs of the source files changed on disk
+	 */
+	public Collection<URI> getChangedFiles()
+	{
+		List<URI> changed = new ArrayList<>();
+		for (Map.Entry<URI, FileStamp> me : files.entrySet())
+		{
+			if (!me.getValue().equals(FileStamp.of(me.getKey())))
+			{
+				changed.add(me.getKey());
+			}
+		}
+		return changed;
+	}
+
+	/**
+	 * Writes this SourceFingerprint to the given DataOutput.
+	 *
+	 * @param out
+	 *            The DataOutput to which this SourceFingerprint is written
+	 * @throws IOException
+	 *             if the SourceFingerprint could not be written
+	 */
+	void write(DataOutput out) throws IOException
+	{
+		out.writeUTF(datasetKey);
+		out.writeInt(files.size());
+		for (Map.Entry<URI, FileStamp> me : files.entrySet())
+		{
+			out.writeUTF(me.getKey().toString());
+			out.writeLong(me.getValue().length);
+			out.writeLong(me.getValue().lastModified);
+		}
+	}
+
+	/**
+	 * Reads a SourceFingerprint written by write from the given DataInput.
+	 *
+	 * @param in
+	 *            The DataInput from which the SourceFingerprint is read
+	 * @return The SourceFingerprint read from the DataInput
+	 * @throws IOException
+	 *             if the SourceFingerprint could not be read
+	 */
+	static SourceFingerprint read(DataInput in) throws IOException
+	{
+		String datasetKey = in.readUTF();
+		int count = in.readInt();
+		if (count < 0)
+		{
+			throw new IOException("Invalid number of source files: " + count);
+		}
+		Map<URI, FileStamp> files = new LinkedHashMap<>();
+		for (int i = 0; i < count; i++)
+		{
+			URI uri;
+			try
+			{
+				uri = new URI(in.readUTF());
+			}
+			catch (URISyntaxException e)
+			{
+				throw new IOException(e.getMessage(), e);
+			}
+			files.put(uri, new FileStamp(in.readLong(), in.readLong()));
+		}
+		return new SourceFingerprint(datasetKey, files);
+	}
+
+	@Override
+	public int hashCode()
+	{
+		return datasetKey.hashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj)
+	{
+		if (obj instanceof SourceFingerprint)
+		{
+			SourceFingerprint other = (SourceFingerprint) obj;
+			return datasetKey.equals(other.datasetKey) && files.equals(other.files);
+		}
+		return false;
+	}
+
+	@Override
+	public String toString()
+	{
+		return datasetKey + " (" + files.size() + " files)";
+	}
+
+	/**
+	 * The size and last modified time of a single source file. Non-file URIs
+	 * (and files that do not exist) have a size and time of zero.
+	 */
+	private static final class FileStamp
+	{
+		private final long length;
+		private final long lastModified;
+
+		private FileStamp(long length, long lastModified)
+		{
+			this.length = length;
+			this.lastModified = lastModified;
+		}
+
+		private static FileStamp of(URI uri)
+		{
+			if ("file".equals(uri.getScheme()))
+			{
+				File file = new File(uri);
+				return new FileStamp(file.length(), file.lastModified());
+			}
+			return new FileStamp(0, 0);
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return Objects.hash(length, lastModified);
+		}
+
+		@Override
+		public boolean equals(Object obj)
+		{
+			if (obj instanceof FileStamp)
+			{
+				FileStamp other = (FileStamp) obj;
+				return (length == other.length) && (lastModified == other.lastModified);
+			}
+			return false;
+		}
+	}
+}
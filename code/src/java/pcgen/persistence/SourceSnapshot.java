@@ -0,0 +1,325 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.persistence;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import pcgen.util.Logging;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A SourceSnapshot holds the contents of the source files of a data set in a
+ * single binary file, so that a later load of the same game mode and
+ * campaigns can read them from one file rather than from thousands of
+ * separate files.
+ *
+ * Only the contents of the files are kept. The objects of a LoadContext,
+ * along with their references, formulas and token state, cannot be
+ * serialized, so a load from a snapshot still parses and resolves the data.
+ *
+ * A snapshot is written with the SourceFingerprint of the data set, and is
+ * only opened if none of the files in that fingerprint have changed since;
+ * otherwise the data set is loaded from the source files as usual. A file
+ * that is not in the snapshot, or that cannot be read from it, is also read
+ * from the source file.
+ *
+ * The contents may be read from several threads at once.
+ */
+public final class SourceSnapshot implements Closeable
+{
+	private static final int MAGIC = 0x50434753;
+
+	private static final int VERSION = 1;
+
+	/**
+	 * The size of the header (magic number and version) at the start of the
+	 * file.
+	 */
+	private static final int HEADER_SIZE = 8;
+
+	/**
+	 * The size of the trailer (the position of the directory) at the end of
+	 * the file.
+	 */
+	private static final int TRAILER_SIZE = 8;
+
+	private final FileChannel channel;
+
+	private final SourceFingerprint fingerprint;
+
+	private final Map<URI, Entry> entries;
+
+	private SourceSnapshot(FileChannel channel, SourceFingerprint fingerprint, Map<URI, Entry> entries)
+	{
+		this.channel = channel;
+		this.fingerprint = fingerprint;
+		this.entries = entries;
+	}
+
+	/**
+	 * Writes a snapshot of the contents of the source files in the given
+	 * SourceFingerprint. Only local files are included. If any of the files
+	 * change while the snapshot is written, no snapshot is left behind.
+	 *
+	 * @param file
+	 *            The file to which the snapshot is written
+	 * @param fingerprint
+	 *            The SourceFingerprint of the data set
+	 * @return true if the snapshot was written
+	 * @throws IOException
+	 *             if the snapshot could not be written
+	 */
+	public static boolean write(File file, SourceFingerprint fingerprint) throws IOException
+	{
+		if (!fingerprint.getChangedFiles().isEmpty())
+		{
+			return false;
+		}
+		Path target = file.toPath();
+		Files.createDirectories(target.toAbsolutePath().getParent());
+		Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+		try
+		{
+			Map<URI, Entry> written = new LinkedHashMap<>();
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp))))
+			{
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				long position = HEADER_SIZE;
+				for (URI uri : fingerprint.getSourceFiles())
+				{
+					if (!"file".equals(uri.getScheme()))
+					{
+						continue;
+					}
+					byte[] contents = Files.readAllBytes(Path.of(uri));
+					out.write(contents);
+					written.put(uri, new Entry(position, contents.length));
+					position += contents.length;
+				}
+				fingerprint.write(out);
+				out.writeInt(written.size());
+				for (Map.Entry<URI, Entry> me : written.entrySet())
+				{
+					out.writeUTF(me.getKey().toString());
+					out.writeLong(me.getValue().position);
+					out.writeInt(me.getValue().length);
+				}
+				out.writeLong(position);
+			}
+			if (!fingerprint.getChangedFiles().isEmpty())
+			{
+				return false;
+			}
+			Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+			return true;
+		}
+		finally
+		{
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	/**
+	 * Opens the snapshot in the given file, if it is a snapshot of the data
+	 * set with the given key and none of its source files have changed since
+	 * it was written.
+	 *
+	 * @param file
+	 *            The file holding the snapshot
+	 * @param datasetKey
+	 *            The key of the game mode and campaigns being loaded
+	 * @return The snapshot, or null if the data set must be read from the
+	 *         source files
+	 */
+	@Nullable
+	public static SourceSnapshot open(File file, String datasetKey)
+	{
+		if (!file.isFile())
+		{
+			return null;
+		}
+		FileChannel channel = null;
+		try
+		{
+			channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+			SourceSnapshot snapshot = read(channel, datasetKey);
+			if (snapshot != null)
+			{
+				channel = null;
+			}
+			return snapshot;
+		}
+		catch (IOException | IllegalArgumentException e)
+		{
+			Logging.log(Logging.INFO, "Ignoring unreadable source snapshot " + file + ": " + e.getMessage());
+			return null;
+		}
+		finally
+		{
+			if (channel != null)
+			{
+				try
+				{
+					channel.close();
+				}
+				catch (IOException e)
+				{
+					Logging.debugPrint("Failed to close " + file, e);
+				}
+			}
+		}
+	}
+
+	private static SourceSnapshot read(FileChannel channel, String datasetKey) throws IOException
+	{
+		long size = channel.size();
+		if (size < HEADER_SIZE + TRAILER_SIZE)
+		{
+			throw new IOException("File is too short");
+		}
+		ByteBuffer header = readFully(channel, 0, HEADER_SIZE);
+		if ((header.getInt() != MAGIC) || (header.getInt() != VERSION))
+		{
+			throw new IOException("Not a source snapshot of this version");
+		}
+		long directoryPosition = readFully(channel, size - TRAILER_SIZE, TRAILER_SIZE).getLong();
+		long directorySize = size - TRAILER_SIZE - directoryPosition;
+		if ((directoryPosition < HEADER_SIZE) || (directorySize < 0) || (directorySize > Integer.MAX_VALUE))
+		{
+			throw new IOException("Invalid directory position " + directoryPosition);
+		}
+		ByteBuffer directory = readFully(channel, directoryPosition, (int) directorySize);
+		DataInputStream in = new DataInputStream(
+			new ByteArrayInputStream(directory.array(), directory.arrayOffset(), directory.remaining()));
+		SourceFingerprint fingerprint = SourceFingerprint.read(in);
+		if (!fingerprint.getDatasetKey().equals(datasetKey))
+		{
+			return null;
+		}
+		int changed = fingerprint.getChangedFiles().size();
+		if (changed > 0)
+		{
+			Logging.log(Logging.INFO,
+				"Source snapshot of " + datasetKey + " is out of date (" + changed + " changed files)");
+			return null;
+		}
+		int count = in.readInt();
+		Map<URI, Entry> entries = new HashMap<>();
+		for (int i = 0; i < count; i++)
+		{
+			URI uri = URI.create(in.readUTF());
+			Entry entry = new Entry(in.readLong(), in.readInt());
+			if ((entry.position < HEADER_SIZE) || (entry.length < 0)
+				|| (entry.position + entry.length > directoryPosition))
+			{
+				throw new IOException("Invalid entry for " + uri);
+			}
+			entries.put(uri, entry);
+		}
+		return new SourceSnapshot(channel, fingerprint, entries);
+	}
+
+	private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException
+	{
+		ByteBuffer buffer = ByteBuffer.allocate(length);
+		while (buffer.hasRemaining())
+		{
+			if (channel.read(buffer, position + buffer.position()) < 0)
+			{
+				throw new IOException("Unexpected end of file");
+			}
+		}
+		buffer.flip();
+		return buffer;
+	}
+
+	/**
+	 * Returns the SourceFingerprint this snapshot was written with.
+	 *
+	 * @return The SourceFingerprint this snapshot was written with
+	 */
+	public SourceFingerprint getFingerprint()
+	{
+		return fingerprint;
+	}
+
+	/**
+	 * Returns the contents of the given source file, as they were when the
+	 * snapshot was written.
+	 *
+	 * @param uri
+	 *            The URI of the source file
+	 * @return The contents of the source file, or null if the file must be
+	 *         read from the source file
+	 */
+	@Nullable
+	public byte[] getContents(URI uri)
+	{
+		Entry entry = entries.get(uri);
+		if (entry == null)
+		{
+			return null;
+		}
+		try
+		{
+			return readFully(channel, entry.position, entry.length).array();
+		}
+		catch (IOException e)
+		{
+			Logging.debugPrint("Failed to read " + uri + " from the source snapshot", e);
+			return null;
+		}
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		channel.close();
+	}
+
+	/**
+	 * The position and length of the contents of a source file.
+	 */
+	private static final class Entry
+	{
+		private final long position;
+		private final int length;
+
+		private Entry(long position, int length)
+		{
+			this.position = position;
+			this.length = length;
+		}
+	}
+}
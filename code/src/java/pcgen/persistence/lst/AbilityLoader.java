@@ -30,6 +30,7 @@ import pcgen.core.SettingsHandler;
 import pcgen.persistence.PersistenceLayerException;
 import pcgen.persistence.SystemLoader;
 import pcgen.rules.context.LoadContext;
+import pcgen.rules.persistence.LoadStringPool;
 import pcgen.util.Logging;
 
 public class AbilityLoader extends LstObjectFileLoader<Ability>
@@ -53,7 +54,7 @@ public class AbilityLoader extends LstObjectFileLoader<Ability>
 
 		if (colToken.hasMoreTokens())
 		{
-			anAbility.setName(colToken.nextToken());
+			anAbility.setName(LoadStringPool.intern(colToken.nextToken()));
 			anAbility.put(ObjectKey.SOURCE_CAMPAIGN, source.getCampaign());
 			anAbility.setSourceURI(source.getURI());
 			List<String> additionalTokens = new ArrayList<>();
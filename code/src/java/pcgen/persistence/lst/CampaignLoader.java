@@ -22,6 +22,7 @@ package pcgen.persistence.lst;
 
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import pcgen.cdom.base.Constants;
 import pcgen.cdom.enumeration.ListKey;
@@ -29,6 +30,7 @@ import pcgen.core.Campaign;
 import pcgen.core.Globals;
 import pcgen.core.prereq.Prerequisite;
 import pcgen.io.PCGFile;
+import pcgen.persistence.CampaignIndex;
 import pcgen.persistence.PersistenceLayerException;
 import pcgen.persistence.lst.output.prereq.PrerequisiteWriter;
 import pcgen.rules.context.LoadContext;
@@ -42,6 +44,12 @@ public class CampaignLoader extends LstLineFileLoader
 	 */
 	private Campaign campaign = null;
 	private final List<Campaign> inittedCampaigns = new ArrayList<>();
+	/**
+	 * The index from which unchanged campaign files are restored, and to which
+	 * parsed campaign files are added, or null if campaign files are always
+	 * parsed.
+	 */
+	private CampaignIndex campaignIndex = null;
 
 	public static final List<ListKey<CampaignSourceEntry>> OTHER_FILE_LISTKEY = List.of(ListKey.FILE_LST_EXCLUDE, ListKey.FILE_COVER);
 
@@ -71,6 +79,12 @@ public class CampaignLoader extends LstLineFileLoader
 		{
 			return;
 		}
+		if (baseCampaign.isIndexed())
+		{
+			// The files of the sub-campaigns are added once this one is read in full
+			addSubCampaigns(baseCampaign);
+			return;
+		}
 
 		inittedCampaigns.add(baseCampaign);
 
@@ -88,7 +102,7 @@ public class CampaignLoader extends LstLineFileLoader
 				{
 					try
 					{
-						loadCampaignLstFile(fName);
+						loadCampaign(fName);
 						globalSubCampaign = Globals.getCampaignByURI(fName, false);
 					}
 					catch (PersistenceLayerException e)
@@ -97,6 +111,12 @@ public class CampaignLoader extends LstLineFileLoader
 					}
 				}
 
+				// The files of the subfile are needed, so it must be read in full
+				if ((globalSubCampaign != null) && globalSubCampaign.isIndexed())
+				{
+					readIndexedCampaign(globalSubCampaign);
+				}
+
 				// add all sub-subs etc to the list
 				initRecursivePccFiles(globalSubCampaign);
 
@@ -106,6 +126,33 @@ public class CampaignLoader extends LstLineFileLoader
 		}
 	}
 
+	/**
+	 * Makes sure that the campaigns included by a campaign restored from the
+	 * campaign index are loaded, so that they can be selected as they would be
+	 * if the campaign had been parsed.
+	 *
+	 * @param indexedCampaign Campaign restored from the campaign index
+	 */
+	private void addSubCampaigns(Campaign indexedCampaign)
+	{
+		for (CampaignSourceEntry cse : indexedCampaign.getSafeListFor(ListKey.FILE_PCC))
+		{
+			URI fName = cse.getURI();
+			if (PCGFile.isPCGenCampaignFile(fName) && (Globals.getCampaignByURI(fName, false) == null))
+			{
+				try
+				{
+					loadCampaign(fName);
+				}
+				catch (PersistenceLayerException e)
+				{
+					Logging.errorPrint("Recursive init failed on file " + fName, e);
+				}
+				initRecursivePccFiles(Globals.getCampaignByURI(fName, false));
+			}
+		}
+	}
+
 	/**
 	 * This method adds all files from the included campaigns to this one.
 	 * It then strips out the excluded files via a call to stripLstExcludes.
@@ -135,6 +182,103 @@ public class CampaignLoader extends LstLineFileLoader
 		baseCampaign.addAllToListFor(lk, subCampaign.getSafeListFor(lk));
 	}
 
+	/**
+	 * Sets the index from which unchanged campaign files are restored, rather
+	 * than parsed, and to which parsed campaign files are added.
+	 * @param campaignIndex The CampaignIndex to use, or null to always parse
+	 *                      campaign files.
+	 */
+	public void setCampaignIndex(CampaignIndex campaignIndex)
+	{
+		this.campaignIndex = campaignIndex;
+	}
+
+	/**
+	 * Restores a campaign from the campaign index, if the campaign file is
+	 * unchanged since it was indexed, and adds it to the Global container if
+	 * not already added.
+	 * @param filePath The file path of the campaign.
+	 * @return true if the campaign was restored from the index; false if the
+	 *         campaign file must be parsed.
+	 */
+	public boolean restoreCampaign(URI filePath)
+	{
+		Campaign indexed = (campaignIndex == null) ? null : campaignIndex.restore(filePath);
+		if (indexed == null)
+		{
+			return false;
+		}
+		if (Globals.getCampaignByURI(filePath, false) == null)
+		{
+			Globals.addCampaign(indexed);
+		}
+		return true;
+	}
+
+	/**
+	 * Restores a campaign from the campaign index, or parses the campaign LST
+	 * file if it cannot be restored, and adds it to the Global container if
+	 * not already added.
+	 * @param filePath The file path to load.
+	 * @throws PersistenceLayerException  if problems with lst file.
+	 */
+	public void loadCampaign(URI filePath) throws PersistenceLayerException
+	{
+		if (!restoreCampaign(filePath))
+		{
+			loadCampaignLstFile(filePath);
+		}
+	}
+
+	/**
+	 * Reads the given campaigns in full, if they were restored from the
+	 * campaign index, along with the campaigns they include, and adds the
+	 * files of the included campaigns to them.
+	 * @param campaigns The campaigns to be read in full.
+	 */
+	public void loadIndexedCampaigns(Collection<Campaign> campaigns)
+	{
+		// Campaigns that were read in full already hold the files of their sub-campaigns
+		for (Campaign c : Globals.getCampaignList())
+		{
+			if (!c.isIndexed() && !inittedCampaigns.contains(c))
+			{
+				inittedCampaigns.add(c);
+			}
+		}
+		for (Campaign c : campaigns)
+		{
+			if ((c != null) && c.isIndexed())
+			{
+				readIndexedCampaign(c);
+				initRecursivePccFiles(c);
+			}
+		}
+	}
+
+	/**
+	 * Parses the campaign LST file of a campaign restored from the campaign
+	 * index into that campaign, so that it holds every field.
+	 * @param indexed The campaign restored from the campaign index.
+	 */
+	private void readIndexedCampaign(Campaign indexed)
+	{
+		// The other indexed fields are set again by their tokens; these are added to
+		indexed.removeListFor(ListKey.FILE_PCC);
+		indexed.clearPrerequisiteList();
+		campaign = indexed;
+		try
+		{
+			super.loadLstFile(indexed.getCampaignContext(), indexed.getSourceURI());
+			validatePrereqs(indexed.getPrerequisiteList());
+		}
+		catch (PersistenceLayerException e)
+		{
+			Logging.errorPrint("Unable to read campaign " + indexed.getSourceURI(), e);
+		}
+		indexed.setIndexed(false);
+	}
+
 	/**
 	 * Parses a campaign LST file and adds it to the Global container if not already added.
 	 * @param filePath The file path to load.
@@ -150,6 +294,31 @@ public class CampaignLoader extends LstLineFileLoader
 		// this quickly goes to the parseLine method below
 		super.loadLstFile(campaign.getCampaignContext(), filePath);
 
+		addCampaign();
+	}
+
+	/**
+	 * Parses the contents of a campaign LST file, previously read from the
+	 * given file path, and adds it to the Global container if not already
+	 * added.
+	 * @param filePath The file path from which the contents were read.
+	 * @param contents The contents of the campaign LST file.
+	 * @throws PersistenceLayerException  if problems with lst file.
+	 */
+	public void loadCampaignLstFile(URI filePath, String contents) throws PersistenceLayerException
+	{
+		campaign = new Campaign();
+		campaign.setSourceURI(filePath);
+
+		LoadContext context = campaign.getCampaignContext();
+		context.setSourceURI(filePath);
+		super.loadLstString(context, filePath, contents);
+
+		addCampaign();
+	}
+
+	private void addCampaign()
+	{
 		// Make sure this campaign has not already been added to the Global container
 		if (Globals.getCampaignByURI(campaign.getSourceURI(), false) == null)
 		{
@@ -158,6 +327,10 @@ public class CampaignLoader extends LstLineFileLoader
 
 			// Adds this campaign to the Global container.
 			Globals.addCampaign(campaign);
+			if (campaignIndex != null)
+			{
+				campaignIndex.put(campaign);
+			}
 		}
 	}
 
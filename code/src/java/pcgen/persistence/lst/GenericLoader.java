@@ -27,6 +27,7 @@ import pcgen.cdom.base.CDOMObject;
 import pcgen.cdom.enumeration.ObjectKey;
 import pcgen.persistence.SystemLoader;
 import pcgen.rules.context.LoadContext;
+import pcgen.rules.persistence.LoadStringPool;
 
 public class GenericLoader<T extends CDOMObject> extends LstObjectFileLoader<T>
 {
@@ -54,6 +55,12 @@ public class GenericLoader<T extends CDOMObject> extends LstObjectFileLoader<T>
 		baseClass = cl;
 	}
 
+	@Override
+	protected String getProfileName()
+	{
+		return getClass().getSimpleName() + "<" + baseClass.getSimpleName() + ">";
+	}
+
 	@Override
 	public final T parseLine(LoadContext context, T object, String lstLine, SourceEntry source)
 	{
@@ -79,7 +86,7 @@ public class GenericLoader<T extends CDOMObject> extends LstObjectFileLoader<T>
 		final StringTokenizer colToken = new StringTokenizer(lstLine, SystemLoader.TAB_DELIM);
 		if (colToken.hasMoreTokens())
 		{
-			po.setName(colToken.nextToken());
+			po.setName(LoadStringPool.intern(colToken.nextToken()));
 			po.put(ObjectKey.SOURCE_CAMPAIGN, source.getCampaign());
 			po.setSourceURI(source.getURI());
 			if (isnew)
@@ -18,6 +18,7 @@
 package pcgen.persistence.lst;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import pcgen.cdom.base.CDOMObject;
@@ -67,4 +68,10 @@ public class GenericLocalVariableLoader<T extends CDOMObject> extends GenericLoa
 		super.loadLstFiles(subContext, fileList);
 	}
 
+	@Override
+	public Map<T, T> reloadLstFile(LoadContext context, CampaignSourceEntry sourceEntry)
+	{
+		return super.reloadLstFile(context.dropIntoContext(varScope), sourceEntry);
+	}
+
 }
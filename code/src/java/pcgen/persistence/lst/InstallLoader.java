@@ -19,6 +19,7 @@
  */
 package pcgen.persistence.lst;
 
+import java.io.IOException;
 import java.net.URI;
 import java.util.Map;
 
@@ -39,11 +40,12 @@ public class InstallLoader extends LstLineFileLoader
 	private InstallableCampaign campaign = null;
 
 	@Override
-	public void loadLstString(LoadContext context, URI fileName, String lstData) throws PersistenceLayerException
+	protected void loadLstLines(LoadContext context, URI fileName, LstLineReader reader)
+		throws PersistenceLayerException, IOException
 	{
 		campaign = new InstallableCampaign();
 		campaign.setSourceURI(fileName);
-		super.loadLstString(context, fileName, lstData);
+		super.loadLstLines(context, fileName, reader);
 	}
 
 	@Override
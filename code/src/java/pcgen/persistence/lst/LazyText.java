@@ -0,0 +1,238 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.persistence.lst;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import pcgen.persistence.PersistenceLayerException;
+import pcgen.system.PCGenSettings;
+import pcgen.util.Logging;
+
+/**
+ * LazyText is a handle to a piece of text in an LST source file, which is read
+ * back from the file when it is needed instead of being held in memory. When
+ * the lazyText option is set, it is used for long descriptive text (such as
+ * DESC and BENEFIT) that is only needed for display and output, so that a
+ * loaded data set is much smaller when that text is never used.
+ *
+ * Text that has been read is held in a small cache of the most recently used
+ * text. The hash of the text is kept, so that a source file that has changed
+ * since it was loaded is reported rather than returning the wrong text.
+ */
+public final class LazyText
+{
+	/**
+	 * The number of pieces of text held once they have been read.
+	 */
+	private static final int CACHE_SIZE = 256;
+
+	private static final Map<LazyText, String> CACHE = new LinkedHashMap<>(CACHE_SIZE, 0.75f, true)
+	{
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<LazyText, String> eldest)
+		{
+			return size() > CACHE_SIZE;
+		}
+	};
+
+	/**
+	 * The line being processed on each thread, if it was read from a source
+	 * file.
+	 */
+	private static final ThreadLocal<SourceLine> SOURCE_LINE = new ThreadLocal<>();
+
+	private final URI uri;
+	private final long offset;
+	private final int length;
+	private final int hash;
+
+	private LazyText(URI uri, long offset, String text)
+	{
+		this.uri = uri;
+		this.offset = offset;
+		this.length = text.length();
+		this.hash = text.hashCode();
+	}
+
+	/**
+	 * Returns true if descriptive text is to be read from the source files
+	 * when needed, as set by the lazyText option.
+	 *
+	 * @return true if descriptive text is to be read when needed
+	 */
+	public static boolean isEnabled()
+	{
+		return PCGenSettings.OPTIONS_CONTEXT.initBoolean(PCGenSettings.OPTION_LAZY_TEXT, false);
+	}
+
+	/**
+	 * Identifies the line being processed on the current thread, so that
+	 * tokens can locate their values in the source file.
+	 */
+	static void setSourceLine(URI uri, String line, SourceOffsets offsets)
+	{
+		SOURCE_LINE.set(new SourceLine(uri, line, offsets));
+	}
+
+	static void clearSourceLine()
+	{
+		SOURCE_LINE.remove();
+	}
+
+	/**
+	 * Returns a LazyText for text at the start of the value of a token in the
+	 * line being processed on the current thread.
+	 *
+	 * @param tokenName
+	 *            The name of the token
+	 * @param value
+	 *            The value of the token
+	 * @param text
+	 *            The text at the start of the value
+	 * @return A LazyText for the text, or null if the text cannot be located
+	 *         in a source file (in which case the text must be kept in memory)
+	 */
+	public static LazyText forToken(String tokenName, String value, String text)
+	{
+		SourceLine source = SOURCE_LINE.get();
+		if ((source == null) || !value.startsWith(text))
+		{
+			return null;
+		}
+		String token = tokenName + ':' + value;
+		int index = source.line.indexOf(token);
+		while ((index > 0) && (source.line.charAt(index - 1) != '\t'))
+		{
+			index = source.line.indexOf(token, index + 1);
+		}
+		if (index < 0)
+		{
+			return null;
+		}
+		int begin = index + tokenName.length() + 1;
+		long textOffset = source.offsets.getOffset(begin, begin + text.length());
+		if (textOffset < 0)
+		{
+			return null;
+		}
+		return new LazyText(source.uri, textOffset, text);
+	}
+
+	/**
+	 * Returns the text, reading it from the source file if it is not cached.
+	 *
+	 * @return The text, or an empty String if the source file cannot be read
+	 *         or has changed
+	 */
+	public String getText()
+	{
+		synchronized (CACHE)
+		{
+			String text = CACHE.get(this);
+			if (text != null)
+			{
+				return text;
+			}
+		}
+		String text = read();
+		synchronized (CACHE)
+		{
+			CACHE.put(this, text);
+		}
+		return text;
+	}
+
+	private String read()
+	{
+		try (Reader reader = LstFileLoader.openReader(uri, "LazyText.getText"))
+		{
+			if (reader == null)
+			{
+				return "";
+			}
+			long remaining = offset;
+			while (remaining > 0)
+			{
+				long skipped = reader.skip(remaining);
+				if (skipped <= 0)
+				{
+					break;
+				}
+				remaining -= skipped;
+			}
+			char[] chars = new char[length];
+			int read = 0;
+			while (read < length)
+			{
+				int count = reader.read(chars, read, length - read);
+				if (count < 0)
+				{
+					break;
+				}
+				read += count;
+			}
+			String text = new String(chars, 0, read);
+			if ((read == length) && (text.hashCode() == hash))
+			{
+				return text;
+			}
+			Logging.errorPrint("Text at character " + offset + " of " + uri
+				+ " has changed since the source was loaded, reload the sources to see it");
+		}
+		catch (IOException | PersistenceLayerException e)
+		{
+			Logging.errorPrint("Unable to read text from " + uri, e);
+		}
+		return "";
+	}
+
+	/**
+	 * @return The length of the text
+	 */
+	public int length()
+	{
+		return length;
+	}
+
+	/**
+	 * Drops all of the cached text.
+	 */
+	public static void clearCache()
+	{
+		synchronized (CACHE)
+		{
+			CACHE.clear();
+		}
+	}
+
+	private static final class SourceLine
+	{
+		private final URI uri;
+		private final String line;
+		private final SourceOffsets offsets;
+
+		private SourceLine(URI uri, String line, SourceOffsets offsets)
+		{
+			this.uri = uri;
+			this.line = line;
+			this.offsets = offsets;
+		}
+	}
+}
@@ -19,8 +19,11 @@
  */
 package pcgen.persistence.lst;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
@@ -32,6 +35,7 @@ import pcgen.core.utils.CoreUtility;
 import pcgen.core.utils.MessageType;
 import pcgen.core.utils.ShowMessageDelegate;
 import pcgen.persistence.PersistenceLayerException;
+import pcgen.persistence.SourceSnapshot;
 import pcgen.util.Logging;
 
 import org.apache.commons.io.input.BOMInputStream;
@@ -66,6 +70,21 @@ public final class LstFileLoader
 	/** The String that separates individual objects */
 	public static final String LINE_SEPARATOR_REGEXP = "(\r\n?|\n)"; //$NON-NLS-1$
 
+	/** The snapshot from which source files are read, if any. */
+	private static volatile SourceSnapshot snapshot = null;
+
+	/**
+	 * Sets the SourceSnapshot from which source files are read in preference
+	 * to the files themselves.
+	 *
+	 * @param sourceSnapshot The SourceSnapshot to read source files from, or
+	 *                       null to read every source file directly
+	 */
+	public static void setSnapshot(@Nullable SourceSnapshot sourceSnapshot)
+	{
+		snapshot = sourceSnapshot;
+	}
+
 	/**
 	 * This method reads the given URL and stores its contents in the provided
 	 * data buffer, returning a URL to the specified file for use in log/error
@@ -79,54 +98,127 @@ public final class LstFileLoader
 	 */
 	@Nullable
 	public static String readFromURI(URI uri) throws PersistenceLayerException
+	{
+		URL url = toURL(uri, "readFromURI");
+		try
+		{
+			InputStream inputStream = openStream(uri, url);
+			if (inputStream != null)
+			{
+				// Java doesn't handle BOM correctly. See http://bugs.sun.com/bugdatabase/view_bug.do?bug_id=4508058
+				try (var bomInputStream = new BOMInputStream(inputStream))
+				{
+					return new String(bomInputStream.readAllBytes(), StandardCharsets.UTF_8);
+				}
+			}
+		}
+		catch (IOException ioe)
+		{
+			logReadError(url, ioe);
+		}
+		return null;
+	}
+
+	/**
+	 * Opens the given URI for reading one line at a time. The caller is
+	 * responsible for closing the returned LstLineReader.
+	 *
+	 * @param uri            String path of the URL to read -- MUST be a URL path,
+	 *                       not a file!
+	 * @param allowMultiLine true if lines starting with a tab continue the
+	 *                       previous line
+	 * @return A LstLineReader for the contents of the URI, or null if the URI
+	 *         could not be opened (the problem will already have been reported)
+	 * @throws PersistenceLayerException if the URI is null or not a valid URL
+	 */
+	@Nullable
+	public static LstLineReader openLstReader(URI uri, boolean allowMultiLine) throws PersistenceLayerException
+	{
+		Reader reader = openReader(uri, "openLstReader");
+		return (reader == null) ? null : new LstLineReader(reader, allowMultiLine);
+	}
+
+	/**
+	 * Opens the given URI for reading as the decoded text seen by
+	 * LstLineReader, so that character offsets from LstLineReader can be used
+	 * to locate text. The caller is responsible for closing the returned
+	 * Reader.
+	 *
+	 * @param uri    String path of the URL to read -- MUST be a URL path, not
+	 *               a file!
+	 * @param method The name of the calling method, for error messages
+	 * @return A Reader for the contents of the URI, or null if the URI could
+	 *         not be opened (the problem will already have been reported)
+	 * @throws PersistenceLayerException if the URI is null or not a valid URL
+	 */
+	@Nullable
+	static Reader openReader(URI uri, String method) throws PersistenceLayerException
+	{
+		URL url = toURL(uri, method);
+		try
+		{
+			InputStream inputStream = openStream(uri, url);
+			if (inputStream != null)
+			{
+				// Java doesn't handle BOM correctly. See http://bugs.sun.com/bugdatabase/view_bug.do?bug_id=4508058
+				return new InputStreamReader(new BOMInputStream(inputStream), StandardCharsets.UTF_8);
+			}
+		}
+		catch (IOException ioe)
+		{
+			logReadError(url, ioe);
+		}
+		return null;
+	}
+
+	private static URL toURL(URI uri, String method) throws PersistenceLayerException
 	{
 		if (uri == null)
 		{
 			// We have a problem!
-			throw new PersistenceLayerException("LstFileLoader.readFromURI() received a null uri parameter!");
+			throw new PersistenceLayerException("LstFileLoader." + method + "() received a null uri parameter!");
 		}
 
-		URL url;
 		try
 		{
-			url = uri.toURL();
+			return uri.toURL();
 		}
 		catch (MalformedURLException e)
 		{
 			throw new PersistenceLayerException(
-				"LstFileLoader.readFromURI() could not convert parameter to a URL: " + e.getLocalizedMessage(), e);
+				"LstFileLoader." + method + "() could not convert parameter to a URL: " + e.getLocalizedMessage(), e);
 		}
+	}
 
-		try
+	@Nullable
+	private static InputStream openStream(URI uri, URL url) throws IOException
+	{
+		SourceSnapshot sourceSnapshot = snapshot;
+		byte[] contents = (sourceSnapshot == null) ? null : sourceSnapshot.getContents(uri);
+		if (contents != null)
 		{
-			//only load local urls, unless loading of URLs is allowed
-			if (!CoreUtility.isNetURL(url) || SettingsHandler.isLoadURLs())
-			{
-				InputStream inputStream = url.openStream();
-				// Java doesn't handle BOM correctly. See http://bugs.sun.com/bugdatabase/view_bug.do?bug_id=4508058
-				try (var bomInputStream = new BOMInputStream(inputStream))
-				{
-					return new String(bomInputStream.readAllBytes(), StandardCharsets.UTF_8);
-				}
-			}
-			else
-			{
-				// Just to protect people from using web
-				// sources without their knowledge,
-				// we added a preference.
-				ShowMessageDelegate.showMessageDialog("Preferences are currently set to NOT allow\nloading of "
-					+ "sources from web links. \n" + url + " is a web link", Constants.APPLICATION_NAME,
-					MessageType.ERROR);
-			}
+			return new ByteArrayInputStream(contents);
 		}
-		catch (IOException ioe)
+		//only load local urls, unless loading of URLs is allowed
+		if (!CoreUtility.isNetURL(url) || SettingsHandler.isLoadURLs())
 		{
-			// Don't throw an exception here because a simple
-			// file not found will prevent ANY other files from
-			// being loaded/processed -- NOT what we want
-			Logging.errorPrint("ERROR:" + url + '\n' + "Exception type:" + ioe.getClass().getName() + "\n" + "Message:"
-				+ ioe.getMessage(), ioe);
+			return url.openStream();
 		}
+		// Just to protect people from using web
+		// sources without their knowledge,
+		// we added a preference.
+		ShowMessageDelegate.showMessageDialog("Preferences are currently set to NOT allow\nloading of "
+			+ "sources from web links. \n" + url + " is a web link", Constants.APPLICATION_NAME,
+			MessageType.ERROR);
 		return null;
 	}
+
+	private static void logReadError(URL url, IOException ioe)
+	{
+		// Don't throw an exception here because a simple
+		// file not found will prevent ANY other files from
+		// being loaded/processed -- NOT what we want
+		Logging.errorPrint("ERROR:" + url + '\n' + "Exception type:" + ioe.getClass().getName() + "\n" + "Message:"
+			+ ioe.getMessage(), ioe);
+	}
 }
@@ -19,15 +19,21 @@
  */
 package pcgen.persistence.lst;
 
+import java.io.IOException;
 import java.net.URI;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Observable;
 import java.util.Set;
-import java.util.StringTokenizer;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import pcgen.persistence.PersistenceLayerException;
 import pcgen.rules.context.LoadContext;
+import pcgen.util.LoadProfiler;
+import pcgen.util.LoadWorkerPool;
 
 /**
  * This class is an extension of the LstFileLoader that loads items
@@ -49,6 +55,9 @@ public abstract class LstLineFileLoader extends Observable
 	// TODO - Should be a constant.
 	protected String gameMode = "*"; //$NON-NLS-1$
 
+	/** The pending reads of files submitted by prefetchLstFile. */
+	private final Map<URI, Future<String>> prefetchedFiles = new HashMap<>();
+
 	/**
 	 * This method loads a single LST formatted file.
 	 *
@@ -59,12 +68,89 @@ public abstract class LstLineFileLoader extends Observable
 	 */
 	public void loadLstFile(LoadContext context, URI uri) throws PersistenceLayerException
 	{
-		String dataBuffer = LstFileLoader.readFromURI(uri);
-		if (context != null)
+		Future<String> pending = prefetchedFiles.remove(uri);
+		if (pending != null)
+		{
+			String contents = getPrefetchedContents(uri, pending);
+			if (contents == null)
+			{
+				throw new PersistenceLayerException("Unable to open " + uri);
+			}
+			if (context != null)
+			{
+				context.setSourceURI(uri);
+			}
+			loadLstString(context, uri, contents);
+			return;
+		}
+		try (LstLineReader reader = LstFileLoader.openLstReader(uri, false))
+		{
+			if (reader == null)
+			{
+				throw new PersistenceLayerException("Unable to open " + uri);
+			}
+			if (context != null)
+			{
+				context.setSourceURI(uri);
+			}
+			loadLstLines(context, uri, reader);
+		}
+		catch (IOException e)
+		{
+			throw new PersistenceLayerException("Unable to read " + uri + ": " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Submits the reading of the given file to the LoadWorkerPool, so that it
+	 * has been read by the time loadLstFile is called for it. The file is
+	 * still parsed on the thread that calls loadLstFile.
+	 *
+	 * @param uri The file to be read
+	 */
+	public void prefetchLstFile(URI uri)
+	{
+		prefetchedFiles.computeIfAbsent(uri,
+			u -> LoadWorkerPool.getExecutor().submit(() -> LstFileLoader.readFromURI(u)));
+	}
+
+	/**
+	 * Cancels the reading of any file submitted by prefetchLstFile that has
+	 * not been loaded.
+	 */
+	public void clearPrefetchedFiles()
+	{
+		for (Future<String> pending : prefetchedFiles.values())
+		{
+			pending.cancel(true);
+		}
+		prefetchedFiles.clear();
+	}
+
+	private static String getPrefetchedContents(URI uri, Future<String> pending) throws PersistenceLayerException
+	{
+		try
+		{
+			return pending.get();
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new PersistenceLayerException("Interrupted while reading " + uri, e);
+		}
+		catch (ExecutionException e)
 		{
-			context.setSourceURI(uri);
+			Throwable cause = e.getCause();
+			if (cause instanceof PersistenceLayerException)
+			{
+				throw (PersistenceLayerException) cause;
+			}
+			if (cause instanceof RuntimeException)
+			{
+				throw (RuntimeException) cause;
+			}
+			throw new PersistenceLayerException(String.valueOf(cause.getMessage()), cause);
 		}
-		loadLstString(context, uri, dataBuffer);
 	}
 
 	/**
@@ -78,12 +164,36 @@ public abstract class LstLineFileLoader extends Observable
 	 */
 	public void loadLstString(LoadContext context, URI uri, final String aString) throws PersistenceLayerException
 	{
-		final String newlinedelim = "\r\n";
-		final StringTokenizer fileLines = new StringTokenizer(aString, newlinedelim);
+		try
+		{
+			loadLstLines(context, uri, LstLineReader.forString(aString));
+		}
+		catch (IOException e)
+		{
+			//Can't happen when reading from a String
+			throw new PersistenceLayerException(e);
+		}
+	}
 
-		while (fileLines.hasMoreTokens())
+	/**
+	 * This method loads the lines of a single LST formatted file. Subclasses
+	 * that need to initialize or verify state for each file should override
+	 * this method.
+	 *
+	 * @param context the context
+	 * @param uri String containing the absolute file path
+	 * or the URL from which the LST formatted data is read.
+	 * @param reader The LstLineReader providing the LST formatted data
+	 * @throws PersistenceLayerException the persistence layer exception
+	 * @throws IOException if the LST formatted data cannot be read
+	 */
+	protected void loadLstLines(LoadContext context, URI uri, LstLineReader reader)
+		throws PersistenceLayerException, IOException
+	{
+		String line;
+		while ((line = reader.readLine()) != null)
 		{
-			String line = fileLines.nextToken().trim();
+			line = line.trim();
 
 			// check for comments and blank lines
 			if ((line.isEmpty()) || (line.charAt(0) == LstFileLoader.LINE_COMMENT_CHAR))
@@ -116,6 +226,14 @@ public abstract class LstLineFileLoader extends Observable
 	 *         LST syntax
 	 */
 	public void loadLstFiles(LoadContext context, List<CampaignSourceEntry> fileList) throws PersistenceLayerException
+	{
+		try (LoadProfiler.Sample sample = LoadProfiler.begin(LoadProfiler.LOADER, getClass().getSimpleName()))
+		{
+			loadLstFileList(context, fileList);
+		}
+	}
+
+	private void loadLstFileList(LoadContext context, List<CampaignSourceEntry> fileList) throws PersistenceLayerException
 	{
 		// Track which sources have been loaded already
 		Set<CampaignSourceEntry> loadedFiles = new HashSet<>();
@@ -126,7 +244,10 @@ public abstract class LstLineFileLoader extends Observable
 			// Check if the CSE has already been loaded before loading it
 			if (!loadedFiles.contains(cse))
 			{
-				loadLstFile(context, cse.getURI());
+				try (LoadProfiler.Sample sample = LoadProfiler.begin(LoadProfiler.FILE, cse.getURI().toString()))
+				{
+					loadLstFile(context, cse.getURI());
+				}
 				loadedFiles.add(cse);
 			}
 		}
@@ -0,0 +1,221 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.persistence.lst;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * LstLineReader reads the lines of an LST file one at a time, without building
+ * a copy of the whole file in memory.
+ *
+ * <p>
+ * Lines may be terminated by "\r\n", "\r" or "\n" (matching
+ * LstFileLoader.LINE_SEPARATOR_REGEXP). If multi-line support is enabled, a
+ * line that starts with a tab (and follows a "\n" or "\r\n" terminator) is a
+ * continuation of the previous line: the line terminator is dropped and the
+ * tab is kept as the field separator.
+ *
+ * <p>
+ * The reader tracks the physical line number (in the source file) of the first
+ * line of the most recently returned line, for use in error messages, and the
+ * character offsets in the source file of the parts of that line, so that text
+ * can later be read back from the source file (see LazyText).
+ *
+ * <p>
+ * Instances of LstLineReader are not thread-safe.
+ */
+public final class LstLineReader implements Closeable
+{
+	private static final int BUFFER_SIZE = 8192;
+
+	private final Reader reader;
+	private final boolean allowMultiLine;
+	private final char[] buffer = new char[BUFFER_SIZE];
+	private final StringBuilder line = new StringBuilder(256);
+	private int position = 0;
+	private int limit = 0;
+	private int nextLineNumber = 1;
+	private int lineNumber = 0;
+
+	/**
+	 * The character offset in the source file of buffer[0].
+	 */
+	private long bufferOffset = 0;
+
+	/**
+	 * The number of parts of the most recently returned line; more than one if
+	 * the line has continuations.
+	 */
+	private int segmentCount = 0;
+	private int[] segmentStarts = new int[1];
+	private long[] segmentOffsets = new long[1];
+
+	/**
+	 * Constructs a new LstLineReader for the given Reader.
+	 *
+	 * @param reader
+	 *            The Reader providing the (already decoded) contents of the file
+	 * @param allowMultiLine
+	 *            true if lines starting with a tab continue the previous line
+	 */
+	public LstLineReader(Reader reader, boolean allowMultiLine)
+	{
+		this.reader = Objects.requireNonNull(reader);
+		this.allowMultiLine = allowMultiLine;
+	}
+
+	/**
+	 * Constructs a new LstLineReader for the given LST data, without
+	 * multi-line support.
+	 *
+	 * @param lstData
+	 *            The LST formatted data
+	 * @return A LstLineReader for the given LST data
+	 */
+	public static LstLineReader forString(String lstData)
+	{
+		return new LstLineReader(new StringReader(lstData), false);
+	}
+
+	/**
+	 * Returns the next line, or null if the end of the file has been reached.
+	 * The returned line does not include the line terminator.
+	 *
+	 * @return The next line, or null if the end of the file has been reached
+	 * @throws IOException
+	 *             if the underlying Reader fails
+	 */
+	public String readLine() throws IOException
+	{
+		line.setLength(0);
+		lineNumber = nextLineNumber;
+		segmentCount = 0;
+		addSegment();
+		boolean readAny = false;
+		while (true)
+		{
+			if ((position >= limit) && !fill())
+			{
+				return readAny ? line.toString() : null;
+			}
+			readAny = true;
+			char c = buffer[position++];
+			if ((c != '\n') && (c != '\r'))
+			{
+				line.append(c);
+				continue;
+			}
+			nextLineNumber++;
+			boolean newline = (c == '\n');
+			if (c == '\r')
+			{
+				if ((position >= limit) && !fill())
+				{
+					return line.toString();
+				}
+				if (buffer[position] == '\n')
+				{
+					position++;
+					newline = true;
+				}
+			}
+			if (!allowMultiLine || !newline)
+			{
+				return line.toString();
+			}
+			if ((position >= limit) && !fill())
+			{
+				return line.toString();
+			}
+			if (buffer[position] != '\t')
+			{
+				return line.toString();
+			}
+			//Continuation: keep the tab as the field separator
+			addSegment();
+		}
+	}
+
+	/**
+	 * Records that the next character appended to the line is the character at
+	 * the current position in the source file.
+	 */
+	private void addSegment()
+	{
+		if (segmentCount == segmentStarts.length)
+		{
+			segmentStarts = Arrays.copyOf(segmentStarts, segmentCount * 2);
+			segmentOffsets = Arrays.copyOf(segmentOffsets, segmentCount * 2);
+		}
+		segmentStarts[segmentCount] = line.length();
+		segmentOffsets[segmentCount] = bufferOffset + position;
+		segmentCount++;
+	}
+
+	/**
+	 * Returns the line number (in the source file) of the first line of the
+	 * line most recently returned by readLine.
+	 *
+	 * @return The line number of the most recently returned line
+	 */
+	public int getLineNumber()
+	{
+		return lineNumber;
+	}
+
+	/**
+	 * Returns the character offsets in the source file of the parts of the
+	 * line most recently returned by readLine.
+	 *
+	 * @return The SourceOffsets of the most recently returned line
+	 */
+	SourceOffsets getSourceOffsets()
+	{
+		return new SourceOffsets(Arrays.copyOf(segmentStarts, segmentCount),
+			Arrays.copyOf(segmentOffsets, segmentCount));
+	}
+
+	private boolean fill() throws IOException
+	{
+		bufferOffset += limit;
+		int read;
+		do
+		{
+			read = reader.read(buffer, 0, BUFFER_SIZE);
+		}
+		while (read == 0);
+		if (read < 0)
+		{
+			position = 0;
+			limit = 0;
+			return false;
+		}
+		position = 0;
+		limit = read;
+		return true;
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		reader.close();
+	}
+}
@@ -19,15 +19,28 @@
  */
 package pcgen.persistence.lst;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Observable;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import pcgen.cdom.base.CDOMObject;
 import pcgen.cdom.enumeration.ObjectKey;
@@ -35,8 +48,11 @@ import pcgen.cdom.enumeration.StringKey;
 import pcgen.core.Campaign;
 import pcgen.persistence.PersistenceLayerException;
 import pcgen.rules.context.LoadContext;
+import pcgen.rules.persistence.LoadStringPool;
 import pcgen.system.LanguageBundle;
 import pcgen.system.PCGenSettings;
+import pcgen.util.LoadProfiler;
+import pcgen.util.LoadWorkerPool;
 import pcgen.util.Logging;
 
 /**
@@ -64,32 +80,89 @@ public abstract class LstObjectFileLoader<T extends CDOMObject> extends Observab
 	private boolean processComplete = true;
 	/** A list of objects that will not be included. */
 	private final Collection<String> excludedObjects = new ArrayList<>();
+	/** Files that have been submitted for reading but not yet processed. */
+	private final Map<CampaignSourceEntry, Future<LstFileContents>> prefetchedFiles = new HashMap<>();
+	/** Files that are to be prefetched once earlier files have been processed. */
+	private final Deque<CampaignSourceEntry> unfetchedFiles = new ArrayDeque<>();
+	private boolean prefetchMultiLine;
+	private boolean prefetchLazyText;
+	/** The objects defined by each file that has been loaded, in load order. */
+	private final Map<URI, List<T>> loadedObjects = new HashMap<>();
+	/** The objects defined by the file being loaded. */
+	private List<T> fileObjects = null;
+	/** Files that contain .COPY, .MOD or .FORGET lines. */
+	private final Set<URI> modifyingFiles = new HashSet<>();
+	/**
+	 * The keys of the objects that are copied, modified or forgotten (without
+	 * any category).
+	 */
+	private final Set<String> modifiedKeys = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
 
 	/**
 	 * This method loads the given list of LST files.
+	 * 
+	 * If parallel source loading is enabled, the files are read and split
+	 * into lines on the shared LoadWorkerPool while earlier files are being
+	 * parsed. Only a few files are read ahead of the one being parsed (see
+	 * getPrefetchLimit), so the memory held by files waiting to be parsed is
+	 * bounded. Only the reading and splitting run in parallel: the tokens
+	 * (parseLine) are still parsed one line at a time on the calling thread,
+	 * because the LoadContext and the token parsers are not thread-safe. The
+	 * lines are parsed in the original order of fileList, so the results
+	 * (including .COPY, .MOD and .FORGET ordering) are identical to a serial
+	 * load, and the time saved is at most the time spent reading the files.
+	 * 
 	 * @param fileList containing the list of files to read
 	 * @throws PersistenceLayerException 
 	 */
 	public void loadLstFiles(LoadContext context, List<CampaignSourceEntry> fileList) throws PersistenceLayerException
+	{
+		try (LoadProfiler.Sample sample = LoadProfiler.begin(LoadProfiler.LOADER, getProfileName()))
+		{
+			loadLstFileList(context, fileList);
+		}
+	}
+
+	private void loadLstFileList(LoadContext context, List<CampaignSourceEntry> fileList) throws PersistenceLayerException
 	{
 		processComplete = true;
+		if (PCGenSettings.OPTIONS_CONTEXT.initBoolean(PCGenSettings.OPTION_PARALLEL_SOURCE_LOAD, false))
+		{
+			prefetchLstFiles(fileList);
+		}
 		// Track which sources have been loaded already
 		Set<CampaignSourceEntry> loadedFiles = new HashSet<>();
 
-		// Load the files themselves as thoroughly as possible
-		for (CampaignSourceEntry sourceEntry : fileList)
+		try
 		{
-			if (sourceEntry == null)
+			// Load the files themselves as thoroughly as possible
+			for (CampaignSourceEntry sourceEntry : fileList)
 			{
-				continue;
-			}
+				if (sourceEntry == null)
+				{
+					continue;
+				}
 
-			// Check if the CSE has already been loaded before loading it
-			if (!loadedFiles.contains(sourceEntry))
+				// Check if the CSE has already been loaded before loading it
+				if (!loadedFiles.contains(sourceEntry))
+				{
+					try (LoadProfiler.Sample sample =
+							LoadProfiler.begin(LoadProfiler.FILE, sourceEntry.getURI().toString()))
+					{
+						loadLstFile(context, sourceEntry);
+					}
+					loadedFiles.add(sourceEntry);
+				}
+			}
+		}
+		finally
+		{
+			for (Future<LstFileContents> pending : prefetchedFiles.values())
 			{
-				loadLstFile(context, sourceEntry);
-				loadedFiles.add(sourceEntry);
+				pending.cancel(true);
 			}
+			prefetchedFiles.clear();
+			unfetchedFiles.clear();
 		}
 
 		// Next we perform copy operations
@@ -103,6 +176,70 @@ public abstract class LstObjectFileLoader<T extends CDOMObject> extends Observab
 		processForgets(context);
 	}
 
+	/**
+	 * Returns the name under which the time spent by this loader is recorded
+	 * by the LoadProfiler.
+	 * 
+	 * @return The name of this loader in a load profile
+	 */
+	protected String getProfileName()
+	{
+		return getClass().getSimpleName();
+	}
+
+	/**
+	 * Queues the given files to be read on the LoadWorkerPool, and submits the
+	 * first of them. The results are picked up in order by loadLstFile, which
+	 * submits the following files as the earlier ones are taken.
+	 * 
+	 * @param fileList The list of files to be read
+	 */
+	private void prefetchLstFiles(List<CampaignSourceEntry> fileList)
+	{
+		prefetchMultiLine =
+				PCGenSettings.OPTIONS_CONTEXT.initBoolean(PCGenSettings.OPTION_SOURCES_ALLOW_MULTI_LINE, false);
+		prefetchLazyText = LazyText.isEnabled();
+		Set<CampaignSourceEntry> queued = new HashSet<>();
+		for (CampaignSourceEntry sourceEntry : fileList)
+		{
+			if ((sourceEntry != null) && queued.add(sourceEntry))
+			{
+				unfetchedFiles.add(sourceEntry);
+			}
+		}
+		fillPrefetchWindow();
+	}
+
+	/**
+	 * Submits queued files to the LoadWorkerPool until the number of files
+	 * read ahead reaches the prefetch limit.
+	 */
+	private void fillPrefetchWindow()
+	{
+		int limit = getPrefetchLimit();
+		while ((prefetchedFiles.size() < limit) && !unfetchedFiles.isEmpty())
+		{
+			CampaignSourceEntry sourceEntry = unfetchedFiles.poll();
+			URI uri = sourceEntry.getURI();
+			boolean allowMultiLine = prefetchMultiLine;
+			boolean lazyText = prefetchLazyText;
+			prefetchedFiles.put(sourceEntry,
+				LoadWorkerPool.getExecutor().submit(() -> readLstFile(uri, allowMultiLine, lazyText)));
+		}
+	}
+
+	/**
+	 * Returns the maximum number of files that are read ahead of the file
+	 * being parsed: enough to keep each worker busy with one file while the
+	 * results of another are waiting.
+	 * 
+	 * @return The maximum number of files read ahead
+	 */
+	private static int getPrefetchLimit()
+	{
+		return 2 * LoadWorkerPool.getPoolSize();
+	}
+
 	/**
 	 * This method parses the LST file line, applying it to the provided target
 	 * object.  If the line indicates the start of a new target object, a new
@@ -157,6 +294,10 @@ public abstract class LstObjectFileLoader<T extends CDOMObject> extends Observab
 		if (includeObject(source, pObj))
 		{
 			storeObject(context, pObj);
+			if (fileObjects != null)
+			{
+				fileObjects.add(pObj);
+			}
 		}
 		else
 		{
@@ -277,56 +418,60 @@ public abstract class LstObjectFileLoader<T extends CDOMObject> extends Observab
 		setChanged();
 		URI uri = sourceEntry.getURI();
 		notifyObservers(uri);
-		String dataBuffer;
+		List<T> objects = new ArrayList<>();
+		fileObjects = objects;
 		try
 		{
-			dataBuffer = LstFileLoader.readFromURI(uri);
+			LstFileContents contents = getPrefetchedContents(sourceEntry);
+			if (contents != null)
+			{
+				loadLstFileContents(context, sourceEntry, contents.lines.iterator());
+			}
+			else
+			{
+				// Lines are parsed as they are read, so the file is never held in memory
+				boolean allowMultiLine =
+						PCGenSettings.OPTIONS_CONTEXT.initBoolean(PCGenSettings.OPTION_SOURCES_ALLOW_MULTI_LINE, false);
+				try (LstLineReader reader = openLstFile(uri, allowMultiLine))
+				{
+					loadLstFileContents(context, sourceEntry, new LstLineIterator(reader, LazyText.isEnabled()));
+				}
+			}
 		}
-		catch (PersistenceLayerException ple)
+		catch (PersistenceLayerException | IOException | UncheckedIOException e)
 		{
 			String message = LanguageBundle.getFormattedString("Errors.LstFileLoader.LoadError", //$NON-NLS-1$
-				uri, ple.getMessage());
-			Logging.errorPrint(message, ple);
+				uri, e.getMessage());
+			Logging.errorPrint(message, e);
 			setChanged();
 			return;
 		}
-		String aString = Objects.requireNonNull(dataBuffer);
+		finally
+		{
+			fileObjects = null;
+		}
+		loadedObjects.put(uri, objects);
+	}
+
+	private void loadLstFileContents(LoadContext context, CampaignSourceEntry sourceEntry, Iterator<LstLine> lines)
+	{
+		URI uri = sourceEntry.getURI();
 		if (context != null)
 		{
 			context.setSourceURI(uri);
 		}
 		T target = null;
 		ArrayList<ModEntry> classModLines = null;
-		boolean allowMultiLine =
-				PCGenSettings.OPTIONS_CONTEXT.initBoolean(PCGenSettings.OPTION_SOURCES_ALLOW_MULTI_LINE, false);
-		if (allowMultiLine)
-		{
-			// Support the new file type. All lines that start with a tab belong to the previous line.
-			aString = aString.replaceAll("\r?\n\t", "\t");
-		}
-		String[] fileLines = aString.split(LstFileLoader.LINE_SEPARATOR_REGEXP);
-		for (int i = 0; i < fileLines.length; i++)
+		while (lines.hasNext())
 		{
-			String line = fileLines[i];
-			if ((line.trim().isEmpty()) || (line.charAt(0) == LstFileLoader.LINE_COMMENT_CHAR))
-			{
-				continue;
-			}
-			int sepLoc = line.indexOf(FIELD_SEPARATOR);
-			String firstToken;
-			if (sepLoc == -1)
-			{
-				firstToken = line;
-			}
-			else
-			{
-				firstToken = line.substring(0, sepLoc);
-			}
+			LstLine lstLine = lines.next();
+			String line = lstLine.line;
+			int lineNumber = lstLine.lineNumber;
 			// Check for continuation of class mods
 			if (classModLines != null)
 			{
 				// TODO - Figure out why we need to check CLASS: in this file.
-				if (firstToken.startsWith("CLASS:")) //$NON-NLS-1$
+				if (lstLine.firstToken.startsWith("CLASS:")) //$NON-NLS-1$
 				{
 					modEntryList.add(classModLines);
 					classModLines = null;
@@ -334,70 +479,52 @@ public abstract class LstObjectFileLoader<T extends CDOMObject> extends Observab
 				else
 				{
 					// Add the line to the class mod and don't process it yet.
-					classModLines.add(new ModEntry(sourceEntry, line, i + 1));
+					classModLines.add(new ModEntry(sourceEntry, line, lineNumber));
 					continue;
 				}
 			}
-			// check for copies, mods, and forgets
-			// TODO - Figure out why we need to check SOURCE in this file
-			if (line.startsWith("SOURCE")) //$NON-NLS-1$
-			{
-				SourceLoader.parseLine(context, line, uri);
-			}
-			else if (firstToken.indexOf(COPY_SUFFIX) > 0)
+			switch (lstLine.lineType)
 			{
-				copyLineList.add(new ModEntry(sourceEntry, line, i + 1));
-			}
-			else if (firstToken.indexOf(MOD_SUFFIX) > 0)
-			{
-				// TODO - Figure out why we need to check CLASS: in this file.
-				if (firstToken.startsWith("CLASS:")) //$NON-NLS-1$
-				{
+				case SOURCE:
+					SourceLoader.parseLine(context, line, uri);
+					break;
+				case COPY:
+					copyLineList.add(new ModEntry(sourceEntry, line, lineNumber));
+					modifyingFiles.add(uri);
+					break;
+				case CLASS_MOD:
 					// As CLASS:abc.MOD can be followed by level lines, we place the
 					// lines into a list for processing in a group afterwards
 					classModLines = new ArrayList<>();
-					classModLines.add(new ModEntry(sourceEntry, line, i + 1));
-				}
-				else
-				{
+					classModLines.add(new ModEntry(sourceEntry, line, lineNumber));
+					modifyingFiles.add(uri);
+					break;
+				case MOD:
 					List<ModEntry> modLines = new ArrayList<>(1);
-					modLines.add(new ModEntry(sourceEntry, line, i + 1));
+					modLines.add(new ModEntry(sourceEntry, line, lineNumber));
 					modEntryList.add(modLines);
-				}
-			}
-			else if (firstToken.indexOf(FORGET_SUFFIX) > 0)
-			{
-				forgetLineList.add(line);
-			}
-			else
-			{
-				try
-				{
-					target = parseLine(context, target, line, sourceEntry);
-				}
-				catch (PersistenceLayerException ple)
-				{
-					String message = LanguageBundle.getFormattedString("Errors.LstFileLoader.ParseError", //$NON-NLS-1$
-						uri, i + 1, ple.getMessage());
-					Logging.errorPrint(message);
-					setChanged();
-					if (Logging.isDebugMode())
+					modifyingFiles.add(uri);
+					break;
+				case FORGET:
+					forgetLineList.add(line);
+					modifyingFiles.add(uri);
+					break;
+				default:
+					if (lstLine.offsets == null)
 					{
-						Logging.debugPrint("Parse error:", ple); //$NON-NLS-1$
+						target = parseObjectLine(context, target, line, sourceEntry, lineNumber);
+						break;
 					}
-				}
-				catch (Throwable t)
-				{
-					String message = LanguageBundle.getFormattedString("Errors.LstFileLoader.ParseError", //$NON-NLS-1$
-						uri, i + 1, t.getMessage());
-					Logging.errorPrint(message, t);
-					setChanged();
-					Logging.errorPrint(LanguageBundle.getString("Errors.LstFileLoader.Ignoring: " + t.getMessage()));
-					if (Logging.isDebugMode())
+					LazyText.setSourceLine(uri, line, lstLine.offsets);
+					try
 					{
-						Logging.errorPrint(LanguageBundle.getString("Errors.LstFileLoader.Ignoring"), t);
+						target = parseObjectLine(context, target, line, sourceEntry, lineNumber);
 					}
-				}
+					finally
+					{
+						LazyText.clearSourceLine();
+					}
+					break;
 			}
 		}
 		if (classModLines != null)
@@ -410,6 +537,281 @@ public abstract class LstObjectFileLoader<T extends CDOMObject> extends Observab
 		}
 	}
 
+	private void recordModifiedKey(String key)
+	{
+		modifiedKeys.add(key.substring(key.lastIndexOf('|') + 1));
+	}
+
+	/**
+	 * Returns the objects that were defined by the given file, if the file can
+	 * be reloaded by reloadLstFile. A file cannot be reloaded if it contains
+	 * .COPY, .MOD or .FORGET lines, or if any object it defined has been
+	 * copied, modified or forgotten, or has been overridden by an object from
+	 * another file.
+	 * 
+	 * @param context
+	 *            The LoadContext into which the file was loaded
+	 * @param uri
+	 *            The URI of the file
+	 * @return The objects defined by the file, or null if the file was not
+	 *         loaded by this loader or cannot be reloaded
+	 */
+	public List<T> getReloadableObjects(LoadContext context, URI uri)
+	{
+		List<T> objects = loadedObjects.get(uri);
+		if ((objects == null) || modifyingFiles.contains(uri))
+		{
+			return null;
+		}
+		for (T obj : objects)
+		{
+			if (modifiedKeys.contains(obj.getKeyName()) || (getMatchingObject(context, obj) != obj))
+			{
+				return null;
+			}
+		}
+		return Collections.unmodifiableList(objects);
+	}
+
+	/**
+	 * Reloads a file that was loaded by this loader after the data set was
+	 * fully loaded, replacing the objects it defined (as returned by
+	 * getReloadableObjects) with new objects parsed from the current contents
+	 * of the file. The old objects are forgotten by the reference context.
+	 * 
+	 * This is only supported by loaders that define each object on a single
+	 * line, and only if the reloaded file defines objects with the same keys,
+	 * in the same order, as it did when it was loaded. Resolving references to
+	 * the new objects is the responsibility of the caller.
+	 * 
+	 * @param context
+	 *            The LoadContext into which the file was loaded
+	 * @param sourceEntry
+	 *            The CampaignSourceEntry identifying the file
+	 * @return The objects that were defined by the file, mapped to the objects
+	 *         that replaced them; or null if the file cannot be reloaded, in
+	 *         which case the LoadContext may have been changed and the data
+	 *         set must be loaded again
+	 */
+	public Map<T, T> reloadLstFile(LoadContext context, CampaignSourceEntry sourceEntry)
+	{
+		URI uri = sourceEntry.getURI();
+		List<T> oldObjects = getReloadableObjects(context, uri);
+		if (oldObjects == null)
+		{
+			return null;
+		}
+		LstFileContents contents;
+		try
+		{
+			contents = getLstFileContents(sourceEntry);
+		}
+		catch (PersistenceLayerException ple)
+		{
+			Logging.errorPrint("Unable to reload " + uri, ple);
+			return null;
+		}
+		for (LstLine lstLine : contents.lines)
+		{
+			if ((lstLine.lineType != LstLineType.OBJECT) && (lstLine.lineType != LstLineType.SOURCE))
+			{
+				return null;
+			}
+		}
+		for (T obj : oldObjects)
+		{
+			context.getReferenceContext().forget(obj);
+		}
+		List<T> newObjects = new ArrayList<>();
+		fileObjects = newObjects;
+		try
+		{
+			loadLstFileContents(context, sourceEntry, contents.lines.iterator());
+		}
+		finally
+		{
+			fileObjects = null;
+		}
+		loadedObjects.put(uri, newObjects);
+		if (newObjects.size() != oldObjects.size())
+		{
+			return null;
+		}
+		Map<T, T> replaced = new IdentityHashMap<>();
+		for (int i = 0; i < newObjects.size(); i++)
+		{
+			T oldObj = oldObjects.get(i);
+			T newObj = newObjects.get(i);
+			if (!oldObj.getClassIdentity().equals(newObj.getClassIdentity())
+				|| !oldObj.getKeyName().equalsIgnoreCase(newObj.getKeyName())
+				|| (getMatchingObject(context, newObj) != newObj))
+			{
+				return null;
+			}
+			replaced.put(oldObj, newObj);
+		}
+		return replaced;
+	}
+
+	private T parseObjectLine(LoadContext context, T target, String line, CampaignSourceEntry sourceEntry,
+		int lineNumber)
+	{
+		URI uri = sourceEntry.getURI();
+		try
+		{
+			return parseLine(context, target, line, sourceEntry);
+		}
+		catch (PersistenceLayerException ple)
+		{
+			String message = LanguageBundle.getFormattedString("Errors.LstFileLoader.ParseError", //$NON-NLS-1$
+				uri, lineNumber, ple.getMessage());
+			Logging.errorPrint(message);
+			setChanged();
+			if (Logging.isDebugMode())
+			{
+				Logging.debugPrint("Parse error:", ple); //$NON-NLS-1$
+			}
+		}
+		catch (Throwable t)
+		{
+			String message = LanguageBundle.getFormattedString("Errors.LstFileLoader.ParseError", //$NON-NLS-1$
+				uri, lineNumber, t.getMessage());
+			Logging.errorPrint(message, t);
+			setChanged();
+			Logging.errorPrint(LanguageBundle.getString("Errors.LstFileLoader.Ignoring: " + t.getMessage()));
+			if (Logging.isDebugMode())
+			{
+				Logging.errorPrint(LanguageBundle.getString("Errors.LstFileLoader.Ignoring"), t);
+			}
+		}
+		return target;
+	}
+
+	/**
+	 * Returns the contents of the given file, either as already read by the
+	 * LoadWorkerPool or by reading the file on the current thread.
+	 * 
+	 * @param sourceEntry The CampaignSourceEntry identifying the file
+	 * @return The contents of the file
+	 * @throws PersistenceLayerException if the file could not be read
+	 */
+	private LstFileContents getLstFileContents(CampaignSourceEntry sourceEntry) throws PersistenceLayerException
+	{
+		LstFileContents contents = getPrefetchedContents(sourceEntry);
+		if (contents == null)
+		{
+			boolean allowMultiLine =
+					PCGenSettings.OPTIONS_CONTEXT.initBoolean(PCGenSettings.OPTION_SOURCES_ALLOW_MULTI_LINE, false);
+			contents = readLstFile(sourceEntry.getURI(), allowMultiLine, LazyText.isEnabled());
+		}
+		return contents;
+	}
+
+	/**
+	 * Returns the contents of the given file as read by the LoadWorkerPool,
+	 * waiting for the read to complete if necessary.
+	 * 
+	 * @param sourceEntry The CampaignSourceEntry identifying the file
+	 * @return The contents of the file, or null if the file was not prefetched
+	 * @throws PersistenceLayerException if the file could not be read
+	 */
+	private LstFileContents getPrefetchedContents(CampaignSourceEntry sourceEntry) throws PersistenceLayerException
+	{
+		Future<LstFileContents> pending = prefetchedFiles.remove(sourceEntry);
+		if (pending == null)
+		{
+			unfetchedFiles.remove(sourceEntry);
+			fillPrefetchWindow();
+			return null;
+		}
+		// Keep the workers reading the following files while this one is parsed
+		fillPrefetchWindow();
+		try
+		{
+			return pending.get();
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new PersistenceLayerException("Interrupted while reading " + sourceEntry.getURI(), e);
+		}
+		catch (ExecutionException e)
+		{
+			Throwable cause = e.getCause();
+			if (cause instanceof PersistenceLayerException)
+			{
+				throw (PersistenceLayerException) cause;
+			}
+			if (cause instanceof RuntimeException)
+			{
+				throw (RuntimeException) cause;
+			}
+			throw new PersistenceLayerException(String.valueOf(cause.getMessage()), cause);
+		}
+	}
+
+	/**
+	 * Reads the given file and splits it into the lines that need to be
+	 * processed, identifying the type of each line. This does not touch any
+	 * loader or LoadContext state, and is therefore safe to call from a
+	 * worker thread.
+	 * 
+	 * @param uri The URI of the file to be read
+	 * @param allowMultiLine true if lines starting with a tab continue the
+	 *            previous line
+	 * @param lazyText true if the source offsets of each line are to be kept,
+	 *            so that tokens can create LazyText
+	 * @return The contents of the file
+	 * @throws PersistenceLayerException if the file could not be read
+	 */
+	private static LstFileContents readLstFile(URI uri, boolean allowMultiLine, boolean lazyText)
+		throws PersistenceLayerException
+	{
+		List<LstLine> lines = new ArrayList<>();
+		try (LstLineReader reader = openLstFile(uri, allowMultiLine))
+		{
+			LstLine lstLine;
+			while ((lstLine = readLstLine(reader, lazyText)) != null)
+			{
+				lines.add(lstLine);
+			}
+		}
+		catch (IOException e)
+		{
+			throw new PersistenceLayerException(e.getMessage(), e);
+		}
+		return new LstFileContents(lines);
+	}
+
+	private static LstLineReader openLstFile(URI uri, boolean allowMultiLine) throws PersistenceLayerException
+	{
+		LstLineReader reader = LstFileLoader.openLstReader(uri, allowMultiLine);
+		if (reader == null)
+		{
+			throw new PersistenceLayerException("Unable to open " + uri);
+		}
+		return reader;
+	}
+
+	/**
+	 * Reads the next line that needs to be processed, skipping blank lines and
+	 * comments.
+	 * 
+	 * @return The next line, or null at the end of the file
+	 */
+	private static LstLine readLstLine(LstLineReader reader, boolean lazyText) throws IOException
+	{
+		String line;
+		while ((line = reader.readLine()) != null)
+		{
+			if (!line.trim().isEmpty() && (line.charAt(0) != LstFileLoader.LINE_COMMENT_CHAR))
+			{
+				return new LstLine(line, reader.getLineNumber(), lazyText ? reader.getSourceOffsets() : null);
+			}
+		}
+		return null;
+	}
+
 	/**
 	 * This method, when implemented, will perform a single .FORGET
 	 * operation.
@@ -445,7 +847,8 @@ public abstract class LstObjectFileLoader<T extends CDOMObject> extends Observab
 		final int nameEnd = name.indexOf(COPY_SUFFIX);
 		final String baseName = name.substring(0, nameEnd);
 		final String copyName = name.substring(nameEnd + 6);
-		T copy = getCopy(context, baseName, copyName.intern(), me.source);
+		recordModifiedKey(baseName);
+		T copy = getCopy(context, baseName, LoadStringPool.intern(copyName), me.source);
 		if (copy != null)
 		{
 			if (sepLoc != -1)
@@ -525,6 +928,7 @@ public abstract class LstObjectFileLoader<T extends CDOMObject> extends Observab
 		{
 			key = key.substring(nameStart + 1);
 		}
+		recordModifiedKey(key);
 
 		// get the actual object to modify
 		T object = context.getReferenceContext().performMod(getObjectKeyed(context, key));
@@ -609,6 +1013,7 @@ public abstract class LstObjectFileLoader<T extends CDOMObject> extends Observab
 		for (String forgetKey : forgetLineList)
 		{
 			forgetKey = forgetKey.substring(0, forgetKey.indexOf(FORGET_SUFFIX));
+			recordModifiedKey(forgetKey);
 
 			if (excludedObjects.contains(forgetKey))
 			{
@@ -700,4 +1105,121 @@ public abstract class LstObjectFileLoader<T extends CDOMObject> extends Observab
 			return lineNumber;
 		}
 	}
+
+	/**
+	 * The type of a line in an LST file, which determines how (and when) the
+	 * line is processed.
+	 */
+	private enum LstLineType
+	{
+		SOURCE, COPY, MOD, CLASS_MOD, FORGET, OBJECT
+	}
+
+	/**
+	 * A single, non-empty and non-comment line of an LST file, along with its
+	 * original line number, type and (if LazyText is enabled) source offsets. Once created, instances of this class are
+	 * immutable.
+	 */
+	private static final class LstLine
+	{
+		private final String line;
+		private final String firstToken;
+		private final int lineNumber;
+		private final SourceOffsets offsets;
+		private final LstLineType lineType;
+
+		private LstLine(String line, int lineNumber, SourceOffsets offsets)
+		{
+			this.line = line;
+			this.lineNumber = lineNumber;
+			this.offsets = offsets;
+			int sepLoc = line.indexOf(FIELD_SEPARATOR);
+			firstToken = (sepLoc == -1) ? line : line.substring(0, sepLoc);
+			// check for copies, mods, and forgets
+			// TODO - Figure out why we need to check SOURCE in this file
+			if (line.startsWith("SOURCE")) //$NON-NLS-1$
+			{
+				lineType = LstLineType.SOURCE;
+			}
+			else if (firstToken.indexOf(COPY_SUFFIX) > 0)
+			{
+				lineType = LstLineType.COPY;
+			}
+			else if (firstToken.indexOf(MOD_SUFFIX) > 0)
+			{
+				// TODO - Figure out why we need to check CLASS: in this file.
+				lineType = firstToken.startsWith("CLASS:") ? LstLineType.CLASS_MOD : LstLineType.MOD; //$NON-NLS-1$
+			}
+			else if (firstToken.indexOf(FORGET_SUFFIX) > 0)
+			{
+				lineType = LstLineType.FORGET;
+			}
+			else
+			{
+				lineType = LstLineType.OBJECT;
+			}
+		}
+	}
+
+	/**
+	 * Reads the lines of an LST file as they are processed. A failure to read
+	 * is thrown as an UncheckedIOException.
+	 */
+	private static final class LstLineIterator implements Iterator<LstLine>
+	{
+		private final LstLineReader reader;
+		private final boolean lazyText;
+		private LstLine next;
+
+		private LstLineIterator(LstLineReader reader, boolean lazyText)
+		{
+			this.reader = reader;
+			this.lazyText = lazyText;
+			next = read();
+		}
+
+		@Override
+		public boolean hasNext()
+		{
+			return next != null;
+		}
+
+		@Override
+		public LstLine next()
+		{
+			if (next == null)
+			{
+				throw new NoSuchElementException();
+			}
+			LstLine current = next;
+			next = read();
+			return current;
+		}
+
+		private LstLine read()
+		{
+			try
+			{
+				return readLstLine(reader, lazyText);
+			}
+			catch (IOException e)
+			{
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
+	/**
+	 * The lines of an LST file that remain to be processed once the file has
+	 * been read.
+	 */
+	private static final class LstFileContents
+	{
+		private final List<LstLine> lines;
+
+		private LstFileContents(List<LstLine> lines)
+		{
+			this.lines = lines;
+		}
+	}
 }
@@ -0,0 +1,61 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.persistence.lst;
+
+/**
+ * SourceOffsets maps the characters of a line returned by LstLineReader to
+ * their character offsets in the source file. A line is made up of one part
+ * for each physical line it was read from (more than one only if multi-line
+ * support is enabled), and the characters of each part are contiguous in the
+ * source file.
+ */
+final class SourceOffsets
+{
+	private final int[] segmentStarts;
+	private final long[] segmentOffsets;
+
+	SourceOffsets(int[] segmentStarts, long[] segmentOffsets)
+	{
+		this.segmentStarts = segmentStarts;
+		this.segmentOffsets = segmentOffsets;
+	}
+
+	/**
+	 * Returns the character offset in the source file of the given range of
+	 * the line, or -1 if the range is split across more than one physical
+	 * line.
+	 *
+	 * @param beginIndex
+	 *            The index of the first character of the range in the line
+	 * @param endIndex
+	 *            The index after the last character of the range in the line
+	 * @return The offset in the source file of the first character of the
+	 *         range, or -1
+	 */
+	long getOffset(int beginIndex, int endIndex)
+	{
+		int segment = segmentStarts.length - 1;
+		while ((segment > 0) && (segmentStarts[segment] > beginIndex))
+		{
+			segment--;
+		}
+		if ((segment + 1 < segmentStarts.length) && (segmentStarts[segment + 1] < endIndex))
+		{
+			return -1;
+		}
+		return segmentOffsets[segment] + beginIndex - segmentStarts[segment];
+	}
+}
@@ -20,6 +20,7 @@
  */
 package pcgen.persistence.lst;
 
+import java.io.IOException;
 import java.net.URI;
 import java.util.HashSet;
 import java.util.List;
@@ -32,6 +33,7 @@ import pcgen.persistence.PersistenceLayerException;
 import pcgen.persistence.SystemLoader;
 import pcgen.rules.context.LoadContext;
 import pcgen.system.LanguageBundle;
+import pcgen.util.LoadProfiler;
 import pcgen.util.Logging;
 
 public class VariableLoader extends Observable
@@ -71,6 +73,14 @@ public class VariableLoader extends Observable
 	 * @param fileList containing the list of files to read.
 	 */
 	public void loadLstFiles(LoadContext context, List<CampaignSourceEntry> fileList)
+	{
+		try (LoadProfiler.Sample sample = LoadProfiler.begin(LoadProfiler.LOADER, getClass().getSimpleName()))
+		{
+			loadLstFileList(context, fileList);
+		}
+	}
+
+	private void loadLstFileList(LoadContext context, List<CampaignSourceEntry> fileList)
 	{
 		// Track which sources have been loaded already
 		Set<CampaignSourceEntry> loadedFiles = new HashSet<>();
@@ -81,7 +91,11 @@ public class VariableLoader extends Observable
 			// Check if the CSE has already been loaded before loading it
 			if (!loadedFiles.contains(sourceEntry))
 			{
-				loadLstFile(context, sourceEntry);
+				try (LoadProfiler.Sample sample =
+						LoadProfiler.begin(LoadProfiler.FILE, sourceEntry.getURI().toString()))
+				{
+					loadLstFile(context, sourceEntry);
+				}
 				loadedFiles.add(sourceEntry);
 			}
 		}
@@ -100,59 +114,54 @@ public class VariableLoader extends Observable
 		URI uri = sourceEntry.getURI();
 		notifyObservers(uri);
 
-		String dataBuffer;
-
-		try
-		{
-			dataBuffer = LstFileLoader.readFromURI(uri);
-		}
-		catch (PersistenceLayerException ple)
-		{
-			String message = LanguageBundle.getFormattedString("Errors.LstFileLoader.LoadError", //$NON-NLS-1$
-				uri, ple.getMessage());
-			Logging.errorPrint(message);
-			setChanged();
-			return;
-		}
-
-		String aString = dataBuffer;
-		if (context != null)
+		try (LstLineReader reader = LstFileLoader.openLstReader(uri, false))
 		{
-			context.setSourceURI(uri);
-		}
-
-		String[] fileLines = aString.split(LstFileLoader.LINE_SEPARATOR_REGEXP);
-
-		for (int i = 0; i < fileLines.length; i++)
-		{
-			String line = fileLines[i];
-			if ((line.isEmpty()) || (line.charAt(0) == LstFileLoader.LINE_COMMENT_CHAR))
+			if (reader == null)
 			{
-				continue;
+				return;
 			}
-
-			if (line.trim().isEmpty())
+			if (context != null)
 			{
-				// Ignore the line
+				context.setSourceURI(uri);
 			}
-			else
+			String line;
+			while ((line = reader.readLine()) != null)
 			{
-				try
+				if ((line.isEmpty()) || (line.charAt(0) == LstFileLoader.LINE_COMMENT_CHAR))
+				{
+					continue;
+				}
+
+				if (line.trim().isEmpty())
 				{
-					parseLine(context, line, sourceEntry);
-				} catch (Throwable t)
+					// Ignore the line
+				}
+				else
 				{
-					String message = LanguageBundle.getFormattedString("Errors.LstFileLoader.ParseError", //$NON-NLS-1$
-						uri, i + 1, t.getMessage());
-					Logging.errorPrint(message, t);
-					setChanged();
-					Logging.errorPrint(LanguageBundle.getString("Errors.LstFileLoader.Ignoring: " + t.getMessage()));
-					if (Logging.isDebugMode())
+					try
 					{
-						Logging.errorPrint(LanguageBundle.getString("Errors.LstFileLoader.Ignoring"), t);
+						parseLine(context, line, sourceEntry);
+					} catch (Throwable t)
+					{
+						String message = LanguageBundle.getFormattedString("Errors.LstFileLoader.ParseError", //$NON-NLS-1$
+							uri, reader.getLineNumber(), t.getMessage());
+						Logging.errorPrint(message, t);
+						setChanged();
+						Logging.errorPrint(LanguageBundle.getString("Errors.LstFileLoader.Ignoring: " + t.getMessage()));
+						if (Logging.isDebugMode())
+						{
+							Logging.errorPrint(LanguageBundle.getString("Errors.LstFileLoader.Ignoring"), t);
+						}
 					}
 				}
 			}
 		}
+		catch (PersistenceLayerException | IOException e)
+		{
+			String message = LanguageBundle.getFormattedString("Errors.LstFileLoader.LoadError", //$NON-NLS-1$
+				uri, e.getMessage());
+			Logging.errorPrint(message);
+			setChanged();
+		}
 	}
 }
@@ -44,6 +44,7 @@ import pcgen.core.GameMode;
 import pcgen.core.Globals;
 import pcgen.core.SystemCollections;
 import pcgen.io.PCGFile;
+import pcgen.persistence.CampaignFileLoader;
 import pcgen.persistence.lst.CampaignSourceEntry;
 import pcgen.system.ConfigurationSettings;
 
@@ -77,6 +78,7 @@ public class VariableReport
 		Map<String, Integer> gameModeVarCountMap = new TreeMap<>();
 		for (GameMode gameMode : games)
 		{
+			gameMode.loadDefinition();
 			List<VarDefine> varList = new ArrayList<>();
 			Map<String, Integer> varCountMap = new HashMap<>();
 			Set<File> processedLstFiles = new HashSet<>();
@@ -162,7 +164,9 @@ public class VariableReport
 			}
 		}
 
-		return new ArrayList<>(gameModeCampaigns);
+		List<Campaign> campaigns = new ArrayList<>(gameModeCampaigns);
+		CampaignFileLoader.loadIndexedCampaigns(campaigns);
+		return campaigns;
 	}
 
 	private List<File> processCampaign(Campaign campaign, List<VarDefine> varList, Map<String, Integer> varCountMap,
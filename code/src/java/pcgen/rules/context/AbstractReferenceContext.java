@@ -107,6 +107,8 @@ public abstract class AbstractReferenceContext
 
 	private final SimpleFormatManagerLibrary fmtLibrary = new SimpleFormatManagerLibrary();
 
+	private volatile boolean frozen = false;
+
 	public void initialize()
 	{
 		FormatUtilities.loadDefaultFormats(fmtLibrary);
@@ -423,6 +425,33 @@ public abstract class AbstractReferenceContext
 		}
 	}
 
+	/**
+	 * Freezes the objects in this AbstractReferenceContext once loading is
+	 * complete, so that the loaded data can be shared by threads that each
+	 * process a different PlayerCharacter (see ReferenceManufacturer.freeze()).
+	 * Any ReferenceManufacturer that is created after this is called is also
+	 * frozen.
+	 */
+	public void freeze()
+	{
+		frozen = true;
+		for (ReferenceManufacturer<?> rs : getAllManufacturers())
+		{
+			rs.freeze();
+		}
+	}
+
+	/**
+	 * Returns true if freeze() has been called on this AbstractReferenceContext.
+	 * 
+	 * @return true if this AbstractReferenceContext has been frozen; false
+	 *         otherwise
+	 */
+	public boolean isFrozen()
+	{
+		return frozen;
+	}
+
 	public <T extends Loadable> T constructNowIfNecessary(Class<T> cl, String name)
 	{
 		return getManufacturer(cl).constructNowIfNecessary(name);
@@ -445,11 +474,14 @@ public abstract class AbstractReferenceContext
 	public <T extends CDOMObject> List<T> getSortedList(Class<T> cl, IntegerKey key)
 	{
 		List<T> returnList;
-		WeakReference<List<?>> wr = sortedMap.get(cl, key);
-		if ((wr == null) || ((returnList = (List<T>) wr.get()) == null))
+		synchronized (sortedMap)
 		{
-			returnList = generateList(cl, Comparator.comparing(o -> o.getSafe(key)));
-			sortedMap.put(cl, key, new WeakReference<>(returnList));
+			WeakReference<List<?>> wr = sortedMap.get(cl, key);
+			if ((wr == null) || ((returnList = (List<T>) wr.get()) == null))
+			{
+				returnList = generateList(cl, Comparator.comparing(o -> o.getSafe(key)));
+				sortedMap.put(cl, key, new WeakReference<>(returnList));
+			}
 		}
 		return Collections.unmodifiableList(returnList);
 	}
@@ -459,11 +491,14 @@ public abstract class AbstractReferenceContext
 		List<T> returnList;
 		Comparator<CDOMObject> comp = CDOMObject.P_OBJECT_NAME_COMP;
 		//We arbitrarily use the sort order comparator as the second key
-		WeakReference<List<?>> wr = sortedMap.get(cl, comp);
-		if ((wr == null) || ((returnList = (List<T>) wr.get()) == null))
+		synchronized (sortedMap)
 		{
-			returnList = generateList(cl, comp);
-			sortedMap.put(cl, comp, new WeakReference<>(returnList));
+			WeakReference<List<?>> wr = sortedMap.get(cl, comp);
+			if ((wr == null) || ((returnList = (List<T>) wr.get()) == null))
+			{
+				returnList = generateList(cl, comp);
+				sortedMap.put(cl, comp, new WeakReference<>(returnList));
+			}
 		}
 		return Collections.unmodifiableList(returnList);
 	}
@@ -134,6 +134,57 @@ public class ConsolidatedListCommitStrategy implements ListCommitStrategy, Maste
 		}
 	}
 
+	/**
+	 * Removes the entries in the master lists that were made by the given
+	 * owner. This is used before an object is reloaded from its source file.
+	 * 
+	 * @param owner
+	 *            The object whose entries are to be removed
+	 */
+	public void removeOwner(CDOMObject owner)
+	{
+		for (CDOMReference<? extends CDOMList<?>> ref : masterList.getKeySet())
+		{
+			for (CDOMObject allowed : masterList.getSecondaryKeySet(ref))
+			{
+				for (AssociatedPrereqObject assoc : masterList.getListFor(ref, allowed))
+				{
+					if (assoc.getAssociation(AssociationKey.OWNER) == owner)
+					{
+						masterList.removeFromListFor(ref, allowed, assoc);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Moves the entries in the master lists that allow an object that has been
+	 * reloaded from its source file to the object that replaced it.
+	 * 
+	 * @param oldObject
+	 *            The object that was reloaded
+	 * @param newObject
+	 *            The object that replaced it
+	 */
+	public void replaceAllowed(CDOMObject oldObject, CDOMObject newObject)
+	{
+		for (CDOMReference<? extends CDOMList<?>> ref : masterList.getKeySet())
+		{
+			for (CDOMObject allowed : masterList.getSecondaryKeySet(ref))
+			{
+				if (allowed == oldObject)
+				{
+					List<AssociatedPrereqObject> list = masterList.removeListFor(ref, allowed);
+					for (AssociatedPrereqObject assoc : list)
+					{
+						masterList.addToListFor(ref, newObject, assoc);
+					}
+				}
+			}
+		}
+	}
+
 	@Override
 	public <T extends CDOMObject> AssociatedChanges<T> getChangesInMasterList(String tokenName, CDOMObject owner,
 		CDOMReference<? extends CDOMList<T>> swl)
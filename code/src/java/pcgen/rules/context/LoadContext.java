@@ -79,6 +79,16 @@ public interface LoadContext
 
 	public void resolvePostDeferredTokens();
 
+	/**
+	 * Resolves the deferred tokens and then the post-deferred tokens for only
+	 * the given objects. This is used when objects are reloaded into a
+	 * LoadContext that has already been resolved.
+	 * 
+	 * @param objects
+	 *            The objects for which the deferred tokens are to be resolved
+	 */
+	public void resolveDeferredTokens(Collection<? extends Loadable> objects);
+
 	public void resolvePostValidationTokens();
 
 	public <T extends CDOMObject> PrimitiveCollection<T> getChoiceSet(SelectionCreator<T> sc, String value);
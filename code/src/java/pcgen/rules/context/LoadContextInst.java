@@ -24,6 +24,10 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
 import pcgen.base.formula.inst.NEPFormula;
 import pcgen.base.proxy.DeferredMethodController;
@@ -59,6 +63,9 @@ import pcgen.rules.persistence.token.DeferredToken;
 import pcgen.rules.persistence.token.ParseResult;
 import pcgen.rules.persistence.token.PostDeferredToken;
 import pcgen.rules.persistence.token.PostValidationToken;
+import pcgen.system.PCGenSettings;
+import pcgen.util.LoadWorkerPool;
+import pcgen.util.LoadProfiler;
 import pcgen.util.Logging;
 
 abstract class LoadContextInst implements LoadContext
@@ -66,6 +73,12 @@ abstract class LoadContextInst implements LoadContext
 
 	private static final PrerequisiteWriter PREREQ_WRITER = new PrerequisiteWriter();
 
+	/**
+	 * The minimum number of objects given to each worker when object-local
+	 * deferred tokens are resolved in parallel.
+	 */
+	private static final int MIN_PARTITION_SIZE = 64;
+
 	private final DataSetID datasetID = DataSetID.getID();
 
 	private final AbstractListContext list;
@@ -214,18 +227,80 @@ abstract class LoadContextInst implements LoadContext
 
 	@Override
 	public void resolveDeferredTokens()
+	{
+		try (LoadProfiler.Sample sample = LoadProfiler.begin(LoadProfiler.PHASE, "resolveDeferredTokens"))
+		{
+			for (DeferredToken<? extends Loadable> token : support.getDeferredTokens())
+			{
+				try (LoadProfiler.Sample tokenSample = beginTokenSample("Deferred", token))
+				{
+					processRes(token);
+				}
+			}
+			commit();
+		}
+	}
+
+	@Override
+	public void resolveDeferredTokens(Collection<? extends Loadable> objects)
 	{
 		for (DeferredToken<? extends Loadable> token : support.getDeferredTokens())
 		{
-			processRes(token);
+			processResFor(token, objects);
 		}
 		commit();
+		for (PostDeferredToken<? extends Loadable> token : TokenLibrary.getPostDeferredTokens())
+		{
+			processPostResFor(token, objects);
+		}
+	}
+
+	private <T extends Loadable> void processResFor(DeferredToken<T> token, Collection<? extends Loadable> objects)
+	{
+		Class<T> cl = token.getDeferredTokenClass();
+		for (Loadable po : objects)
+		{
+			if (cl.isInstance(po))
+			{
+				token.process(this, cl.cast(po));
+			}
+		}
+	}
+
+	private <T extends Loadable> void processPostResFor(PostDeferredToken<T> token,
+		Collection<? extends Loadable> objects)
+	{
+		Class<T> cl = token.getDeferredTokenClass();
+		for (Loadable po : objects)
+		{
+			if (cl.isInstance(po))
+			{
+				this.setSourceURI(po.getSourceURI());
+				token.process(this, cl.cast(po));
+			}
+		}
 	}
 
 	private <T extends Loadable> void processRes(DeferredToken<T> token)
 	{
 		Class<T> cl = token.getDeferredTokenClass();
 		Collection<? extends ReferenceManufacturer<?>> mfgs = getReferenceContext().getAllManufacturers();
+		if (token.isObjectLocal() && isParallelResolution())
+		{
+			List<T> objects = new ArrayList<>();
+			for (ReferenceManufacturer<?> rm : mfgs)
+			{
+				if (cl.isAssignableFrom(rm.getReferenceClass()))
+				{
+					@SuppressWarnings("unchecked")
+					ReferenceManufacturer<? extends T> trm = (ReferenceManufacturer<? extends T>) rm;
+					objects.addAll(trm.getAllObjects());
+					objects.addAll(trm.getDerivativeObjects());
+				}
+			}
+			processInParallel(objects, po -> token.process(this, po));
+			return;
+		}
 		for (ReferenceManufacturer<?> rm : mfgs)
 		{
 			if (cl.isAssignableFrom(rm.getReferenceClass()))
@@ -247,10 +322,16 @@ abstract class LoadContextInst implements LoadContext
 	@Override
 	public void resolvePostDeferredTokens()
 	{
-		Collection<? extends ReferenceManufacturer<?>> mfgs = getReferenceContext().getAllManufacturers();
-		for (PostDeferredToken<? extends Loadable> token : TokenLibrary.getPostDeferredTokens())
+		try (LoadProfiler.Sample sample = LoadProfiler.begin(LoadProfiler.PHASE, "resolvePostDeferredTokens"))
 		{
-			processPostRes(token, mfgs);
+			Collection<? extends ReferenceManufacturer<?>> mfgs = getReferenceContext().getAllManufacturers();
+			for (PostDeferredToken<? extends Loadable> token : TokenLibrary.getPostDeferredTokens())
+			{
+				try (LoadProfiler.Sample tokenSample = beginTokenSample("PostDeferred", token))
+				{
+					processPostRes(token, mfgs);
+				}
+			}
 		}
 	}
 
@@ -258,6 +339,12 @@ abstract class LoadContextInst implements LoadContext
 		Collection<? extends ReferenceManufacturer<?>> mfgs)
 	{
 		Class<T> cl = token.getDeferredTokenClass();
+		/*
+		 * PostDeferredTokens are always processed sequentially: the source URI
+		 * of each object is set on this LoadContext (and its child contexts)
+		 * before the object is processed, and that state is shared by all
+		 * threads.
+		 */
 		for (ReferenceManufacturer<?> rm : mfgs)
 		{
 			if (cl.isAssignableFrom(rm.getReferenceClass()))
@@ -273,16 +360,95 @@ abstract class LoadContextInst implements LoadContext
 		}
 	}
 
+	private static boolean isParallelResolution()
+	{
+		return PCGenSettings.OPTIONS_CONTEXT.initBoolean(PCGenSettings.OPTION_PARALLEL_SOURCE_LOAD, false);
+	}
+
+	/**
+	 * Applies the given action to each of the given objects on the
+	 * LoadWorkerPool, returning once every object has been processed.
+	 * 
+	 * The objects are partitioned by identity, so an object that appears more
+	 * than once (for example, in more than one ReferenceManufacturer) is
+	 * always processed by the same worker, in the original order.
+	 */
+	private static <T> void processInParallel(List<T> objects, Consumer<T> action)
+	{
+		int partitionCount = Math.min(LoadWorkerPool.getPoolSize(), objects.size() / MIN_PARTITION_SIZE);
+		if (partitionCount < 2)
+		{
+			objects.forEach(action);
+			return;
+		}
+		List<List<T>> partitions = new ArrayList<>(partitionCount);
+		for (int i = 0; i < partitionCount; i++)
+		{
+			partitions.add(new ArrayList<>());
+		}
+		for (T obj : objects)
+		{
+			partitions.get(Math.floorMod(System.identityHashCode(obj), partitionCount)).add(obj);
+		}
+		ExecutorService executor = LoadWorkerPool.getExecutor();
+		List<Future<?>> futures = new ArrayList<>(partitionCount);
+		for (List<T> partition : partitions)
+		{
+			futures.add(executor.submit(() -> partition.forEach(action)));
+		}
+		RuntimeException failure = null;
+		for (Future<?> future : futures)
+		{
+			try
+			{
+				future.get();
+			}
+			catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+				failure = new IllegalStateException("Interrupted while resolving tokens", e);
+			}
+			catch (ExecutionException e)
+			{
+				Throwable cause = e.getCause();
+				if (cause instanceof Error)
+				{
+					throw (Error) cause;
+				}
+				if (failure == null)
+				{
+					failure = (cause instanceof RuntimeException) ? (RuntimeException) cause
+						: new IllegalStateException(cause);
+				}
+			}
+		}
+		if (failure != null)
+		{
+			throw failure;
+		}
+	}
+
 	@Override
 	public void resolvePostValidationTokens()
 	{
-		Collection<? extends ReferenceManufacturer<?>> mfgs = getReferenceContext().getAllManufacturers();
-		for (PostValidationToken<? extends Loadable> token : TokenLibrary.getPostValidationTokens())
+		try (LoadProfiler.Sample sample = LoadProfiler.begin(LoadProfiler.PHASE, "resolvePostValidationTokens"))
 		{
-			processPostVal(token, mfgs);
+			Collection<? extends ReferenceManufacturer<?>> mfgs = getReferenceContext().getAllManufacturers();
+			for (PostValidationToken<? extends Loadable> token : TokenLibrary.getPostValidationTokens())
+			{
+				try (LoadProfiler.Sample tokenSample = beginTokenSample("PostValidation", token))
+				{
+					processPostVal(token, mfgs);
+				}
+			}
 		}
 	}
 
+	private static LoadProfiler.Sample beginTokenSample(String phase, Object token)
+	{
+		return LoadProfiler.begin(LoadProfiler.TOKEN, phase + ":" + token.getClass().getSimpleName());
+	}
+
 	private <T extends Loadable> void processPostVal(PostValidationToken<T> token,
 		Collection<? extends ReferenceManufacturer> mfgs)
 	{
@@ -681,6 +847,12 @@ abstract class LoadContextInst implements LoadContext
 			parent.resolvePostDeferredTokens();
 		}
 
+		@Override
+		public void resolveDeferredTokens(Collection<? extends Loadable> objects)
+		{
+			parent.resolveDeferredTokens(objects);
+		}
+
 		@Override
 		public <T extends CDOMObject> PrimitiveCollection<T> getChoiceSet(SelectionCreator<T> sc, String value)
 		{
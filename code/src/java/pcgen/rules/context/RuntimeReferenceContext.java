@@ -20,10 +20,10 @@ package pcgen.rules.context;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import pcgen.base.util.CaseInsensitiveMap;
 import pcgen.cdom.base.BasicClassIdentity;
@@ -45,7 +45,12 @@ public class RuntimeReferenceContext extends AbstractReferenceContext
 	@SuppressWarnings("rawtypes")
 	private static final Class<Categorized> CATEGORIZED_CLASS = Categorized.class;
 
-	private final Map<ClassIdentity<?>, ReferenceManufacturer<?>> map = new HashMap<>();
+	/*
+	 * The manufacturers are added while holding the lock on this
+	 * RuntimeReferenceContext (as are the names in nameMap), but can be read
+	 * without it, so that a frozen context can be shared between threads.
+	 */
+	private final Map<ClassIdentity<?>, ReferenceManufacturer<?>> map = new ConcurrentHashMap<>();
 
 	private final CaseInsensitiveMap<ClassIdentity<?>> nameMap = new CaseInsensitiveMap<>();
 
@@ -81,9 +86,15 @@ public class RuntimeReferenceContext extends AbstractReferenceContext
 		ReferenceManufacturer<T> mfg = (ReferenceManufacturer<T>) map.get(identity);
 		if (mfg == null)
 		{
-			mfg = constructReferenceManufacturer(identity);
-			map.put(identity, mfg);
-			nameMap.put(identity.getPersistentFormat(), identity);
+			synchronized (this)
+			{
+				mfg = (ReferenceManufacturer<T>) map.get(identity);
+				if (mfg == null)
+				{
+					mfg = constructReferenceManufacturer(identity);
+					addManufacturer(identity, mfg);
+				}
+			}
 		}
 		return mfg;
 	}
@@ -127,13 +138,29 @@ public class RuntimeReferenceContext extends AbstractReferenceContext
 		ReferenceManufacturer<T> rm = (ReferenceManufacturer<T>) map.get(identity);
 		if (rm == null)
 		{
-			rm = new SimpleReferenceManufacturer<>(factory);
-			map.put(identity, rm);
-			nameMap.put(identity.getPersistentFormat(), identity);
+			synchronized (this)
+			{
+				rm = (ReferenceManufacturer<T>) map.get(identity);
+				if (rm == null)
+				{
+					rm = new SimpleReferenceManufacturer<>(factory);
+					addManufacturer(identity, rm);
+				}
+			}
 		}
 		return rm;
 	}
 
+	private <T extends Loadable> void addManufacturer(ClassIdentity<T> identity, ReferenceManufacturer<T> mfg)
+	{
+		nameMap.put(identity.getPersistentFormat(), identity);
+		if (isFrozen())
+		{
+			mfg.freeze();
+		}
+		map.put(identity, mfg);
+	}
+
 	/**
 	 * This method will perform a single .COPY operation.
 	 * @param object the object to copy
@@ -190,7 +217,11 @@ public class RuntimeReferenceContext extends AbstractReferenceContext
 	{
 		Objects.requireNonNull(refClass);
 		Objects.requireNonNull(formatName);
-		ClassIdentity<?> identity = nameMap.get(formatName);
+		ClassIdentity<?> identity;
+		synchronized (this)
+		{
+			identity = nameMap.get(formatName);
+		}
 		if (identity == null)
 		{
 			/*
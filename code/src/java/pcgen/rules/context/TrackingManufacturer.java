@@ -93,6 +93,36 @@ class TrackingManufacturer<T extends Loadable> implements ReferenceManufacturer<
 		return rm.forgetObject(o);
 	}
 
+	@Override
+	public void reopenReferences()
+	{
+		rm.reopenReferences();
+	}
+
+	@Override
+	public boolean replaceObject(T oldItem, T newItem)
+	{
+		return rm.replaceObject(oldItem, newItem);
+	}
+
+	@Override
+	public boolean resolveNewReferences(UnconstructedValidator validator)
+	{
+		return rm.resolveNewReferences(validator);
+	}
+
+	@Override
+	public void freeze()
+	{
+		rm.freeze();
+	}
+
+	@Override
+	public boolean isFrozen()
+	{
+		return rm.isFrozen();
+	}
+
 	@Override
 	public T getActiveObject(String key)
 	{
@@ -0,0 +1,98 @@
+/*
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.rules.persistence;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * LoadStringPool is a deduplication pool for the Strings produced while data is
+ * being loaded (object names, token values, keys and the like), so that
+ * identical values parsed from different lines or files share a single String
+ * instance.
+ *
+ * The pool only exists between open() and release(); outside of a load,
+ * intern(String) returns its argument unchanged. Unlike String.intern(), the
+ * pool itself is discarded when the load finishes, so it retains nothing
+ * beyond the Strings that are still referenced by the loaded data.
+ *
+ * Calls to open() and release() may be nested; the pool is discarded when the
+ * outermost load is released.
+ */
+public final class LoadStringPool
+{
+	private static final int INITIAL_CAPACITY = 1 << 16;
+
+	private static volatile ConcurrentHashMap<String, String> pool = null;
+
+	private static int openCount = 0;
+
+	private LoadStringPool()
+	{
+		//Utility class
+	}
+
+	/**
+	 * Opens the pool for the duration of a load.
+	 */
+	public static synchronized void open()
+	{
+		if (openCount++ == 0)
+		{
+			pool = new ConcurrentHashMap<>(INITIAL_CAPACITY);
+		}
+	}
+
+	/**
+	 * Releases the pool at the end of a load.
+	 */
+	public static synchronized void release()
+	{
+		if (openCount > 0 && --openCount == 0)
+		{
+			pool = null;
+		}
+	}
+
+	/**
+	 * Returns the pooled instance equal to the given String, adding the given
+	 * String to the pool if it is not already present. If the pool is not open,
+	 * the given String is returned.
+	 *
+	 * @param value
+	 *            The String to be deduplicated (may be null)
+	 * @return The pooled instance equal to the given String
+	 */
+	public static String intern(String value)
+	{
+		ConcurrentHashMap<String, String> activePool = pool;
+		if ((activePool == null) || (value == null))
+		{
+			return value;
+		}
+		String existing = activePool.putIfAbsent(value, value);
+		return (existing == null) ? value : existing;
+	}
+
+	/**
+	 * Returns true if the pool is currently open.
+	 *
+	 * @return true if the pool is currently open; false otherwise
+	 */
+	public static boolean isOpen()
+	{
+		return pool != null;
+	}
+}
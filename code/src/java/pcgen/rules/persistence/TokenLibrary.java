@@ -28,6 +28,7 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import pcgen.base.lang.UnreachableError;
 import pcgen.base.util.CaseInsensitiveMap;
@@ -87,7 +88,15 @@ public final class TokenLibrary implements PluginLoader
 	private static final Set<TokenFamily> TOKEN_FAMILIES = new TreeSet<>();
 	private static final CaseInsensitiveMap<Class<? extends BonusObj>> BONUS_TAG_MAP = new CaseInsensitiveMap<>();
 
-	private static TokenLibrary instance = null;
+	private static final TokenLibrary INSTANCE = new TokenLibrary();
+
+	/**
+	 * Incremented each time the tokens in the library change (while plugins
+	 * are loaded, or when the library is reset), so that tables of resolved
+	 * tokens (see TokenSupport) know when they must be rebuilt. Loading tokens
+	 * into a family that is not held by the library does not change it.
+	 */
+	private static final AtomicInteger REVISION = new AtomicInteger();
 
 	static
 	{
@@ -96,6 +105,7 @@ public final class TokenLibrary implements PluginLoader
 
 	public static void reset()
 	{
+		REVISION.incrementAndGet();
 		POST_DEFERRED_TOKENS.clear();
 		QUALIFIER_MAP.clear();
 		PRIMITIVE_MAP.clear();
@@ -246,6 +256,7 @@ public final class TokenLibrary implements PluginLoader
 
 	public static void addToTokenMap(Object newToken)
 	{
+		REVISION.incrementAndGet();
 		if (newToken instanceof PostDeferredToken)
 		{
 			PostDeferredToken<?> pdt = (PostDeferredToken<?>) newToken;
@@ -364,13 +375,21 @@ public final class TokenLibrary implements PluginLoader
 		}
 	}
 
+	/**
+	 * Returns the revision of the tokens in the TokenLibrary. The revision
+	 * changes whenever a token is added to the library or the library is
+	 * reset.
+	 * 
+	 * @return The revision of the tokens in the TokenLibrary
+	 */
+	public static int getRevision()
+	{
+		return REVISION.get();
+	}
+
 	public static TokenLibrary getInstance()
 	{
-		if (instance == null)
-		{
-			instance = new TokenLibrary();
-		}
-		return instance;
+		return INSTANCE;
 	}
 
 	@Override
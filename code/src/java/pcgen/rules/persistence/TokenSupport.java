@@ -19,15 +19,16 @@ package pcgen.rules.persistence;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import pcgen.base.proxy.DeferredMethodController;
 import pcgen.base.proxy.StagingInfo;
 import pcgen.base.util.CaseInsensitiveMap;
-import pcgen.base.util.DoubleKeyMapToList;
 import pcgen.base.util.ProxyUtilities;
 import pcgen.base.util.TripleKeyMapToList;
 import pcgen.base.util.WeightedCollection;
@@ -48,13 +49,25 @@ import pcgen.rules.persistence.util.Revision;
 import pcgen.rules.persistence.util.TokenFamily;
 import pcgen.rules.persistence.util.TokenFamilyIterator;
 import pcgen.rules.persistence.util.TokenFamilySubIterator;
+import pcgen.util.LoadProfiler;
 import pcgen.util.Logging;
 
 public class TokenSupport
 {
 	private final TokenFamily localTokens = new TokenFamily(new Revision(0, 0, 0));
 
-	private final DoubleKeyMapToList<Class<?>, String, CDOMToken<?>> tokenCache = new DoubleKeyMapToList<>();
+	/**
+	 * The resolved tokens for each (target class, token name) pair seen so far.
+	 * Entries are immutable; the whole table is discarded if the tokens in the
+	 * TokenLibrary (which only happens while plugins are loaded) or the local
+	 * tokens of this TokenSupport change.
+	 */
+	private final Map<Class<?>, Map<String, TokenDispatch>> dispatchTable = new HashMap<>();
+
+	/**
+	 * The TokenLibrary revision for which dispatchTable was built.
+	 */
+	private int dispatchRevision = -1;
 
 	private final TripleKeyMapToList<Class<?>, String, String, CDOMToken<?>> subTokenCache =
 			new TripleKeyMapToList<>(HashMap.class, CaseInsensitiveMap.class, CaseInsensitiveMap.class);
@@ -75,55 +88,52 @@ public class TokenSupport
 	 */
 	public <T extends Loadable> boolean processToken(LoadContext context, T target, String tokenName, String tokenValue)
 	{
-		//Interface tokens override everything else... even if NOT VALID!
-		CDOMInterfaceToken<?, ?> interfaceToken = TokenLibrary.getInterfaceToken(tokenName);
-		if (interfaceToken != null)
+		tokenValue = LoadStringPool.intern(tokenValue);
+		TokenDispatch dispatch = getDispatch(target.getClass(), tokenName);
+		try (LoadProfiler.Sample sample = LoadProfiler.begin(LoadProfiler.TOKEN, tokenName))
 		{
-			Class<? extends Loadable> targetClass = target.getClass();
-			if (interfaceToken.getTokenClass().isAssignableFrom(targetClass)
-				&& interfaceToken.getReadInterface().isAssignableFrom(targetClass))
+			//Interface tokens override everything else... even if NOT VALID!
+			if (dispatch.interfaceToken != null)
 			{
-				return processInterfaceToken(context, target, tokenName, tokenValue, interfaceToken);
+				return processInterfaceToken(context, target, tokenName, tokenValue, dispatch.interfaceToken);
 			}
 			//We want to fall through to class tokens if the interface token isn't usable
+			return processClassTokens(context, target, tokenName, tokenValue, dispatch);
 		}
-		return processClassTokens(context, target, tokenName, tokenValue);
 	}
 
 	private <T extends Loadable> boolean processClassTokens(LoadContext context, T target, String tokenName,
-		String tokenValue)
+		String tokenValue, TokenDispatch dispatch)
 	{
 		//Must be true
 		@SuppressWarnings("unchecked")
 		Class<T> cl = (Class<T>) target.getClass();
-		List<? extends CDOMToken<T>> tokenList = getTokens(cl, tokenName);
-		if (tokenList != null)
+		@SuppressWarnings("unchecked")
+		List<? extends CDOMToken<T>> tokenList = (List<? extends CDOMToken<T>>) (List<?>) dispatch.classTokens;
+		for (CDOMToken<T> token : tokenList)
 		{
-			for (CDOMToken<T> token : tokenList)
+			ParseResult parse;
+			try
 			{
-				ParseResult parse;
-				try
-				{
-					parse = token.parseToken(context, target, tokenValue);
-				}
-				catch (IllegalArgumentException e)
-				{
-					Logging.errorPrint("IllegalArgumentException", e);
-					Logging.addParseMessage(Logging.LST_ERROR,
-						"Token generated an IllegalArgumentException: " + e.getLocalizedMessage());
-					parse = new ParseResult.Fail("Token processing failed");
-				}
-				// Need to add messages as there may be warnings.
-				parse.addMessagesToLog(context.getSourceURI());
-				if (parse.passed())
-				{
-					return true;
-				}
-				if (Logging.isLoggable(Logging.LST_ERROR))
-				{
-					Logging.addParseMessage(Logging.LST_ERROR, "Failed in parsing typeStr: " + tokenName + ' '
-						+ tokenValue + " for " + cl.getName() + ' ' + target.getDisplayName());
-				}
+				parse = token.parseToken(context, target, tokenValue);
+			}
+			catch (IllegalArgumentException e)
+			{
+				Logging.errorPrint("IllegalArgumentException", e);
+				Logging.addParseMessage(Logging.LST_ERROR,
+					"Token generated an IllegalArgumentException: " + e.getLocalizedMessage());
+				parse = new ParseResult.Fail("Token processing failed");
+			}
+			// Need to add messages as there may be warnings.
+			parse.addMessagesToLog(context.getSourceURI());
+			if (parse.passed())
+			{
+				return true;
+			}
+			if (Logging.isLoggable(Logging.LST_ERROR))
+			{
+				Logging.addParseMessage(Logging.LST_ERROR, "Failed in parsing typeStr: " + tokenName + ' '
+					+ tokenValue + " for " + cl.getName() + ' ' + target.getDisplayName());
 			}
 		}
 		if (tokenName.startsWith(" "))
@@ -140,6 +150,55 @@ public class TokenSupport
 		return false;
 	}
 
+	/**
+	 * Returns the TokenDispatch for the given target class and token name,
+	 * resolving it on first use.
+	 * 
+	 * @param cl
+	 *            The class of the object on which the token is processed
+	 * @param tokenName
+	 *            The name of the token
+	 * @return The TokenDispatch for the given target class and token name
+	 */
+	private TokenDispatch getDispatch(Class<? extends Loadable> cl, String tokenName)
+	{
+		int revision = TokenLibrary.getRevision();
+		if (revision != dispatchRevision)
+		{
+			dispatchTable.clear();
+			dispatchRevision = revision;
+		}
+		Map<String, TokenDispatch> classTable = dispatchTable.computeIfAbsent(cl, c -> new HashMap<>());
+		TokenDispatch dispatch = classTable.get(tokenName);
+		if (dispatch == null)
+		{
+			dispatch = resolveDispatch(cl, tokenName);
+			classTable.put(tokenName, dispatch);
+		}
+		return dispatch;
+	}
+
+	private <T extends Loadable> TokenDispatch resolveDispatch(Class<T> cl, String tokenName)
+	{
+		CDOMInterfaceToken<?, ?> interfaceToken = TokenLibrary.getInterfaceToken(tokenName);
+		if ((interfaceToken != null) && interfaceToken.getTokenClass().isAssignableFrom(cl)
+			&& interfaceToken.getReadInterface().isAssignableFrom(cl))
+		{
+			return new TokenDispatch(interfaceToken, Collections.emptyList());
+		}
+		List<CDOMToken<?>> classTokens = new ArrayList<>();
+		CDOMToken<?> local = localTokens.getToken(cl, tokenName);
+		if (local != null)
+		{
+			classTokens.add(local);
+		}
+		for (Iterator<? extends CDOMToken<T>> it = new TokenIterator<>(cl, tokenName); it.hasNext();)
+		{
+			classTokens.add(it.next());
+		}
+		return new TokenDispatch(null, List.copyOf(classTokens));
+	}
+
 	private <R, W> boolean processInterfaceToken(LoadContext context, Object target,
 		String tokenName, String tokenValue, CDOMInterfaceToken<R, W> interfaceToken)
 	{
@@ -179,26 +238,6 @@ public class TokenSupport
 		return false;
 	}
 
-	private <T extends Loadable> List<? extends CDOMToken<T>> getTokens(Class<T> cl, String name)
-	{
-		List list = tokenCache.getListFor(cl, name);
-		if (list == null)
-		{
-			CDOMToken<?> local = localTokens.getToken(cl, name);
-			if (local != null)
-			{
-				tokenCache.addToListFor(cl, name, local);
-			}
-			for (Iterator<? extends CDOMToken<T>> it = new TokenIterator<>(cl, name); it.hasNext();)
-			{
-				CDOMToken<T> token = it.next();
-				tokenCache.addToListFor(cl, name, token);
-			}
-			list = tokenCache.getListFor(cl, name);
-		}
-		return list;
-	}
-
 	private <T> List<? extends CDOMToken<T>> getTokens(Class<T> cl, String name, String subtoken)
 	{
 		List list = subTokenCache.getListFor(cl, name, subtoken);
@@ -345,6 +384,25 @@ public class TokenSupport
 	public void loadLocalToken(Object token)
 	{
 		TokenLibrary.loadFamily(localTokens, token);
+		// Local tokens only affect this TokenSupport
+		dispatchTable.clear();
+	}
+
+	/**
+	 * The resolved tokens for a given target class and token name. If the
+	 * interface token is not null, it applies to the target class and takes
+	 * precedence; otherwise the class tokens are tried in order.
+	 */
+	private static final class TokenDispatch
+	{
+		private final CDOMInterfaceToken<?, ?> interfaceToken;
+		private final List<CDOMToken<?>> classTokens;
+
+		private TokenDispatch(CDOMInterfaceToken<?, ?> interfaceToken, List<CDOMToken<?>> classTokens)
+		{
+			this.interfaceToken = interfaceToken;
+			this.classTokens = classTokens;
+		}
 	}
 
 	public <T> GroupDefinition<T> getGroup(Class<T> cl, String s)
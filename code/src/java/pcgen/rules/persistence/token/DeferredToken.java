@@ -49,4 +49,18 @@ public interface DeferredToken<T extends Loadable>
 	 * @return The class of the object upon which this DeferredToken operates
 	 */
 	public Class<T> getDeferredTokenClass();
+
+	/**
+	 * Returns true if this DeferredToken is object-local. Processing an
+	 * object-local DeferredToken modifies only the object being processed; it
+	 * may read (but not modify) other loaded objects and the LoadContext, and
+	 * may log errors. An object-local DeferredToken may be processed for
+	 * different objects at the same time.
+	 * 
+	 * @return true if this DeferredToken is object-local; false otherwise
+	 */
+	public default boolean isObjectLocal()
+	{
+		return false;
+	}
 }
@@ -212,10 +212,7 @@ public final class Main
 		new JFXPanel();
 
 		PCGenPreloader splash = new PCGenPreloader();
-		PCGenTaskExecutor executor = new PCGenTaskExecutor();
-		executor.addPCGenTask(createLoadPluginTask());
-		executor.addPCGenTask(new GameModeFileLoader());
-		executor.addPCGenTask(new CampaignFileLoader());
+		PCGenTaskExecutor executor = createStartupExecutor();
 		executor.addPCGenTaskListener(splash);
 		executor.run();
 		splash.getController().setProgress(LanguageBundle.getString("in_taskInitUi"), 1.0d);
@@ -319,6 +316,31 @@ public final class Main
 		}
 	}
 
+	/**
+	 * Create the executor for the startup tasks. The campaign files are found
+	 * while the plugins load; the game modes need the plugins, and the
+	 * campaigns need both the game modes and the campaign files.
+	 *
+	 * @return The executor for the startup tasks.
+	 */
+	private static PCGenTaskExecutor createStartupExecutor()
+	{
+		PCGenTask pluginTask = createLoadPluginTask();
+		GameModeFileLoader gameModeLoader = new GameModeFileLoader();
+		gameModeLoader.addDependency(pluginTask);
+		CampaignFileLoader campaignLoader = new CampaignFileLoader();
+		PCGenTask campaignFinder = campaignLoader.createFileFinderTask();
+		campaignLoader.addDependency(gameModeLoader);
+		campaignLoader.addDependency(campaignFinder);
+
+		PCGenTaskExecutor executor = new PCGenTaskExecutor();
+		executor.addPCGenTask(pluginTask);
+		executor.addPCGenTask(campaignFinder);
+		executor.addPCGenTask(gameModeLoader);
+		executor.addPCGenTask(campaignLoader);
+		return executor;
+	}
+
 	/**
 	 * Create a task to load all system plugins.
 	 *
@@ -353,10 +375,7 @@ public final class Main
 		loadProperties(false);
 		validateEnvironment(false);
 
-		PCGenTaskExecutor executor = new PCGenTaskExecutor();
-		executor.addPCGenTask(createLoadPluginTask());
-		executor.addPCGenTask(new GameModeFileLoader());
-		executor.addPCGenTask(new CampaignFileLoader());
+		PCGenTaskExecutor executor = createStartupExecutor();
 		executor.run();
 
 		UIDelegate uiDelegate = new ConsoleUIDelegate();
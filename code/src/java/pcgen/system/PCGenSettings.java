@@ -41,6 +41,15 @@ public final class PCGenSettings extends PropertyContext
 	public static final String OPTION_SAVE_CUSTOM_EQUIPMENT = "saveCustomInLst";
 	public static final String OPTION_ALLOWED_IN_SOURCES = "optionAllowedInSources";
 	public static final String OPTION_SOURCES_ALLOW_MULTI_LINE = "optionSourcesAllowMultiLine";
+	public static final String OPTION_PARALLEL_SOURCE_LOAD = "parallelSourceLoad";
+	public static final String OPTION_CAMPAIGN_INDEX = "campaignIndex";
+	public static final String OPTION_LOAD_PROFILE = "loadProfile";
+	public static final String OPTION_RESIDENT_DATASETS = "residentDatasets";
+	public static final String OPTION_SOURCE_SNAPSHOT = "sourceSnapshot";
+	public static final String OPTION_LAZY_TEXT = "lazyText";
+	public static final String OPTION_INCREMENTAL_RELOAD = "incrementalReload";
+	public static final String OPTION_LAZY_GAME_MODES = "lazyGameModes";
+	public static final String OPTION_INCREMENTAL_BONUSES = "incrementalBonuses";
 	public static final String OPTION_SHOW_LICENSE = "showLicense";
 	public static final String OPTION_SHOW_MATURE_ON_LOAD = "showMatureOnLoad";
 	public static final String OPTION_CREATE_PCG_BACKUP = "createPcgBackup";
@@ -18,6 +18,9 @@
  */
 package pcgen.system;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.logging.LogRecord;
 
@@ -32,6 +35,7 @@ public abstract class PCGenTask implements Runnable, ProgressContainer
 	private int progress = 0;
 	private int maximum = 0;
 	private String message;
+	private final List<PCGenTask> dependencies = new ArrayList<>();
 
 	public void addPCGenTaskListener(PCGenTaskListener listener)
 	{
@@ -45,6 +49,27 @@ public abstract class PCGenTask implements Runnable, ProgressContainer
 		listenerList.remove(PCGenTaskListener.class, listener);
 	}
 
+	/**
+	 * Declares that this task may only be started once the given task has
+	 * finished. This is honoured by PCGenTaskExecutor, which runs tasks with no
+	 * dependencies between them at the same time.
+	 *
+	 * @param task The task that must be run before this one.
+	 */
+	public void addDependency(PCGenTask task)
+	{
+		Objects.requireNonNull(task);
+		dependencies.add(task);
+	}
+
+	/**
+	 * @return The tasks that must be run before this one.
+	 */
+	public List<PCGenTask> getDependencies()
+	{
+		return Collections.unmodifiableList(dependencies);
+	}
+
 	@Override
 	public abstract void run();
 
@@ -18,53 +18,145 @@
  */
 package pcgen.system;
 
-import java.util.LinkedList;
-
-import org.apache.commons.lang3.math.Fraction;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+/**
+ * PCGenTaskExecutor runs a group of tasks and reports their combined progress
+ * as its own. Each task is started as soon as the tasks it depends on (see
+ * {@link PCGenTask#addDependency(PCGenTask)}) have finished, so tasks that do
+ * not depend on each other run at the same time.
+ */
 class PCGenTaskExecutor extends PCGenTask implements PCGenTaskListener
 {
 
-	private final LinkedList<PCGenTask> tasks = new LinkedList<>();
-	private PCGenTask currentTask = null;
-	private Fraction progressMultiplier = null;
-	private Fraction baseProgress = Fraction.ZERO;
+	/**
+	 * The resolution of the combined progress reported by the executor.
+	 */
+	private static final int PROGRESS_SCALE = 1000;
 
+	private final List<PCGenTask> tasks = new ArrayList<>();
+	private final Map<ProgressContainer, Double> taskProgress = new IdentityHashMap<>();
+
+	/**
+	 * Adds a task to be run. Any task the new task depends on must already have
+	 * been added, which keeps the tasks free of dependency cycles.
+	 *
+	 * @param task The task to be run
+	 */
 	void addPCGenTask(PCGenTask task)
 	{
+		for (PCGenTask dependency : task.getDependencies())
+		{
+			if (!tasks.contains(dependency))
+			{
+				throw new IllegalArgumentException(
+					"Dependency of " + task.getClass().getSimpleName() + " must be added first");
+			}
+		}
 		tasks.add(task);
 	}
 
 	@Override
 	public void run()
 	{
-		progressMultiplier = Fraction.getFraction(1, tasks.size());
-		while (!tasks.isEmpty())
+		if (tasks.isEmpty())
+		{
+			return;
+		}
+		ExecutorService threads = Executors.newCachedThreadPool(r -> {
+			Thread thread = new Thread(r, "PCGen-task-thread");
+			thread.setDaemon(true);
+			return thread;
+		});
+		Map<PCGenTask, CompletableFuture<Void>> futures = new HashMap<>();
+		try
+		{
+			for (PCGenTask task : tasks)
+			{
+				CompletableFuture<?>[] dependencies =
+						task.getDependencies().stream().map(futures::get).toArray(CompletableFuture[]::new);
+				futures.put(task, CompletableFuture.allOf(dependencies).thenRunAsync(() -> runTask(task), threads));
+			}
+			CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0])).join();
+		}
+		catch (CompletionException e)
+		{
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException)
+			{
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error)
+			{
+				throw (Error) cause;
+			}
+			throw e;
+		}
+		finally
+		{
+			threads.shutdown();
+		}
+	}
+
+	private void runTask(PCGenTask task)
+	{
+		synchronized (this)
 		{
-			currentTask = tasks.poll();
-			setValues(currentTask.getMessage(), baseProgress.getNumerator(), baseProgress.getDenominator());
-			currentTask.addPCGenTaskListener(this);
-			currentTask.run();
-			currentTask.removePCGenTaskListener(this);
-			baseProgress = baseProgress.add(progressMultiplier);
+			taskProgress.put(task, 0.0d);
+			updateProgress(task.getMessage());
+		}
+		task.addPCGenTaskListener(this);
+		try
+		{
+			task.run();
+		}
+		finally
+		{
+			task.removePCGenTaskListener(this);
+			synchronized (this)
+			{
+				taskProgress.put(task, 1.0d);
+				updateProgress(task.getMessage());
+			}
 		}
 	}
 
 	@Override
-	public void progressChanged(PCGenTaskEvent event)
+	public synchronized void progressChanged(PCGenTaskEvent event)
 	{
-		if (currentTask.getMaximum() == 0)
+		ProgressContainer task = event.getSource();
+		if (task.getMaximum() == 0)
 		{
 			return;
 		}
-		Fraction progress = Fraction.getFraction(currentTask.getProgress(), currentTask.getMaximum());
-		progress = progress.multiplyBy(progressMultiplier);
-		progress = baseProgress.add(progress);
-		setValues(currentTask.getMessage(), progress.getNumerator(), progress.getDenominator());
+		taskProgress.put(task, Math.min(1.0d, task.getProgress() / (double) task.getMaximum()));
+		updateProgress(task.getMessage());
+	}
+
+	/**
+	 * Reports the progress of all of the tasks, each of which counts equally
+	 * towards the total, along with the message of the task that last changed.
+	 */
+	private void updateProgress(String message)
+	{
+		double progress = 0.0d;
+		for (Double value : taskProgress.values())
+		{
+			progress += value;
+		}
+		setValues(message, (int) (progress * PROGRESS_SCALE / tasks.size()), PROGRESS_SCALE);
 	}
 
 	@Override
-	public void errorOccurred(PCGenTaskEvent event)
+	public synchronized void errorOccurred(PCGenTaskEvent event)
 	{
 		sendErrorMessage(event.getErrorRecord());
 	}
@@ -22,9 +22,11 @@ import java.io.File;
 import java.io.FilenameFilter;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -60,6 +62,7 @@ class PluginClassLoader extends PCGenTask
 		return thread;
 	});
 	private final LinkedList<File> jarFiles = new LinkedList<>();
+	private Map<String, PluginIndex> indexes = Collections.emptyMap();
 	private int progress = 0;
 
 	PluginClassLoader(File pluginDir)
@@ -84,28 +87,24 @@ class PluginClassLoader extends PCGenTask
 
 	private void loadClasses(final File pluginJar) throws IOException
 	{
-		try (JarClassLoader loader = new JarClassLoader(pluginJar.toURI().toURL());
+		try (JarClassLoader loader = new JarClassLoader(pluginJar);
 				ZipFile file = new ZipFile(pluginJar))
 		{
-			final Collection<String> classList = new LinkedList<>();
-			Enumeration<? extends ZipEntry> entries = file.entries();
-			while (entries.hasMoreElements())
+			/*
+			 * An indexed jar lists the classes it holds, so only the ones a
+			 * PluginLoader is registered for need to be loaded (and they are read
+			 * from the jar on demand). Jars without an index, or changed since the
+			 * index was written, are scanned in full.
+			 */
+			PluginIndex index = indexes.get(PluginIndex.getKey(pluginDir.toPath(), pluginJar.toPath()));
+			final Collection<String> classList;
+			if ((index == null) || !index.matches(file))
 			{
-				ZipEntry entry = entries.nextElement();
-				String name = entry.getName();
-				if (!name.endsWith(".class"))
-				{
-					continue;
-				}
-				name = StringUtils.removeEnd(name, ".class").replace('/', '.');
-
-				byte[] buffer;
-				try (InputStream in = file.getInputStream(entry))
-				{
-					buffer = in.readAllBytes();
-				}
-				loader.storeClassDef(name, buffer);
-				classList.add(name);
+				classList = readClassDefs(file, loader);
+			}
+			else
+			{
+				classList = index.getClassNames(loaderMap.getKeySet());
 			}
 			file.close();
 			/*
@@ -136,6 +135,31 @@ class PluginClassLoader extends PCGenTask
 		}
 	}
 
+	private static Collection<String> readClassDefs(ZipFile file, JarClassLoader loader) throws IOException
+	{
+		final Collection<String> classList = new LinkedList<>();
+		Enumeration<? extends ZipEntry> entries = file.entries();
+		while (entries.hasMoreElements())
+		{
+			ZipEntry entry = entries.nextElement();
+			String name = entry.getName();
+			if (!name.endsWith(".class"))
+			{
+				continue;
+			}
+			name = StringUtils.removeEnd(name, ".class").replace('/', '.');
+
+			byte[] buffer;
+			try (InputStream in = file.getInputStream(entry))
+			{
+				buffer = in.readAllBytes();
+			}
+			loader.storeClassDef(name, buffer);
+			classList.add(name);
+		}
+		return classList;
+	}
+
 	private boolean processClass(Class<?> clazz)
 	{
 		boolean loaded = false;
@@ -172,6 +196,15 @@ class PluginClassLoader extends PCGenTask
 
 	public void loadPlugins()
 	{
+		File indexFile = new File(pluginDir, PluginIndex.INDEX_FILE);
+		try
+		{
+			indexes = PluginIndex.read(indexFile.toPath());
+		}
+		catch (IOException ex)
+		{
+			Logging.errorPrint("Could not read plugin index: " + indexFile.getAbsolutePath(), ex);
+		}
 		findJarFiles(pluginDir);
 		setMaximum(jarFiles.size());
 		loadClasses();
@@ -226,10 +259,12 @@ class PluginClassLoader extends PCGenTask
 	{
 
 		private final Map<String, byte[]> classDefinitions = new HashMap<>();
+		private final File jarFile;
 
-		private JarClassLoader(URL url)
+		private JarClassLoader(File jarFile) throws MalformedURLException
 		{
-			super(new URL[]{url});
+			super(new URL[]{jarFile.toURI().toURL()});
+			this.jarFile = jarFile;
 		}
 
 		private void storeClassDef(String name, byte[] bytes)
@@ -243,11 +278,36 @@ class PluginClassLoader extends PCGenTask
 			byte[] bytes = classDefinitions.remove(name);
 			if (bytes == null)
 			{
-				throw new ClassNotFoundException();
+				bytes = readClassDef(name);
 			}
 			return defineClass(name, bytes, 0, bytes.length);
 		}
 
+		/**
+		 * Reads a class that was not stored up front. The jar is only held open
+		 * while the class is read, so indexed plugins do not each keep a file
+		 * handle open for the life of the program.
+		 */
+		private byte[] readClassDef(String name) throws ClassNotFoundException
+		{
+			try (ZipFile file = new ZipFile(jarFile))
+			{
+				ZipEntry entry = file.getEntry(name.replace('.', '/') + ".class");
+				if (entry == null)
+				{
+					throw new ClassNotFoundException(name);
+				}
+				try (InputStream in = file.getInputStream(entry))
+				{
+					return in.readAllBytes();
+				}
+			}
+			catch (IOException e)
+			{
+				throw new ClassNotFoundException(name, e);
+			}
+		}
+
 	}
 
 }
@@ -0,0 +1,330 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.system;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * PluginIndex is the list of classes held in a plugin jar, along with the
+ * names of every class and interface each of them can be assigned to. The
+ * indexes of all the plugin jars are written to a single file in the plugins
+ * directory at build time (see main) so that PluginClassLoader can pick out
+ * the classes a PluginLoader is interested in without reading and defining
+ * every class in the jar.
+ *
+ * The index file holds a section for each jar. A section starts with a line
+ * holding '@', the path of the jar relative to the plugins directory, a tab
+ * and the digest of the classes in the jar. Each following line is a class
+ * name followed by its assignable types, separated by spaces. The class
+ * itself is always the first assignable type. The digest is checked against
+ * the jar when it is loaded, so a jar rebuilt after the index was written is
+ * scanned in full rather than trusting a stale index.
+ */
+final class PluginIndex
+{
+
+	/**
+	 * The name of the index file in the plugins directory.
+	 */
+	static final String INDEX_FILE = "classes.idx";
+
+	private static final char SECTION_START = '@';
+
+	private final long digest;
+
+	private final Map<String, Set<String>> assignableTypes;
+
+	private PluginIndex(long digest, Map<String, Set<String>> assignableTypes)
+	{
+		this.digest = digest;
+		this.assignableTypes = assignableTypes;
+	}
+
+	/**
+	 * Returns the names of the indexed classes that can be assigned to at least
+	 * one of the given types, in the order they appear in the jar. A null type
+	 * matches every class, as it does when registered with
+	 * PluginClassLoader.
+	 *
+	 * @param types
+	 *            The plugin types to look for
+	 * @return The names of the matching classes
+	 */
+	List<String> getClassNames(Collection<Class<?>> types)
+	{
+		Set<String> typeNames = new HashSet<>();
+		for (Class<?> type : types)
+		{
+			if (type == null)
+			{
+				return new ArrayList<>(assignableTypes.keySet());
+			}
+			typeNames.add(type.getName());
+		}
+		List<String> classNames = new ArrayList<>();
+		for (Map.Entry<String, Set<String>> entry : assignableTypes.entrySet())
+		{
+			if (!Collections.disjoint(entry.getValue(), typeNames))
+			{
+				classNames.add(entry.getKey());
+			}
+		}
+		return classNames;
+	}
+
+	/**
+	 * Returns true if this index was built from a jar holding the same classes
+	 * as the given jar.
+	 *
+	 * @param file
+	 *            The plugin jar
+	 * @return true if the index describes the given jar
+	 */
+	boolean matches(ZipFile file)
+	{
+		return digest == digest(file);
+	}
+
+	/**
+	 * Returns the key of the given plugin jar in the index file: its path
+	 * relative to the plugins directory, using '/' as the separator.
+	 *
+	 * @param pluginDir
+	 *            The plugins directory
+	 * @param jar
+	 *            The plugin jar
+	 * @return The key of the jar in the index file
+	 */
+	static String getKey(Path pluginDir, Path jar)
+	{
+		Path relative = pluginDir.toAbsolutePath().normalize().relativize(jar.toAbsolutePath().normalize());
+		List<String> names = new ArrayList<>();
+		relative.forEach(name -> names.add(name.toString()));
+		return String.join("/", names);
+	}
+
+	/**
+	 * Computes the digest of the classes in the given jar from the names and
+	 * CRCs held in its central directory, so no class has to be read.
+	 */
+	private static long digest(ZipFile file)
+	{
+		CRC32 crc = new CRC32();
+		Enumeration<? extends ZipEntry> entries = file.entries();
+		while (entries.hasMoreElements())
+		{
+			ZipEntry entry = entries.nextElement();
+			if (entry.getName().endsWith(".class"))
+			{
+				crc.update(entry.getName().getBytes(StandardCharsets.UTF_8));
+				long entryCrc = entry.getCrc();
+				for (int i = 0; i < Long.BYTES; i++)
+				{
+					crc.update((int) (entryCrc >>> (i * 8)));
+				}
+			}
+		}
+		return crc.getValue();
+	}
+
+	/**
+	 * Reads the indexes of the plugin jars from the given index file.
+	 *
+	 * @param indexFile
+	 *            The index file
+	 * @return The indexes, keyed by the path of the jar relative to the
+	 *         plugins directory. Empty if there is no index file.
+	 * @throws IOException
+	 *             if the index file could not be read
+	 */
+	static Map<String, PluginIndex> read(Path indexFile) throws IOException
+	{
+		Map<String, PluginIndex> indexes = new HashMap<>();
+		if (!Files.isRegularFile(indexFile))
+		{
+			return indexes;
+		}
+		String key = null;
+		long digest = 0L;
+		Map<String, Set<String>> assignableTypes = null;
+		for (String line : Files.readAllLines(indexFile, StandardCharsets.UTF_8))
+		{
+			if (line.isEmpty())
+			{
+				continue;
+			}
+			if (line.charAt(0) == SECTION_START)
+			{
+				if (key != null)
+				{
+					indexes.put(key, new PluginIndex(digest, assignableTypes));
+				}
+				int tab = line.lastIndexOf('\t');
+				if (tab < 0)
+				{
+					throw new IOException("Invalid section in " + indexFile + ": " + line);
+				}
+				key = line.substring(1, tab);
+				try
+				{
+					digest = Long.parseLong(line.substring(tab + 1), 16);
+				}
+				catch (NumberFormatException e)
+				{
+					throw new IOException("Invalid section in " + indexFile + ": " + line, e);
+				}
+				assignableTypes = new LinkedHashMap<>();
+				continue;
+			}
+			if (key == null)
+			{
+				throw new IOException("Class listed outside of a section in " + indexFile + ": " + line);
+			}
+			String[] names = StringUtils.split(line, ' ');
+			assignableTypes.put(names[0], Set.of(names));
+		}
+		if (key != null)
+		{
+			indexes.put(key, new PluginIndex(digest, assignableTypes));
+		}
+		return indexes;
+	}
+
+	/**
+	 * Builds the index of every plugin jar under the given directory and
+	 * writes them to the given index file, replacing it if it already exists.
+	 * The classes of each jar are loaded (but not initialized) with the given
+	 * class loader as the parent, so it must be able to resolve everything the
+	 * plugins refer to. The jars themselves are not modified.
+	 *
+	 * @param pluginDir
+	 *            The plugins directory
+	 * @param indexFile
+	 *            The index file to be written
+	 * @param parent
+	 *            The class loader providing the PCGen classes
+	 * @return The number of jars indexed
+	 * @throws IOException
+	 *             if a jar could not be read or the index could not be written
+	 * @throws ClassNotFoundException
+	 *             if a class in a jar could not be loaded
+	 */
+	static int write(Path pluginDir, Path indexFile, ClassLoader parent)
+		throws IOException, ClassNotFoundException
+	{
+		List<Path> jars;
+		try (Stream<Path> paths = Files.walk(pluginDir))
+		{
+			jars = paths.filter(path -> StringUtils.endsWithIgnoreCase(path.toString(), ".jar"))
+				.sorted()
+				.collect(Collectors.toList());
+		}
+		try (BufferedWriter writer = Files.newBufferedWriter(indexFile, StandardCharsets.UTF_8))
+		{
+			for (Path jar : jars)
+			{
+				writeSection(writer, getKey(pluginDir, jar), jar, parent);
+			}
+		}
+		return jars.size();
+	}
+
+	private static void writeSection(BufferedWriter writer, String key, Path jar, ClassLoader parent)
+		throws IOException, ClassNotFoundException
+	{
+		try (URLClassLoader loader = new URLClassLoader(new URL[]{jar.toUri().toURL()}, parent);
+				ZipFile file = new ZipFile(jar.toFile()))
+		{
+			writer.write(SECTION_START + key + '\t' + Long.toHexString(digest(file)));
+			writer.newLine();
+			Enumeration<? extends ZipEntry> entries = file.entries();
+			while (entries.hasMoreElements())
+			{
+				String name = entries.nextElement().getName();
+				if (!name.endsWith(".class"))
+				{
+					continue;
+				}
+				name = StringUtils.removeEnd(name, ".class").replace('/', '.');
+				Class<?> clazz = Class.forName(name, false, loader);
+				Set<String> types = new TreeSet<>();
+				addAssignableTypes(clazz, types);
+				types.remove(name);
+				writer.write(name + (types.isEmpty() ? "" : ' ' + String.join(" ", types)));
+				writer.newLine();
+			}
+		}
+	}
+
+	private static void addAssignableTypes(Class<?> clazz, Set<String> types)
+	{
+		if ((clazz == null) || (clazz == Object.class) || !types.add(clazz.getName()))
+		{
+			return;
+		}
+		addAssignableTypes(clazz.getSuperclass(), types);
+		for (Class<?> iface : clazz.getInterfaces())
+		{
+			addAssignableTypes(iface, types);
+		}
+	}
+
+	/**
+	 * Writes the index file for the plugin jars under the given directory. This
+	 * is run by the build once the plugin jars have been created; it must be
+	 * run with the PCGen classes and libraries on the class path.
+	 *
+	 * @param args
+	 *            The plugins directory and the index file to be written
+	 * @throws Exception
+	 *             if any of the jars could not be indexed
+	 */
+	public static void main(String[] args) throws Exception
+	{
+		if (args.length != 2)
+		{
+			System.err.println("Usage: PluginIndex <plugin directory> <index file>");
+			System.exit(1);
+		}
+		int count = write(Paths.get(args[0]), Paths.get(args[1]), PluginIndex.class.getClassLoader());
+		System.out.println("Indexed " + count + " plugin jars");
+	}
+}
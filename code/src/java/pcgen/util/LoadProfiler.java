@@ -0,0 +1,253 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * LoadProfiler records where the time of a data load goes: the wall clock
+ * time, CPU time and (where the JVM supports it) the bytes allocated by each
+ * loader, each source file, each token and each of the resolution phases.
+ *
+ * Profiling is off unless start() has been called; while it is off, begin()
+ * returns a Sample that does nothing, so the cost of an instrumented call site
+ * is a single volatile read. The times recorded are inclusive: the time of a
+ * file includes the time of the tokens on it, and the time of a loader
+ * includes the time of its files.
+ *
+ * A Sample must be closed on the thread that began it.
+ */
+public final class LoadProfiler
+{
+	/** The category of the times recorded for each loader. */
+	public static final String LOADER = "Loader";
+
+	/** The category of the times recorded for each source file. */
+	public static final String FILE = "File";
+
+	/** The category of the times recorded for each token name. */
+	public static final String TOKEN = "Token";
+
+	/** The category of the times recorded for each resolution phase. */
+	public static final String PHASE = "Phase";
+
+	private static final String[] CATEGORIES = {PHASE, LOADER, FILE, TOKEN};
+
+	private static final Sample NO_SAMPLE = new Sample(null, 0L, 0L, 0L);
+
+	private static final ThreadMXBean THREAD_BEAN = ManagementFactory.getThreadMXBean();
+
+	private static volatile Map<String, Map<String, Stats>> statistics = null;
+
+	private static boolean measureCpu = false;
+
+	private static boolean measureAllocation = false;
+
+	private LoadProfiler()
+	{
+		//Utility class
+	}
+
+	/**
+	 * Starts profiling, discarding any previously recorded times.
+	 */
+	public static synchronized void start()
+	{
+		measureCpu = THREAD_BEAN.isCurrentThreadCpuTimeSupported() && THREAD_BEAN.isThreadCpuTimeEnabled();
+		measureAllocation = (THREAD_BEAN instanceof com.sun.management.ThreadMXBean)
+			&& ((com.sun.management.ThreadMXBean) THREAD_BEAN).isThreadAllocatedMemorySupported()
+			&& ((com.sun.management.ThreadMXBean) THREAD_BEAN).isThreadAllocatedMemoryEnabled();
+		Map<String, Map<String, Stats>> newStatistics = new LinkedHashMap<>();
+		for (String category : CATEGORIES)
+		{
+			newStatistics.put(category, new ConcurrentHashMap<>());
+		}
+		statistics = newStatistics;
+	}
+
+	/**
+	 * Stops profiling, discarding the recorded times.
+	 */
+	public static synchronized void stop()
+	{
+		statistics = null;
+	}
+
+	/**
+	 * Returns true if profiling is currently active.
+	 * 
+	 * @return true if profiling is currently active; false otherwise
+	 */
+	public static boolean isEnabled()
+	{
+		return statistics != null;
+	}
+
+	/**
+	 * Begins timing the given item. The returned Sample should be closed (for
+	 * example by a try-with-resources statement) when the item is complete.
+	 * 
+	 * @param category
+	 *            The category of the item (LOADER, FILE, TOKEN or PHASE)
+	 * @param name
+	 *            The name of the item within the category
+	 * @return A Sample to be closed when the item is complete
+	 */
+	public static Sample begin(String category, String name)
+	{
+		Map<String, Map<String, Stats>> active = statistics;
+		if (active == null)
+		{
+			return NO_SAMPLE;
+		}
+		Stats stats = active.get(category).computeIfAbsent(name, n -> new Stats());
+		return new Sample(stats, System.nanoTime(), currentCpuTime(), currentAllocatedBytes());
+	}
+
+	/**
+	 * Returns the report of the times recorded since profiling was started.
+	 * Within each category, the items are sorted by descending wall clock
+	 * time.
+	 * 
+	 * @return The profiling report, or an empty String if profiling is not
+	 *         active
+	 */
+	public static String getReport()
+	{
+		Map<String, Map<String, Stats>> active = statistics;
+		if (active == null)
+		{
+			return "";
+		}
+		StringWriter report = new StringWriter();
+		PrintWriter out = new PrintWriter(report);
+		out.println("Load profile (times are inclusive, in milliseconds; allocation in kilobytes)");
+		for (Map.Entry<String, Map<String, Stats>> category : active.entrySet())
+		{
+			List<Map.Entry<String, Stats>> items = new ArrayList<>(category.getValue().entrySet());
+			if (items.isEmpty())
+			{
+				continue;
+			}
+			items.sort(Comparator.comparingLong((Map.Entry<String, Stats> me) -> me.getValue().wallNanos)
+				.reversed().thenComparing(Map.Entry::getKey));
+			out.println();
+			out.printf("%-10s %12s %12s %12s %10s  %s%n", category.getKey(), "Wall", "CPU", "Alloc", "Count",
+				"Name");
+			for (Map.Entry<String, Stats> me : items)
+			{
+				Stats stats = me.getValue();
+				synchronized (stats)
+				{
+					out.printf("%-10s %12.1f %12s %12s %10d  %s%n", "", stats.wallNanos / 1.0e6,
+						measureCpu ? String.format("%.1f", stats.cpuNanos / 1.0e6) : "-",
+						measureAllocation ? Long.toString(stats.allocatedBytes / 1024) : "-", stats.count,
+						me.getKey());
+				}
+			}
+		}
+		out.flush();
+		return report.toString();
+	}
+
+	/**
+	 * Writes the report of the times recorded since profiling was started to
+	 * the given file.
+	 * 
+	 * @param reportFile
+	 *            The file to which the report should be written
+	 * @throws IOException
+	 *             if the report cannot be written
+	 */
+	public static void writeReport(File reportFile) throws IOException
+	{
+		try (Writer writer = Files.newBufferedWriter(reportFile.toPath(), StandardCharsets.UTF_8))
+		{
+			writer.write(getReport());
+		}
+	}
+
+	private static long currentCpuTime()
+	{
+		return measureCpu ? THREAD_BEAN.getCurrentThreadCpuTime() : 0L;
+	}
+
+	private static long currentAllocatedBytes()
+	{
+		return measureAllocation ? ((com.sun.management.ThreadMXBean) THREAD_BEAN)
+			.getThreadAllocatedBytes(Thread.currentThread().getId()) : 0L;
+	}
+
+	/**
+	 * A Sample is the timing of one occurrence of an item, from begin() until
+	 * the Sample is closed.
+	 */
+	public static final class Sample implements AutoCloseable
+	{
+		private final Stats stats;
+		private final long startWall;
+		private final long startCpu;
+		private final long startAllocated;
+
+		private Sample(Stats stats, long startWall, long startCpu, long startAllocated)
+		{
+			this.stats = stats;
+			this.startWall = startWall;
+			this.startCpu = startCpu;
+			this.startAllocated = startAllocated;
+		}
+
+		@Override
+		public void close()
+		{
+			if (stats != null)
+			{
+				stats.add(System.nanoTime() - startWall, currentCpuTime() - startCpu,
+					currentAllocatedBytes() - startAllocated);
+			}
+		}
+	}
+
+	private static final class Stats
+	{
+		private long count;
+		private long wallNanos;
+		private long cpuNanos;
+		private long allocatedBytes;
+
+		private synchronized void add(long wall, long cpu, long allocated)
+		{
+			count++;
+			wallNanos += wall;
+			cpuNanos += cpu;
+			allocatedBytes += allocated;
+		}
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * LoadWorkerPool holds the shared, bounded pool of worker threads used for the
+ * parts of data loading that can safely run off the loader thread (such as
+ * reading and splitting source files).
+ *
+ * Work submitted here must not modify a LoadContext; results are always
+ * committed back on the thread that requested them, in the order they were
+ * requested. (Object-local deferred tokens may read the LoadContext and
+ * modify only the object they are processing.)
+ */
+public final class LoadWorkerPool
+{
+	private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+	private static final ThreadFactory THREAD_FACTORY = r -> {
+		Thread thread = new Thread(r);
+		thread.setDaemon(true);
+		thread.setName("load-worker-" + THREAD_COUNT.incrementAndGet());
+		return thread;
+	};
+
+	private static ExecutorService executor = null;
+
+	private LoadWorkerPool()
+	{
+		//Utility class
+	}
+
+	/**
+	 * Returns the number of worker threads in the pool.
+	 *
+	 * @return The number of worker threads in the pool
+	 */
+	public static int getPoolSize()
+	{
+		return Math.max(1, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Returns the shared load worker ExecutorService, creating it on first use.
+	 *
+	 * @return The shared load worker ExecutorService
+	 */
+	public static synchronized ExecutorService getExecutor()
+	{
+		if (executor == null)
+		{
+			executor = Executors.newFixedThreadPool(getPoolSize(), THREAD_FACTORY);
+		}
+		return executor;
+	}
+}
@@ -24,13 +24,18 @@ import java.io.PrintStream;
 import java.net.URI;
 import java.text.NumberFormat;
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.LogManager;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 
 import pcgen.core.SettingsHandler;
@@ -170,7 +175,7 @@ public final class Logging
 		Logger l = getLogger();
 		if (l != null && l.isLoggable(DEBUG))
 		{
-			l.log(DEBUG, s);
+			publish(l, DEBUG, s);
 		}
 	}
 
@@ -185,7 +190,7 @@ public final class Logging
 		Logger l = getLogger();
 		if (l.isLoggable(DEBUG))
 		{
-			l.log(DEBUG, param1 + param2);
+			publish(l, DEBUG, param1 + param2);
 		}
 	}
 
@@ -201,7 +206,7 @@ public final class Logging
 		if (l.isLoggable(DEBUG))
 		{
 			String msg = LanguageBundle.getFormattedString(message, params);
-			l.log(DEBUG, msg);
+			publish(l, DEBUG, msg);
 		}
 	}
 
@@ -274,11 +279,11 @@ public final class Logging
 		{
 			if (context != null && context.getSourceURI() != null)
 			{
-				l.log(LST_WARNING, s + " (Source: " + context.getSourceURI() + " )");
+				publish(l, LST_WARNING, s + " (Source: " + context.getSourceURI() + " )");
 			}
 			else
 			{
-				l.log(LST_WARNING, s);
+				publish(l, LST_WARNING, s);
 			}
 		}
 	}
@@ -295,11 +300,11 @@ public final class Logging
 		{
 			if (context != null && context.getSourceURI() != null)
 			{
-				l.log(lvl, " (Source: " + context.getSourceURI() + " )");
+				publish(l, lvl, " (Source: " + context.getSourceURI() + " )");
 			}
 			else
 			{
-				l.log(lvl, " (Source unknown)");
+				publish(l, lvl, " (Source unknown)");
 			}
 		}
 	}
@@ -316,11 +321,11 @@ public final class Logging
 		{
 			if (sourceUri != null)
 			{
-				l.log(lvl, " (Source: " + sourceUri + ')');
+				publish(l, lvl, " (Source: " + sourceUri + ')');
 			}
 			else
 			{
-				l.log(lvl, " (Source unknown)");
+				publish(l, lvl, " (Source unknown)");
 			}
 		}
 	}
@@ -335,7 +340,7 @@ public final class Logging
 		Logger l = getLogger();
 		if (l.isLoggable(ERROR))
 		{
-			l.log(ERROR, s);
+			publish(l, ERROR, s);
 		}
 	}
 
@@ -351,7 +356,9 @@ public final class Logging
 		Logger l = getLogger();
 		if (l.isLoggable(ERROR))
 		{
-			l.log(ERROR, s, params);
+			LogRecord record = createRecord(l, ERROR, s, null);
+			record.setParameters(params);
+			publish(l, record);
 		}
 	}
 
@@ -368,11 +375,11 @@ public final class Logging
 		{
 			if (context != null && context.getSourceURI() != null)
 			{
-				l.log(ERROR, s + " (Source: " + context.getSourceURI() + " )");
+				publish(l, ERROR, s + " (Source: " + context.getSourceURI() + " )");
 			}
 			else
 			{
-				l.log(ERROR, s);
+				publish(l, ERROR, s);
 			}
 		}
 	}
@@ -390,11 +397,11 @@ public final class Logging
 		{
 			if (sourceURI != null)
 			{
-				l.log(ERROR, s + " (Source: " + sourceURI + " )");
+				publish(l, ERROR, s + " (Source: " + sourceURI + " )");
 			}
 			else
 			{
-				l.log(ERROR, s);
+				publish(l, ERROR, s);
 			}
 		}
 	}
@@ -426,7 +433,7 @@ public final class Logging
 		Logger l = getLogger();
 		if (l.isLoggable(lvl))
 		{
-			l.log(lvl, msg);
+			publish(l, lvl, msg);
 		}
 	}
 
@@ -443,7 +450,9 @@ public final class Logging
 		Logger l = getLogger();
 		if (l.isLoggable(lvl))
 		{
-			l.log(lvl, msg, thr);
+			LogRecord record = createRecord(l, lvl, msg, null);
+			record.setThrown(thr);
+			publish(l, record);
 		}
 	}
 
@@ -461,7 +470,7 @@ public final class Logging
 		Logger l = getLogger();
 		if (l.isLoggable(lvl))
 		{
-			l.log(lvl, msg, stackTrace);
+			publish(l, createRecord(l, lvl, msg, stackTrace));
 		}
 	}
 
@@ -623,11 +632,38 @@ public final class Logging
 		Logger.getLogger("plugin").setLevel(level);
 	}
 
-	private static final LinkedList<QueuedMessage> queuedMessages = new LinkedList<>();
+	/**
+	 * The parse messages of the token being processed, one buffer per thread
+	 * so that tokens can be processed on several threads.
+	 */
+	private static final ThreadLocal<ParseMessageBuffer> PARSE_MESSAGES =
+			ThreadLocal.withInitial(ParseMessageBuffer::new);
+
+	/**
+	 * The number of batches of replayed parse messages (and of messages
+	 * logged directly) that may wait for the parse message sink before the
+	 * logging thread blocks.
+	 */
+	private static final int SINK_CAPACITY = 1024;
+
+	private static final Object SINK_LOCK = new Object();
+
+	private static volatile ExecutorService parseMessageSink = null;
+
+	private static int parseMessageSinkUsers = 0;
+
+	/**
+	 * The thread of the current parse message sink. Messages logged on this
+	 * thread (by a log handler) are published directly.
+	 */
+	private static volatile Thread sinkThread = null;
 
 	public static void addParseMessage(Level lvl, String msg)
 	{
-		queuedMessages.add(new QueuedMessage(lvl, msg));
+		if (isParseMessageLoggable(lvl))
+		{
+			PARSE_MESSAGES.get().add(lvl, msg, Thread.currentThread().getStackTrace());
+		}
 	}
 
 	/*
@@ -636,61 +672,198 @@ public final class Logging
 	 */
 	public static void addParseMessage(Level lvl, String msg, StackTraceElement[] stack)
 	{
-		queuedMessages.add(new QueuedMessage(lvl, msg, stack));
+		if (isParseMessageLoggable(lvl))
+		{
+			PARSE_MESSAGES.get().add(lvl, msg, stack);
+		}
 	}
 
-	private static int queuedMessageMark = -1;
-
-	public static void rewindParseMessages()
+	/**
+	 * Parse messages are replayed from pcgen classes, so a message the pcgen
+	 * logger would not output is never queued (and its stack never captured).
+	 */
+	private static boolean isParseMessageLoggable(Level lvl)
 	{
-		while (queuedMessageMark > -1 && queuedMessages.size() > queuedMessageMark)
-		{
-			queuedMessages.removeLast();
-		}
+		return Logger.getLogger("pcgen").isLoggable(lvl);
 	}
 
 	public static void replayParsedMessages()
 	{
 		Logger l = getLogger();
-		for (QueuedMessage msg : queuedMessages)
+		ParseMessageBuffer buffer = PARSE_MESSAGES.get();
+		List<LogRecord> records = new ArrayList<>(buffer.size() + 1);
+		for (int i = 0; i < buffer.size(); i++)
 		{
+			ParseMessageBuffer.ParseMessage msg = buffer.get(i);
 			if (l.isLoggable(msg.level))
 			{
-				l.log(msg.level, msg.message, msg.stackTrace);
+				records.add(createRecord(l, msg.level, msg.message, msg.stackTrace));
 			}
+		}
+		if ((buffer.getOverflow() > 0) && l.isLoggable(LST_WARNING))
+		{
+			records.add(createRecord(l, LST_WARNING,
+				buffer.getOverflow() + " earlier parse messages for this token were discarded", null));
+		}
+		if (records.isEmpty())
+		{
+			return;
+		}
+		publish(() -> records.forEach(l::log));
+	}
+
+	/**
+	 * Passes a message logged directly to the log handlers.
+	 */
+	private static void publish(Logger l, Level lvl, String msg)
+	{
+		publish(l, createRecord(l, lvl, msg, null));
+	}
+
+	private static void publish(Logger l, LogRecord record)
+	{
+		publish(() -> l.log(record));
+	}
 
+	/**
+	 * Runs the given logging action. While the parse message sink is running,
+	 * the action is queued behind the parse messages already replayed, so
+	 * that direct and replayed messages reach the log handlers in the order
+	 * they were logged without the caller waiting for the handlers.
+	 */
+	private static void publish(Runnable action)
+	{
+		ExecutorService sink = parseMessageSink;
+		if ((sink == null) || (Thread.currentThread() == sinkThread))
+		{
+			action.run();
+		}
+		else
+		{
+			sink.execute(action);
 		}
-		queuedMessageMark = -1;
+	}
+
+	private static LogRecord createRecord(Logger l, Level lvl, String msg, StackTraceElement[] stackTrace)
+	{
+		LogRecord record = new LogRecord(lvl, msg);
+		record.setLoggerName(l.getName());
+		record.setSourceClassName(l.getName());
+		if (stackTrace != null)
+		{
+			record.setParameters(new Object[]{stackTrace});
+		}
+		return record;
+	}
+
+	/**
+	 * Discards the parse messages added since the last mark. No mark is
+	 * currently ever set, so every message is kept.
+	 */
+	public static void rewindParseMessages()
+	{
+		// Nothing to rewind
 	}
 
 	public static void clearParseMessages()
 	{
-		queuedMessageMark = -1;
-		queuedMessages.clear();
+		PARSE_MESSAGES.get().clear();
 	}
 
-	private static final class QueuedMessage
+	/**
+	 * Starts passing replayed parse messages, and the messages logged
+	 * directly through this class, to the log handlers on a background
+	 * thread, so that a data load does not wait on the handlers. Both go
+	 * through the same queue, so they are output in the order they were
+	 * logged.
+	 * Each call must be matched by a call to stopParseMessageSink.
+	 */
+	public static void startParseMessageSink()
 	{
-		public final Level level;
-		public final String message;
-		private final StackTraceElement[] stackTrace;
+		synchronized (SINK_LOCK)
+		{
+			if (parseMessageSinkUsers == 0)
+			{
+				parseMessageSink = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+					new ArrayBlockingQueue<>(SINK_CAPACITY), r -> {
+						Thread thread = new Thread(r, "Parse-message-sink");
+						thread.setDaemon(true);
+						sinkThread = thread;
+						return thread;
+					}, Logging::waitForSink);
+			}
+			parseMessageSinkUsers++;
+		}
+	}
 
-		private QueuedMessage(Level lvl, String msg)
+	/**
+	 * Handles a message that does not fit in the queue of the parse message
+	 * sink: the logging thread waits for room, so the order of the messages
+	 * is kept. Once the sink has been stopped, the message is logged directly.
+	 */
+	private static void waitForSink(Runnable action, ThreadPoolExecutor executor)
+	{
+		if (!executor.isShutdown())
 		{
-			level = lvl;
-			message = msg;
-			stackTrace = Thread.currentThread().getStackTrace();
+			try
+			{
+				executor.getQueue().put(action);
+				if (!executor.isShutdown() || !executor.getQueue().remove(action))
+				{
+					return;
+				}
+			}
+			catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+			}
 		}
+		action.run();
+	}
 
-		/*
-		 * Temporary constructor for use with ParseResult conversion.
-		 * See addParseMessage above.
-		 */
-		private QueuedMessage(Level lvl, String msg, StackTraceElement[] stack)
+	/**
+	 * Waits for the parse messages replayed so far to reach the log handlers,
+	 * and returns to logging parse messages directly once every caller of
+	 * startParseMessageSink has stopped.
+	 */
+	public static void stopParseMessageSink()
+	{
+		ExecutorService sink;
+		boolean last;
+		synchronized (SINK_LOCK)
+		{
+			sink = parseMessageSink;
+			if (sink == null)
+			{
+				return;
+			}
+			parseMessageSinkUsers--;
+			last = parseMessageSinkUsers == 0;
+			if (last)
+			{
+				parseMessageSink = null;
+			}
+		}
+		try
+		{
+			if (last)
+			{
+				sink.shutdown();
+				sink.awaitTermination(1, TimeUnit.MINUTES);
+			}
+			else
+			{
+				sink.submit(() -> {
+				}).get();
+			}
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+		catch (ExecutionException e)
 		{
-			level = lvl;
-			message = msg;
-			stackTrace = stack;
+			errorPrint("Failed to flush parse messages", e.getCause());
 		}
 	}
 }
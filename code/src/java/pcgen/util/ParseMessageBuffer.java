@@ -0,0 +1,134 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.util;
+
+import java.util.logging.Level;
+
+/**
+ * ParseMessageBuffer holds the parse messages raised while a single token is
+ * processed, until Logging either replays them (the token failed) or clears
+ * them. Each thread has its own buffer, so tokens may be processed on several
+ * threads at once.
+ *
+ * The buffer is a ring of records that are allocated once and reused. If a
+ * token raises more messages than the ring holds, the oldest are overwritten
+ * and counted, so the final (usually most specific) messages are kept.
+ */
+final class ParseMessageBuffer
+{
+	/**
+	 * The number of messages held for a single token.
+	 */
+	static final int CAPACITY = 64;
+
+	private final ParseMessage[] messages = new ParseMessage[CAPACITY];
+
+	private int first = 0;
+
+	private int size = 0;
+
+	private int overflow = 0;
+
+	ParseMessageBuffer()
+	{
+		for (int i = 0; i < CAPACITY; i++)
+		{
+			messages[i] = new ParseMessage();
+		}
+	}
+
+	/**
+	 * Adds a message, overwriting the oldest message if the buffer is full.
+	 */
+	void add(Level level, String message, StackTraceElement[] stackTrace)
+	{
+		ParseMessage record;
+		if (size == CAPACITY)
+		{
+			record = messages[first];
+			first = (first + 1) % CAPACITY;
+			overflow++;
+		}
+		else
+		{
+			record = messages[(first + size) % CAPACITY];
+			size++;
+		}
+		record.level = level;
+		record.message = message;
+		record.stackTrace = stackTrace;
+	}
+
+	/**
+	 * Removes the most recent messages until no more than the given number
+	 * remain.
+	 */
+	void truncate(int newSize)
+	{
+		while (size > Math.max(0, newSize))
+		{
+			size--;
+			messages[(first + size) % CAPACITY].clear();
+		}
+	}
+
+	int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Returns the message at the given position, the oldest message held being
+	 * at position 0. The record is reused once the buffer is cleared.
+	 */
+	ParseMessage get(int index)
+	{
+		return messages[(first + index) % CAPACITY];
+	}
+
+	/**
+	 * @return The number of messages that were overwritten since the buffer
+	 *         was last cleared
+	 */
+	int getOverflow()
+	{
+		return overflow;
+	}
+
+	void clear()
+	{
+		truncate(0);
+		first = 0;
+		overflow = 0;
+	}
+
+	/**
+	 * A reusable parse message record.
+	 */
+	static final class ParseMessage
+	{
+		Level level;
+		String message;
+		StackTraceElement[] stackTrace;
+
+		private void clear()
+		{
+			level = null;
+			message = null;
+			stackTrace = null;
+		}
+	}
+}
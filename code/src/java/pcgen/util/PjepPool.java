@@ -17,14 +17,22 @@
  */
 package pcgen.util;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Stack;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Set;
 
+/**
+ * PjepPool holds the PJEP parsers available for reuse. Each thread has its own
+ * pool, so evaluating formulas for Player Characters on different threads does
+ * not contend for (or share) a parser.
+ */
 public final class PjepPool
 {
-	private Stack<PJEP> freeStack = new Stack<>();
-	private List<PJEP> usedList = new ArrayList<>();
+	private final ThreadLocal<Deque<PJEP>> freeStack = ThreadLocal.withInitial(ArrayDeque::new);
+	private final ThreadLocal<Set<PJEP>> usedSet =
+			ThreadLocal.withInitial(() -> Collections.newSetFromMap(new IdentityHashMap<>()));
 	private static PjepPool instance = new PjepPool();
 
 	private PjepPool()
@@ -37,23 +45,24 @@ public final class PjepPool
 		return instance;
 	}
 
-	public synchronized void initialise()
+	public void initialise()
 	{
-		freeStack.push(new PJEP());
+		freeStack.get().push(new PJEP());
 	}
 
-	public synchronized PJEP aquire()
+	public PJEP aquire()
 	{
 		return aquire(null, "");
 	}
 
-	public synchronized PJEP aquire(final Object parent, String variableSource)
+	public PJEP aquire(final Object parent, String variableSource)
 	{
 		//System.out.println("aquireJep()");
+		Deque<PJEP> free = freeStack.get();
 		PJEP jep;
-		if (!freeStack.isEmpty())
+		if (!free.isEmpty())
 		{
-			jep = freeStack.pop();
+			jep = free.pop();
 		}
 		else
 		{
@@ -61,32 +70,28 @@ public final class PjepPool
 			//System.err.println("aquirePJep() - creating new parser");
 		}
 
-		usedList.add(jep);
+		usedSet.get().add(jep);
 		jep.initSymTab();
 		jep.setVariableSource(variableSource);
 		jep.setParent(parent);
 		return jep;
 	}
 
-	public synchronized void release(PJEP interp)
+	public void release(PJEP interp)
 	{
 		//System.out.println("releaseJep( " + interp + " )");
-		if (usedList.contains(interp))
-		{
-			usedList.remove(interp);
-		}
-		else
+		if (!usedSet.get().remove(interp))
 		{
 			System.err.println("Tried to release a PJEP instance that we did not aquire...");
 		}
 		interp.setParent(null);
-		freeStack.push(interp);
+		freeStack.get().push(interp);
 	}
 
-	public synchronized void dumpStats()
+	public void dumpStats()
 	{
-		System.out.println("PJEP Pool: ");
-		System.out.println("    Currently Unused: " + freeStack.size());
-		System.out.println("    Currently Used  : " + usedList.size());
+		System.out.println("PJEP Pool (" + Thread.currentThread().getName() + "): ");
+		System.out.println("    Currently Unused: " + freeStack.get().size());
+		System.out.println("    Currently Used  : " + usedSet.get().size());
 	}
 }
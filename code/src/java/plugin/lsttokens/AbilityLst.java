@@ -492,4 +492,10 @@ public class AbilityLst extends AbstractTokenWithSeparator<CDOMObject>
 	{
 		return CDOMObject.class;
 	}
+
+	@Override
+	public boolean isObjectLocal()
+	{
+		return true;
+	}
 }
@@ -29,6 +29,7 @@ import pcgen.cdom.enumeration.ListKey;
 import pcgen.core.Description;
 import pcgen.core.prereq.Prerequisite;
 import pcgen.io.EntityEncoder;
+import pcgen.persistence.lst.LazyText;
 import pcgen.rules.context.LoadContext;
 import pcgen.rules.context.PatternChanges;
 import pcgen.rules.persistence.token.AbstractTokenWithSeparator;
@@ -84,7 +85,9 @@ public class DescLst extends AbstractTokenWithSeparator<CDOMObject> implements C
 		{
 			return pr;
 		}
-		Description desc = new Description(ds);
+		LazyText lazyText =
+				LazyText.isEnabled() ? LazyText.forToken(getTokenName(), aDesc, descString) : null;
+		Description desc = (lazyText == null) ? new Description(ds) : new Description(ds, lazyText);
 
 		if (tok.hasMoreTokens())
 		{
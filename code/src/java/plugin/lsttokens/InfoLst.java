@@ -162,4 +162,10 @@ public class InfoLst extends AbstractNonEmptyToken<CDOMObject>
 	{
 		return CDOMObject.class;
 	}
+
+	@Override
+	public boolean isObjectLocal()
+	{
+		return true;
+	}
 }
@@ -165,4 +165,10 @@ public class UdamLst extends AbstractToken implements CDOMPrimaryToken<CDOMObjec
 	{
 		return CDOMObject.class;
 	}
+
+	@Override
+	public boolean isObjectLocal()
+	{
+		return true;
+	}
 }
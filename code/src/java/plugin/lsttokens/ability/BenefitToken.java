@@ -27,6 +27,7 @@ import pcgen.core.Ability;
 import pcgen.core.Description;
 import pcgen.core.prereq.Prerequisite;
 import pcgen.io.EntityEncoder;
+import pcgen.persistence.lst.LazyText;
 import pcgen.persistence.lst.prereq.PreParserFactory;
 import pcgen.rules.context.LoadContext;
 import pcgen.rules.context.PatternChanges;
@@ -83,7 +84,9 @@ public class BenefitToken extends AbstractNonEmptyToken<Ability> implements CDOM
 			return new ParseResult.Fail(getTokenName() + " encountered imbalanced Parenthesis: " + value);
 		}
 
-		Description ben = new Description(ds);
+		LazyText lazyText =
+				LazyText.isEnabled() ? LazyText.forToken(getTokenName(), value, firstToken) : null;
+		Description ben = (lazyText == null) ? new Description(ds) : new Description(ds, lazyText);
 
 		boolean isPre = false;
 		while (tok.hasMoreTokens())
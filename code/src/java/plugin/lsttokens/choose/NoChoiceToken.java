@@ -242,6 +242,12 @@ public class NoChoiceToken
 		return CDOMObject.class;
 	}
 
+	@Override
+	public boolean isObjectLocal()
+	{
+		return true;
+	}
+
 	@Override
 	public String getPersistentFormat()
 	{
@@ -83,4 +83,10 @@ public class DataFormatToken extends AbstractNonEmptyToken<ContentDefinition>
 	{
 		return CONTENTDEF_CLASS;
 	}
+
+	@Override
+	public boolean isObjectLocal()
+	{
+		return true;
+	}
 }
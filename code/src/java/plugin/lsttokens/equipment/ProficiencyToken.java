@@ -169,6 +169,12 @@ public class ProficiencyToken extends AbstractNonEmptyToken<Equipment>
 		return Equipment.class;
 	}
 
+	@Override
+	public boolean isObjectLocal()
+	{
+		return true;
+	}
+
 	@Override
 	public boolean process(LoadContext context, Equipment eq)
 	{
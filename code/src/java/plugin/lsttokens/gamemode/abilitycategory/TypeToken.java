@@ -100,6 +100,12 @@ public class TypeToken extends AbstractNonEmptyToken<AbilityCategory>
 		return AbilityCategory.class;
 	}
 
+	@Override
+	public boolean isObjectLocal()
+	{
+		return true;
+	}
+
 	@Override
 	public boolean process(LoadContext context, AbilityCategory ac)
 	{
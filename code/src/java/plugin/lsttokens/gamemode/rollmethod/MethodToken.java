@@ -60,6 +60,12 @@ public class MethodToken extends AbstractNonEmptyToken<RollMethod>
 		return RollMethod.class;
 	}
 
+	@Override
+	public boolean isObjectLocal()
+	{
+		return true;
+	}
+
 	@Override
 	public boolean process(LoadContext context, RollMethod rm)
 	{
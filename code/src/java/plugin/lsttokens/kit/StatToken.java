@@ -131,4 +131,10 @@ public class StatToken extends AbstractTokenWithSeparator<KitStat>
 	{
 		return Kit.class;
 	}
+
+	@Override
+	public boolean isObjectLocal()
+	{
+		return true;
+	}
 }
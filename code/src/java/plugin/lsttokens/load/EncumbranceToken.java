@@ -120,6 +120,12 @@ public class EncumbranceToken extends AbstractNonEmptyToken<LoadInfo>
 		return LoadInfo.class;
 	}
 
+	@Override
+	public boolean isObjectLocal()
+	{
+		return true;
+	}
+
 	@Override
 	public boolean process(LoadContext context, LoadInfo info)
 	{
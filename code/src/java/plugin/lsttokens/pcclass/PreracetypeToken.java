@@ -92,4 +92,10 @@ public class PreracetypeToken extends AbstractNonEmptyToken<PCClass>
 		return getTokenClass();
 	}
 
+	@Override
+	public boolean isObjectLocal()
+	{
+		return true;
+	}
+
 }
@@ -121,4 +121,10 @@ public class CrToken extends AbstractNonEmptyToken<Race> implements CDOMPrimaryT
 	{
 		return Race.class;
 	}
+
+	@Override
+	public boolean isObjectLocal()
+	{
+		return true;
+	}
 }
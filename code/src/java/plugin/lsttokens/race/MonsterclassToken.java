@@ -107,6 +107,12 @@ public class MonsterclassToken extends AbstractNonEmptyToken<Race>
 		return Race.class;
 	}
 
+	@Override
+	public boolean isObjectLocal()
+	{
+		return true;
+	}
+
 	@Override
 	public boolean process(LoadContext context, Race r)
 	{
@@ -19,12 +19,16 @@ package pcgen.core;
 
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import pcgen.AbstractCharacterTestCase;
+import pcgen.cdom.base.FormulaFactory;
 import pcgen.cdom.enumeration.ListKey;
+import pcgen.cdom.enumeration.VariableKey;
 import pcgen.core.bonus.Bonus;
 import pcgen.core.bonus.BonusObj;
 import pcgen.rules.context.LoadContext;
+import pcgen.system.PCGenSettings;
 import pcgen.util.TestHelper;
 
 import org.junit.jupiter.api.Test;
@@ -112,4 +116,133 @@ public class BonusManagerTest extends AbstractCharacterTestCase
 		}
 	}
 
+	/**
+	 * Validate that a bonus reading a variable raised by another bonus sees the
+	 * raised value, whatever order the bonuses were added in.
+	 */
+	@Test
+	public void testChainedVariableBonuses()
+	{
+		PlayerCharacter pc = getCharacter();
+		pc.addTemplate(makeChainTemplate("Chained"));
+		pc.calcActiveBonuses();
+		assertEquals("Incorrect variable value", 3.0, pc.getVariableValue("TestA", ""), 0.0001);
+		assertEquals("Incorrect variable value", 6.0, pc.getVariableValue("TestB", ""), 0.0001);
+		assertEquals("Incorrect bonus total", 6.0, pc.getTotalBonusTo("COMBAT", "AC"), 0.0001);
+		assertEquals("Incorrect bonus total", 2.0, pc.getTotalBonusTo("COMBAT", "TOHIT"), 0.0001);
+	}
+
+	/**
+	 * Validate that a bonus is recalculated when a bonus it reads is added to
+	 * the character after the bonuses have been calculated.
+	 */
+	@Test
+	public void testBonusAddedLater()
+	{
+		PlayerCharacter pc = getCharacter();
+		PCTemplate first = makeChainTemplate("First");
+		pc.addTemplate(first);
+		pc.calcActiveBonuses();
+
+		PCTemplate second = TestHelper.makeTemplate("Second");
+		second.addToListFor(ListKey.BONUS, Bonus.newBonus(Globals.getContext(), "VAR|TestA|1"));
+		pc.addTemplate(second);
+		pc.calcActiveBonuses();
+		assertEquals("Incorrect variable value", 8.0, pc.getVariableValue("TestB", ""), 0.0001);
+		assertEquals("Incorrect bonus total", 8.0, pc.getTotalBonusTo("COMBAT", "AC"), 0.0001);
+		assertEquals("Incorrect bonus total", 2.0, pc.getTotalBonusTo("COMBAT", "TOHIT"), 0.0001);
+
+		pc.removeTemplate(second);
+		pc.calcActiveBonuses();
+		assertEquals("Incorrect bonus total", 6.0, pc.getTotalBonusTo("COMBAT", "AC"), 0.0001);
+	}
+
+	/**
+	 * Validate that the incremental calculation gives the same bonuses as
+	 * rebuilding the bonus map until it stops changing.
+	 */
+	@Test
+	public void testSameTotalsAsPasses()
+	{
+		PlayerCharacter pc = getCharacter();
+		pc.addTemplate(makeChainTemplate("Compared"));
+		boolean incremental =
+				PCGenSettings.OPTIONS_CONTEXT.initBoolean(PCGenSettings.OPTION_INCREMENTAL_BONUSES, true);
+		PCGenSettings.OPTIONS_CONTEXT.setBoolean(PCGenSettings.OPTION_INCREMENTAL_BONUSES, false);
+		try
+		{
+			pc.calcActiveBonuses();
+		}
+		finally
+		{
+			PCGenSettings.OPTIONS_CONTEXT.setBoolean(PCGenSettings.OPTION_INCREMENTAL_BONUSES, incremental);
+		}
+		double ac = pc.getTotalBonusTo("COMBAT", "AC");
+		double toHit = pc.getTotalBonusTo("COMBAT", "TOHIT");
+
+		pc.calcActiveBonuses();
+		assertEquals("Incorrect bonus total", ac, pc.getTotalBonusTo("COMBAT", "AC"), 0.0001);
+		assertEquals("Incorrect bonus total", toHit, pc.getTotalBonusTo("COMBAT", "TOHIT"), 0.0001);
+	}
+
+	/**
+	 * Validate that no bonus is evaluated again when the character has not
+	 * changed since the bonuses were calculated.
+	 */
+	@Test
+	public void testUnchangedCharacterNotEvaluated()
+	{
+		PlayerCharacter pc = getCharacter();
+		pc.addTemplate(makeChainTemplate("Unchanged"));
+		pc.calcActiveBonuses();
+		int evaluations = pc.getBonusManager().getEvaluationCount();
+
+		pc.calcActiveBonuses();
+		assertEquals("Bonuses evaluated again", evaluations, pc.getBonusManager().getEvaluationCount());
+		assertEquals("Incorrect bonus total", 6.0, pc.getTotalBonusTo("COMBAT", "AC"), 0.0001);
+		assertEquals("Incorrect bonus total", 2.0, pc.getTotalBonusTo("COMBAT", "TOHIT"), 0.0001);
+
+		pc.setDirty(true);
+		pc.calcActiveBonuses();
+		assertTrue("Calculated bonuses not evaluated again",
+			pc.getBonusManager().getEvaluationCount() > evaluations);
+		assertEquals("Incorrect bonus total", 6.0, pc.getTotalBonusTo("COMBAT", "AC"), 0.0001);
+	}
+
+	/**
+	 * Validate that a bonus whose prerequisite it makes false is reported as a
+	 * cycle rather than stopping the calculation from finishing.
+	 */
+	@Test
+	public void testPrerequisiteCycle()
+	{
+		PCTemplate testObj = TestHelper.makeTemplate("Cycle");
+		testObj.put(VariableKey.getConstant("TestC"), FormulaFactory.getFormulaFor(0));
+		testObj.addToListFor(ListKey.BONUS, Bonus.newBonus(Globals.getContext(), "VAR|TestC|1|PREVAREQ:TestC,0"));
+
+		PlayerCharacter pc = getCharacter();
+		pc.addTemplate(testObj);
+		pc.calcActiveBonuses();
+		assertTrue("Cycle not detected", pc.isBonusCycle());
+		// The bonus map can only alternate between two states, so the third
+		// round that changes it must return to an earlier one
+		assertTrue("Too many rounds: " + pc.getBonusRounds(), pc.getBonusRounds() <= 3);
+		float value = pc.getVariableValue("TestC", "");
+		assertTrue("Incorrect variable value", (value == 0.0f) || (value == 1.0f));
+	}
+
+	private static PCTemplate makeChainTemplate(String name)
+	{
+		PCTemplate testObj = TestHelper.makeTemplate(name);
+		LoadContext context = Globals.getContext();
+		testObj.put(VariableKey.getConstant("TestA"), FormulaFactory.getFormulaFor(0));
+		testObj.put(VariableKey.getConstant("TestB"), FormulaFactory.getFormulaFor(0));
+		// The readers come before the bonuses they read
+		testObj.addToListFor(ListKey.BONUS, Bonus.newBonus(context, "COMBAT|AC|TestB"));
+		testObj.addToListFor(ListKey.BONUS, Bonus.newBonus(context, "VAR|TestB|TestA*2"));
+		testObj.addToListFor(ListKey.BONUS, Bonus.newBonus(context, "COMBAT|TOHIT|2|PREVARGTEQ:TestA,3"));
+		testObj.addToListFor(ListKey.BONUS, Bonus.newBonus(context, "VAR|TestA|3"));
+		return testObj;
+	}
+
 }
@@ -0,0 +1,131 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import pcgen.core.Campaign;
+import pcgen.core.DataSet;
+import pcgen.core.GameMode;
+import pcgen.core.Globals;
+import pcgen.core.SettingsHandler;
+import pcgen.facade.util.DefaultListFacade;
+import pcgen.persistence.DataSetRegistry.ResidentDataSet;
+import pcgen.rules.context.LoadContext;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DataSetRegistryTest
+{
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void testLeastRecentlyUsedIsEvicted()
+	{
+		DataSetRegistry registry = new DataSetRegistry(() -> 2, () -> false);
+		registry.register(loadDataSet(), fingerprint("A", Collections.emptyList()));
+		registry.register(loadDataSet(), fingerprint("B", Collections.emptyList()));
+		registry.activate(key("A"));
+		registry.register(loadDataSet(), fingerprint("C", Collections.emptyList()));
+
+		assertEquals(List.of(key("A"), key("C")), registry.getDatasetKeys());
+	}
+
+	@Test
+	void testActivateRestoresContext()
+	{
+		DataSetRegistry registry = new DataSetRegistry(() -> 2, () -> false);
+		DataSet first = loadDataSet();
+		LoadContext firstContext = Globals.getContext();
+		registry.register(first, fingerprint("A", Collections.emptyList()));
+		DataSet second = loadDataSet();
+		registry.register(second, fingerprint("B", Collections.emptyList()));
+		assertNotSame(firstContext, Globals.getContext());
+
+		ResidentDataSet resident = registry.activate(key("A"));
+		assertSame(first, resident.getDataSet());
+		assertSame(firstContext, Globals.getContext());
+		assertNull(registry.activate(key("C")));
+	}
+
+	@Test
+	void testLowMemoryKeepsLatest()
+	{
+		DataSetRegistry registry = new DataSetRegistry(() -> 3, () -> true);
+		registry.register(loadDataSet(), fingerprint("A", Collections.emptyList()));
+		registry.register(loadDataSet(), fingerprint("B", Collections.emptyList()));
+
+		assertEquals(List.of(key("B")), registry.getDatasetKeys());
+	}
+
+	@Test
+	void testChangedSourcesAreReloaded() throws IOException
+	{
+		Path source = tempDir.resolve("source.lst");
+		Files.writeString(source, "Original", StandardCharsets.UTF_8);
+		DataSetRegistry registry = new DataSetRegistry(() -> 2, () -> false);
+		registry.register(loadDataSet(), fingerprint("A", List.of(source.toUri())));
+
+		Files.writeString(source, "Changed contents", StandardCharsets.UTF_8);
+		assertNull(registry.activate(key("A")));
+		assertEquals(Collections.emptyList(), registry.getDatasetKeys());
+	}
+
+	/**
+	 * Simulates the load of a data set, which always starts with a fresh
+	 * LoadContext for the game mode.
+	 */
+	private static DataSet loadDataSet()
+	{
+		GameMode gameMode = SettingsHandler.getGameAsProperty().get();
+		gameMode.clearLoadContext();
+		return new DataSet(gameMode.getContext(), gameMode, new DefaultListFacade<>());
+	}
+
+	private static SourceFingerprint fingerprint(String campaignName, Collection<URI> sourceFiles)
+	{
+		return SourceFingerprint.of(SettingsHandler.getGameAsProperty().get().getName(),
+			List.of(campaign(campaignName)), sourceFiles);
+	}
+
+	private static String key(String campaignName)
+	{
+		return SourceFingerprint.getDatasetKey(SettingsHandler.getGameAsProperty().get().getName(),
+			List.of(campaign(campaignName)));
+	}
+
+	private static Campaign campaign(String name)
+	{
+		Campaign campaign = new Campaign();
+		campaign.setName(name);
+		return campaign;
+	}
+}
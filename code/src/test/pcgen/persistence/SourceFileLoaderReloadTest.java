@@ -0,0 +1,152 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+
+import pcgen.cdom.enumeration.StringKey;
+import pcgen.core.Campaign;
+import pcgen.core.Globals;
+import pcgen.core.PCTemplate;
+import pcgen.facade.util.DefaultListFacade;
+import pcgen.gui2.facade.MockUIDelegate;
+import pcgen.persistence.lst.CampaignLoader;
+import pcgen.util.TestHelper;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Loads a small campaign with SourceFileLoader, changes its files on disk and
+ * checks the result of SourceFileLoader.reloadChangedFiles.
+ */
+public class SourceFileLoaderReloadTest
+{
+	/** The name of our dummy config file. */
+	private static final String TEST_CONFIG_FILE = "config.ini.reloadtest";
+
+	private static final String TEMPLATE_KEY = "Reload Template";
+
+	private File dataDir;
+	private File templateFile;
+	private SourceFileLoader loader;
+
+	@BeforeAll
+	static void loadGameModes()
+	{
+		TestHelper.loadGameModes(TEST_CONFIG_FILE);
+	}
+
+	@AfterAll
+	static void afterClass()
+	{
+		new File(TEST_CONFIG_FILE).delete();
+	}
+
+	@BeforeEach
+	void loadCampaign() throws IOException, PersistenceLayerException
+	{
+		dataDir = Files.createTempDirectory("reloadtest").toFile();
+		templateFile = new File(dataDir, "reload_templates.lst");
+		writeTemplates(TEMPLATE_KEY + "\tSOURCEPAGE:p1\n");
+		File pccFile = new File(dataDir, "reload.pcc");
+		Files.writeString(pccFile.toPath(),
+			"CAMPAIGN:Reload Test\nGAMEMODE:35e\nTEMPLATE:reload_templates.lst\n", StandardCharsets.UTF_8);
+
+		URI pccUri = pccFile.toURI();
+		new CampaignLoader().loadCampaignLstFile(pccUri);
+		Campaign campaign = Globals.getCampaignByURI(pccUri, false);
+		assertNotNull(campaign, "Campaign not loaded");
+
+		loader = new SourceFileLoader(new MockUIDelegate(),
+			new DefaultListFacade<>(Collections.singletonList(campaign)), "35e");
+		loader.run();
+		assertNotNull(loader.getDataSetFacade(), "Sources not loaded");
+	}
+
+	@AfterEach
+	void deleteCampaign() throws IOException
+	{
+		FileUtils.deleteDirectory(dataDir);
+	}
+
+	@Test
+	public void testNoChangedFiles()
+	{
+		PCTemplate template = getTemplate();
+		assertTrue(loader.reloadChangedFiles());
+		assertSame(template, getTemplate());
+	}
+
+	@Test
+	public void testChangedObjectReplaced() throws IOException
+	{
+		PCTemplate template = getTemplate();
+		assertEquals("p1", template.get(StringKey.SOURCE_PAGE));
+
+		writeTemplates(TEMPLATE_KEY + "\tSOURCEPAGE:p2\n");
+		assertTrue(loader.reloadChangedFiles());
+		PCTemplate reloaded = getTemplate();
+		assertNotSame(template, reloaded);
+		assertEquals("p2", reloaded.get(StringKey.SOURCE_PAGE));
+		assertTrue(loader.getSourceFingerprint().getChangedFiles().isEmpty());
+	}
+
+	@Test
+	public void testAddedObjectNotReloaded() throws IOException
+	{
+		writeTemplates(TEMPLATE_KEY + "\tSOURCEPAGE:p1\nAnother Template\tSOURCEPAGE:p3\n");
+		assertFalse(loader.reloadChangedFiles());
+	}
+
+	private PCTemplate getTemplate()
+	{
+		PCTemplate template = Globals.getContext().getReferenceContext()
+			.silentlyGetConstructedCDOMObject(PCTemplate.class, TEMPLATE_KEY);
+		assertNotNull(template, "Template not loaded");
+		return template;
+	}
+
+	/**
+	 * Writes the template file, making sure it is seen as changed even if its
+	 * size and the resolution of the file system clock would not show it.
+	 */
+	private void writeTemplates(String contents) throws IOException
+	{
+		long lastModified = templateFile.lastModified();
+		Files.writeString(templateFile.toPath(), contents, StandardCharsets.UTF_8);
+		if (lastModified != 0L)
+		{
+			assertTrue(templateFile.setLastModified(lastModified + 2000L));
+		}
+	}
+}
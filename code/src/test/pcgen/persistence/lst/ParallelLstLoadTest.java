@@ -0,0 +1,137 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.persistence.lst;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import pcgen.core.Campaign;
+import pcgen.core.Globals;
+import pcgen.core.Race;
+import pcgen.core.SettingsHandler;
+import pcgen.persistence.PersistenceLayerException;
+import pcgen.rules.context.LoadContext;
+import pcgen.system.PCGenSettings;
+import pcgen.util.TestHelper;
+import plugin.lsttokens.testsupport.TokenRegistration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Verify that loading LST files with parallel source loading enabled gives the
+ * same results as a serial load, including .COPY, .MOD and .FORGET ordering.
+ */
+public class ParallelLstLoadTest
+{
+	/**
+	 * The number of single object files loaded, which is more than the number
+	 * of files read ahead so that the prefetch window has to move.
+	 */
+	private static final int EXTRA_FILES = 100;
+
+	@TempDir
+	Path tempDir;
+
+	private boolean origParallel;
+
+	@BeforeEach
+	public void setUp() throws Exception
+	{
+		TestHelper.loadPlugins();
+		origParallel =
+				PCGenSettings.OPTIONS_CONTEXT.initBoolean(PCGenSettings.OPTION_PARALLEL_SOURCE_LOAD, false);
+	}
+
+	@AfterEach
+	public void tearDown()
+	{
+		PCGenSettings.OPTIONS_CONTEXT.setBoolean(PCGenSettings.OPTION_PARALLEL_SOURCE_LOAD, origParallel);
+		SettingsHandler.getGameAsProperty().get().clearLoadContext();
+		TokenRegistration.clearTokens();
+	}
+
+	@Test
+	public void testSerialLoad() throws Exception
+	{
+		PCGenSettings.OPTIONS_CONTEXT.setBoolean(PCGenSettings.OPTION_PARALLEL_SOURCE_LOAD, false);
+		verifyLoad();
+	}
+
+	@Test
+	public void testParallelLoad() throws Exception
+	{
+		PCGenSettings.OPTIONS_CONTEXT.setBoolean(PCGenSettings.OPTION_PARALLEL_SOURCE_LOAD, true);
+		verifyLoad();
+	}
+
+	private void verifyLoad() throws IOException, PersistenceLayerException
+	{
+		List<CampaignSourceEntry> files = new ArrayList<>();
+		files.add(writeFile("base.lst", "# Base races", "Alpha\tTYPE:Base", "", "Beta\tTYPE:Base"));
+		files.add(writeFile("mods.lst", "Alpha.MOD\tTYPE:Modded", "Beta.COPY=Gamma\tTYPE:Copied"));
+		for (int i = 0; i < EXTRA_FILES; i++)
+		{
+			files.add(writeFile("extra" + i + ".lst", "Extra" + i + "\tTYPE:Extra"));
+		}
+		files.add(writeFile("forget.lst", "Extra7.FORGET"));
+
+		LoadContext context = Globals.getContext();
+		GenericLoader<Race> loader = new GenericLoader<>(Race.class);
+		loader.loadLstFiles(context, files);
+
+		Race alpha = context.getReferenceContext().silentlyGetConstructedCDOMObject(Race.class, "Alpha");
+		assertNotNull(alpha);
+		assertTrue(alpha.isType("Modded"));
+		Race gamma = context.getReferenceContext().silentlyGetConstructedCDOMObject(Race.class, "Gamma");
+		assertNotNull(gamma);
+		assertTrue(gamma.isType("Base"));
+		assertTrue(gamma.isType("Copied"));
+		Race beta = context.getReferenceContext().silentlyGetConstructedCDOMObject(Race.class, "Beta");
+		assertFalse(beta.isType("Copied"));
+		for (int i = 0; i < EXTRA_FILES; i++)
+		{
+			Race extra =
+					context.getReferenceContext().silentlyGetConstructedCDOMObject(Race.class, "Extra" + i);
+			if (i == 7)
+			{
+				assertNull(extra);
+			}
+			else
+			{
+				assertNotNull(extra);
+			}
+		}
+	}
+
+	private CampaignSourceEntry writeFile(String name, String... lines) throws IOException
+	{
+		Path file = tempDir.resolve(name);
+		Files.write(file, List.of(lines), StandardCharsets.UTF_8);
+		return new CampaignSourceEntry(new Campaign(), file.toUri());
+	}
+}
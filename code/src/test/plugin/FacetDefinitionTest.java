@@ -31,7 +31,7 @@ import org.junit.jupiter.api.Test;
 
 /**
  * {@code FacetDefinitionTest} verifies that all facets are registered in the
- * applicationContext.xml file. As a result this unit test is a bit different in 
+ * FacetRegistry. As a result this unit test is a bit different in 
  * structure to a normal test.
  * 
  * Note: pcgen.cdom.facet.base only contains abstract base classes for facets 
@@ -40,7 +40,7 @@ import org.junit.jupiter.api.Test;
 class FacetDefinitionTest
 {
 	/** The file in which we expect all facets to be defined. */
-	private static final String APP_CONTEXT_FILE = "code/src/java/applicationContext.xml";
+	private static final String APP_CONTEXT_FILE = "code/src/java/pcgen/cdom/helper/FacetRegistry.java";
 	/**
 	 * Array of exceptions to normal names. Each entry is a pair of
 	 * Java source file name and JAR file name. 
@@ -53,7 +53,7 @@ class FacetDefinitionTest
 			"FacetLibrary");
 	
 	/**
-	 * Check for the presence of all 'general' facets in the spring definition.
+	 * Check for the presence of all 'general' facets in the facet registry.
 	 * @throws Exception 
 	 */
 	@Test
@@ -64,7 +64,7 @@ class FacetDefinitionTest
 	}
 	
 	/**
-	 * Check for the presence of all 'analysis' facets in the spring definition.
+	 * Check for the presence of all 'analysis' facets in the facet registry.
 	 * @throws Exception 
 	 */
 	@Test
@@ -75,7 +75,7 @@ class FacetDefinitionTest
 	}
 	
 	/**
-	 * Check for the presence of all 'event' facets in the spring definition.
+	 * Check for the presence of all 'event' facets in the facet registry.
 	 * @throws Exception 
 	 */
 	@Test
@@ -86,7 +86,7 @@ class FacetDefinitionTest
 	}
 	
 	/**
-	 * Check for the presence of all 'fact' facets in the spring definition.
+	 * Check for the presence of all 'fact' facets in the facet registry.
 	 * @throws Exception 
 	 */
 	@Test
@@ -97,7 +97,7 @@ class FacetDefinitionTest
 	}
 	
 	/**
-	 * Check for the presence of all 'filter' facets in the spring definition.
+	 * Check for the presence of all 'filter' facets in the facet registry.
 	 * NB: These do not exist yet so the test is disabled.
 	 * @throws Exception 
 	 */
@@ -110,7 +110,7 @@ class FacetDefinitionTest
 	}
 	
 	/**
-	 * Check for the presence of all 'input' facets in the spring definition.
+	 * Check for the presence of all 'input' facets in the facet registry.
 	 * @throws Exception 
 	 */
 	@Test
@@ -121,7 +121,7 @@ class FacetDefinitionTest
 	}
 	
 	/**
-	 * Check for the presence of all 'link' facets in the spring definition.
+	 * Check for the presence of all 'link' facets in the facet registry.
 	 * NB: These do not exist yet so the test is disabled.
 	 * @throws Exception 
 	 */
@@ -134,7 +134,7 @@ class FacetDefinitionTest
 	}
 	
 	/**
-	 * Check for the presence of all 'list' facets in the spring definition.
+	 * Check for the presence of all 'list' facets in the facet registry.
 	 * NB: These do not exist yet so the test is disabled.
 	 * @throws Exception 
 	 */
@@ -147,7 +147,7 @@ class FacetDefinitionTest
 	}
 	
 	/**
-	 * Check for the presence of all 'model' facets in the spring definition.
+	 * Check for the presence of all 'model' facets in the facet registry.
 	 * @throws Exception 
 	 */
 	@Test
@@ -158,7 +158,7 @@ class FacetDefinitionTest
 	}
 	
 	/**
-	 * Check for the presence of all 'utility' facets in the spring definition.
+	 * Check for the presence of all 'utility' facets in the facet registry.
 	 * NB: These do not exist yet so the test is disabled.
 	 * @throws Exception 
 	 */
@@ -172,7 +172,7 @@ class FacetDefinitionTest
 
 	/**
 	 * Verify that all non-excluded java files are represented by an entry 
-	 * in the applicationContext file. An exceptions list is used to track 
+	 * in the FacetRegistry. An exceptions list is used to track 
 	 * classes which are not facets.
 	 *   
 	 * @param sourceFolder The folder containing the source files.
@@ -196,10 +196,10 @@ class FacetDefinitionTest
 			testString = testString.replaceAll(".java", "");
 			if (!exceptions.contains(testString))
 			{
-				testString = "class=\"" + packageName + "." + testString + "\"";
+				testString = "import " + packageName + "." + testString + ";";
 				Assertions.assertTrue(
 						contextData.contains(testString),
-						"Unable to find Spring definition for " + srcFile
+						"Unable to find FacetRegistry entry for " + srcFile
 				);
 			}
 		});
@@ -0,0 +1,144 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.cdom.facet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import pcgen.cdom.enumeration.CharID;
+import pcgen.cdom.enumeration.DataSetID;
+import pcgen.cdom.facet.model.LanguageFacet;
+import pcgen.core.Language;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Processes many characters through the same facets on several threads, and
+ * checks the result for each character matches a serial run.
+ */
+class FacetConcurrencyTest
+{
+	private static final int CHARACTERS = 64;
+	private static final int STEPS = 500;
+	private static final int THREADS = 8;
+
+	private final LanguageFacet languageFacet = new LanguageFacet();
+	private final ConsolidatedLanguageFacet consolidatedFacet = new ConsolidatedLanguageFacet();
+	private final List<Language> languages = new ArrayList<>();
+	private DataSetID dsid;
+
+	@BeforeEach
+	void setUp()
+	{
+		languageFacet.addDataFacetChangeListener(consolidatedFacet);
+		for (int i = 0; i < 50; i++)
+		{
+			Language lang = new Language();
+			lang.setName("Language" + i);
+			languages.add(lang);
+		}
+		dsid = DataSetID.getID();
+	}
+
+	@Test
+	void testConcurrentCharactersMatchSerialRun() throws Exception
+	{
+		List<Set<Language>> serial = new ArrayList<>();
+		for (int i = 0; i < CHARACTERS; i++)
+		{
+			serial.add(process(i));
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try
+		{
+			List<Future<Set<Language>>> concurrent = new ArrayList<>();
+			for (int i = 0; i < CHARACTERS; i++)
+			{
+				int index = i;
+				concurrent.add(executor.submit(() -> process(index)));
+			}
+			for (int i = 0; i < CHARACTERS; i++)
+			{
+				assertFalse(serial.get(i).isEmpty());
+				assertEquals(serial.get(i), concurrent.get(i).get());
+			}
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void testConcurrentIdentifiersAreUnique() throws Exception
+	{
+		Set<Integer> ordinals = ConcurrentHashMap.newKeySet();
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try
+		{
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < THREADS; t++)
+			{
+				futures.add(executor.submit(() -> {
+					for (int i = 0; i < 1000; i++)
+					{
+						ordinals.add(CharID.getID(dsid).getOrdinal());
+					}
+				}));
+			}
+			for (Future<?> future : futures)
+			{
+				future.get();
+			}
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+		assertEquals(THREADS * 1000, ordinals.size());
+	}
+
+	private Set<Language> process(int index)
+	{
+		CharID id = CharID.getID(dsid);
+		for (int step = 0; step < STEPS; step++)
+		{
+			String source = "Source" + (step % 5);
+			languageFacet.add(id, languages.get((index * 7 + step) % languages.size()), source);
+			if (step % 3 == 0)
+			{
+				languageFacet.remove(id, languages.get((index + step) % languages.size()), source);
+			}
+		}
+		Set<Language> result = new HashSet<>(consolidatedFacet.getSet(id));
+		assertEquals(new HashSet<>(languageFacet.getSet(id)), result);
+		return result;
+	}
+
+	private static final class ConsolidatedLanguageFacet extends LanguageFacet
+	{
+	}
+}
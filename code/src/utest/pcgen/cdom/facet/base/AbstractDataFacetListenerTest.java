@@ -0,0 +1,113 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.cdom.facet.base;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import pcgen.cdom.enumeration.CharID;
+import pcgen.cdom.enumeration.DataSetID;
+import pcgen.cdom.facet.event.DataFacetChangeEvent;
+import pcgen.cdom.facet.event.DataFacetChangeListener;
+import pcgen.cdom.facet.model.LanguageFacet;
+import pcgen.core.Language;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AbstractDataFacetListenerTest
+{
+	private final LanguageFacet facet = new LanguageFacet();
+	private final List<String> received = new ArrayList<>();
+	private CharID id;
+	private CharID altid;
+	private Language lang;
+
+	@BeforeEach
+	void setUp()
+	{
+		DataSetID dsid = DataSetID.getID();
+		id = CharID.getID(dsid);
+		altid = CharID.getID(dsid);
+		lang = new Language();
+		lang.setName("Common");
+	}
+
+	@Test
+	void testListenerOnlyReceivesItsCharacter()
+	{
+		Listener listener = new Listener("Local");
+		facet.addDataFacetChangeListener(id, listener);
+		facet.add(altid, lang, this);
+		assertEquals(List.of(), received);
+		facet.add(id, lang, this);
+		assertEquals(List.of("Local+"), received);
+
+		facet.removeDataFacetChangeListener(id, listener);
+		facet.remove(id, lang, this);
+		assertEquals(List.of("Local+"), received);
+	}
+
+	@Test
+	void testListenersAreAdvisedByPriority()
+	{
+		facet.addDataFacetChangeListener(5, new Listener("Global5"));
+		facet.addDataFacetChangeListener(new Listener("Global0"));
+		facet.addDataFacetChangeListener(id, 10, new Listener("Local10"));
+		facet.addDataFacetChangeListener(id, new Listener("Local0"));
+		facet.add(id, lang, this);
+		assertEquals(List.of("Global0+", "Local0+", "Global5+", "Local10+"), received);
+
+		received.clear();
+		facet.add(altid, lang, this);
+		assertEquals(List.of("Global0+", "Global5+"), received);
+	}
+
+	@Test
+	void testGlobalListenersAreAdvisedFirstAtEqualPriority()
+	{
+		// Registered first, but the model listener must still see the change first
+		facet.addDataFacetChangeListener(id, new Listener("Local"));
+		facet.addDataFacetChangeListener(new Listener("Global"));
+		facet.add(id, lang, this);
+		facet.remove(id, lang, this);
+		assertEquals(List.of("Global+", "Local+", "Global-", "Local-"), received);
+	}
+
+	private final class Listener implements DataFacetChangeListener<CharID, Language>
+	{
+		private final String name;
+
+		private Listener(String name)
+		{
+			this.name = name;
+		}
+
+		@Override
+		public void dataAdded(DataFacetChangeEvent<CharID, Language> dfce)
+		{
+			received.add(name + "+");
+		}
+
+		@Override
+		public void dataRemoved(DataFacetChangeEvent<CharID, Language> dfce)
+		{
+			received.add(name + "-");
+		}
+	}
+}
@@ -0,0 +1,210 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.cdom.facet.base;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import pcgen.cdom.base.FacetSlots;
+import pcgen.cdom.enumeration.CharID;
+import pcgen.cdom.enumeration.DataSetID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AbstractStorageFacetTest
+{
+	private CharID id;
+	private CharID altid;
+
+	@BeforeEach
+	void setUp()
+	{
+		DataSetID dsid = DataSetID.getID();
+		id = CharID.getID(dsid);
+		altid = CharID.getID(dsid);
+	}
+
+	@Test
+	void testStorageIsPerIdentifier()
+	{
+		FirstFacet facet = new FirstFacet();
+		assertNull(facet.setCache(id, "One"));
+		assertEquals("One", facet.getCache(id));
+		assertNull(facet.getCache(altid));
+		assertEquals("One", facet.setCache(id, "Two"));
+		assertEquals("Two", facet.removeCache(id));
+		assertNull(facet.getCache(id));
+	}
+
+	@Test
+	void testInstancesOfAFacetShareStorage()
+	{
+		new FirstFacet().setCache(id, "One");
+		assertEquals("One", new FirstFacet().getCache(id));
+		assertNull(new SecondFacet().getCache(id));
+	}
+
+	@Test
+	void testPeekAtCache()
+	{
+		Map<Class<?>, Object> view = AbstractStorageFacet.peekAtCache(id);
+		assertTrue(view.isEmpty());
+		new FirstFacet().setCache(id, "One");
+		new SecondFacet().setCache(id, "Two");
+		assertEquals(Map.of(FirstFacet.class, "One", SecondFacet.class, "Two"), view);
+	}
+
+	@Test
+	void testAreEqualCache()
+	{
+		FirstFacet facet = new FirstFacet();
+		facet.setCache(id, "One");
+		assertFalse(AbstractStorageFacet.areEqualCache(id, altid, (o1, o2, s) -> null));
+		facet.setCache(altid, "One");
+		assertTrue(AbstractStorageFacet.areEqualCache(id, altid,
+			(o1, o2, s) -> o1.equals(o2) ? null : s));
+		facet.setCache(altid, "Two");
+		assertFalse(AbstractStorageFacet.areEqualCache(id, altid,
+			(o1, o2, s) -> o1.equals(o2) ? null : s));
+	}
+
+	@Test
+	void testSlotsGrow()
+	{
+		FacetSlots slots = new FacetSlots();
+		int beyond = slots.capacity() + 10;
+		assertNull(slots.set(3, "Three"));
+		assertNull(slots.get(beyond));
+		assertNull(slots.set(beyond, "Beyond"));
+		assertEquals("Three", slots.get(3));
+		assertEquals("Beyond", slots.get(beyond));
+	}
+
+	@Test
+	void testSharedContentsCopiedOnWrite()
+	{
+		SharingFacet facet = new SharingFacet();
+		List<String> contents = new ArrayList<>(List.of("One"));
+		facet.setCache(id, contents);
+		facet.copyContents(id, altid);
+		assertSame(contents, facet.getCache(altid));
+
+		List<String> written = facet.getWritableCache(altid);
+		assertNotSame(contents, written);
+		assertEquals(contents, written);
+		written.add("Two");
+		assertEquals(List.of("One"), facet.getCache(id));
+
+		// The source is now the only holder, so it may write in place
+		assertSame(contents, facet.getWritableCache(id));
+		assertEquals(1, facet.copies);
+	}
+
+	@Test
+	void testSetCacheReleasesShare()
+	{
+		SharingFacet facet = new SharingFacet();
+		List<String> contents = new ArrayList<>(List.of("One"));
+		facet.setCache(id, contents);
+		facet.copyContents(id, altid);
+		facet.setCache(altid, new ArrayList<>());
+		assertSame(contents, facet.getWritableCache(id));
+
+		facet.copyContents(id, altid);
+		facet.removeCache(id);
+		assertSame(contents, facet.getWritableCache(altid));
+		assertEquals(0, facet.copies);
+	}
+
+	@Test
+	void testSharedWithSeveralResources()
+	{
+		SharingFacet facet = new SharingFacet();
+		CharID thirdid = CharID.getID(DataSetID.getID());
+		List<String> contents = new ArrayList<>(List.of("One"));
+		facet.setCache(id, contents);
+		facet.copyContents(id, altid);
+		facet.copyContents(altid, thirdid);
+		assertSame(contents, facet.getCache(thirdid));
+
+		assertNotSame(contents, facet.getWritableCache(id));
+		assertNotSame(contents, facet.getWritableCache(thirdid));
+		assertSame(contents, facet.getWritableCache(altid));
+		assertEquals(2, facet.copies);
+	}
+
+	@Test
+	void testEmptyContentsNotShared()
+	{
+		SharingFacet facet = new SharingFacet();
+		facet.copyContents(id, altid);
+		assertNull(facet.getCache(altid));
+		assertNull(facet.getWritableCache(altid));
+	}
+
+	private static final class SharingFacet extends AbstractStorageFacet<CharID>
+	{
+		private int copies;
+
+		@Override
+		public void copyContents(CharID source, CharID copy)
+		{
+			shareContents(source, copy);
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		protected List<String> getWritableCache(CharID id)
+		{
+			return (List<String>) super.getWritableCache(id);
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		protected Object copyCache(Object contents)
+		{
+			copies++;
+			return new ArrayList<>((List<String>) contents);
+		}
+	}
+
+	private static final class FirstFacet extends AbstractStorageFacet<CharID>
+	{
+		@Override
+		public void copyContents(CharID source, CharID copy)
+		{
+			setCache(copy, getCache(source));
+		}
+	}
+
+	private static final class SecondFacet extends AbstractStorageFacet<CharID>
+	{
+		@Override
+		public void copyContents(CharID source, CharID copy)
+		{
+			setCache(copy, getCache(source));
+		}
+	}
+}
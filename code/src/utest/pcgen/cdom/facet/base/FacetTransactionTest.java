@@ -0,0 +1,124 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.cdom.facet.base;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import pcgen.cdom.enumeration.CharID;
+import pcgen.cdom.enumeration.DataSetID;
+import pcgen.cdom.facet.event.DataFacetBatchEvent;
+import pcgen.cdom.facet.event.DataFacetBatchListener;
+import pcgen.cdom.facet.event.DataFacetChangeEvent;
+import pcgen.cdom.facet.event.DataFacetChangeListener;
+import pcgen.cdom.facet.model.LanguageFacet;
+import pcgen.core.Language;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FacetTransactionTest
+{
+	private final LanguageFacet facet = new LanguageFacet();
+	private final List<DataFacetBatchEvent<CharID, Language>> batches = new ArrayList<>();
+	private final List<Language> singles = new ArrayList<>();
+	private CharID id;
+	private Language common;
+	private Language elven;
+	private Language dwarven;
+
+	@BeforeEach
+	void setUp()
+	{
+		id = CharID.getID(DataSetID.getID());
+		common = language("Common");
+		elven = language("Elven");
+		dwarven = language("Dwarven");
+		facet.addDataFacetChangeListener((DataFacetBatchListener<CharID, Language>) batches::add);
+		facet.addDataFacetChangeListener(new DataFacetChangeListener<CharID, Language>()
+		{
+			@Override
+			public void dataAdded(DataFacetChangeEvent<CharID, Language> dfce)
+			{
+				singles.add(dfce.getCDOMObject());
+			}
+
+			@Override
+			public void dataRemoved(DataFacetChangeEvent<CharID, Language> dfce)
+			{
+				singles.add(dfce.getCDOMObject());
+			}
+		});
+	}
+
+	@Test
+	void testBatchOutsideTransaction()
+	{
+		facet.add(id, common, this);
+		assertEquals(1, batches.size());
+		assertEquals(List.of(common), batches.get(0).getAdded());
+		assertEquals(List.of(common), singles);
+	}
+
+	@Test
+	void testChangesAreCoalescedUntilCommit()
+	{
+		facet.add(id, dwarven, this);
+		batches.clear();
+		singles.clear();
+
+		FacetTransaction.begin(id);
+		assertTrue(FacetTransaction.isOpen(id));
+		facet.add(id, common, this);
+		facet.add(id, elven, this);
+		facet.remove(id, elven, this);
+		facet.remove(id, dwarven, this);
+		assertEquals(List.of(), batches);
+		assertEquals(List.of(common, elven, elven, dwarven), singles);
+
+		FacetTransaction.commit(id);
+		assertFalse(FacetTransaction.isOpen(id));
+		assertEquals(1, batches.size());
+		assertEquals(List.of(common), batches.get(0).getAdded());
+		assertEquals(List.of(dwarven), batches.get(0).getRemoved());
+		assertEquals(2, batches.get(0).getEvents().size());
+	}
+
+	@Test
+	void testNestedTransactions()
+	{
+		FacetTransaction.begin(id);
+		FacetTransaction.begin(id);
+		facet.add(id, common, this);
+		FacetTransaction.commit(id);
+		assertEquals(List.of(), batches);
+		FacetTransaction.commit(id);
+		assertEquals(1, batches.size());
+		assertThrows(IllegalStateException.class, () -> FacetTransaction.commit(id));
+	}
+
+	private static Language language(String name)
+	{
+		Language lang = new Language();
+		lang.setName(name);
+		return lang;
+	}
+}
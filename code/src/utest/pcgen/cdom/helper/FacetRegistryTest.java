@@ -0,0 +1,73 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.cdom.helper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import pcgen.cdom.facet.base.AbstractStorageFacet;
+import pcgen.cdom.facet.model.RaceFacet;
+import pcgen.cdom.formula.scope.GlobalPCScope;
+
+import org.junit.jupiter.api.Test;
+
+class FacetRegistryTest
+{
+
+	@Test
+	void testFacetsAreDistinct()
+	{
+		List<Object> facets = FacetRegistry.createFacets();
+		Set<Object> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+		distinct.addAll(facets);
+		assertEquals(facets.size(), distinct.size());
+		Set<Class<?>> classes = new HashSet<>();
+		facets.forEach(facet -> classes.add(facet.getClass()));
+		assertEquals(facets.size(), classes.size());
+	}
+
+	@Test
+	void testGetBean()
+	{
+		RaceFacet raceFacet = SpringHelper.getBean(RaceFacet.class);
+		assertNotNull(raceFacet);
+		assertSame(raceFacet, SpringHelper.getBean(RaceFacet.class));
+		assertNotNull(SpringHelper.getBean(GlobalPCScope.class));
+		assertNull(SpringHelper.getBean(String.class));
+	}
+
+	@Test
+	void testStorageBeansAreCached()
+	{
+		Collection<AbstractStorageFacet> storage = SpringHelper.getStorageBeans();
+		assertFalse(storage.isEmpty());
+		assertSame(storage, SpringHelper.getStorageBeans());
+		assertThrows(UnsupportedOperationException.class, storage::clear);
+		assertNotNull(SpringHelper.getBean(AbstractStorageFacet.class));
+		assertSame(storage.iterator().next(), SpringHelper.getBean(AbstractStorageFacet.class));
+	}
+}
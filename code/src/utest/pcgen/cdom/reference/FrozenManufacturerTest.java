@@ -0,0 +1,169 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.cdom.reference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import pcgen.core.Deity;
+import pcgen.core.Language;
+import pcgen.rules.context.AbstractReferenceContext;
+import pcgen.rules.context.RuntimeReferenceContext;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FrozenManufacturerTest
+{
+	private AbstractReferenceContext context;
+	private ReferenceManufacturer<Language> manufacturer;
+
+	@BeforeEach
+	void setUp()
+	{
+		context = RuntimeReferenceContext.createRuntimeReferenceContext();
+		manufacturer = context.getManufacturer(Language.class);
+	}
+
+	@Test
+	void testFrozenObjectsAreUnmodifiable()
+	{
+		Language common = manufacturer.constructObject("Common");
+		context.freeze();
+
+		assertTrue(manufacturer.isFrozen());
+		Collection<Language> all = manufacturer.getAllObjects();
+		assertEquals(List.of(common), new ArrayList<>(all));
+		assertThrows(UnsupportedOperationException.class, () -> all.add(common));
+		assertSame(common, manufacturer.getActiveObject("COMMON"));
+	}
+
+	@Test
+	void testChangesAfterFreezingAreSeen()
+	{
+		Language common = manufacturer.constructObject("Common");
+		context.freeze();
+		Collection<Language> before = manufacturer.getAllObjects();
+
+		Language elven = manufacturer.constructObject("Elven");
+		assertEquals(List.of(common), new ArrayList<>(before));
+		assertEquals(List.of(common, elven), new ArrayList<>(manufacturer.getAllObjects()));
+		assertTrue(manufacturer.containsObjectKeyed("elven"));
+		assertEquals(2, manufacturer.getConstructedObjectCount());
+
+		manufacturer.forgetObject(common);
+		assertFalse(manufacturer.containsObjectKeyed("Common"));
+		assertEquals(List.of(elven), new ArrayList<>(manufacturer.getAllObjects()));
+	}
+
+	@Test
+	void testObjectListSharedUntilChanged()
+	{
+		manufacturer.constructObject("Common");
+		context.freeze();
+		Collection<Language> first = manufacturer.getAllObjects();
+		assertSame(first, manufacturer.getAllObjects());
+
+		for (int i = 0; i < 10; i++)
+		{
+			manufacturer.constructObject("Language" + i);
+		}
+		Collection<Language> changed = manufacturer.getAllObjects();
+		assertNotSame(first, changed);
+		assertEquals(11, changed.size());
+		assertSame(changed, manufacturer.getAllObjects());
+	}
+
+	@Test
+	void testDuplicatesAfterFreezing()
+	{
+		Language common = manufacturer.constructObject("Common");
+		context.freeze();
+		Language duplicate = new Language();
+		duplicate.setName("Common");
+		manufacturer.addObject(duplicate, "Common");
+		assertSame(common, manufacturer.getActiveObject("Common"));
+		assertEquals(1, manufacturer.getConstructedObjectCount());
+
+		manufacturer.forgetObject(common);
+		assertSame(duplicate, manufacturer.getActiveObject("Common"));
+		assertSame(duplicate, manufacturer.getObject("Common"));
+		assertEquals(List.of(duplicate), new ArrayList<>(manufacturer.getAllObjects()));
+	}
+
+	@Test
+	void testEveryManufacturerIsFrozen()
+	{
+		context.freeze();
+		assertTrue(context.getManufacturer(Deity.class).isFrozen());
+	}
+
+	@Test
+	void testConcurrentReadsWhileAdding() throws Exception
+	{
+		for (int i = 0; i < 100; i++)
+		{
+			manufacturer.constructObject("Language" + i);
+		}
+		context.freeze();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try
+		{
+			List<Future<Boolean>> readers = new ArrayList<>();
+			for (int t = 0; t < 3; t++)
+			{
+				readers.add(executor.submit(() -> {
+					for (int i = 0; i < 1000; i++)
+					{
+						if ((manufacturer.getActiveObject("Language" + (i % 100)) == null)
+							|| (manufacturer.getAllObjects().size() < 100))
+						{
+							return false;
+						}
+					}
+					return true;
+				}));
+			}
+			Future<?> writer = executor.submit(() -> {
+				for (int i = 0; i < 100; i++)
+				{
+					manufacturer.constructObject("Custom" + i);
+				}
+			});
+			writer.get();
+			for (Future<Boolean> reader : readers)
+			{
+				assertTrue(reader.get());
+			}
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+		assertEquals(200, manufacturer.getConstructedObjectCount());
+	}
+}
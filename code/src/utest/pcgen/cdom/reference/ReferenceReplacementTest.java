@@ -0,0 +1,91 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.cdom.reference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import pcgen.cdom.enumeration.ListKey;
+import pcgen.cdom.enumeration.Type;
+import pcgen.core.Language;
+import pcgen.rules.context.RuntimeReferenceContext;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ReferenceReplacementTest
+{
+	private ReferenceManufacturer<Language> manufacturer;
+
+	@BeforeEach
+	void setUp()
+	{
+		manufacturer = RuntimeReferenceContext.createRuntimeReferenceContext().getManufacturer(Language.class);
+	}
+
+	@Test
+	void testReplacedObjectIsReferenced()
+	{
+		Language common = construct("Common", "Spoken");
+		Language draconic = construct("Draconic", "Spoken", "Exotic");
+		CDOMSingleRef<Language> draconicRef = manufacturer.getReference("Draconic");
+		CDOMGroupRef<Language> spoken = manufacturer.getTypeReference("Spoken");
+		CDOMGroupRef<Language> exotic = manufacturer.getTypeReference("Exotic");
+		CDOMGroupRef<Language> all = manufacturer.getAllReference();
+		assertTrue(manufacturer.resolveReferences(null));
+
+		manufacturer.reopenReferences();
+		manufacturer.forgetObject(draconic);
+		Language reloaded = construct("Draconic", "Spoken");
+		assertTrue(manufacturer.replaceObject(draconic, reloaded));
+		assertTrue(manufacturer.resolveNewReferences(null));
+
+		assertSame(reloaded, draconicRef.get());
+		assertEquals(List.of(common, reloaded), new ArrayList<>(spoken.getContainedObjects()));
+		assertEquals(0, exotic.getObjectCount());
+		assertEquals(List.of(common, reloaded), new ArrayList<>(all.getContainedObjects()));
+	}
+
+	@Test
+	void testReferencesRequestedAfterReopeningAreResolved()
+	{
+		Language common = construct("Common", "Spoken");
+		assertTrue(manufacturer.resolveReferences(null));
+
+		manufacturer.reopenReferences();
+		Language elven = construct("Elven", "Spoken");
+		CDOMSingleRef<Language> elvenRef = manufacturer.getReference("Elven");
+		CDOMGroupRef<Language> spoken = manufacturer.getTypeReference("Spoken");
+		assertTrue(manufacturer.resolveNewReferences(null));
+
+		assertSame(elven, elvenRef.get());
+		assertEquals(List.of(common, elven), new ArrayList<>(spoken.getContainedObjects()));
+	}
+
+	private Language construct(String name, String... types)
+	{
+		Language lang = manufacturer.constructObject(name);
+		for (String type : types)
+		{
+			lang.addToListFor(ListKey.TYPE, Type.getConstant(type));
+		}
+		return lang;
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.cdom.reference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import pcgen.cdom.enumeration.ListKey;
+import pcgen.cdom.enumeration.Type;
+import pcgen.core.Language;
+import pcgen.rules.context.RuntimeReferenceContext;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TypeReferenceResolutionTest
+{
+	private ReferenceManufacturer<Language> manufacturer;
+
+	@BeforeEach
+	void setUp()
+	{
+		manufacturer = RuntimeReferenceContext.createRuntimeReferenceContext().getManufacturer(Language.class);
+	}
+
+	@Test
+	void testTypeReferencesResolveToMatchingObjects()
+	{
+		Language common = construct("Common", "Spoken", "Written");
+		Language draconic = construct("Draconic", "Spoken", "Written", "Exotic");
+		Language sign = construct("Sign", "Exotic");
+		construct("Druidic", "Secret");
+
+		CDOMGroupRef<Language> spoken = manufacturer.getTypeReference("Spoken");
+		CDOMGroupRef<Language> exoticWritten = manufacturer.getTypeReference("Written", "Exotic");
+		CDOMGroupRef<Language> exoticOnly = manufacturer.getTypeReference("Exotic");
+		CDOMGroupRef<Language> none = manufacturer.getTypeReference("Spoken", "Secret");
+		CDOMGroupRef<Language> all = manufacturer.getAllReference();
+
+		assertFalse(manufacturer.resolveReferences(null));
+
+		assertEquals(List.of(common, draconic), new ArrayList<>(spoken.getContainedObjects()));
+		assertEquals(List.of(draconic), new ArrayList<>(exoticWritten.getContainedObjects()));
+		assertEquals(List.of(draconic, sign), new ArrayList<>(exoticOnly.getContainedObjects()));
+		assertEquals(0, none.getObjectCount());
+		assertEquals(4, all.getObjectCount());
+	}
+
+	@Test
+	void testTypeMatchingIsCaseInsensitive()
+	{
+		Language common = construct("Common", "Spoken");
+		CDOMGroupRef<Language> spoken = manufacturer.getTypeReference("SPOKEN");
+		assertTrue(manufacturer.resolveReferences(null));
+		assertTrue(spoken.contains(common));
+	}
+
+	private Language construct(String name, String... types)
+	{
+		Language lang = manufacturer.constructObject(name);
+		for (String type : types)
+		{
+			lang.addToListFor(ListKey.TYPE, Type.getConstant(type));
+		}
+		return lang;
+	}
+}
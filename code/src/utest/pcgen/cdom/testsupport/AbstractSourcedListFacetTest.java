@@ -794,6 +794,25 @@ public abstract class AbstractSourcedListFacetTest<T>
 		assertTrue(setofone.contains(t1));
 	}
 
+	@Test
+	public void testCopyContentsSourcesIndependent()
+	{
+		Object source1 = new Object();
+		Object source2 = new Object();
+		T t1 = getObject();
+		getFacet().add(id, t1, source1);
+		getFacet().copyContents(id, altid);
+		getFacet().add(altid, t1, source2);
+		getFacet().remove(altid, t1, source1);
+		assertTrue(getFacet().containsFrom(id, source1));
+		assertFalse(getFacet().containsFrom(id, source2));
+		assertFalse(getFacet().containsFrom(altid, source1));
+		assertTrue(getFacet().containsFrom(altid, source2));
+		getFacet().removeAll(id, source1);
+		assertTrue(getFacet().isEmpty(id));
+		assertTrue(getFacet().contains(altid, t1));
+	}
+
 	@Test
 	public void testTypeGetSetSource()
 	{
@@ -0,0 +1,44 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class GameModeDefinitionTest
+{
+	@Test
+	void testDefinitionIsLoadedOnce()
+	{
+		GameMode gameMode = new GameMode("Lazy");
+		assertTrue(gameMode.isDefinitionLoaded());
+
+		AtomicInteger loads = new AtomicInteger();
+		gameMode.setDefinitionLoader(loads::incrementAndGet);
+		assertFalse(gameMode.isDefinitionLoaded());
+		assertEquals(0, loads.get());
+
+		gameMode.loadDefinition();
+		gameMode.loadDefinition();
+		assertTrue(gameMode.isDefinitionLoaded());
+		assertEquals(1, loads.get());
+	}
+}
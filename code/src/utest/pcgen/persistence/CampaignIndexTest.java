@@ -0,0 +1,126 @@
+package pcgen.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import pcgen.cdom.enumeration.IntegerKey;
+import pcgen.cdom.enumeration.ListKey;
+import pcgen.cdom.enumeration.ObjectKey;
+import pcgen.cdom.enumeration.Status;
+import pcgen.cdom.enumeration.StringKey;
+import pcgen.core.Campaign;
+import pcgen.persistence.lst.CampaignSourceEntry;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class CampaignIndexTest
+{
+	@TempDir
+	Path tempDir;
+
+	private static Campaign createCampaign(URI pcc, String name)
+	{
+		Campaign campaign = new Campaign();
+		campaign.setSourceURI(pcc);
+		campaign.setName(name);
+		return campaign;
+	}
+
+	@Test
+	public void testRoundTrip() throws IOException
+	{
+		File indexFile = tempDir.resolve("settings").resolve("campaignIndex.dat").toFile();
+		URI pcc = Files.writeString(tempDir.resolve("core.pcc"), "CAMPAIGN:Core").toUri();
+		URI included = tempDir.resolve("included.pcc").toUri();
+
+		Campaign core = createCampaign(pcc, "Core Rulebook");
+		core.put(StringKey.KEY_NAME, "Core");
+		core.put(StringKey.DATA_PRODUCER, "Publisher");
+		core.put(StringKey.DATA_FORMAT, "Core Rules");
+		core.put(ObjectKey.STATUS, Status.Beta);
+		core.put(ObjectKey.SHOW_IN_MENU, Boolean.TRUE);
+		core.put(IntegerKey.CAMPAIGN_RANK, 1);
+		core.addToListFor(ListKey.GAME_MODE, "35e");
+		core.addToListFor(ListKey.BOOK_TYPE, "Core Rulebook");
+		core.addToListFor(ListKey.FILE_PCC, new CampaignSourceEntry(core, included));
+
+		CampaignIndex index = CampaignIndex.load(indexFile);
+		assertNull(index.restore(pcc));
+		index.put(core);
+		index.save();
+
+		Campaign restored = CampaignIndex.load(indexFile).restore(pcc);
+		assertNotNull(restored);
+		assertTrue(restored.isIndexed());
+		assertEquals(pcc, restored.getSourceURI());
+		assertEquals("Core Rulebook", restored.getDisplayName());
+		assertEquals("Core", restored.getKeyName());
+		assertEquals("Publisher", restored.get(StringKey.DATA_PRODUCER));
+		assertEquals("Core Rules", restored.get(StringKey.DATA_FORMAT));
+		assertNull(restored.get(StringKey.CAMPAIGN_SETTING));
+		assertEquals(Status.Beta, restored.get(ObjectKey.STATUS));
+		assertEquals(Boolean.TRUE, restored.get(ObjectKey.SHOW_IN_MENU));
+		assertEquals(Integer.valueOf(1), restored.get(IntegerKey.CAMPAIGN_RANK));
+		assertEquals(List.of("35e"), restored.getListFor(ListKey.GAME_MODE));
+		assertEquals(List.of("Core Rulebook"), restored.getListFor(ListKey.BOOK_TYPE));
+		assertEquals(included, restored.getListFor(ListKey.FILE_PCC).get(0).getURI());
+		assertFalse(restored.hasPrerequisites());
+	}
+
+	@Test
+	public void testChangedFileIsNotRestored() throws IOException
+	{
+		File indexFile = tempDir.resolve("campaignIndex.dat").toFile();
+		Path pccPath = Files.writeString(tempDir.resolve("core.pcc"), "CAMPAIGN:Core");
+		URI pcc = pccPath.toUri();
+
+		CampaignIndex index = CampaignIndex.load(indexFile);
+		index.put(createCampaign(pcc, "Core"));
+		index.save();
+
+		Files.writeString(pccPath, "CAMPAIGN:Core Rulebook");
+		Files.setLastModifiedTime(pccPath, FileTime.fromMillis(System.currentTimeMillis() + 10000));
+		assertNull(CampaignIndex.load(indexFile).restore(pcc));
+	}
+
+	@Test
+	public void testUnseenEntriesDropped() throws IOException
+	{
+		File indexFile = tempDir.resolve("campaignIndex.dat").toFile();
+		URI first = Files.writeString(tempDir.resolve("first.pcc"), "CAMPAIGN:First").toUri();
+		URI second = Files.writeString(tempDir.resolve("second.pcc"), "CAMPAIGN:Second").toUri();
+
+		CampaignIndex index = CampaignIndex.load(indexFile);
+		index.put(createCampaign(first, "First"));
+		index.put(createCampaign(second, "Second"));
+		index.save();
+
+		CampaignIndex reloaded = CampaignIndex.load(indexFile);
+		assertEquals("First", reloaded.restore(first).getDisplayName());
+		reloaded.save();
+
+		CampaignIndex pruned = CampaignIndex.load(indexFile);
+		assertEquals("First", pruned.restore(first).getDisplayName());
+		assertNull(pruned.restore(second));
+	}
+
+	@Test
+	public void testCorruptIndexIgnored() throws IOException
+	{
+		Path indexPath = Files.writeString(tempDir.resolve("campaignIndex.dat"), "not an index");
+		URI pcc = Files.writeString(tempDir.resolve("core.pcc"), "CAMPAIGN:Core").toUri();
+		assertNull(CampaignIndex.load(indexPath.toFile()).restore(pcc));
+	}
+}
@@ -1,13 +1,18 @@
 package pcgen.persistence;
 
 import java.io.File;
+import java.io.IOException;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.LinkedList;
 import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
+import org.apache.commons.io.FileUtils;
 import org.junit.Test;
 import pcgen.system.ConfigurationSettings;
 
@@ -28,4 +33,28 @@ public class RecursiveFileFinderTest {
 
 		assertThat(files, hasSize(0));
 	}
+
+	@Test
+	public void nestedFilesInPathOrder() throws IOException
+	{
+		Path root = Files.createTempDirectory("pcc");
+		try
+		{
+			Path sub = Files.createDirectories(root.resolve("b").resolve("sub"));
+			Path second = Files.writeString(sub.resolve("second.PCC"), "");
+			Path first = Files.writeString(Files.createDirectories(root.resolve("a")).resolve("first.pcc"), "");
+			Path top = Files.writeString(root.resolve("c.pcc"), "");
+			Files.writeString(sub.resolve("ignored.lst"), "");
+			Files.createDirectories(root.resolve("dir.pcc"));
+
+			List<URI> files = new LinkedList<>();
+			new RecursiveFileFinder().findFiles(root.toFile(), files);
+
+			assertThat(files, contains(first.toFile().toURI(), second.toFile().toURI(), top.toFile().toURI()));
+		}
+		finally
+		{
+			FileUtils.deleteDirectory(root.toFile());
+		}
+	}
 }
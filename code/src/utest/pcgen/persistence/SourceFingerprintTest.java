@@ -0,0 +1,56 @@
+package pcgen.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collection;
+import java.util.List;
+
+import pcgen.core.Campaign;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class SourceFingerprintTest
+{
+	@TempDir
+	Path tempDir;
+
+	@Test
+	public void testDatasetKeyIgnoresCampaignOrder()
+	{
+		Campaign first = new Campaign();
+		first.setName("First");
+		Campaign second = new Campaign();
+		second.setName("Second");
+		assertEquals(SourceFingerprint.getDatasetKey("35e", List.of(first, second)),
+			SourceFingerprint.getDatasetKey("35e", List.of(second, first)));
+		assertNotEquals(SourceFingerprint.getDatasetKey("35e", List.of(first)),
+			SourceFingerprint.getDatasetKey("Pathfinder", List.of(first)));
+	}
+
+	@Test
+	public void testChangedFiles() throws IOException
+	{
+		Path stable = Files.writeString(tempDir.resolve("stable.lst"), "Stable");
+		Path edited = Files.writeString(tempDir.resolve("edited.lst"), "Edited");
+		List<URI> files = List.of(stable.toUri(), edited.toUri());
+		SourceFingerprint original = SourceFingerprint.of("35e", List.of(), files);
+		assertTrue(original.getChangedFiles().isEmpty());
+
+		Files.writeString(edited, "Edited again");
+		Files.setLastModifiedTime(edited, FileTime.fromMillis(System.currentTimeMillis() + 10000));
+		Collection<URI> changed = original.getChangedFiles();
+		assertEquals(List.of(edited.toUri()), changed);
+
+		SourceFingerprint updated = SourceFingerprint.of("35e", List.of(), files);
+		assertEquals(List.of(edited.toUri()), updated.getChangedFiles(original));
+		assertNotEquals(original, updated);
+	}
+}
@@ -0,0 +1,66 @@
+package pcgen.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class SourceSnapshotTest
+{
+	@TempDir
+	Path tempDir;
+
+	@Test
+	public void testContents() throws IOException
+	{
+		Path first = Files.writeString(tempDir.resolve("first.lst"), "First\tTYPE:One");
+		Path second = Files.writeString(tempDir.resolve("second.lst"), "Second\tTYPE:Two");
+		SourceFingerprint fingerprint =
+				SourceFingerprint.of("35e", List.of(), List.of(first.toUri(), second.toUri()));
+		File file = tempDir.resolve("snapshots").resolve("35e.snapshot").toFile();
+		assertTrue(SourceSnapshot.write(file, fingerprint));
+
+		try (SourceSnapshot snapshot = SourceSnapshot.open(file, fingerprint.getDatasetKey()))
+		{
+			assertEquals(fingerprint, snapshot.getFingerprint());
+			assertArrayEquals("First\tTYPE:One".getBytes(StandardCharsets.UTF_8),
+				snapshot.getContents(first.toUri()));
+			assertArrayEquals("Second\tTYPE:Two".getBytes(StandardCharsets.UTF_8),
+				snapshot.getContents(second.toUri()));
+			assertNull(snapshot.getContents(tempDir.resolve("other.lst").toUri()));
+		}
+		assertNull(SourceSnapshot.open(file, "Pathfinder"));
+	}
+
+	@Test
+	public void testChangedSource() throws IOException
+	{
+		Path source = Files.writeString(tempDir.resolve("source.lst"), "Source");
+		SourceFingerprint fingerprint = SourceFingerprint.of("35e", List.of(), List.of(source.toUri()));
+		File file = tempDir.resolve("35e.snapshot").toFile();
+		assertTrue(SourceSnapshot.write(file, fingerprint));
+
+		Files.writeString(source, "Source changed");
+		Files.setLastModifiedTime(source, FileTime.fromMillis(System.currentTimeMillis() + 10000));
+		assertNull(SourceSnapshot.open(file, fingerprint.getDatasetKey()));
+	}
+
+	@Test
+	public void testUnreadableSnapshot() throws IOException
+	{
+		File file = Files.writeString(tempDir.resolve("35e.snapshot"), "Not a snapshot").toFile();
+		assertNull(SourceSnapshot.open(file, "35e"));
+		assertNull(SourceSnapshot.open(tempDir.resolve("missing.snapshot").toFile(), "35e"));
+	}
+}
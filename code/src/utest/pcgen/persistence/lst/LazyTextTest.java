@@ -0,0 +1,91 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.persistence.lst;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import pcgen.persistence.PersistenceLayerException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LazyTextTest
+{
+
+	@TempDir
+	Path tempDir;
+
+	@AfterEach
+	void tearDown()
+	{
+		LazyText.clearSourceLine();
+		LazyText.clearCache();
+	}
+
+	@Test
+	void testTextIsReadFromSource() throws IOException, PersistenceLayerException
+	{
+		Path source = tempDir.resolve("feats.lst");
+		Files.writeString(source, "# Comment \u00e9\r\nFeat\tTYPE:General\tDESC:Caf\u00e9 text|PRELEVEL:MIN=1\n",
+			StandardCharsets.UTF_8);
+		LazyText text = readSecondLine(source.toUri(), "DESC", "Caf\u00e9 text|PRELEVEL:MIN=1", "Caf\u00e9 text");
+
+		assertEquals(9, text.length());
+		assertEquals("Caf\u00e9 text", text.getText());
+	}
+
+	@Test
+	void testValueMustBeInLine() throws IOException, PersistenceLayerException
+	{
+		Path source = tempDir.resolve("feats.lst");
+		Files.writeString(source, "Header\nFeat\tBENEFIT:Text\n", StandardCharsets.UTF_8);
+		assertNull(readSecondLine(source.toUri(), "DESC", "Text", "Text"));
+		assertNull(readSecondLine(source.toUri(), "BENEFIT", "Text", "Other"));
+		LazyText.clearSourceLine();
+		assertNull(LazyText.forToken("BENEFIT", "Text", "Text"));
+	}
+
+	@Test
+	void testChangedSourceIsDetected() throws IOException, PersistenceLayerException
+	{
+		Path source = tempDir.resolve("feats.lst");
+		Files.writeString(source, "Header\nFeat\tDESC:Original\n", StandardCharsets.UTF_8);
+		LazyText text = readSecondLine(source.toUri(), "DESC", "Original", "Original");
+
+		Files.writeString(source, "Header\nFeat\tDESC:Modified\n", StandardCharsets.UTF_8);
+		assertEquals("", text.getText());
+	}
+
+	private static LazyText readSecondLine(URI uri, String tokenName, String value, String text)
+		throws IOException, PersistenceLayerException
+	{
+		try (LstLineReader reader = LstFileLoader.openLstReader(uri, false))
+		{
+			reader.readLine();
+			String line = reader.readLine();
+			LazyText.setSourceLine(uri, line, reader.getSourceOffsets());
+			return LazyText.forToken(tokenName, value, text);
+		}
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.persistence.lst;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+public class LstLineReaderTest
+{
+
+	@Test
+	public void testLineSeparators() throws IOException
+	{
+		LstLineReader reader = LstLineReader.forString("One\nTwo\r\nThree\rFour");
+		assertLine(reader, "One", 1);
+		assertLine(reader, "Two", 2);
+		assertLine(reader, "Three", 3);
+		assertLine(reader, "Four", 4);
+		assertNull(reader.readLine());
+	}
+
+	@Test
+	public void testEmptyLines() throws IOException
+	{
+		LstLineReader reader = LstLineReader.forString("\nOne\n\r\n\nTwo\n");
+		assertLine(reader, "", 1);
+		assertLine(reader, "One", 2);
+		assertLine(reader, "", 3);
+		assertLine(reader, "", 4);
+		assertLine(reader, "Two", 5);
+		assertNull(reader.readLine());
+	}
+
+	@Test
+	public void testContinuationIgnoredWhenNotMultiLine() throws IOException
+	{
+		LstLineReader reader = LstLineReader.forString("Name\tTYPE:Foo\n\tDESC:Bar");
+		assertLine(reader, "Name\tTYPE:Foo", 1);
+		assertLine(reader, "\tDESC:Bar", 2);
+		assertNull(reader.readLine());
+	}
+
+	@Test
+	public void testContinuation() throws IOException
+	{
+		LstLineReader reader = new LstLineReader(
+			new StringReader("Name\tTYPE:Foo\n\tDESC:Bar\r\n\tKEY:Baz\nOther\n\tTYPE:X\rLast\r\tNot"), true);
+		assertLine(reader, "Name\tTYPE:Foo\tDESC:Bar\tKEY:Baz", 1);
+		assertLine(reader, "Other\tTYPE:X", 4);
+		assertLine(reader, "Last", 6);
+		assertLine(reader, "\tNot", 7);
+		assertNull(reader.readLine());
+	}
+
+	@Test
+	public void testLongLine() throws IOException
+	{
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 5000; i++)
+		{
+			sb.append("TOKEN:").append(i).append('\t');
+		}
+		String longLine = sb.toString();
+		LstLineReader reader = LstLineReader.forString(longLine + "\r\n" + longLine);
+		assertLine(reader, longLine, 1);
+		assertLine(reader, longLine, 2);
+		assertNull(reader.readLine());
+	}
+
+	@Test
+	public void testSourceOffsets() throws IOException
+	{
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 2000; i++)
+		{
+			sb.append("TOKEN:").append(i).append('\t');
+		}
+		String data = "First\r\n" + sb + "\n\tDESC:Continued\r\n\tKEY:Last\nNext";
+		LstLineReader reader = new LstLineReader(new StringReader(data), true);
+		reader.readLine();
+		String line = reader.readLine();
+		SourceOffsets offsets = reader.getSourceOffsets();
+		for (int i = 0; i < line.length(); i++)
+		{
+			assertEquals(line.charAt(i), data.charAt((int) offsets.getOffset(i, i + 1)));
+		}
+		int desc = line.indexOf("DESC:");
+		assertEquals(data.indexOf("DESC:"), offsets.getOffset(desc, desc + 14));
+		assertEquals(-1, offsets.getOffset(desc, line.length()));
+		assertEquals("Next", reader.readLine());
+		assertEquals(data.length() - 4, reader.getSourceOffsets().getOffset(0, 4));
+	}
+
+	private static void assertLine(LstLineReader reader, String expected, int lineNumber) throws IOException
+	{
+		assertEquals(expected, reader.readLine());
+		assertEquals(lineNumber, reader.getLineNumber());
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.rules.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import pcgen.core.Language;
+import pcgen.rules.persistence.token.DeferredToken;
+import pcgen.system.PCGenSettings;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ParallelDeferredTokenTest
+{
+	private static final int OBJECT_COUNT = 1000;
+
+	private boolean origParallel;
+	private LoadContext context;
+
+	@BeforeEach
+	void setUp()
+	{
+		origParallel = PCGenSettings.OPTIONS_CONTEXT.initBoolean(PCGenSettings.OPTION_PARALLEL_SOURCE_LOAD, false);
+		context = new RuntimeLoadContext(RuntimeReferenceContext.createRuntimeReferenceContext(),
+			new ConsolidatedListCommitStrategy());
+		for (int i = 0; i < OBJECT_COUNT; i++)
+		{
+			context.getReferenceContext().constructCDOMObject(Language.class, "Language" + i);
+		}
+	}
+
+	@AfterEach
+	void tearDown()
+	{
+		PCGenSettings.OPTIONS_CONTEXT.setBoolean(PCGenSettings.OPTION_PARALLEL_SOURCE_LOAD, origParallel);
+	}
+
+	@Test
+	void testSerial()
+	{
+		PCGenSettings.OPTIONS_CONTEXT.setBoolean(PCGenSettings.OPTION_PARALLEL_SOURCE_LOAD, false);
+		verifyResolution();
+	}
+
+	@Test
+	void testParallel()
+	{
+		PCGenSettings.OPTIONS_CONTEXT.setBoolean(PCGenSettings.OPTION_PARALLEL_SOURCE_LOAD, true);
+		verifyResolution();
+	}
+
+	private void verifyResolution()
+	{
+		CountingToken local = new CountingToken();
+		OrderingToken global = new OrderingToken(local);
+		CountingToken secondLocal = new CountingToken();
+		context.loadLocalToken(local);
+		context.loadLocalToken(global);
+		context.loadLocalToken(secondLocal);
+		context.resolveDeferredTokens();
+
+		List<Language> expected = new ArrayList<>(context.getReferenceContext().getConstructedCDOMObjects(Language.class));
+		assertEquals(OBJECT_COUNT, expected.size());
+		for (Language lang : expected)
+		{
+			assertEquals(1, local.counts.get(lang).get());
+			assertEquals(1, secondLocal.counts.get(lang).get());
+		}
+		//The global token still runs in order, after the object-local token before it
+		assertEquals(expected, global.order);
+		assertEquals(0, global.unprocessed);
+	}
+
+	private static class CountingToken implements DeferredToken<Language>
+	{
+		private final Map<Language, AtomicInteger> counts = new ConcurrentHashMap<>();
+
+		@Override
+		public boolean process(LoadContext context, Language obj)
+		{
+			counts.computeIfAbsent(obj, o -> new AtomicInteger()).incrementAndGet();
+			return true;
+		}
+
+		@Override
+		public Class<Language> getDeferredTokenClass()
+		{
+			return Language.class;
+		}
+
+		@Override
+		public boolean isObjectLocal()
+		{
+			return true;
+		}
+	}
+
+	private static class OrderingToken implements DeferredToken<Language>
+	{
+		private final CountingToken previous;
+		private final List<Language> order = new ArrayList<>();
+		private int unprocessed = 0;
+
+		OrderingToken(CountingToken previous)
+		{
+			this.previous = previous;
+		}
+
+		@Override
+		public boolean process(LoadContext context, Language obj)
+		{
+			if (previous.counts.size() != OBJECT_COUNT)
+			{
+				unprocessed++;
+			}
+			order.add(obj);
+			return true;
+		}
+
+		@Override
+		public Class<Language> getDeferredTokenClass()
+		{
+			return Language.class;
+		}
+	}
+}
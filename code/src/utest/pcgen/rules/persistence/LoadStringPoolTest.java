@@ -0,0 +1,59 @@
+package pcgen.rules.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class LoadStringPoolTest
+{
+
+	@Test
+	void testClosedPoolReturnsArgument()
+	{
+		assertFalse(LoadStringPool.isOpen());
+		String first = new String("Magical Beast");
+		String second = new String("Magical Beast");
+		assertSame(first, LoadStringPool.intern(first));
+		assertSame(second, LoadStringPool.intern(second));
+		assertNull(LoadStringPool.intern(null));
+	}
+
+	@Test
+	void testOpenPoolSharesInstances()
+	{
+		LoadStringPool.open();
+		try
+		{
+			String first = new String("Magical Beast");
+			String second = new String("Magical Beast");
+			assertNotSame(first, second);
+			assertSame(first, LoadStringPool.intern(first));
+			assertSame(first, LoadStringPool.intern(second));
+			assertEquals("Other", LoadStringPool.intern("Other"));
+		}
+		finally
+		{
+			LoadStringPool.release();
+		}
+		assertFalse(LoadStringPool.isOpen());
+	}
+
+	@Test
+	void testNestedOpen()
+	{
+		LoadStringPool.open();
+		LoadStringPool.open();
+		LoadStringPool.release();
+		assertTrue(LoadStringPool.isOpen());
+		LoadStringPool.release();
+		assertFalse(LoadStringPool.isOpen());
+		//Extra release is harmless
+		LoadStringPool.release();
+		assertFalse(LoadStringPool.isOpen());
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.system;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class PCGenTaskExecutorTest
+{
+
+	@Test
+	void testIndependentTasksRunTogether()
+	{
+		CountDownLatch bothStarted = new CountDownLatch(2);
+		List<String> finished = new CopyOnWriteArrayList<>();
+		PCGenTask first = new TestTask("first", finished, bothStarted);
+		PCGenTask second = new TestTask("second", finished, bothStarted);
+
+		PCGenTaskExecutor executor = new PCGenTaskExecutor();
+		executor.addPCGenTask(first);
+		executor.addPCGenTask(second);
+		executor.run();
+
+		assertEquals(2, finished.size());
+		assertFalse(finished.contains("timeout"));
+	}
+
+	@Test
+	void testDependentTaskRunsLast()
+	{
+		List<String> finished = new CopyOnWriteArrayList<>();
+		PCGenTask first = new TestTask("first", finished, null);
+		PCGenTask second = new TestTask("second", finished, null);
+		PCGenTask last = new TestTask("last", finished, null);
+		last.addDependency(first);
+		last.addDependency(second);
+
+		PCGenTaskExecutor executor = new PCGenTaskExecutor();
+		executor.addPCGenTask(first);
+		executor.addPCGenTask(second);
+		executor.addPCGenTask(last);
+		executor.run();
+
+		assertEquals(3, finished.size());
+		assertEquals("last", finished.get(2));
+		assertEquals(executor.getMaximum(), executor.getProgress());
+	}
+
+	@Test
+	void testDependencyMustBeAddedFirst()
+	{
+		PCGenTask first = new TestTask("first", new CopyOnWriteArrayList<>(), null);
+		PCGenTask second = new TestTask("second", new CopyOnWriteArrayList<>(), null);
+		second.addDependency(first);
+
+		PCGenTaskExecutor executor = new PCGenTaskExecutor();
+		assertThrows(IllegalArgumentException.class, () -> executor.addPCGenTask(second));
+	}
+
+	@Test
+	void testFailureSkipsDependentTasks()
+	{
+		List<String> finished = new CopyOnWriteArrayList<>();
+		IllegalStateException failure = new IllegalStateException("failed");
+		PCGenTask failing = new PCGenTask()
+		{
+			@Override
+			public void run()
+			{
+				throw failure;
+			}
+		};
+		PCGenTask dependent = new TestTask("dependent", finished, null);
+		dependent.addDependency(failing);
+
+		PCGenTaskExecutor executor = new PCGenTaskExecutor();
+		executor.addPCGenTask(failing);
+		executor.addPCGenTask(dependent);
+		assertSame(failure, assertThrows(IllegalStateException.class, executor::run));
+		assertTrue(finished.isEmpty());
+	}
+
+	private static final class TestTask extends PCGenTask
+	{
+		private final String name;
+		private final List<String> finished;
+		private final CountDownLatch started;
+
+		private TestTask(String name, List<String> finished, CountDownLatch started)
+		{
+			this.name = name;
+			this.finished = finished;
+			this.started = started;
+		}
+
+		@Override
+		public void run()
+		{
+			setMaximum(2);
+			setProgress(1);
+			if (started != null)
+			{
+				started.countDown();
+				try
+				{
+					if (!started.await(10, TimeUnit.SECONDS))
+					{
+						finished.add("timeout");
+					}
+				}
+				catch (InterruptedException e)
+				{
+					Thread.currentThread().interrupt();
+				}
+			}
+			setProgress(2);
+			finished.add(name);
+		}
+	}
+}
@@ -0,0 +1,171 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.system;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PluginIndexTest
+{
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void testNoIndexFile() throws IOException
+	{
+		assertTrue(PluginIndex.read(tempDir.resolve(PluginIndex.INDEX_FILE)).isEmpty());
+	}
+
+	@Test
+	void testIndexMatchesAssignableTypes() throws Exception
+	{
+		Path jar = createJar(Files.createDirectory(tempDir.resolve("sub")).resolve("indexed.jar"), true);
+		long modified = Files.getLastModifiedTime(jar).toMillis();
+		Path indexFile = tempDir.resolve(PluginIndex.INDEX_FILE);
+		assertEquals(1, PluginIndex.write(tempDir, indexFile, getClass().getClassLoader()));
+		assertEquals(modified, Files.getLastModifiedTime(jar).toMillis());
+
+		Map<String, PluginIndex> indexes = PluginIndex.read(indexFile);
+		assertEquals(List.of("sub/indexed.jar"), List.copyOf(indexes.keySet()));
+		PluginIndex index = indexes.get(PluginIndex.getKey(tempDir, jar));
+		assertNotNull(index);
+		try (ZipFile file = new ZipFile(jar.toFile()))
+		{
+			assertTrue(index.matches(file));
+		}
+		assertEquals(List.of(SamplePlugin.class.getName()),
+			index.getClassNames(List.of(Runnable.class)));
+		assertEquals(List.of(SamplePlugin.class.getName(), SampleHelper.class.getName()),
+			index.getClassNames(List.of(SamplePlugin.class, SampleHelper.class)));
+		assertEquals(Collections.emptyList(), index.getClassNames(List.of(Comparable.class)));
+		assertEquals(List.of(SamplePlugin.class.getName(), SampleHelper.class.getName()),
+			index.getClassNames(Arrays.asList((Class<?>) null)));
+	}
+
+	@Test
+	void testChangedJarDoesNotMatchIndex() throws Exception
+	{
+		Path jar = createJar(tempDir.resolve("changed.jar"), false);
+		Path indexFile = tempDir.resolve(PluginIndex.INDEX_FILE);
+		PluginIndex.write(tempDir, indexFile, getClass().getClassLoader());
+		createJar(jar, true);
+
+		PluginIndex index = PluginIndex.read(indexFile).get(PluginIndex.getKey(tempDir, jar));
+		try (ZipFile file = new ZipFile(jar.toFile()))
+		{
+			assertFalse(index.matches(file));
+		}
+	}
+
+	@Test
+	void testIndexedAndScannedJarsLoadTheSamePlugins() throws Exception
+	{
+		Path plainDir = Files.createDirectory(tempDir.resolve("plain"));
+		createJar(plainDir.resolve("plugin.jar"), true);
+		Path indexedDir = Files.createDirectory(tempDir.resolve("indexed"));
+		createJar(indexedDir.resolve("plugin.jar"), true);
+		PluginIndex.write(indexedDir, indexedDir.resolve(PluginIndex.INDEX_FILE), getClass().getClassLoader());
+		Path staleDir = Files.createDirectory(tempDir.resolve("stale"));
+		createJar(staleDir.resolve("plugin.jar"), false);
+		PluginIndex.write(staleDir, staleDir.resolve(PluginIndex.INDEX_FILE), getClass().getClassLoader());
+		createJar(staleDir.resolve("plugin.jar"), true);
+
+		assertEquals(List.of(SamplePlugin.class), loadPlugins(plainDir));
+		assertEquals(List.of(SamplePlugin.class), loadPlugins(indexedDir));
+		assertEquals(List.of(SamplePlugin.class), loadPlugins(staleDir));
+	}
+
+	private static List<Class<?>> loadPlugins(Path pluginDir)
+	{
+		List<Class<?>> loaded = new ArrayList<>();
+		PluginClassLoader classLoader = new PluginClassLoader(pluginDir.toFile());
+		classLoader.addPluginLoader(new PluginLoader()
+		{
+			@Override
+			public void loadPlugin(Class<?> clazz)
+			{
+				loaded.add(clazz);
+			}
+
+			@Override
+			public Class<?>[] getPluginClasses()
+			{
+				return new Class<?>[]{Runnable.class};
+			}
+		});
+		classLoader.loadPlugins();
+		return loaded;
+	}
+
+	private static Path createJar(Path jar, boolean withPlugin) throws IOException
+	{
+		try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(jar)))
+		{
+			out.putNextEntry(new ZipEntry("META-INF/MANIFEST.MF"));
+			out.write("Manifest-Version: 1.0\n".getBytes());
+			out.closeEntry();
+			if (withPlugin)
+			{
+				addClass(out, SamplePlugin.class);
+			}
+			addClass(out, SampleHelper.class);
+		}
+		return jar;
+	}
+
+	private static void addClass(ZipOutputStream out, Class<?> clazz) throws IOException
+	{
+		String entry = clazz.getName().replace('.', '/') + ".class";
+		out.putNextEntry(new ZipEntry(entry));
+		try (InputStream in = clazz.getClassLoader().getResourceAsStream(entry))
+		{
+			in.transferTo(out);
+		}
+		out.closeEntry();
+	}
+
+	public static class SamplePlugin implements Runnable
+	{
+		@Override
+		public void run()
+		{
+			//Nothing to do
+		}
+	}
+
+	public static class SampleHelper
+	{
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LoadProfilerTest
+{
+	@TempDir
+	Path tempDir;
+
+	@AfterEach
+	void tearDown()
+	{
+		LoadProfiler.stop();
+	}
+
+	@Test
+	void testDisabledRecordsNothing()
+	{
+		assertFalse(LoadProfiler.isEnabled());
+		try (LoadProfiler.Sample sample = LoadProfiler.begin(LoadProfiler.TOKEN, "KEY"))
+		{
+			//Nothing to time
+		}
+		assertEquals("", LoadProfiler.getReport());
+	}
+
+	@Test
+	void testReportSortedByWallTime() throws InterruptedException
+	{
+		LoadProfiler.start();
+		assertTrue(LoadProfiler.isEnabled());
+		for (int i = 0; i < 3; i++)
+		{
+			try (LoadProfiler.Sample sample = LoadProfiler.begin(LoadProfiler.TOKEN, "KEY"))
+			{
+				//Nothing to time
+			}
+		}
+		try (LoadProfiler.Sample sample = LoadProfiler.begin(LoadProfiler.TOKEN, "TYPE"))
+		{
+			Thread.sleep(20);
+		}
+		try (LoadProfiler.Sample sample = LoadProfiler.begin(LoadProfiler.LOADER, "GenericLoader<Race>"))
+		{
+			//Nothing to time
+		}
+		String report = LoadProfiler.getReport();
+		assertTrue(report.indexOf("GenericLoader<Race>") < report.indexOf("TYPE"));
+		assertTrue(report.indexOf("TYPE") < report.indexOf("KEY"));
+		assertTrue(report.matches("(?s).*\\s3\\s+KEY\\R.*"));
+	}
+
+	@Test
+	void testWriteReport() throws IOException
+	{
+		LoadProfiler.start();
+		try (LoadProfiler.Sample sample = LoadProfiler.begin(LoadProfiler.PHASE, "resolveReferences"))
+		{
+			//Nothing to time
+		}
+		File reportFile = tempDir.resolve("loadProfile.txt").toFile();
+		LoadProfiler.writeReport(reportFile);
+		assertEquals(LoadProfiler.getReport(),
+			new String(Files.readAllBytes(reportFile.toPath()), StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Test;
+
+class LoggingTest
+{
+
+	@Test
+	void testReplayedMessagesPrecedeDirectMessages()
+	{
+		List<String> messages = Collections.synchronizedList(new ArrayList<>());
+		Handler handler = new Handler()
+		{
+			@Override
+			public void publish(LogRecord record)
+			{
+				if ("replayed".equals(record.getMessage()))
+				{
+					// Give the direct message the chance to overtake this one
+					try
+					{
+						Thread.sleep(100);
+					}
+					catch (InterruptedException e)
+					{
+						Thread.currentThread().interrupt();
+					}
+				}
+				messages.add(record.getMessage());
+			}
+
+			@Override
+			public void flush()
+			{
+				// Nothing to do
+			}
+
+			@Override
+			public void close()
+			{
+				// Nothing to do
+			}
+		};
+		Logger pcgenLogger = Logger.getLogger("pcgen");
+		Level level = pcgenLogger.getLevel();
+		pcgenLogger.setLevel(Level.ALL);
+		pcgenLogger.addHandler(handler);
+		Logging.startParseMessageSink();
+		try
+		{
+			Logging.addParseMessage(Logging.LST_ERROR, "replayed");
+			Logging.replayParsedMessages();
+			Logging.clearParseMessages();
+			Logging.errorPrint("direct");
+		}
+		finally
+		{
+			Logging.stopParseMessageSink();
+			pcgenLogger.removeHandler(handler);
+			pcgenLogger.setLevel(level);
+		}
+		assertEquals(List.of("replayed", "direct"), messages);
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.logging.Level;
+
+import org.junit.jupiter.api.Test;
+
+class ParseMessageBufferTest
+{
+
+	@Test
+	void testMessagesAreKeptInOrder()
+	{
+		ParseMessageBuffer buffer = new ParseMessageBuffer();
+		StackTraceElement[] stack = new StackTraceElement[0];
+		buffer.add(Level.WARNING, "first", stack);
+		buffer.add(Level.SEVERE, "second", null);
+
+		assertEquals(2, buffer.size());
+		assertEquals("first", buffer.get(0).message);
+		assertSame(Level.WARNING, buffer.get(0).level);
+		assertSame(stack, buffer.get(0).stackTrace);
+		assertEquals("second", buffer.get(1).message);
+		assertEquals(0, buffer.getOverflow());
+	}
+
+	@Test
+	void testOverflowDropsOldest()
+	{
+		ParseMessageBuffer buffer = new ParseMessageBuffer();
+		for (int i = 0; i < ParseMessageBuffer.CAPACITY + 3; i++)
+		{
+			buffer.add(Level.WARNING, "message " + i, null);
+		}
+
+		assertEquals(ParseMessageBuffer.CAPACITY, buffer.size());
+		assertEquals(3, buffer.getOverflow());
+		assertEquals("message 3", buffer.get(0).message);
+		assertEquals("message " + (ParseMessageBuffer.CAPACITY + 2),
+			buffer.get(ParseMessageBuffer.CAPACITY - 1).message);
+	}
+
+	@Test
+	void testTruncateAndClear()
+	{
+		ParseMessageBuffer buffer = new ParseMessageBuffer();
+		buffer.add(Level.WARNING, "first", null);
+		buffer.add(Level.WARNING, "second", null);
+		buffer.add(Level.WARNING, "third", null);
+		ParseMessageBuffer.ParseMessage last = buffer.get(2);
+
+		buffer.truncate(1);
+		assertEquals(1, buffer.size());
+		assertEquals("first", buffer.get(0).message);
+		assertNull(last.message);
+
+		for (int i = 0; i < ParseMessageBuffer.CAPACITY; i++)
+		{
+			buffer.add(Level.WARNING, "message " + i, null);
+		}
+		buffer.clear();
+		assertEquals(0, buffer.size());
+		assertEquals(0, buffer.getOverflow());
+		buffer.add(Level.INFO, "after", null);
+		assertEquals("after", buffer.get(0).message);
+	}
+}